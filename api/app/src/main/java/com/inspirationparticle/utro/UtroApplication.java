@@ -2,8 +2,10 @@ package com.inspirationparticle.utro;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class UtroApplication {
     public static void main(String[] args) {
         SpringApplication.run(UtroApplication.class, args);
@@ -1,8 +1,13 @@
 package com.inspirationparticle.utro.auth;
 
+import com.inspirationparticle.utro.organisation.OrganisationAccess;
 import com.inspirationparticle.utro.user.UserService;
 import com.inspirationparticle.utro.user.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -14,20 +19,20 @@ public class AuthController {
     
     @Autowired
     private UserService userService;
+
+    @Autowired
+    private OrganisationAccess organisationAccess;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private CredentialVerifier credentialVerifier;
     
     // Form data login endpoint
     @PostMapping(value = "/login", consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE)
     public ResponseEntity<Map<String, String>> loginForm(@RequestParam String username, @RequestParam String password) {
-        // Validate username/password
-        if (!userService.validateCredentials(username, password)) {
-            return ResponseEntity.status(401).body(Map.of("error", "Invalid username or password"));
-        }
-        
-        // Create or update user on first login (this handles both existing and new users)
-        User user = userService.findOrCreateUser(username, null, null, "local", null);
-        
-        String token = JwtUtil.generateToken(username);
-        return ResponseEntity.ok(Map.of("token", token));
+        return login(username, password);
     }
     
     // JSON login endpoint
@@ -36,16 +41,7 @@ public class AuthController {
         String username = credentials.get("username");
         String password = credentials.get("password");
         
-        // Validate username/password
-        if (!userService.validateCredentials(username, password)) {
-            return ResponseEntity.status(401).body(Map.of("error", "Invalid username or password"));
-        }
-        
-        // Create or update user on first login (this handles both existing and new users)
-        User user = userService.findOrCreateUser(username, null, null, "local", null);
-        
-        String token = JwtUtil.generateToken(username);
-        return ResponseEntity.ok(Map.of("token", token));
+        return login(username, password);
     }
     
     // Connect RPC endpoint for AuthService.Login
@@ -54,15 +50,50 @@ public class AuthController {
         String username = request.get("username");
         String password = request.get("password");
         
-        // Validate username/password
-        if (!userService.validateCredentials(username, password)) {
+        return login(username, password);
+    }
+    
+    private ResponseEntity<Map<String, String>> login(String username, String password) {
+        // Validate username/password on the bounded login pool
+        boolean valid;
+        try {
+            valid = credentialVerifier.verify(username, password);
+        } catch (LoginThrottledException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(Map.of("error", "Too many login attempts, please retry shortly"));
+        }
+        if (!valid) {
             return ResponseEntity.status(401).body(Map.of("error", "Invalid username or password"));
         }
         
         // Create or update user on first login (this handles both existing and new users)
         User user = userService.findOrCreateUser(username, null, null, "local", null);
         
-        String token = JwtUtil.generateToken(username);
+        String token = JwtUtil.generateToken(username, organisationAccess.tokenMembershipsFor(user));
         return ResponseEntity.ok(Map.of("token", token));
     }
+    
+    // Connect RPC endpoint for AuthService.Logout
+    @PostMapping("/com.inspirationparticle.utro.gen.auth.v1.AuthService/Logout")
+    public ResponseEntity<Map<String, Object>> connectLogout(
+            @RequestHeader(value = "Authorization", required = false) String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return ResponseEntity.status(401).body(Map.of("error", "Missing bearer token"));
+        }
+        
+        Claims claims;
+        try {
+            claims = JwtUtil.validateToken(authorization.substring("Bearer ".length()));
+        } catch (JwtException | IllegalArgumentException e) {
+            return ResponseEntity.status(401).body(Map.of("error", "Invalid token"));
+        }
+        
+        // Tokens issued before jti was introduced cannot be revoked individually and simply expire
+        if (claims.getId() != null) {
+            tokenRevocationService.revoke(claims.getId(), claims.getSubject(), claims.getExpiration().toInstant());
+        }
+        
+        return ResponseEntity.ok(Map.of("success", true));
+    }
 }
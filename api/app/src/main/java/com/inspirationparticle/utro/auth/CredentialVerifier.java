@@ -0,0 +1,104 @@
+package com.inspirationparticle.utro.auth;
+
+import com.inspirationparticle.utro.user.UserService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs password verification on a dedicated, bounded pool so that a login storm
+ * cannot occupy every request thread with BCrypt. Requests that do not fit in the
+ * queue are rejected straight away and surfaced to the client as 429.
+ */
+@Slf4j
+@Component
+public class CredentialVerifier {
+
+    private final UserService userService;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final Timer hashTimer;
+    private final Counter rejections;
+
+    public CredentialVerifier(UserService userService,
+                              MeterRegistry meterRegistry,
+                              @Value("${auth.login.threads:0}") int threads,
+                              @Value("${auth.login.queue-capacity:64}") int queueCapacity,
+                              @Value("${auth.login.timeout-millis:5000}") long timeoutMillis) {
+        this.userService = userService;
+        this.timeoutMillis = timeoutMillis;
+
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "credential-verifier-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.hashTimer = Timer.builder("auth.login.verify")
+                .description("Time spent verifying credentials on the login pool")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejections = Counter.builder("auth.login.rejected")
+                .description("Logins rejected because the login pool was saturated")
+                .register(meterRegistry);
+        Gauge.builder("auth.login.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Logins waiting for a verification thread")
+                .register(meterRegistry);
+        Gauge.builder("auth.login.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Logins currently being verified")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Verifies the credentials on the login pool, waiting for the result.
+     *
+     * @throws LoginThrottledException if the pool is saturated or the verification does not finish in time
+     */
+    public boolean verify(String username, String password) {
+        Future<Boolean> result;
+        try {
+            result = executor.submit(() -> hashTimer.recordCallable(() -> userService.validateCredentials(username, password)));
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            log.warn("Login rejected, verification queue is full: username={}", username);
+            throw new LoginThrottledException("Too many concurrent logins");
+        }
+
+        try {
+            return result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            rejections.increment();
+            throw new LoginThrottledException("Login verification timed out");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LoginThrottledException("Login verification interrupted");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Credential verification failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
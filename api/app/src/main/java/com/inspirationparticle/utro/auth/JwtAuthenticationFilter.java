@@ -1,5 +1,6 @@
 package com.inspirationparticle.utro.auth;
 
+import com.inspirationparticle.utro.profiling.JwtValidationEvent;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -11,12 +12,30 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    /**
+     * Granted to the users listed in security.operators, who may use the diagnostic actuator endpoints
+     */
+    public static final String OPERATOR_AUTHORITY = "ROLE_OPERATOR";
+
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
+    private static final List<SimpleGrantedAuthority> USER_AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_USER"));
+    private static final List<SimpleGrantedAuthority> OPERATOR_AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority(OPERATOR_AUTHORITY));
+
+    private final TokenRevocationService tokenRevocationService;
+    private final Set<String> operators;
+
+    public JwtAuthenticationFilter(TokenRevocationService tokenRevocationService, Set<String> operators) {
+        this.tokenRevocationService = tokenRevocationService;
+        this.operators = operators;
+    }
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -26,25 +45,36 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         if (authHeader != null && authHeader.startsWith(BEARER_PREFIX)) {
             String token = authHeader.substring(BEARER_PREFIX.length());
+            JwtValidationEvent event = new JwtValidationEvent();
+            event.begin();
             
             try {
                 Claims claims = JwtUtil.validateToken(token);
                 String username = claims.getSubject();
                 
-                if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                if (tokenRevocationService.isRevoked(claims.getId())) {
+                    event.outcome = "revoked";
+                    logger.debug("Rejected revoked JWT for user: " + username);
+                } else if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             username,
                             null,
-                            Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
+                            operators.contains(username) ? OPERATOR_AUTHORITIES : USER_AUTHORITIES
                     );
+                    authToken.setDetails(TokenMemberships.fromClaims(claims));
                     
                     SecurityContextHolder.getContext().setAuthentication(authToken);
                     logger.info("JWT authentication successful for user: " + username + " with authorities: " + authToken.getAuthorities());
                 }
             } catch (Exception e) {
                 // Invalid token, continue without authentication
+                event.outcome = "invalid";
                 logger.debug("JWT validation failed: " + e.getMessage());
             }
+            if (event.outcome == null) {
+                event.outcome = "valid";
+            }
+            event.commit();
         }
         
         filterChain.doFilter(request, response);
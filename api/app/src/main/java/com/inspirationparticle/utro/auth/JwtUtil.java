@@ -1,5 +1,6 @@
 package com.inspirationparticle.utro.auth;
 
+import com.inspirationparticle.utro.util.UUIDv7Generator;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -10,6 +11,8 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 
 @Component
 public class JwtUtil {
@@ -31,7 +34,21 @@ public class JwtUtil {
     }
 
     public static String generateToken(String username) {
+        return generateToken(username, null);
+    }
+
+    /**
+     * Issues a token that additionally carries the user's organisation roles, so organisation
+     * checks can be answered without touching organisation_member while the token is current.
+     */
+    public static String generateToken(String username, TokenMemberships memberships) {
+        Map<String, Object> claims = new HashMap<>();
+        if (memberships != null) {
+            memberships.writeTo(claims);
+        }
         return Jwts.builder()
+                .setClaims(claims)
+                .setId(UUIDv7Generator.generateUUIDv7().toString())
                 .setSubject(username)
                 .setExpiration(new Date(System.currentTimeMillis() + 86400000)) // 24 hours
                 .signWith(key, SignatureAlgorithm.HS256)
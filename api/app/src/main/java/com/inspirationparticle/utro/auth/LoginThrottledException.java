@@ -0,0 +1,7 @@
+package com.inspirationparticle.utro.auth;
+
+public class LoginThrottledException extends RuntimeException {
+    public LoginThrottledException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,65 @@
+package com.inspirationparticle.utro.auth;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Short-lived cache of "user".membership_version used to detect stale organisation claims in tokens.
+ * Membership changes on this instance invalidate the entry immediately; changes made elsewhere
+ * are picked up once the entry expires.
+ */
+@Slf4j
+@Component
+public class MembershipVersionCache {
+
+    private static final int MAX_ENTRIES = 100_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long ttlNanos;
+    private final Map<UUID, CachedVersion> versions = new ConcurrentHashMap<>();
+
+    public MembershipVersionCache(JdbcTemplate jdbcTemplate,
+                                  @Value("${auth.membership-version.ttl:PT5S}") Duration ttl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public boolean isCurrent(UUID userId, long tokenVersion) {
+        long now = System.nanoTime();
+        CachedVersion cached = versions.get(userId);
+        if (cached == null || now - cached.loadedAt() > ttlNanos) {
+            cached = new CachedVersion(loadVersion(userId), now);
+            if (versions.size() >= MAX_ENTRIES) {
+                versions.clear();
+            }
+            versions.put(userId, cached);
+        }
+        return cached.version() == tokenVersion;
+    }
+
+    public void invalidate(UUID userId) {
+        versions.remove(userId);
+    }
+
+    private long loadVersion(UUID userId) {
+        try {
+            Long version = jdbcTemplate.queryForObject(
+                    "SELECT membership_version FROM \"user\" WHERE id = ?", Long.class, userId);
+            return version != null ? version : -1;
+        } catch (EmptyResultDataAccessException e) {
+            log.debug("Membership version requested for unknown user: id={}", userId);
+            return -1;
+        }
+    }
+
+    private record CachedVersion(long version, long loadedAt) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.inspirationparticle.utro.auth;
+
+import com.inspirationparticle.utro.organisation.MemberType;
+import com.inspirationparticle.utro.util.UUIDCodec;
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Organisation memberships carried inside an access token.
+ * The membership version is the value of "user".membership_version at issue time,
+ * so a token whose version no longer matches the database is stale and must not be trusted.
+ */
+public record TokenMemberships(UUID userId, long version, Map<UUID, MemberType> roles) {
+
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String VERSION_CLAIM = "mv";
+    public static final String ORGANISATIONS_CLAIM = "orgs";
+
+    // Users with more memberships than this get a token without org claims and are authorised from the database
+    public static final int MAX_TOKEN_MEMBERSHIPS = 32;
+
+    public Optional<MemberType> memberType(UUID organisationId) {
+        return Optional.ofNullable(roles.get(organisationId));
+    }
+
+    public void writeTo(Map<String, Object> claims) {
+        Map<String, String> organisations = new HashMap<>();
+        roles.forEach((organisationId, memberType) -> organisations.put(organisationId.toString(), memberType.name()));
+        claims.put(USER_ID_CLAIM, userId.toString());
+        claims.put(VERSION_CLAIM, version);
+        claims.put(ORGANISATIONS_CLAIM, organisations);
+    }
+
+    /**
+     * Reads memberships from validated token claims, or returns null if the token carries none.
+     */
+    public static TokenMemberships fromClaims(Claims claims) {
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        Number version = claims.get(VERSION_CLAIM, Number.class);
+        Object organisations = claims.get(ORGANISATIONS_CLAIM);
+        if (userId == null || version == null || !(organisations instanceof Map<?, ?> organisationMap)) {
+            return null;
+        }
+
+        Map<UUID, MemberType> roles = new HashMap<>();
+        organisationMap.forEach((organisationId, memberType) ->
+                roles.put(UUIDCodec.parse(organisationId.toString()), MemberType.valueOf(memberType.toString())));
+        return new TokenMemberships(UUIDCodec.parse(userId), version.longValue(), Collections.unmodifiableMap(roles));
+    }
+
+    /**
+     * Memberships of the token that authenticated the current request, if any.
+     */
+    public static Optional<TokenMemberships> current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getDetails() instanceof TokenMemberships memberships) {
+            return Optional.of(memberships);
+        }
+        return Optional.empty();
+    }
+}
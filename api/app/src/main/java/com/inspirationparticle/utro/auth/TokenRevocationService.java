@@ -0,0 +1,101 @@
+package com.inspirationparticle.utro.auth;
+
+import com.inspirationparticle.utro.util.BloomFilter;
+import com.inspirationparticle.utro.util.UUIDCodec;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Revocation list for access tokens.
+ * revoked_token is the source of truth; an in-memory Bloom filter of revoked jti values keeps the
+ * per-request check CPU-only, and only a filter hit is confirmed against the table.
+ * The filter is rebuilt periodically and picks up revocations made on other instances in between.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private static final int MIN_FILTER_CAPACITY = 10_000;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+    private volatile Instant lastSync = Instant.EPOCH;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  @Value("${auth.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(MIN_FILTER_CAPACITY, falsePositiveRate);
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return false;
+        }
+
+        UUID id;
+        try {
+            id = UUIDCodec.parse(jti);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+
+        if (!filter.mightContain(id)) {
+            return false;
+        }
+        return revokedTokenRepository.existsById(id);
+    }
+
+    @Transactional
+    public void revoke(String jti, String username, Instant expiresAt) {
+        UUID id = UUIDCodec.parse(jti);
+        if (!revokedTokenRepository.existsById(id)) {
+            revokedTokenRepository.save(RevokedToken.builder()
+                    .jti(id)
+                    .username(username)
+                    .expiresAt(expiresAt)
+                    .build());
+        }
+        filter.put(id);
+        log.info("Access token revoked: jti={}, username={}", jti, username);
+    }
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${auth.revocation.rebuild-interval:PT10M}",
+               initialDelayString = "${auth.revocation.rebuild-interval:PT10M}")
+    public void rebuild() {
+        Instant now = Instant.now();
+        int removed = revokedTokenRepository.deleteExpired(now);
+        List<UUID> revoked = revokedTokenRepository.findUnexpiredJtis(now);
+
+        BloomFilter rebuilt = new BloomFilter(Math.max(MIN_FILTER_CAPACITY, revoked.size() * 2), falsePositiveRate);
+        revoked.forEach(rebuilt::put);
+        filter = rebuilt;
+        lastSync = now;
+        log.debug("Revocation filter rebuilt: entries={}, expiredRemoved={}", revoked.size(), removed);
+    }
+
+    /**
+     * Adds revocations recorded by other instances since the last sync.
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.sync-interval:PT10S}",
+               initialDelayString = "${auth.revocation.sync-interval:PT10S}")
+    public void syncRecent() {
+        Instant now = Instant.now();
+        // Overlap the window slightly so rows committed late are not missed
+        List<UUID> recent = revokedTokenRepository.findJtisRevokedSince(lastSync.minusSeconds(30), now);
+        BloomFilter current = filter;
+        recent.forEach(current::put);
+        lastSync = now;
+    }
+}
@@ -50,7 +50,13 @@ public class CorsConfig {
             "Authorization",
             "Content-Type",
             "Content-Length",
-            "Date"
+            "Date",
+            "X-Allocated-Bytes", // Per-request accounting, with rpc-resources.headers only
+            "X-Cpu-Time-Micros",
+            "RateLimit-Limit",   // Rate-limited searches and logins
+            "RateLimit-Remaining",
+            "RateLimit-Reset",
+            "Retry-After"
         ));
         
         // Allow credentials (cookies, authorization headers)
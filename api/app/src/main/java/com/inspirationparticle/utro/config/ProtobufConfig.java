@@ -1,22 +1,179 @@
 package com.inspirationparticle.utro.config;
 
+import com.google.protobuf.Message;
 import com.google.protobuf.util.JsonFormat;
+import com.inspirationparticle.utro.profiling.ProtobufSerializationEvent;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
 import org.springframework.http.converter.protobuf.ProtobufJsonFormatHttpMessageConverter;
 
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
 @Configuration
 public class ProtobufConfig {
 
-    @Bean
-    public ProtobufJsonFormatHttpMessageConverter protobufJsonFormatHttpMessageConverter() {
-        JsonFormat.Parser parser = JsonFormat.parser()
+    /**
+     * JSON parser of the API; streaming endpoints, the therapist import and the benchmarks use the same one
+     */
+    public static JsonFormat.Parser jsonParser() {
+        return JsonFormat.parser()
                 .ignoringUnknownFields();
-        
-        JsonFormat.Printer printer = JsonFormat.printer()
+    }
+
+    /**
+     * JSON printer of the API; streaming endpoints add omittingInsignificantWhitespace()
+     */
+    public static JsonFormat.Printer jsonPrinter() {
+        return JsonFormat.printer()
                 .includingDefaultValueFields()
                 .preservingProtoFieldNames();
-        
-        return new ProtobufJsonFormatHttpMessageConverter(parser, printer);
     }
-}
\ No newline at end of file
+
+    @Bean
+    public ProtobufJsonFormatHttpMessageConverter protobufJsonFormatHttpMessageConverter(Tracer tracer) {
+        return new InstrumentedProtobufJsonFormatHttpMessageConverter(jsonParser(), jsonPrinter(), tracer);
+    }
+
+    /**
+     * Reports each request and response body it parses or prints as a {@link ProtobufSerializationEvent} and as a
+     * protobuf.json.decode or protobuf.json.encode span with the message type and the size of the JSON in bytes
+     */
+    static class InstrumentedProtobufJsonFormatHttpMessageConverter extends ProtobufJsonFormatHttpMessageConverter {
+
+        private final Tracer tracer;
+
+        InstrumentedProtobufJsonFormatHttpMessageConverter(JsonFormat.Parser parser, JsonFormat.Printer printer,
+                                                           Tracer tracer) {
+            super(parser, printer);
+            this.tracer = tracer;
+        }
+
+        @Override
+        protected Message readInternal(Class<? extends Message> clazz, HttpInputMessage inputMessage)
+                throws IOException {
+            ProtobufSerializationEvent event = new ProtobufSerializationEvent();
+            event.begin();
+            Span span = tracer.spanBuilder("protobuf.json.decode")
+                    .setAttribute("message.type", clazz.getSimpleName())
+                    .startSpan();
+            CountingInputMessage countingMessage = new CountingInputMessage(inputMessage);
+            try (Scope ignored = span.makeCurrent()) {
+                return super.readInternal(clazz, countingMessage);
+            } catch (IOException | RuntimeException e) {
+                span.recordException(e);
+                span.setStatus(StatusCode.ERROR);
+                throw e;
+            } finally {
+                span.setAttribute("message.size", countingMessage.bytes);
+                span.end();
+                event.message = clazz.getSimpleName();
+                event.direction = "read";
+                event.commit();
+            }
+        }
+
+        @Override
+        protected void writeInternal(Message message, HttpOutputMessage outputMessage) throws IOException {
+            ProtobufSerializationEvent event = new ProtobufSerializationEvent();
+            event.begin();
+            Span span = tracer.spanBuilder("protobuf.json.encode")
+                    .setAttribute("message.type", message.getDescriptorForType().getName())
+                    .startSpan();
+            CountingOutputMessage countingMessage = new CountingOutputMessage(outputMessage);
+            try (Scope ignored = span.makeCurrent()) {
+                super.writeInternal(message, countingMessage);
+            } catch (IOException | RuntimeException e) {
+                span.recordException(e);
+                span.setStatus(StatusCode.ERROR);
+                throw e;
+            } finally {
+                span.setAttribute("message.size", countingMessage.bytes);
+                span.end();
+                event.message = message.getDescriptorForType().getName();
+                event.direction = "write";
+                event.commit();
+            }
+        }
+    }
+
+    private static final class CountingInputMessage implements HttpInputMessage {
+
+        private final HttpInputMessage delegate;
+        private long bytes;
+
+        CountingInputMessage(HttpInputMessage delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return new FilterInputStream(delegate.getBody()) {
+                @Override
+                public int read() throws IOException {
+                    int b = super.read();
+                    if (b >= 0) {
+                        bytes++;
+                    }
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int read = super.read(buffer, offset, length);
+                    if (read > 0) {
+                        bytes += read;
+                    }
+                    return read;
+                }
+            };
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+    }
+
+    private static final class CountingOutputMessage implements HttpOutputMessage {
+
+        private final HttpOutputMessage delegate;
+        private long bytes;
+
+        CountingOutputMessage(HttpOutputMessage delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            return new FilterOutputStream(delegate.getBody()) {
+                @Override
+                public void write(int b) throws IOException {
+                    out.write(b);
+                    bytes++;
+                }
+
+                @Override
+                public void write(byte[] buffer, int offset, int length) throws IOException {
+                    out.write(buffer, offset, length);
+                    bytes += length;
+                }
+            };
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.inspirationparticle.utro.config;
 
 import com.inspirationparticle.utro.auth.JwtAuthenticationFilter;
+import com.inspirationparticle.utro.auth.TokenRevocationService;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -11,20 +14,28 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfigurationSource;
 
+import java.util.Set;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(prePostEnabled = true)
 public class SecurityConfig {
 
     private final CorsConfigurationSource corsConfigurationSource;
+    private final TokenRevocationService tokenRevocationService;
+    private final Set<String> operators;
 
-    public SecurityConfig(CorsConfigurationSource corsConfigurationSource) {
+    public SecurityConfig(CorsConfigurationSource corsConfigurationSource,
+                          TokenRevocationService tokenRevocationService,
+                          @Value("${security.operators:}") Set<String> operators) {
         this.corsConfigurationSource = corsConfigurationSource;
+        this.tokenRevocationService = tokenRevocationService;
+        this.operators = operators;
     }
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter();
+        return new JwtAuthenticationFilter(tokenRevocationService, operators);
     }
 
     @Bean
@@ -43,9 +54,16 @@ public class SecurityConfig {
             
             // Configure authorization
             .authorizeHttpRequests(authz -> authz
+                // Streaming responses finish on an async dispatch of a request that was already authorised
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                // JFR recordings hold environment variables and system properties, secrets included, and query
+                // statistics every SQL fingerprint
+                .requestMatchers("/actuator/flightrecorder/**", "/actuator/queries/**")
+                        .hasAuthority(JwtAuthenticationFilter.OPERATOR_AUTHORITY)
                 .requestMatchers(
                         "/login",
                         "/public",
+                        "/error",
                         "/actuator/**",
                         "/api/test/**",
                         "/com.inspirationparticle.utro.gen.auth.v1.AuthService/**"
@@ -0,0 +1,48 @@
+package com.inspirationparticle.utro.config;
+
+import com.inspirationparticle.utro.metrics.QueryBudgetInterceptor;
+import com.inspirationparticle.utro.resilience.BulkheadFilter;
+import com.inspirationparticle.utro.resilience.BulkheadTaskExecutor;
+import com.inspirationparticle.utro.resilience.RateLimitInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final QueryBudgetInterceptor queryBudgetInterceptor;
+    private final RateLimitInterceptor rateLimitInterceptor;
+    private final BulkheadFilter bulkheadFilter;
+    private final ObjectProvider<AsyncTaskExecutor> applicationTaskExecutor;
+
+    public WebConfig(QueryBudgetInterceptor queryBudgetInterceptor, RateLimitInterceptor rateLimitInterceptor,
+                     BulkheadFilter bulkheadFilter,
+                     @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                     ObjectProvider<AsyncTaskExecutor> applicationTaskExecutor) {
+        this.queryBudgetInterceptor = queryBudgetInterceptor;
+        this.rateLimitInterceptor = rateLimitInterceptor;
+        this.bulkheadFilter = bulkheadFilter;
+        this.applicationTaskExecutor = applicationTaskExecutor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Refused requests never start counting queries
+        registry.addInterceptor(rateLimitInterceptor);
+        registry.addInterceptor(queryBudgetInterceptor);
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        // Streaming bodies stay on their RPC group's bulkhead; other async work uses Spring Boot's executor
+        configurer.setTaskExecutor(new BulkheadTaskExecutor(bulkheadFilter,
+                applicationTaskExecutor.getIfAvailable(SimpleAsyncTaskExecutor::new)));
+    }
+}
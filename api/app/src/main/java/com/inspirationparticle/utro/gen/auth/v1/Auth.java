@@ -1194,6 +1194,796 @@ public final class Auth {
 
   }
 
+  public interface LogoutRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.inspirationparticle.utro.gen.auth.v1.LogoutRequest)
+      com.google.protobuf.MessageOrBuilder {
+  }
+  /**
+   * Protobuf type {@code com.inspirationparticle.utro.gen.auth.v1.LogoutRequest}
+   */
+  public static final class LogoutRequest extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:com.inspirationparticle.utro.gen.auth.v1.LogoutRequest)
+      LogoutRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 31,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        LogoutRequest.class.getName());
+    }
+    // Use LogoutRequest.newBuilder() to construct.
+    private LogoutRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private LogoutRequest() {
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.inspirationparticle.utro.gen.auth.v1.Auth.internal_static_com_inspirationparticle_utro_gen_auth_v1_LogoutRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.inspirationparticle.utro.gen.auth.v1.Auth.internal_static_com_inspirationparticle_utro_gen_auth_v1_LogoutRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest.class, com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest.Builder.class);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest)) {
+        return super.equals(obj);
+      }
+      com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest other = (com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest) obj;
+
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.inspirationparticle.utro.gen.auth.v1.LogoutRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.inspirationparticle.utro.gen.auth.v1.LogoutRequest)
+        com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.inspirationparticle.utro.gen.auth.v1.Auth.internal_static_com_inspirationparticle_utro_gen_auth_v1_LogoutRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.inspirationparticle.utro.gen.auth.v1.Auth.internal_static_com_inspirationparticle_utro_gen_auth_v1_LogoutRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest.class, com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest.Builder.class);
+      }
+
+      // Construct using com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.inspirationparticle.utro.gen.auth.v1.Auth.internal_static_com_inspirationparticle_utro_gen_auth_v1_LogoutRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest getDefaultInstanceForType() {
+        return com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest build() {
+        com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest buildPartial() {
+        com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest result = new com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest(this);
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest) {
+          return mergeFrom((com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest other) {
+        if (other == com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest.getDefaultInstance()) return this;
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:com.inspirationparticle.utro.gen.auth.v1.LogoutRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.inspirationparticle.utro.gen.auth.v1.LogoutRequest)
+    private static final com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest();
+    }
+
+    public static com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<LogoutRequest>
+        PARSER = new com.google.protobuf.AbstractParser<LogoutRequest>() {
+      @java.lang.Override
+      public LogoutRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<LogoutRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<LogoutRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface LogoutResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.inspirationparticle.utro.gen.auth.v1.LogoutResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>bool success = 1 [json_name = "success"];</code>
+     * @return The success.
+     */
+    boolean getSuccess();
+  }
+  /**
+   * Protobuf type {@code com.inspirationparticle.utro.gen.auth.v1.LogoutResponse}
+   */
+  public static final class LogoutResponse extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:com.inspirationparticle.utro.gen.auth.v1.LogoutResponse)
+      LogoutResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 31,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        LogoutResponse.class.getName());
+    }
+    // Use LogoutResponse.newBuilder() to construct.
+    private LogoutResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private LogoutResponse() {
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.inspirationparticle.utro.gen.auth.v1.Auth.internal_static_com_inspirationparticle_utro_gen_auth_v1_LogoutResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.inspirationparticle.utro.gen.auth.v1.Auth.internal_static_com_inspirationparticle_utro_gen_auth_v1_LogoutResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse.class, com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse.Builder.class);
+    }
+
+    public static final int SUCCESS_FIELD_NUMBER = 1;
+    private boolean success_ = false;
+    /**
+     * <code>bool success = 1 [json_name = "success"];</code>
+     * @return The success.
+     */
+    @java.lang.Override
+    public boolean getSuccess() {
+      return success_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (success_ != false) {
+        output.writeBool(1, success_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (success_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(1, success_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse)) {
+        return super.equals(obj);
+      }
+      com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse other = (com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse) obj;
+
+      if (getSuccess()
+          != other.getSuccess()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SUCCESS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getSuccess());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.inspirationparticle.utro.gen.auth.v1.LogoutResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.inspirationparticle.utro.gen.auth.v1.LogoutResponse)
+        com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.inspirationparticle.utro.gen.auth.v1.Auth.internal_static_com_inspirationparticle_utro_gen_auth_v1_LogoutResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.inspirationparticle.utro.gen.auth.v1.Auth.internal_static_com_inspirationparticle_utro_gen_auth_v1_LogoutResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse.class, com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse.Builder.class);
+      }
+
+      // Construct using com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        success_ = false;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.inspirationparticle.utro.gen.auth.v1.Auth.internal_static_com_inspirationparticle_utro_gen_auth_v1_LogoutResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse getDefaultInstanceForType() {
+        return com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse build() {
+        com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse buildPartial() {
+        com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse result = new com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.success_ = success_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse) {
+          return mergeFrom((com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse other) {
+        if (other == com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse.getDefaultInstance()) return this;
+        if (other.getSuccess() != false) {
+          setSuccess(other.getSuccess());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                success_ = input.readBool();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private boolean success_ ;
+      /**
+       * <code>bool success = 1 [json_name = "success"];</code>
+       * @return The success.
+       */
+      @java.lang.Override
+      public boolean getSuccess() {
+        return success_;
+      }
+      /**
+       * <code>bool success = 1 [json_name = "success"];</code>
+       * @param value The success to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSuccess(boolean value) {
+
+        success_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool success = 1 [json_name = "success"];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSuccess() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        success_ = false;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:com.inspirationparticle.utro.gen.auth.v1.LogoutResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.inspirationparticle.utro.gen.auth.v1.LogoutResponse)
+    private static final com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse();
+    }
+
+    public static com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<LogoutResponse>
+        PARSER = new com.google.protobuf.AbstractParser<LogoutResponse>() {
+      @java.lang.Override
+      public LogoutResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<LogoutResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<LogoutResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_com_inspirationparticle_utro_gen_auth_v1_LoginRequest_descriptor;
   private static final 
@@ -1204,6 +1994,16 @@ public final class Auth {
   private static final 
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_com_inspirationparticle_utro_gen_auth_v1_LoginResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_inspirationparticle_utro_gen_auth_v1_LogoutRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_com_inspirationparticle_utro_gen_auth_v1_LogoutRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_inspirationparticle_utro_gen_auth_v1_LogoutResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_com_inspirationparticle_utro_gen_auth_v1_LogoutResponse_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -1217,12 +2017,16 @@ public final class Auth {
       "ticle.utro.gen.auth.v1\"F\n\014LoginRequest\022\032" +
       "\n\010username\030\001 \001(\tR\010username\022\032\n\010password\030\002" +
       " \001(\tR\010password\"%\n\rLoginResponse\022\024\n\005token" +
-      "\030\001 \001(\tR\005token2\207\001\n\013AuthService\022x\n\005Login\0226" +
-      ".com.inspirationparticle.utro.gen.auth.v" +
-      "1.LoginRequest\0327.com.inspirationparticle" +
-      ".utro.gen.auth.v1.LoginResponseB*\n(com.i" +
-      "nspirationparticle.utro.gen.auth.v1b\006pro" +
-      "to3"
+      "\030\001 \001(\tR\005token\"\017\n\rLogoutRequest\"*\n\016Logout" +
+      "Response\022\030\n\007success\030\001 \001(\010R\007success2\204\002\n\013A" +
+      "uthService\022x\n\005Login\0226.com.inspirationpar" +
+      "ticle.utro.gen.auth.v1.LoginRequest\0327.co" +
+      "m.inspirationparticle.utro.gen.auth.v1.L" +
+      "oginResponse\022{\n\006Logout\0227.com.inspiration" +
+      "particle.utro.gen.auth.v1.LogoutRequest\032" +
+      "8.com.inspirationparticle.utro.gen.auth." +
+      "v1.LogoutResponseB*\n(com.inspirationpart" +
+      "icle.utro.gen.auth.v1b\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -1240,6 +2044,18 @@ public final class Auth {
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_inspirationparticle_utro_gen_auth_v1_LoginResponse_descriptor,
         new java.lang.String[] { "Token", });
+    internal_static_com_inspirationparticle_utro_gen_auth_v1_LogoutRequest_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_com_inspirationparticle_utro_gen_auth_v1_LogoutRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_com_inspirationparticle_utro_gen_auth_v1_LogoutRequest_descriptor,
+        new java.lang.String[] { });
+    internal_static_com_inspirationparticle_utro_gen_auth_v1_LogoutResponse_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_com_inspirationparticle_utro_gen_auth_v1_LogoutResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_com_inspirationparticle_utro_gen_auth_v1_LogoutResponse_descriptor,
+        new java.lang.String[] { "Success", });
     descriptor.resolveAllFeaturesImmutable();
   }
 
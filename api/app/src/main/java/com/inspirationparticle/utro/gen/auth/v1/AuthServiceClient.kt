@@ -25,4 +25,20 @@ public class AuthServiceClient(
     ),
   )
 
+
+  /**
+   *  Revoke the access token sent in the Authorization header
+   */
+  override suspend fun logout(request: Auth.LogoutRequest, headers: Headers):
+      ResponseMessage<Auth.LogoutResponse> = client.unary(
+    request,
+    headers,
+    MethodSpec(
+    "com.inspirationparticle.utro.gen.auth.v1.AuthService/Logout",
+      com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutRequest::class,
+      com.inspirationparticle.utro.gen.auth.v1.Auth.LogoutResponse::class,
+      StreamType.UNARY,
+    ),
+  )
+
 }
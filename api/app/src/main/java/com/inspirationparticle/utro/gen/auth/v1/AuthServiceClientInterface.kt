@@ -10,4 +10,10 @@ import com.connectrpc.ResponseMessage
 public interface AuthServiceClientInterface {
   public suspend fun login(request: Auth.LoginRequest, headers: Headers = emptyMap()):
       ResponseMessage<Auth.LoginResponse>
+
+  /**
+   *  Revoke the access token sent in the Authorization header
+   */
+  public suspend fun logout(request: Auth.LogoutRequest, headers: Headers = emptyMap()):
+      ResponseMessage<Auth.LogoutResponse>
 }
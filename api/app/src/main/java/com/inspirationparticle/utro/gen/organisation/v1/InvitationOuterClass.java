@@ -26,6 +26,167 @@ public final class InvitationOuterClass {
     registerAllExtensions(
         (com.google.protobuf.ExtensionRegistryLite) registry);
   }
+  /**
+   * Protobuf enum {@code com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationOutcome}
+   */
+  public enum CreateInvitationOutcome
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>CREATE_INVITATION_OUTCOME_UNSPECIFIED = 0;</code>
+     */
+    CREATE_INVITATION_OUTCOME_UNSPECIFIED(0),
+    /**
+     * <code>CREATE_INVITATION_OUTCOME_CREATED = 1;</code>
+     */
+    CREATE_INVITATION_OUTCOME_CREATED(1),
+    /**
+     * <code>CREATE_INVITATION_OUTCOME_INVALID_EMAIL = 2;</code>
+     */
+    CREATE_INVITATION_OUTCOME_INVALID_EMAIL(2),
+    /**
+     * <pre>
+     * repeats an earlier email in the same request
+     * </pre>
+     *
+     * <code>CREATE_INVITATION_OUTCOME_DUPLICATE = 3;</code>
+     */
+    CREATE_INVITATION_OUTCOME_DUPLICATE(3),
+    /**
+     * <code>CREATE_INVITATION_OUTCOME_ALREADY_MEMBER = 4;</code>
+     */
+    CREATE_INVITATION_OUTCOME_ALREADY_MEMBER(4),
+    /**
+     * <code>CREATE_INVITATION_OUTCOME_ALREADY_INVITED = 5;</code>
+     */
+    CREATE_INVITATION_OUTCOME_ALREADY_INVITED(5),
+    UNRECOGNIZED(-1),
+    ;
+
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 31,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CreateInvitationOutcome.class.getName());
+    }
+    /**
+     * <code>CREATE_INVITATION_OUTCOME_UNSPECIFIED = 0;</code>
+     */
+    public static final int CREATE_INVITATION_OUTCOME_UNSPECIFIED_VALUE = 0;
+    /**
+     * <code>CREATE_INVITATION_OUTCOME_CREATED = 1;</code>
+     */
+    public static final int CREATE_INVITATION_OUTCOME_CREATED_VALUE = 1;
+    /**
+     * <code>CREATE_INVITATION_OUTCOME_INVALID_EMAIL = 2;</code>
+     */
+    public static final int CREATE_INVITATION_OUTCOME_INVALID_EMAIL_VALUE = 2;
+    /**
+     * <pre>
+     * repeats an earlier email in the same request
+     * </pre>
+     *
+     * <code>CREATE_INVITATION_OUTCOME_DUPLICATE = 3;</code>
+     */
+    public static final int CREATE_INVITATION_OUTCOME_DUPLICATE_VALUE = 3;
+    /**
+     * <code>CREATE_INVITATION_OUTCOME_ALREADY_MEMBER = 4;</code>
+     */
+    public static final int CREATE_INVITATION_OUTCOME_ALREADY_MEMBER_VALUE = 4;
+    /**
+     * <code>CREATE_INVITATION_OUTCOME_ALREADY_INVITED = 5;</code>
+     */
+    public static final int CREATE_INVITATION_OUTCOME_ALREADY_INVITED_VALUE = 5;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static CreateInvitationOutcome valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static CreateInvitationOutcome forNumber(int value) {
+      switch (value) {
+        case 0: return CREATE_INVITATION_OUTCOME_UNSPECIFIED;
+        case 1: return CREATE_INVITATION_OUTCOME_CREATED;
+        case 2: return CREATE_INVITATION_OUTCOME_INVALID_EMAIL;
+        case 3: return CREATE_INVITATION_OUTCOME_DUPLICATE;
+        case 4: return CREATE_INVITATION_OUTCOME_ALREADY_MEMBER;
+        case 5: return CREATE_INVITATION_OUTCOME_ALREADY_INVITED;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<CreateInvitationOutcome>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        CreateInvitationOutcome> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<CreateInvitationOutcome>() {
+            public CreateInvitationOutcome findValueByNumber(int number) {
+              return CreateInvitationOutcome.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final CreateInvitationOutcome[] VALUES = values();
+
+    public static CreateInvitationOutcome valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private CreateInvitationOutcome(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationOutcome)
+  }
+
   /**
    * Protobuf enum {@code com.inspirationparticle.utro.gen.organisation.v1.InvitationStatus}
    */
@@ -144,7 +305,7 @@ public final class InvitationOuterClass {
     }
     public static com.google.protobuf.Descriptors.EnumDescriptor
         getDescriptor() {
-      return com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.getDescriptor().getEnumTypes().get(0);
+      return com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.getDescriptor().getEnumTypes().get(1);
     }
 
     private static final InvitationStatus[] VALUES = values();
@@ -1029,7 +1190,2368 @@ public final class InvitationOuterClass {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       if (((bitField0_ & 0x00000001) != 0)) {
-        output.writeMessage(1, getInvitation());
+        output.writeMessage(1, getInvitation());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getInvitation());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse)) {
+        return super.equals(obj);
+      }
+      com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse other = (com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse) obj;
+
+      if (hasInvitation() != other.hasInvitation()) return false;
+      if (hasInvitation()) {
+        if (!getInvitation()
+            .equals(other.getInvitation())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasInvitation()) {
+        hash = (37 * hash) + INVITATION_FIELD_NUMBER;
+        hash = (53 * hash) + getInvitation().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResponse)
+        com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse.class, com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse.Builder.class);
+      }
+
+      // Construct using com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage
+                .alwaysUseFieldBuilders) {
+          internalGetInvitationFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        invitation_ = null;
+        if (invitationBuilder_ != null) {
+          invitationBuilder_.dispose();
+          invitationBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse getDefaultInstanceForType() {
+        return com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse build() {
+        com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse buildPartial() {
+        com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse result = new com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.invitation_ = invitationBuilder_ == null
+              ? invitation_
+              : invitationBuilder_.build();
+          to_bitField0_ |= 0x00000001;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse) {
+          return mergeFrom((com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse other) {
+        if (other == com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse.getDefaultInstance()) return this;
+        if (other.hasInvitation()) {
+          mergeInvitation(other.getInvitation());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    internalGetInvitationFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.Invitation invitation_;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.Invitation, com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.Invitation.Builder, com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.InvitationOrBuilder> invitationBuilder_;
+      /**
+       * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 1 [json_name = "invitation"];</code>
+       * @return Whether the invitation field is set.
+       */
+      public boolean hasInvitation() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 1 [json_name = "invitation"];</code>
+       * @return The invitation.
+       */
+      public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.Invitation getInvitation() {
+        if (invitationBuilder_ == null) {
+          return invitation_ == null ? com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.Invitation.getDefaultInstance() : invitation_;
+        } else {
+          return invitationBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 1 [json_name = "invitation"];</code>
+       */
+      public Builder setInvitation(com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.Invitation value) {
+        if (invitationBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          invitation_ = value;
+        } else {
+          invitationBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 1 [json_name = "invitation"];</code>
+       */
+      public Builder setInvitation(
+          com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.Invitation.Builder builderForValue) {
+        if (invitationBuilder_ == null) {
+          invitation_ = builderForValue.build();
+        } else {
+          invitationBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 1 [json_name = "invitation"];</code>
+       */
+      public Builder mergeInvitation(com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.Invitation value) {
+        if (invitationBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            invitation_ != null &&
+            invitation_ != com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.Invitation.getDefaultInstance()) {
+            getInvitationBuilder().mergeFrom(value);
+          } else {
+            invitation_ = value;
+          }
+        } else {
+          invitationBuilder_.mergeFrom(value);
+        }
+        if (invitation_ != null) {
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 1 [json_name = "invitation"];</code>
+       */
+      public Builder clearInvitation() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        invitation_ = null;
+        if (invitationBuilder_ != null) {
+          invitationBuilder_.dispose();
+          invitationBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 1 [json_name = "invitation"];</code>
+       */
+      public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.Invitation.Builder getInvitationBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return internalGetInvitationFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 1 [json_name = "invitation"];</code>
+       */
+      public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.InvitationOrBuilder getInvitationOrBuilder() {
+        if (invitationBuilder_ != null) {
+          return invitationBuilder_.getMessageOrBuilder();
+        } else {
+          return invitation_ == null ?
+              com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.Invitation.getDefaultInstance() : invitation_;
+        }
+      }
+      /**
+       * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 1 [json_name = "invitation"];</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.Invitation, com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.Invitation.Builder, com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.InvitationOrBuilder> 
+          internalGetInvitationFieldBuilder() {
+        if (invitationBuilder_ == null) {
+          invitationBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.Invitation, com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.Invitation.Builder, com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.InvitationOrBuilder>(
+                  getInvitation(),
+                  getParentForChildren(),
+                  isClean());
+          invitation_ = null;
+        }
+        return invitationBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResponse)
+    private static final com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse();
+    }
+
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CreateInvitationResponse>
+        PARSER = new com.google.protobuf.AbstractParser<CreateInvitationResponse>() {
+      @java.lang.Override
+      public CreateInvitationResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CreateInvitationResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CreateInvitationResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CreateInvitationsRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationsRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string organisation_id = 1 [json_name = "organisationId"];</code>
+     * @return The organisationId.
+     */
+    java.lang.String getOrganisationId();
+    /**
+     * <code>string organisation_id = 1 [json_name = "organisationId"];</code>
+     * @return The bytes for organisationId.
+     */
+    com.google.protobuf.ByteString
+        getOrganisationIdBytes();
+
+    /**
+     * <code>repeated string emails = 2 [json_name = "emails"];</code>
+     * @return A list containing the emails.
+     */
+    java.util.List<java.lang.String>
+        getEmailsList();
+    /**
+     * <code>repeated string emails = 2 [json_name = "emails"];</code>
+     * @return The count of emails.
+     */
+    int getEmailsCount();
+    /**
+     * <code>repeated string emails = 2 [json_name = "emails"];</code>
+     * @param index The index of the element to return.
+     * @return The emails at the given index.
+     */
+    java.lang.String getEmails(int index);
+    /**
+     * <code>repeated string emails = 2 [json_name = "emails"];</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the emails at the given index.
+     */
+    com.google.protobuf.ByteString
+        getEmailsBytes(int index);
+
+    /**
+     * <code>.com.inspirationparticle.utro.gen.organisation.v1.MemberType member_type = 3 [json_name = "memberType"];</code>
+     * @return The enum numeric value on the wire for memberType.
+     */
+    int getMemberTypeValue();
+    /**
+     * <code>.com.inspirationparticle.utro.gen.organisation.v1.MemberType member_type = 3 [json_name = "memberType"];</code>
+     * @return The memberType.
+     */
+    com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.MemberType getMemberType();
+  }
+  /**
+   * Protobuf type {@code com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationsRequest}
+   */
+  public static final class CreateInvitationsRequest extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationsRequest)
+      CreateInvitationsRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 31,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CreateInvitationsRequest.class.getName());
+    }
+    // Use CreateInvitationsRequest.newBuilder() to construct.
+    private CreateInvitationsRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CreateInvitationsRequest() {
+      organisationId_ = "";
+      emails_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      memberType_ = 0;
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationsRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationsRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest.class, com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest.Builder.class);
+    }
+
+    public static final int ORGANISATION_ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object organisationId_ = "";
+    /**
+     * <code>string organisation_id = 1 [json_name = "organisationId"];</code>
+     * @return The organisationId.
+     */
+    @java.lang.Override
+    public java.lang.String getOrganisationId() {
+      java.lang.Object ref = organisationId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        organisationId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string organisation_id = 1 [json_name = "organisationId"];</code>
+     * @return The bytes for organisationId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getOrganisationIdBytes() {
+      java.lang.Object ref = organisationId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        organisationId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int EMAILS_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList emails_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <code>repeated string emails = 2 [json_name = "emails"];</code>
+     * @return A list containing the emails.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getEmailsList() {
+      return emails_;
+    }
+    /**
+     * <code>repeated string emails = 2 [json_name = "emails"];</code>
+     * @return The count of emails.
+     */
+    public int getEmailsCount() {
+      return emails_.size();
+    }
+    /**
+     * <code>repeated string emails = 2 [json_name = "emails"];</code>
+     * @param index The index of the element to return.
+     * @return The emails at the given index.
+     */
+    public java.lang.String getEmails(int index) {
+      return emails_.get(index);
+    }
+    /**
+     * <code>repeated string emails = 2 [json_name = "emails"];</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the emails at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getEmailsBytes(int index) {
+      return emails_.getByteString(index);
+    }
+
+    public static final int MEMBER_TYPE_FIELD_NUMBER = 3;
+    private int memberType_ = 0;
+    /**
+     * <code>.com.inspirationparticle.utro.gen.organisation.v1.MemberType member_type = 3 [json_name = "memberType"];</code>
+     * @return The enum numeric value on the wire for memberType.
+     */
+    @java.lang.Override public int getMemberTypeValue() {
+      return memberType_;
+    }
+    /**
+     * <code>.com.inspirationparticle.utro.gen.organisation.v1.MemberType member_type = 3 [json_name = "memberType"];</code>
+     * @return The memberType.
+     */
+    @java.lang.Override public com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.MemberType getMemberType() {
+      com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.MemberType result = com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.MemberType.forNumber(memberType_);
+      return result == null ? com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.MemberType.UNRECOGNIZED : result;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(organisationId_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, organisationId_);
+      }
+      for (int i = 0; i < emails_.size(); i++) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, emails_.getRaw(i));
+      }
+      if (memberType_ != com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.MemberType.MEMBER_TYPE_UNSPECIFIED.getNumber()) {
+        output.writeEnum(3, memberType_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(organisationId_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, organisationId_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < emails_.size(); i++) {
+          dataSize += computeStringSizeNoTag(emails_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getEmailsList().size();
+      }
+      if (memberType_ != com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.MemberType.MEMBER_TYPE_UNSPECIFIED.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(3, memberType_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest)) {
+        return super.equals(obj);
+      }
+      com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest other = (com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest) obj;
+
+      if (!getOrganisationId()
+          .equals(other.getOrganisationId())) return false;
+      if (!getEmailsList()
+          .equals(other.getEmailsList())) return false;
+      if (memberType_ != other.memberType_) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ORGANISATION_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getOrganisationId().hashCode();
+      if (getEmailsCount() > 0) {
+        hash = (37 * hash) + EMAILS_FIELD_NUMBER;
+        hash = (53 * hash) + getEmailsList().hashCode();
+      }
+      hash = (37 * hash) + MEMBER_TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + memberType_;
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationsRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationsRequest)
+        com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationsRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationsRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest.class, com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest.Builder.class);
+      }
+
+      // Construct using com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        organisationId_ = "";
+        emails_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        memberType_ = 0;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationsRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest getDefaultInstanceForType() {
+        return com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest build() {
+        com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest buildPartial() {
+        com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest result = new com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.organisationId_ = organisationId_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          emails_.makeImmutable();
+          result.emails_ = emails_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.memberType_ = memberType_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest) {
+          return mergeFrom((com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest other) {
+        if (other == com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest.getDefaultInstance()) return this;
+        if (!other.getOrganisationId().isEmpty()) {
+          organisationId_ = other.organisationId_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.emails_.isEmpty()) {
+          if (emails_.isEmpty()) {
+            emails_ = other.emails_;
+            bitField0_ |= 0x00000002;
+          } else {
+            ensureEmailsIsMutable();
+            emails_.addAll(other.emails_);
+          }
+          onChanged();
+        }
+        if (other.memberType_ != 0) {
+          setMemberTypeValue(other.getMemberTypeValue());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                organisationId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureEmailsIsMutable();
+                emails_.add(s);
+                break;
+              } // case 18
+              case 24: {
+                memberType_ = input.readEnum();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object organisationId_ = "";
+      /**
+       * <code>string organisation_id = 1 [json_name = "organisationId"];</code>
+       * @return The organisationId.
+       */
+      public java.lang.String getOrganisationId() {
+        java.lang.Object ref = organisationId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          organisationId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string organisation_id = 1 [json_name = "organisationId"];</code>
+       * @return The bytes for organisationId.
+       */
+      public com.google.protobuf.ByteString
+          getOrganisationIdBytes() {
+        java.lang.Object ref = organisationId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          organisationId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string organisation_id = 1 [json_name = "organisationId"];</code>
+       * @param value The organisationId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOrganisationId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        organisationId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string organisation_id = 1 [json_name = "organisationId"];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOrganisationId() {
+        organisationId_ = getDefaultInstance().getOrganisationId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string organisation_id = 1 [json_name = "organisationId"];</code>
+       * @param value The bytes for organisationId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOrganisationIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        organisationId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringArrayList emails_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureEmailsIsMutable() {
+        if (!emails_.isModifiable()) {
+          emails_ = new com.google.protobuf.LazyStringArrayList(emails_);
+        }
+        bitField0_ |= 0x00000002;
+      }
+      /**
+       * <code>repeated string emails = 2 [json_name = "emails"];</code>
+       * @return A list containing the emails.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getEmailsList() {
+        emails_.makeImmutable();
+        return emails_;
+      }
+      /**
+       * <code>repeated string emails = 2 [json_name = "emails"];</code>
+       * @return The count of emails.
+       */
+      public int getEmailsCount() {
+        return emails_.size();
+      }
+      /**
+       * <code>repeated string emails = 2 [json_name = "emails"];</code>
+       * @param index The index of the element to return.
+       * @return The emails at the given index.
+       */
+      public java.lang.String getEmails(int index) {
+        return emails_.get(index);
+      }
+      /**
+       * <code>repeated string emails = 2 [json_name = "emails"];</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the emails at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getEmailsBytes(int index) {
+        return emails_.getByteString(index);
+      }
+      /**
+       * <code>repeated string emails = 2 [json_name = "emails"];</code>
+       * @param index The index to set the value at.
+       * @param value The emails to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEmails(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureEmailsIsMutable();
+        emails_.set(index, value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string emails = 2 [json_name = "emails"];</code>
+       * @param value The emails to add.
+       * @return This builder for chaining.
+       */
+      public Builder addEmails(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureEmailsIsMutable();
+        emails_.add(value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string emails = 2 [json_name = "emails"];</code>
+       * @param values The emails to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllEmails(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureEmailsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, emails_);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string emails = 2 [json_name = "emails"];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearEmails() {
+        emails_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string emails = 2 [json_name = "emails"];</code>
+       * @param value The bytes of the emails to add.
+       * @return This builder for chaining.
+       */
+      public Builder addEmailsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureEmailsIsMutable();
+        emails_.add(value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private int memberType_ = 0;
+      /**
+       * <code>.com.inspirationparticle.utro.gen.organisation.v1.MemberType member_type = 3 [json_name = "memberType"];</code>
+       * @return The enum numeric value on the wire for memberType.
+       */
+      @java.lang.Override public int getMemberTypeValue() {
+        return memberType_;
+      }
+      /**
+       * <code>.com.inspirationparticle.utro.gen.organisation.v1.MemberType member_type = 3 [json_name = "memberType"];</code>
+       * @param value The enum numeric value on the wire for memberType to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMemberTypeValue(int value) {
+        memberType_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.com.inspirationparticle.utro.gen.organisation.v1.MemberType member_type = 3 [json_name = "memberType"];</code>
+       * @return The memberType.
+       */
+      @java.lang.Override
+      public com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.MemberType getMemberType() {
+        com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.MemberType result = com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.MemberType.forNumber(memberType_);
+        return result == null ? com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.MemberType.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.com.inspirationparticle.utro.gen.organisation.v1.MemberType member_type = 3 [json_name = "memberType"];</code>
+       * @param value The memberType to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMemberType(com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.MemberType value) {
+        if (value == null) { throw new NullPointerException(); }
+        bitField0_ |= 0x00000004;
+        memberType_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.com.inspirationparticle.utro.gen.organisation.v1.MemberType member_type = 3 [json_name = "memberType"];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMemberType() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        memberType_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationsRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationsRequest)
+    private static final com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest();
+    }
+
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CreateInvitationsRequest>
+        PARSER = new com.google.protobuf.AbstractParser<CreateInvitationsRequest>() {
+      @java.lang.Override
+      public CreateInvitationsRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CreateInvitationsRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CreateInvitationsRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CreateInvitationsResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationsResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * in request order
+     * </pre>
+     *
+     * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult results = 1 [json_name = "results"];</code>
+     */
+    java.util.List<com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult> 
+        getResultsList();
+    /**
+     * <pre>
+     * in request order
+     * </pre>
+     *
+     * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult results = 1 [json_name = "results"];</code>
+     */
+    com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult getResults(int index);
+    /**
+     * <pre>
+     * in request order
+     * </pre>
+     *
+     * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult results = 1 [json_name = "results"];</code>
+     */
+    int getResultsCount();
+    /**
+     * <pre>
+     * in request order
+     * </pre>
+     *
+     * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult results = 1 [json_name = "results"];</code>
+     */
+    java.util.List<? extends com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResultOrBuilder> 
+        getResultsOrBuilderList();
+    /**
+     * <pre>
+     * in request order
+     * </pre>
+     *
+     * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult results = 1 [json_name = "results"];</code>
+     */
+    com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResultOrBuilder getResultsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationsResponse}
+   */
+  public static final class CreateInvitationsResponse extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationsResponse)
+      CreateInvitationsResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 31,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CreateInvitationsResponse.class.getName());
+    }
+    // Use CreateInvitationsResponse.newBuilder() to construct.
+    private CreateInvitationsResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CreateInvitationsResponse() {
+      results_ = java.util.Collections.emptyList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationsResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationsResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse.class, com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse.Builder.class);
+    }
+
+    public static final int RESULTS_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private java.util.List<com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult> results_;
+    /**
+     * <pre>
+     * in request order
+     * </pre>
+     *
+     * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult results = 1 [json_name = "results"];</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult> getResultsList() {
+      return results_;
+    }
+    /**
+     * <pre>
+     * in request order
+     * </pre>
+     *
+     * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult results = 1 [json_name = "results"];</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResultOrBuilder> 
+        getResultsOrBuilderList() {
+      return results_;
+    }
+    /**
+     * <pre>
+     * in request order
+     * </pre>
+     *
+     * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult results = 1 [json_name = "results"];</code>
+     */
+    @java.lang.Override
+    public int getResultsCount() {
+      return results_.size();
+    }
+    /**
+     * <pre>
+     * in request order
+     * </pre>
+     *
+     * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult results = 1 [json_name = "results"];</code>
+     */
+    @java.lang.Override
+    public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult getResults(int index) {
+      return results_.get(index);
+    }
+    /**
+     * <pre>
+     * in request order
+     * </pre>
+     *
+     * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult results = 1 [json_name = "results"];</code>
+     */
+    @java.lang.Override
+    public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResultOrBuilder getResultsOrBuilder(
+        int index) {
+      return results_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < results_.size(); i++) {
+        output.writeMessage(1, results_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < results_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, results_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse)) {
+        return super.equals(obj);
+      }
+      com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse other = (com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse) obj;
+
+      if (!getResultsList()
+          .equals(other.getResultsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getResultsCount() > 0) {
+        hash = (37 * hash) + RESULTS_FIELD_NUMBER;
+        hash = (53 * hash) + getResultsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationsResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationsResponse)
+        com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationsResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationsResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse.class, com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse.Builder.class);
+      }
+
+      // Construct using com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        if (resultsBuilder_ == null) {
+          results_ = java.util.Collections.emptyList();
+        } else {
+          results_ = null;
+          resultsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationsResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse getDefaultInstanceForType() {
+        return com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse build() {
+        com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse buildPartial() {
+        com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse result = new com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse result) {
+        if (resultsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            results_ = java.util.Collections.unmodifiableList(results_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.results_ = results_;
+        } else {
+          result.results_ = resultsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse result) {
+        int from_bitField0_ = bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse) {
+          return mergeFrom((com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse other) {
+        if (other == com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse.getDefaultInstance()) return this;
+        if (resultsBuilder_ == null) {
+          if (!other.results_.isEmpty()) {
+            if (results_.isEmpty()) {
+              results_ = other.results_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureResultsIsMutable();
+              results_.addAll(other.results_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.results_.isEmpty()) {
+            if (resultsBuilder_.isEmpty()) {
+              resultsBuilder_.dispose();
+              resultsBuilder_ = null;
+              results_ = other.results_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              resultsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   internalGetResultsFieldBuilder() : null;
+            } else {
+              resultsBuilder_.addAllMessages(other.results_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult m =
+                    input.readMessage(
+                        com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult.parser(),
+                        extensionRegistry);
+                if (resultsBuilder_ == null) {
+                  ensureResultsIsMutable();
+                  results_.add(m);
+                } else {
+                  resultsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult> results_ =
+        java.util.Collections.emptyList();
+      private void ensureResultsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          results_ = new java.util.ArrayList<com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult>(results_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult, com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult.Builder, com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResultOrBuilder> resultsBuilder_;
+
+      /**
+       * <pre>
+       * in request order
+       * </pre>
+       *
+       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult results = 1 [json_name = "results"];</code>
+       */
+      public java.util.List<com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult> getResultsList() {
+        if (resultsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(results_);
+        } else {
+          return resultsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * in request order
+       * </pre>
+       *
+       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult results = 1 [json_name = "results"];</code>
+       */
+      public int getResultsCount() {
+        if (resultsBuilder_ == null) {
+          return results_.size();
+        } else {
+          return resultsBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * in request order
+       * </pre>
+       *
+       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult results = 1 [json_name = "results"];</code>
+       */
+      public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult getResults(int index) {
+        if (resultsBuilder_ == null) {
+          return results_.get(index);
+        } else {
+          return resultsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * in request order
+       * </pre>
+       *
+       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult results = 1 [json_name = "results"];</code>
+       */
+      public Builder setResults(
+          int index, com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.set(index, value);
+          onChanged();
+        } else {
+          resultsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * in request order
+       * </pre>
+       *
+       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult results = 1 [json_name = "results"];</code>
+       */
+      public Builder setResults(
+          int index, com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * in request order
+       * </pre>
+       *
+       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult results = 1 [json_name = "results"];</code>
+       */
+      public Builder addResults(com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.add(value);
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * in request order
+       * </pre>
+       *
+       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult results = 1 [json_name = "results"];</code>
+       */
+      public Builder addResults(
+          int index, com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.add(index, value);
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * in request order
+       * </pre>
+       *
+       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult results = 1 [json_name = "results"];</code>
+       */
+      public Builder addResults(
+          com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.add(builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * in request order
+       * </pre>
+       *
+       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult results = 1 [json_name = "results"];</code>
+       */
+      public Builder addResults(
+          int index, com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * in request order
+       * </pre>
+       *
+       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult results = 1 [json_name = "results"];</code>
+       */
+      public Builder addAllResults(
+          java.lang.Iterable<? extends com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult> values) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, results_);
+          onChanged();
+        } else {
+          resultsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * in request order
+       * </pre>
+       *
+       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult results = 1 [json_name = "results"];</code>
+       */
+      public Builder clearResults() {
+        if (resultsBuilder_ == null) {
+          results_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          resultsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * in request order
+       * </pre>
+       *
+       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult results = 1 [json_name = "results"];</code>
+       */
+      public Builder removeResults(int index) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.remove(index);
+          onChanged();
+        } else {
+          resultsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * in request order
+       * </pre>
+       *
+       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult results = 1 [json_name = "results"];</code>
+       */
+      public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult.Builder getResultsBuilder(
+          int index) {
+        return internalGetResultsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * in request order
+       * </pre>
+       *
+       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult results = 1 [json_name = "results"];</code>
+       */
+      public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResultOrBuilder getResultsOrBuilder(
+          int index) {
+        if (resultsBuilder_ == null) {
+          return results_.get(index);  } else {
+          return resultsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * in request order
+       * </pre>
+       *
+       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult results = 1 [json_name = "results"];</code>
+       */
+      public java.util.List<? extends com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResultOrBuilder> 
+           getResultsOrBuilderList() {
+        if (resultsBuilder_ != null) {
+          return resultsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(results_);
+        }
+      }
+      /**
+       * <pre>
+       * in request order
+       * </pre>
+       *
+       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult results = 1 [json_name = "results"];</code>
+       */
+      public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult.Builder addResultsBuilder() {
+        return internalGetResultsFieldBuilder().addBuilder(
+            com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * in request order
+       * </pre>
+       *
+       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult results = 1 [json_name = "results"];</code>
+       */
+      public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult.Builder addResultsBuilder(
+          int index) {
+        return internalGetResultsFieldBuilder().addBuilder(
+            index, com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * in request order
+       * </pre>
+       *
+       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult results = 1 [json_name = "results"];</code>
+       */
+      public java.util.List<com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult.Builder> 
+           getResultsBuilderList() {
+        return internalGetResultsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult, com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult.Builder, com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResultOrBuilder> 
+          internalGetResultsFieldBuilder() {
+        if (resultsBuilder_ == null) {
+          resultsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult, com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult.Builder, com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResultOrBuilder>(
+                  results_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          results_ = null;
+        }
+        return resultsBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationsResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationsResponse)
+    private static final com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse();
+    }
+
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CreateInvitationsResponse>
+        PARSER = new com.google.protobuf.AbstractParser<CreateInvitationsResponse>() {
+      @java.lang.Override
+      public CreateInvitationsResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CreateInvitationsResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CreateInvitationsResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CreateInvitationResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string email = 1 [json_name = "email"];</code>
+     * @return The email.
+     */
+    java.lang.String getEmail();
+    /**
+     * <code>string email = 1 [json_name = "email"];</code>
+     * @return The bytes for email.
+     */
+    com.google.protobuf.ByteString
+        getEmailBytes();
+
+    /**
+     * <code>.com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationOutcome outcome = 2 [json_name = "outcome"];</code>
+     * @return The enum numeric value on the wire for outcome.
+     */
+    int getOutcomeValue();
+    /**
+     * <code>.com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationOutcome outcome = 2 [json_name = "outcome"];</code>
+     * @return The outcome.
+     */
+    com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationOutcome getOutcome();
+
+    /**
+     * <pre>
+     * set when outcome is CREATED
+     * </pre>
+     *
+     * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 3 [json_name = "invitation"];</code>
+     * @return Whether the invitation field is set.
+     */
+    boolean hasInvitation();
+    /**
+     * <pre>
+     * set when outcome is CREATED
+     * </pre>
+     *
+     * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 3 [json_name = "invitation"];</code>
+     * @return The invitation.
+     */
+    com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.Invitation getInvitation();
+    /**
+     * <pre>
+     * set when outcome is CREATED
+     * </pre>
+     *
+     * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 3 [json_name = "invitation"];</code>
+     */
+    com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.InvitationOrBuilder getInvitationOrBuilder();
+  }
+  /**
+   * Protobuf type {@code com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult}
+   */
+  public static final class CreateInvitationResult extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult)
+      CreateInvitationResultOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 31,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CreateInvitationResult.class.getName());
+    }
+    // Use CreateInvitationResult.newBuilder() to construct.
+    private CreateInvitationResult(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CreateInvitationResult() {
+      email_ = "";
+      outcome_ = 0;
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationResult_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult.class, com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int EMAIL_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object email_ = "";
+    /**
+     * <code>string email = 1 [json_name = "email"];</code>
+     * @return The email.
+     */
+    @java.lang.Override
+    public java.lang.String getEmail() {
+      java.lang.Object ref = email_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        email_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string email = 1 [json_name = "email"];</code>
+     * @return The bytes for email.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getEmailBytes() {
+      java.lang.Object ref = email_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        email_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int OUTCOME_FIELD_NUMBER = 2;
+    private int outcome_ = 0;
+    /**
+     * <code>.com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationOutcome outcome = 2 [json_name = "outcome"];</code>
+     * @return The enum numeric value on the wire for outcome.
+     */
+    @java.lang.Override public int getOutcomeValue() {
+      return outcome_;
+    }
+    /**
+     * <code>.com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationOutcome outcome = 2 [json_name = "outcome"];</code>
+     * @return The outcome.
+     */
+    @java.lang.Override public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationOutcome getOutcome() {
+      com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationOutcome result = com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationOutcome.forNumber(outcome_);
+      return result == null ? com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationOutcome.UNRECOGNIZED : result;
+    }
+
+    public static final int INVITATION_FIELD_NUMBER = 3;
+    private com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.Invitation invitation_;
+    /**
+     * <pre>
+     * set when outcome is CREATED
+     * </pre>
+     *
+     * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 3 [json_name = "invitation"];</code>
+     * @return Whether the invitation field is set.
+     */
+    @java.lang.Override
+    public boolean hasInvitation() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <pre>
+     * set when outcome is CREATED
+     * </pre>
+     *
+     * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 3 [json_name = "invitation"];</code>
+     * @return The invitation.
+     */
+    @java.lang.Override
+    public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.Invitation getInvitation() {
+      return invitation_ == null ? com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.Invitation.getDefaultInstance() : invitation_;
+    }
+    /**
+     * <pre>
+     * set when outcome is CREATED
+     * </pre>
+     *
+     * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 3 [json_name = "invitation"];</code>
+     */
+    @java.lang.Override
+    public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.InvitationOrBuilder getInvitationOrBuilder() {
+      return invitation_ == null ? com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.Invitation.getDefaultInstance() : invitation_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(email_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, email_);
+      }
+      if (outcome_ != com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationOutcome.CREATE_INVITATION_OUTCOME_UNSPECIFIED.getNumber()) {
+        output.writeEnum(2, outcome_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeMessage(3, getInvitation());
       }
       getUnknownFields().writeTo(output);
     }
@@ -1040,9 +3562,16 @@ public final class InvitationOuterClass {
       if (size != -1) return size;
 
       size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(email_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, email_);
+      }
+      if (outcome_ != com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationOutcome.CREATE_INVITATION_OUTCOME_UNSPECIFIED.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(2, outcome_);
+      }
       if (((bitField0_ & 0x00000001) != 0)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, getInvitation());
+          .computeMessageSize(3, getInvitation());
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -1054,11 +3583,14 @@ public final class InvitationOuterClass {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse)) {
+      if (!(obj instanceof com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult)) {
         return super.equals(obj);
       }
-      com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse other = (com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse) obj;
+      com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult other = (com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult) obj;
 
+      if (!getEmail()
+          .equals(other.getEmail())) return false;
+      if (outcome_ != other.outcome_) return false;
       if (hasInvitation() != other.hasInvitation()) return false;
       if (hasInvitation()) {
         if (!getInvitation()
@@ -1075,6 +3607,10 @@ public final class InvitationOuterClass {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + EMAIL_FIELD_NUMBER;
+      hash = (53 * hash) + getEmail().hashCode();
+      hash = (37 * hash) + OUTCOME_FIELD_NUMBER;
+      hash = (53 * hash) + outcome_;
       if (hasInvitation()) {
         hash = (37 * hash) + INVITATION_FIELD_NUMBER;
         hash = (53 * hash) + getInvitation().hashCode();
@@ -1084,44 +3620,44 @@ public final class InvitationOuterClass {
       return hash;
     }
 
-    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse parseFrom(
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse parseFrom(
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse parseFrom(
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse parseFrom(
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse parseFrom(byte[] data)
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse parseFrom(
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse parseFrom(java.io.InputStream input)
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse parseFrom(
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -1129,26 +3665,26 @@ public final class InvitationOuterClass {
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse parseDelimitedFrom(java.io.InputStream input)
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse parseDelimitedFrom(
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse parseFrom(
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessage
           .parseWithIOException(PARSER, input);
     }
-    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse parseFrom(
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -1161,7 +3697,7 @@ public final class InvitationOuterClass {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse prototype) {
+    public static Builder newBuilder(com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -1177,26 +3713,26 @@ public final class InvitationOuterClass {
       return builder;
     }
     /**
-     * Protobuf type {@code com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResponse}
+     * Protobuf type {@code com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResponse)
-        com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponseOrBuilder {
+        // @@protoc_insertion_point(builder_implements:com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult)
+        com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResultOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationResponse_descriptor;
+        return com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationResult_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationResponse_fieldAccessorTable
+        return com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationResult_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse.class, com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse.Builder.class);
+                com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult.class, com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult.Builder.class);
       }
 
-      // Construct using com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse.newBuilder()
+      // Construct using com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -1216,6 +3752,8 @@ public final class InvitationOuterClass {
       public Builder clear() {
         super.clear();
         bitField0_ = 0;
+        email_ = "";
+        outcome_ = 0;
         invitation_ = null;
         if (invitationBuilder_ != null) {
           invitationBuilder_.dispose();
@@ -1227,17 +3765,17 @@ public final class InvitationOuterClass {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationResponse_descriptor;
+        return com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationResult_descriptor;
       }
 
       @java.lang.Override
-      public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse getDefaultInstanceForType() {
-        return com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse.getDefaultInstance();
+      public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult getDefaultInstanceForType() {
+        return com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult.getDefaultInstance();
       }
 
       @java.lang.Override
-      public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse build() {
-        com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse result = buildPartial();
+      public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult build() {
+        com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -1245,17 +3783,23 @@ public final class InvitationOuterClass {
       }
 
       @java.lang.Override
-      public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse buildPartial() {
-        com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse result = new com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse(this);
+      public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult buildPartial() {
+        com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult result = new com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult(this);
         if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse result) {
+      private void buildPartial0(com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult result) {
         int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.email_ = email_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.outcome_ = outcome_;
+        }
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
           result.invitation_ = invitationBuilder_ == null
               ? invitation_
               : invitationBuilder_.build();
@@ -1266,16 +3810,24 @@ public final class InvitationOuterClass {
 
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse) {
-          return mergeFrom((com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse)other);
+        if (other instanceof com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult) {
+          return mergeFrom((com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse other) {
-        if (other == com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse.getDefaultInstance()) return this;
+      public Builder mergeFrom(com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult other) {
+        if (other == com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult.getDefaultInstance()) return this;
+        if (!other.getEmail().isEmpty()) {
+          email_ = other.email_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.outcome_ != 0) {
+          setOutcomeValue(other.getOutcomeValue());
+        }
         if (other.hasInvitation()) {
           mergeInvitation(other.getInvitation());
         }
@@ -1306,12 +3858,22 @@ public final class InvitationOuterClass {
                 done = true;
                 break;
               case 10: {
+                email_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                outcome_ = input.readEnum();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 26: {
                 input.readMessage(
                     internalGetInvitationFieldBuilder().getBuilder(),
                     extensionRegistry);
-                bitField0_ |= 0x00000001;
+                bitField0_ |= 0x00000004;
                 break;
-              } // case 10
+              } // case 26
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -1329,18 +3891,149 @@ public final class InvitationOuterClass {
       }
       private int bitField0_;
 
+      private java.lang.Object email_ = "";
+      /**
+       * <code>string email = 1 [json_name = "email"];</code>
+       * @return The email.
+       */
+      public java.lang.String getEmail() {
+        java.lang.Object ref = email_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          email_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string email = 1 [json_name = "email"];</code>
+       * @return The bytes for email.
+       */
+      public com.google.protobuf.ByteString
+          getEmailBytes() {
+        java.lang.Object ref = email_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          email_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string email = 1 [json_name = "email"];</code>
+       * @param value The email to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEmail(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        email_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string email = 1 [json_name = "email"];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearEmail() {
+        email_ = getDefaultInstance().getEmail();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string email = 1 [json_name = "email"];</code>
+       * @param value The bytes for email to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEmailBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        email_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private int outcome_ = 0;
+      /**
+       * <code>.com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationOutcome outcome = 2 [json_name = "outcome"];</code>
+       * @return The enum numeric value on the wire for outcome.
+       */
+      @java.lang.Override public int getOutcomeValue() {
+        return outcome_;
+      }
+      /**
+       * <code>.com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationOutcome outcome = 2 [json_name = "outcome"];</code>
+       * @param value The enum numeric value on the wire for outcome to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOutcomeValue(int value) {
+        outcome_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationOutcome outcome = 2 [json_name = "outcome"];</code>
+       * @return The outcome.
+       */
+      @java.lang.Override
+      public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationOutcome getOutcome() {
+        com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationOutcome result = com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationOutcome.forNumber(outcome_);
+        return result == null ? com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationOutcome.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationOutcome outcome = 2 [json_name = "outcome"];</code>
+       * @param value The outcome to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOutcome(com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationOutcome value) {
+        if (value == null) { throw new NullPointerException(); }
+        bitField0_ |= 0x00000002;
+        outcome_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationOutcome outcome = 2 [json_name = "outcome"];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOutcome() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        outcome_ = 0;
+        onChanged();
+        return this;
+      }
+
       private com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.Invitation invitation_;
       private com.google.protobuf.SingleFieldBuilder<
           com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.Invitation, com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.Invitation.Builder, com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.InvitationOrBuilder> invitationBuilder_;
       /**
-       * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 1 [json_name = "invitation"];</code>
+       * <pre>
+       * set when outcome is CREATED
+       * </pre>
+       *
+       * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 3 [json_name = "invitation"];</code>
        * @return Whether the invitation field is set.
        */
       public boolean hasInvitation() {
-        return ((bitField0_ & 0x00000001) != 0);
+        return ((bitField0_ & 0x00000004) != 0);
       }
       /**
-       * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 1 [json_name = "invitation"];</code>
+       * <pre>
+       * set when outcome is CREATED
+       * </pre>
+       *
+       * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 3 [json_name = "invitation"];</code>
        * @return The invitation.
        */
       public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.Invitation getInvitation() {
@@ -1351,7 +4044,11 @@ public final class InvitationOuterClass {
         }
       }
       /**
-       * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 1 [json_name = "invitation"];</code>
+       * <pre>
+       * set when outcome is CREATED
+       * </pre>
+       *
+       * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 3 [json_name = "invitation"];</code>
        */
       public Builder setInvitation(com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.Invitation value) {
         if (invitationBuilder_ == null) {
@@ -1362,12 +4059,16 @@ public final class InvitationOuterClass {
         } else {
           invitationBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00000001;
+        bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
       /**
-       * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 1 [json_name = "invitation"];</code>
+       * <pre>
+       * set when outcome is CREATED
+       * </pre>
+       *
+       * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 3 [json_name = "invitation"];</code>
        */
       public Builder setInvitation(
           com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.Invitation.Builder builderForValue) {
@@ -1376,16 +4077,20 @@ public final class InvitationOuterClass {
         } else {
           invitationBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00000001;
+        bitField0_ |= 0x00000004;
         onChanged();
         return this;
       }
       /**
-       * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 1 [json_name = "invitation"];</code>
+       * <pre>
+       * set when outcome is CREATED
+       * </pre>
+       *
+       * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 3 [json_name = "invitation"];</code>
        */
       public Builder mergeInvitation(com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.Invitation value) {
         if (invitationBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) != 0) &&
+          if (((bitField0_ & 0x00000004) != 0) &&
             invitation_ != null &&
             invitation_ != com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.Invitation.getDefaultInstance()) {
             getInvitationBuilder().mergeFrom(value);
@@ -1396,16 +4101,20 @@ public final class InvitationOuterClass {
           invitationBuilder_.mergeFrom(value);
         }
         if (invitation_ != null) {
-          bitField0_ |= 0x00000001;
+          bitField0_ |= 0x00000004;
           onChanged();
         }
         return this;
       }
       /**
-       * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 1 [json_name = "invitation"];</code>
+       * <pre>
+       * set when outcome is CREATED
+       * </pre>
+       *
+       * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 3 [json_name = "invitation"];</code>
        */
       public Builder clearInvitation() {
-        bitField0_ = (bitField0_ & ~0x00000001);
+        bitField0_ = (bitField0_ & ~0x00000004);
         invitation_ = null;
         if (invitationBuilder_ != null) {
           invitationBuilder_.dispose();
@@ -1415,15 +4124,23 @@ public final class InvitationOuterClass {
         return this;
       }
       /**
-       * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 1 [json_name = "invitation"];</code>
+       * <pre>
+       * set when outcome is CREATED
+       * </pre>
+       *
+       * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 3 [json_name = "invitation"];</code>
        */
       public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.Invitation.Builder getInvitationBuilder() {
-        bitField0_ |= 0x00000001;
+        bitField0_ |= 0x00000004;
         onChanged();
         return internalGetInvitationFieldBuilder().getBuilder();
       }
       /**
-       * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 1 [json_name = "invitation"];</code>
+       * <pre>
+       * set when outcome is CREATED
+       * </pre>
+       *
+       * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 3 [json_name = "invitation"];</code>
        */
       public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.InvitationOrBuilder getInvitationOrBuilder() {
         if (invitationBuilder_ != null) {
@@ -1434,7 +4151,11 @@ public final class InvitationOuterClass {
         }
       }
       /**
-       * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 1 [json_name = "invitation"];</code>
+       * <pre>
+       * set when outcome is CREATED
+       * </pre>
+       *
+       * <code>.com.inspirationparticle.utro.gen.organisation.v1.Invitation invitation = 3 [json_name = "invitation"];</code>
        */
       private com.google.protobuf.SingleFieldBuilder<
           com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.Invitation, com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.Invitation.Builder, com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.InvitationOrBuilder> 
@@ -1450,23 +4171,23 @@ public final class InvitationOuterClass {
         return invitationBuilder_;
       }
 
-      // @@protoc_insertion_point(builder_scope:com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResponse)
+      // @@protoc_insertion_point(builder_scope:com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult)
     }
 
-    // @@protoc_insertion_point(class_scope:com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResponse)
-    private static final com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:com.inspirationparticle.utro.gen.organisation.v1.CreateInvitationResult)
+    private static final com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse();
+      DEFAULT_INSTANCE = new com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult();
     }
 
-    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse getDefaultInstance() {
+    public static com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<CreateInvitationResponse>
-        PARSER = new com.google.protobuf.AbstractParser<CreateInvitationResponse>() {
+    private static final com.google.protobuf.Parser<CreateInvitationResult>
+        PARSER = new com.google.protobuf.AbstractParser<CreateInvitationResult>() {
       @java.lang.Override
-      public CreateInvitationResponse parsePartialFrom(
+      public CreateInvitationResult parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -1485,17 +4206,17 @@ public final class InvitationOuterClass {
       }
     };
 
-    public static com.google.protobuf.Parser<CreateInvitationResponse> parser() {
+    public static com.google.protobuf.Parser<CreateInvitationResult> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<CreateInvitationResponse> getParserForType() {
+    public com.google.protobuf.Parser<CreateInvitationResult> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResponse getDefaultInstanceForType() {
+    public com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationResult getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -6499,6 +9220,21 @@ public final class InvitationOuterClass {
   private static final 
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationsRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationsRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationsResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationsResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationResult_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationResult_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_com_inspirationparticle_utro_gen_organisation_v1_GetInvitationsRequest_descriptor;
   private static final 
@@ -6554,54 +9290,80 @@ public final class InvitationOuterClass {
       "berTypeR\nmemberType\"x\n\030CreateInvitationR" +
       "esponse\022\\\n\ninvitation\030\001 \001(\0132<.com.inspir" +
       "ationparticle.utro.gen.organisation.v1.I" +
-      "nvitationR\ninvitation\"@\n\025GetInvitationsR" +
-      "equest\022\'\n\017organisation_id\030\001 \001(\tR\016organis" +
-      "ationId\"x\n\026GetInvitationsResponse\022^\n\013inv" +
-      "itations\030\001 \003(\0132<.com.inspirationparticle" +
-      ".utro.gen.organisation.v1.InvitationR\013in" +
-      "vitations\"Y\n\032RespondToInvitationRequest\022" +
-      "#\n\rinvitation_id\030\001 \001(\tR\014invitationId\022\026\n\006" +
-      "accept\030\002 \001(\010R\006accept\"{\n\033RespondToInvitat" +
-      "ionResponse\022\\\n\ninvitation\030\001 \001(\0132<.com.in" +
-      "spirationparticle.utro.gen.organisation." +
-      "v1.InvitationR\ninvitation\">\n\027CancelInvit" +
-      "ationRequest\022#\n\rinvitation_id\030\001 \001(\tR\014inv" +
-      "itationId\"4\n\030CancelInvitationResponse\022\030\n" +
-      "\007success\030\001 \001(\010R\007success\"\343\003\n\nInvitation\022\016" +
-      "\n\002id\030\001 \001(\tR\002id\022\024\n\005email\030\002 \001(\tR\005email\022\'\n\017" +
-      "organisation_id\030\003 \001(\tR\016organisationId\022U\n" +
-      "\ninvited_by\030\004 \001(\01326.com.inspirationparti" +
-      "cle.utro.gen.organisation.v1.UserR\tinvit" +
-      "edBy\022]\n\013member_type\030\005 \001(\0162<.com.inspirat" +
-      "ionparticle.utro.gen.organisation.v1.Mem" +
-      "berTypeR\nmemberType\022Z\n\006status\030\006 \001(\0162B.co" +
-      "m.inspirationparticle.utro.gen.organisat" +
-      "ion.v1.InvitationStatusR\006status\0229\n\ncreat" +
-      "ed_at\030\007 \001(\0132\032.google.protobuf.TimestampR" +
-      "\tcreatedAt\0229\n\nexpires_at\030\010 \001(\0132\032.google." +
-      "protobuf.TimestampR\texpiresAt*k\n\020Invitat" +
-      "ionStatus\022!\n\035INVITATION_STATUS_UNSPECIFI" +
-      "ED\020\000\022\013\n\007PENDING\020\001\022\014\n\010ACCEPTED\020\002\022\014\n\010DECLI" +
-      "NED\020\003\022\013\n\007EXPIRED\020\0042\306\005\n\021InvitationService" +
-      "\022\251\001\n\020CreateInvitation\022I.com.inspirationp" +
-      "article.utro.gen.organisation.v1.CreateI" +
-      "nvitationRequest\032J.com.inspirationpartic" +
+      "nvitationR\ninvitation\"\272\001\n\030CreateInvitati" +
+      "onsRequest\022\'\n\017organisation_id\030\001 \001(\tR\016org" +
+      "anisationId\022\026\n\006emails\030\002 \003(\tR\006emails\022]\n\013m" +
+      "ember_type\030\003 \001(\0162<.com.inspirationpartic" +
+      "le.utro.gen.organisation.v1.MemberTypeR\n" +
+      "memberType\"\177\n\031CreateInvitationsResponse\022" +
+      "b\n\007results\030\001 \003(\0132H.com.inspirationpartic" +
       "le.utro.gen.organisation.v1.CreateInvita" +
-      "tionResponse\022\243\001\n\016GetInvitations\022G.com.in" +
-      "spirationparticle.utro.gen.organisation." +
-      "v1.GetInvitationsRequest\032H.com.inspirati" +
-      "onparticle.utro.gen.organisation.v1.GetI" +
-      "nvitationsResponse\022\262\001\n\023RespondToInvitati" +
-      "on\022L.com.inspirationparticle.utro.gen.or" +
-      "ganisation.v1.RespondToInvitationRequest" +
-      "\032M.com.inspirationparticle.utro.gen.orga" +
-      "nisation.v1.RespondToInvitationResponse\022" +
-      "\251\001\n\020CancelInvitation\022I.com.inspirationpa" +
-      "rticle.utro.gen.organisation.v1.CancelIn" +
-      "vitationRequest\032J.com.inspirationparticl" +
-      "e.utro.gen.organisation.v1.CancelInvitat" +
-      "ionResponseB2\n0com.inspirationparticle.u" +
-      "tro.gen.organisation.v1b\006proto3"
+      "tionResultR\007results\"\361\001\n\026CreateInvitation" +
+      "Result\022\024\n\005email\030\001 \001(\tR\005email\022c\n\007outcome\030" +
+      "\002 \001(\0162I.com.inspirationparticle.utro.gen" +
+      ".organisation.v1.CreateInvitationOutcome" +
+      "R\007outcome\022\\\n\ninvitation\030\003 \001(\0132<.com.insp" +
+      "irationparticle.utro.gen.organisation.v1" +
+      ".InvitationR\ninvitation\"@\n\025GetInvitation" +
+      "sRequest\022\'\n\017organisation_id\030\001 \001(\tR\016organ" +
+      "isationId\"x\n\026GetInvitationsResponse\022^\n\013i" +
+      "nvitations\030\001 \003(\0132<.com.inspirationpartic" +
+      "le.utro.gen.organisation.v1.InvitationR\013" +
+      "invitations\"Y\n\032RespondToInvitationReques" +
+      "t\022#\n\rinvitation_id\030\001 \001(\tR\014invitationId\022\026" +
+      "\n\006accept\030\002 \001(\010R\006accept\"{\n\033RespondToInvit" +
+      "ationResponse\022\\\n\ninvitation\030\001 \001(\0132<.com." +
+      "inspirationparticle.utro.gen.organisatio" +
+      "n.v1.InvitationR\ninvitation\">\n\027CancelInv" +
+      "itationRequest\022#\n\rinvitation_id\030\001 \001(\tR\014i" +
+      "nvitationId\"4\n\030CancelInvitationResponse\022" +
+      "\030\n\007success\030\001 \001(\010R\007success\"\343\003\n\nInvitation" +
+      "\022\016\n\002id\030\001 \001(\tR\002id\022\024\n\005email\030\002 \001(\tR\005email\022\'" +
+      "\n\017organisation_id\030\003 \001(\tR\016organisationId\022" +
+      "U\n\ninvited_by\030\004 \001(\01326.com.inspirationpar" +
+      "ticle.utro.gen.organisation.v1.UserR\tinv" +
+      "itedBy\022]\n\013member_type\030\005 \001(\0162<.com.inspir" +
+      "ationparticle.utro.gen.organisation.v1.M" +
+      "emberTypeR\nmemberType\022Z\n\006status\030\006 \001(\0162B." +
+      "com.inspirationparticle.utro.gen.organis" +
+      "ation.v1.InvitationStatusR\006status\0229\n\ncre" +
+      "ated_at\030\007 \001(\0132\032.google.protobuf.Timestam" +
+      "pR\tcreatedAt\0229\n\nexpires_at\030\010 \001(\0132\032.googl" +
+      "e.protobuf.TimestampR\texpiresAt*\236\002\n\027Crea" +
+      "teInvitationOutcome\022)\n%CREATE_INVITATION" +
+      "_OUTCOME_UNSPECIFIED\020\000\022%\n!CREATE_INVITAT" +
+      "ION_OUTCOME_CREATED\020\001\022+\n\'CREATE_INVITATI" +
+      "ON_OUTCOME_INVALID_EMAIL\020\002\022\'\n#CREATE_INV" +
+      "ITATION_OUTCOME_DUPLICATE\020\003\022,\n(CREATE_IN" +
+      "VITATION_OUTCOME_ALREADY_MEMBER\020\004\022-\n)CRE" +
+      "ATE_INVITATION_OUTCOME_ALREADY_INVITED\020\005" +
+      "*k\n\020InvitationStatus\022!\n\035INVITATION_STATU" +
+      "S_UNSPECIFIED\020\000\022\013\n\007PENDING\020\001\022\014\n\010ACCEPTED" +
+      "\020\002\022\014\n\010DECLINED\020\003\022\013\n\007EXPIRED\020\0042\365\006\n\021Invita" +
+      "tionService\022\251\001\n\020CreateInvitation\022I.com.i" +
+      "nspirationparticle.utro.gen.organisation" +
+      ".v1.CreateInvitationRequest\032J.com.inspir" +
+      "ationparticle.utro.gen.organisation.v1.C" +
+      "reateInvitationResponse\022\254\001\n\021CreateInvita" +
+      "tions\022J.com.inspirationparticle.utro.gen" +
+      ".organisation.v1.CreateInvitationsReques" +
+      "t\032K.com.inspirationparticle.utro.gen.org" +
+      "anisation.v1.CreateInvitationsResponse\022\243" +
+      "\001\n\016GetInvitations\022G.com.inspirationparti" +
+      "cle.utro.gen.organisation.v1.GetInvitati" +
+      "onsRequest\032H.com.inspirationparticle.utr" +
+      "o.gen.organisation.v1.GetInvitationsResp" +
+      "onse\022\262\001\n\023RespondToInvitation\022L.com.inspi" +
+      "rationparticle.utro.gen.organisation.v1." +
+      "RespondToInvitationRequest\032M.com.inspira" +
+      "tionparticle.utro.gen.organisation.v1.Re" +
+      "spondToInvitationResponse\022\251\001\n\020CancelInvi" +
+      "tation\022I.com.inspirationparticle.utro.ge" +
+      "n.organisation.v1.CancelInvitationReques" +
+      "t\032J.com.inspirationparticle.utro.gen.org" +
+      "anisation.v1.CancelInvitationResponseB2\n" +
+      "0com.inspirationparticle.utro.gen.organi" +
+      "sation.v1b\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -6621,44 +9383,62 @@ public final class InvitationOuterClass {
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationResponse_descriptor,
         new java.lang.String[] { "Invitation", });
-    internal_static_com_inspirationparticle_utro_gen_organisation_v1_GetInvitationsRequest_descriptor =
+    internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationsRequest_descriptor =
       getDescriptor().getMessageTypes().get(2);
+    internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationsRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationsRequest_descriptor,
+        new java.lang.String[] { "OrganisationId", "Emails", "MemberType", });
+    internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationsResponse_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationsResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationsResponse_descriptor,
+        new java.lang.String[] { "Results", });
+    internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationResult_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_com_inspirationparticle_utro_gen_organisation_v1_CreateInvitationResult_descriptor,
+        new java.lang.String[] { "Email", "Outcome", "Invitation", });
+    internal_static_com_inspirationparticle_utro_gen_organisation_v1_GetInvitationsRequest_descriptor =
+      getDescriptor().getMessageTypes().get(5);
     internal_static_com_inspirationparticle_utro_gen_organisation_v1_GetInvitationsRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_inspirationparticle_utro_gen_organisation_v1_GetInvitationsRequest_descriptor,
         new java.lang.String[] { "OrganisationId", });
     internal_static_com_inspirationparticle_utro_gen_organisation_v1_GetInvitationsResponse_descriptor =
-      getDescriptor().getMessageTypes().get(3);
+      getDescriptor().getMessageTypes().get(6);
     internal_static_com_inspirationparticle_utro_gen_organisation_v1_GetInvitationsResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_inspirationparticle_utro_gen_organisation_v1_GetInvitationsResponse_descriptor,
         new java.lang.String[] { "Invitations", });
     internal_static_com_inspirationparticle_utro_gen_organisation_v1_RespondToInvitationRequest_descriptor =
-      getDescriptor().getMessageTypes().get(4);
+      getDescriptor().getMessageTypes().get(7);
     internal_static_com_inspirationparticle_utro_gen_organisation_v1_RespondToInvitationRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_inspirationparticle_utro_gen_organisation_v1_RespondToInvitationRequest_descriptor,
         new java.lang.String[] { "InvitationId", "Accept", });
     internal_static_com_inspirationparticle_utro_gen_organisation_v1_RespondToInvitationResponse_descriptor =
-      getDescriptor().getMessageTypes().get(5);
+      getDescriptor().getMessageTypes().get(8);
     internal_static_com_inspirationparticle_utro_gen_organisation_v1_RespondToInvitationResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_inspirationparticle_utro_gen_organisation_v1_RespondToInvitationResponse_descriptor,
         new java.lang.String[] { "Invitation", });
     internal_static_com_inspirationparticle_utro_gen_organisation_v1_CancelInvitationRequest_descriptor =
-      getDescriptor().getMessageTypes().get(6);
+      getDescriptor().getMessageTypes().get(9);
     internal_static_com_inspirationparticle_utro_gen_organisation_v1_CancelInvitationRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_inspirationparticle_utro_gen_organisation_v1_CancelInvitationRequest_descriptor,
         new java.lang.String[] { "InvitationId", });
     internal_static_com_inspirationparticle_utro_gen_organisation_v1_CancelInvitationResponse_descriptor =
-      getDescriptor().getMessageTypes().get(7);
+      getDescriptor().getMessageTypes().get(10);
     internal_static_com_inspirationparticle_utro_gen_organisation_v1_CancelInvitationResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_inspirationparticle_utro_gen_organisation_v1_CancelInvitationResponse_descriptor,
         new java.lang.String[] { "Success", });
     internal_static_com_inspirationparticle_utro_gen_organisation_v1_Invitation_descriptor =
-      getDescriptor().getMessageTypes().get(8);
+      getDescriptor().getMessageTypes().get(11);
     internal_static_com_inspirationparticle_utro_gen_organisation_v1_Invitation_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_inspirationparticle_utro_gen_organisation_v1_Invitation_descriptor,
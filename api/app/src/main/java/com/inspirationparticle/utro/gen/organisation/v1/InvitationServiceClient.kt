@@ -30,6 +30,23 @@ public class InvitationServiceClient(
   )
 
 
+  /**
+   *  Create invitations for many emails at once (admin only), with a result per email
+   */
+  override suspend fun createInvitations(request: InvitationOuterClass.CreateInvitationsRequest,
+      headers: Headers): ResponseMessage<InvitationOuterClass.CreateInvitationsResponse> =
+      client.unary(
+    request,
+    headers,
+    MethodSpec(
+    "com.inspirationparticle.utro.gen.organisation.v1.InvitationService/CreateInvitations",
+      com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsRequest::class,
+      com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass.CreateInvitationsResponse::class,
+      StreamType.UNARY,
+    ),
+  )
+
+
   /**
    *  Get all invitations for an organization (admin only)
    */
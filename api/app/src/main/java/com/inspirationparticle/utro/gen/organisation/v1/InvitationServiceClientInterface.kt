@@ -14,6 +14,13 @@ public interface InvitationServiceClientInterface {
   public suspend fun createInvitation(request: InvitationOuterClass.CreateInvitationRequest,
       headers: Headers = emptyMap()): ResponseMessage<InvitationOuterClass.CreateInvitationResponse>
 
+  /**
+   *  Create invitations for many emails at once (admin only), with a result per email
+   */
+  public suspend fun createInvitations(request: InvitationOuterClass.CreateInvitationsRequest,
+      headers: Headers = emptyMap()):
+      ResponseMessage<InvitationOuterClass.CreateInvitationsResponse>
+
   /**
    *  Get all invitations for an organization (admin only)
    */
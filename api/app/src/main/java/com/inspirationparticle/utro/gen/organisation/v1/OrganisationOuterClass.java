@@ -2490,6 +2490,36 @@ public final class OrganisationOuterClass {
      */
     com.google.protobuf.ByteString
         getQueryBytes();
+
+    /**
+     * <pre>
+     * defaults to 20, capped at 100
+     * </pre>
+     *
+     * <code>int32 page_size = 2 [json_name = "pageSize"];</code>
+     * @return The pageSize.
+     */
+    int getPageSize();
+
+    /**
+     * <pre>
+     * next_page_token from the previous page
+     * </pre>
+     *
+     * <code>string page_token = 3 [json_name = "pageToken"];</code>
+     * @return The pageToken.
+     */
+    java.lang.String getPageToken();
+    /**
+     * <pre>
+     * next_page_token from the previous page
+     * </pre>
+     *
+     * <code>string page_token = 3 [json_name = "pageToken"];</code>
+     * @return The bytes for pageToken.
+     */
+    com.google.protobuf.ByteString
+        getPageTokenBytes();
   }
   /**
    * Protobuf type {@code com.inspirationparticle.utro.gen.organisation.v1.SearchOrganisationsRequest}
@@ -2514,6 +2544,7 @@ public final class OrganisationOuterClass {
     }
     private SearchOrganisationsRequest() {
       query_ = "";
+      pageToken_ = "";
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
@@ -2568,6 +2599,68 @@ public final class OrganisationOuterClass {
       }
     }
 
+    public static final int PAGE_SIZE_FIELD_NUMBER = 2;
+    private int pageSize_ = 0;
+    /**
+     * <pre>
+     * defaults to 20, capped at 100
+     * </pre>
+     *
+     * <code>int32 page_size = 2 [json_name = "pageSize"];</code>
+     * @return The pageSize.
+     */
+    @java.lang.Override
+    public int getPageSize() {
+      return pageSize_;
+    }
+
+    public static final int PAGE_TOKEN_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object pageToken_ = "";
+    /**
+     * <pre>
+     * next_page_token from the previous page
+     * </pre>
+     *
+     * <code>string page_token = 3 [json_name = "pageToken"];</code>
+     * @return The pageToken.
+     */
+    @java.lang.Override
+    public java.lang.String getPageToken() {
+      java.lang.Object ref = pageToken_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        pageToken_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * next_page_token from the previous page
+     * </pre>
+     *
+     * <code>string page_token = 3 [json_name = "pageToken"];</code>
+     * @return The bytes for pageToken.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPageTokenBytes() {
+      java.lang.Object ref = pageToken_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        pageToken_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -2585,6 +2678,12 @@ public final class OrganisationOuterClass {
       if (!com.google.protobuf.GeneratedMessage.isStringEmpty(query_)) {
         com.google.protobuf.GeneratedMessage.writeString(output, 1, query_);
       }
+      if (pageSize_ != 0) {
+        output.writeInt32(2, pageSize_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(pageToken_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 3, pageToken_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -2597,6 +2696,13 @@ public final class OrganisationOuterClass {
       if (!com.google.protobuf.GeneratedMessage.isStringEmpty(query_)) {
         size += com.google.protobuf.GeneratedMessage.computeStringSize(1, query_);
       }
+      if (pageSize_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, pageSize_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(pageToken_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(3, pageToken_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -2614,6 +2720,10 @@ public final class OrganisationOuterClass {
 
       if (!getQuery()
           .equals(other.getQuery())) return false;
+      if (getPageSize()
+          != other.getPageSize()) return false;
+      if (!getPageToken()
+          .equals(other.getPageToken())) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -2627,6 +2737,10 @@ public final class OrganisationOuterClass {
       hash = (19 * hash) + getDescriptor().hashCode();
       hash = (37 * hash) + QUERY_FIELD_NUMBER;
       hash = (53 * hash) + getQuery().hashCode();
+      hash = (37 * hash) + PAGE_SIZE_FIELD_NUMBER;
+      hash = (53 * hash) + getPageSize();
+      hash = (37 * hash) + PAGE_TOKEN_FIELD_NUMBER;
+      hash = (53 * hash) + getPageToken().hashCode();
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -2759,6 +2873,8 @@ public final class OrganisationOuterClass {
         super.clear();
         bitField0_ = 0;
         query_ = "";
+        pageSize_ = 0;
+        pageToken_ = "";
         return this;
       }
 
@@ -2795,6 +2911,12 @@ public final class OrganisationOuterClass {
         if (((from_bitField0_ & 0x00000001) != 0)) {
           result.query_ = query_;
         }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.pageSize_ = pageSize_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.pageToken_ = pageToken_;
+        }
       }
 
       @java.lang.Override
@@ -2814,6 +2936,14 @@ public final class OrganisationOuterClass {
           bitField0_ |= 0x00000001;
           onChanged();
         }
+        if (other.getPageSize() != 0) {
+          setPageSize(other.getPageSize());
+        }
+        if (!other.getPageToken().isEmpty()) {
+          pageToken_ = other.pageToken_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -2845,6 +2975,16 @@ public final class OrganisationOuterClass {
                 bitField0_ |= 0x00000001;
                 break;
               } // case 10
+              case 16: {
+                pageSize_ = input.readInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 26: {
+                pageToken_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -2934,6 +3074,142 @@ public final class OrganisationOuterClass {
         return this;
       }
 
+      private int pageSize_ ;
+      /**
+       * <pre>
+       * defaults to 20, capped at 100
+       * </pre>
+       *
+       * <code>int32 page_size = 2 [json_name = "pageSize"];</code>
+       * @return The pageSize.
+       */
+      @java.lang.Override
+      public int getPageSize() {
+        return pageSize_;
+      }
+      /**
+       * <pre>
+       * defaults to 20, capped at 100
+       * </pre>
+       *
+       * <code>int32 page_size = 2 [json_name = "pageSize"];</code>
+       * @param value The pageSize to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPageSize(int value) {
+
+        pageSize_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * defaults to 20, capped at 100
+       * </pre>
+       *
+       * <code>int32 page_size = 2 [json_name = "pageSize"];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPageSize() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        pageSize_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object pageToken_ = "";
+      /**
+       * <pre>
+       * next_page_token from the previous page
+       * </pre>
+       *
+       * <code>string page_token = 3 [json_name = "pageToken"];</code>
+       * @return The pageToken.
+       */
+      public java.lang.String getPageToken() {
+        java.lang.Object ref = pageToken_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          pageToken_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * next_page_token from the previous page
+       * </pre>
+       *
+       * <code>string page_token = 3 [json_name = "pageToken"];</code>
+       * @return The bytes for pageToken.
+       */
+      public com.google.protobuf.ByteString
+          getPageTokenBytes() {
+        java.lang.Object ref = pageToken_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          pageToken_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * next_page_token from the previous page
+       * </pre>
+       *
+       * <code>string page_token = 3 [json_name = "pageToken"];</code>
+       * @param value The pageToken to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPageToken(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        pageToken_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * next_page_token from the previous page
+       * </pre>
+       *
+       * <code>string page_token = 3 [json_name = "pageToken"];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPageToken() {
+        pageToken_ = getDefaultInstance().getPageToken();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * next_page_token from the previous page
+       * </pre>
+       *
+       * <code>string page_token = 3 [json_name = "pageToken"];</code>
+       * @param value The bytes for pageToken to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPageTokenBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        pageToken_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:com.inspirationparticle.utro.gen.organisation.v1.SearchOrganisationsRequest)
     }
 
@@ -2990,28 +3266,68 @@ public final class OrganisationOuterClass {
       com.google.protobuf.MessageOrBuilder {
 
     /**
+     * <pre>
+     * best matches first
+     * </pre>
+     *
      * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.Organisation organisations = 1 [json_name = "organisations"];</code>
      */
     java.util.List<com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.Organisation> 
         getOrganisationsList();
     /**
+     * <pre>
+     * best matches first
+     * </pre>
+     *
      * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.Organisation organisations = 1 [json_name = "organisations"];</code>
      */
     com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.Organisation getOrganisations(int index);
     /**
+     * <pre>
+     * best matches first
+     * </pre>
+     *
      * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.Organisation organisations = 1 [json_name = "organisations"];</code>
      */
     int getOrganisationsCount();
     /**
+     * <pre>
+     * best matches first
+     * </pre>
+     *
      * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.Organisation organisations = 1 [json_name = "organisations"];</code>
      */
     java.util.List<? extends com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.OrganisationOrBuilder> 
         getOrganisationsOrBuilderList();
     /**
+     * <pre>
+     * best matches first
+     * </pre>
+     *
      * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.Organisation organisations = 1 [json_name = "organisations"];</code>
      */
     com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.OrganisationOrBuilder getOrganisationsOrBuilder(
         int index);
+
+    /**
+     * <pre>
+     * empty on the last page
+     * </pre>
+     *
+     * <code>string next_page_token = 2 [json_name = "nextPageToken"];</code>
+     * @return The nextPageToken.
+     */
+    java.lang.String getNextPageToken();
+    /**
+     * <pre>
+     * empty on the last page
+     * </pre>
+     *
+     * <code>string next_page_token = 2 [json_name = "nextPageToken"];</code>
+     * @return The bytes for nextPageToken.
+     */
+    com.google.protobuf.ByteString
+        getNextPageTokenBytes();
   }
   /**
    * Protobuf type {@code com.inspirationparticle.utro.gen.organisation.v1.SearchOrganisationsResponse}
@@ -3036,6 +3352,7 @@ public final class OrganisationOuterClass {
     }
     private SearchOrganisationsResponse() {
       organisations_ = java.util.Collections.emptyList();
+      nextPageToken_ = "";
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
@@ -3055,6 +3372,10 @@ public final class OrganisationOuterClass {
     @SuppressWarnings("serial")
     private java.util.List<com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.Organisation> organisations_;
     /**
+     * <pre>
+     * best matches first
+     * </pre>
+     *
      * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.Organisation organisations = 1 [json_name = "organisations"];</code>
      */
     @java.lang.Override
@@ -3062,6 +3383,10 @@ public final class OrganisationOuterClass {
       return organisations_;
     }
     /**
+     * <pre>
+     * best matches first
+     * </pre>
+     *
      * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.Organisation organisations = 1 [json_name = "organisations"];</code>
      */
     @java.lang.Override
@@ -3070,6 +3395,10 @@ public final class OrganisationOuterClass {
       return organisations_;
     }
     /**
+     * <pre>
+     * best matches first
+     * </pre>
+     *
      * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.Organisation organisations = 1 [json_name = "organisations"];</code>
      */
     @java.lang.Override
@@ -3077,6 +3406,10 @@ public final class OrganisationOuterClass {
       return organisations_.size();
     }
     /**
+     * <pre>
+     * best matches first
+     * </pre>
+     *
      * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.Organisation organisations = 1 [json_name = "organisations"];</code>
      */
     @java.lang.Override
@@ -3084,6 +3417,10 @@ public final class OrganisationOuterClass {
       return organisations_.get(index);
     }
     /**
+     * <pre>
+     * best matches first
+     * </pre>
+     *
      * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.Organisation organisations = 1 [json_name = "organisations"];</code>
      */
     @java.lang.Override
@@ -3092,6 +3429,53 @@ public final class OrganisationOuterClass {
       return organisations_.get(index);
     }
 
+    public static final int NEXT_PAGE_TOKEN_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object nextPageToken_ = "";
+    /**
+     * <pre>
+     * empty on the last page
+     * </pre>
+     *
+     * <code>string next_page_token = 2 [json_name = "nextPageToken"];</code>
+     * @return The nextPageToken.
+     */
+    @java.lang.Override
+    public java.lang.String getNextPageToken() {
+      java.lang.Object ref = nextPageToken_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        nextPageToken_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * empty on the last page
+     * </pre>
+     *
+     * <code>string next_page_token = 2 [json_name = "nextPageToken"];</code>
+     * @return The bytes for nextPageToken.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNextPageTokenBytes() {
+      java.lang.Object ref = nextPageToken_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        nextPageToken_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -3109,6 +3493,9 @@ public final class OrganisationOuterClass {
       for (int i = 0; i < organisations_.size(); i++) {
         output.writeMessage(1, organisations_.get(i));
       }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(nextPageToken_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, nextPageToken_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -3122,6 +3509,9 @@ public final class OrganisationOuterClass {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(1, organisations_.get(i));
       }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(nextPageToken_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, nextPageToken_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -3139,6 +3529,8 @@ public final class OrganisationOuterClass {
 
       if (!getOrganisationsList()
           .equals(other.getOrganisationsList())) return false;
+      if (!getNextPageToken()
+          .equals(other.getNextPageToken())) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -3154,6 +3546,8 @@ public final class OrganisationOuterClass {
         hash = (37 * hash) + ORGANISATIONS_FIELD_NUMBER;
         hash = (53 * hash) + getOrganisationsList().hashCode();
       }
+      hash = (37 * hash) + NEXT_PAGE_TOKEN_FIELD_NUMBER;
+      hash = (53 * hash) + getNextPageToken().hashCode();
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -3292,6 +3686,7 @@ public final class OrganisationOuterClass {
           organisationsBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000001);
+        nextPageToken_ = "";
         return this;
       }
 
@@ -3338,6 +3733,9 @@ public final class OrganisationOuterClass {
 
       private void buildPartial0(com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.SearchOrganisationsResponse result) {
         int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.nextPageToken_ = nextPageToken_;
+        }
       }
 
       @java.lang.Override
@@ -3378,6 +3776,11 @@ public final class OrganisationOuterClass {
             }
           }
         }
+        if (!other.getNextPageToken().isEmpty()) {
+          nextPageToken_ = other.nextPageToken_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -3417,6 +3820,11 @@ public final class OrganisationOuterClass {
                 }
                 break;
               } // case 10
+              case 18: {
+                nextPageToken_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -3447,6 +3855,10 @@ public final class OrganisationOuterClass {
           com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.Organisation, com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.Organisation.Builder, com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.OrganisationOrBuilder> organisationsBuilder_;
 
       /**
+       * <pre>
+       * best matches first
+       * </pre>
+       *
        * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.Organisation organisations = 1 [json_name = "organisations"];</code>
        */
       public java.util.List<com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.Organisation> getOrganisationsList() {
@@ -3457,6 +3869,10 @@ public final class OrganisationOuterClass {
         }
       }
       /**
+       * <pre>
+       * best matches first
+       * </pre>
+       *
        * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.Organisation organisations = 1 [json_name = "organisations"];</code>
        */
       public int getOrganisationsCount() {
@@ -3467,6 +3883,10 @@ public final class OrganisationOuterClass {
         }
       }
       /**
+       * <pre>
+       * best matches first
+       * </pre>
+       *
        * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.Organisation organisations = 1 [json_name = "organisations"];</code>
        */
       public com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.Organisation getOrganisations(int index) {
@@ -3477,6 +3897,10 @@ public final class OrganisationOuterClass {
         }
       }
       /**
+       * <pre>
+       * best matches first
+       * </pre>
+       *
        * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.Organisation organisations = 1 [json_name = "organisations"];</code>
        */
       public Builder setOrganisations(
@@ -3494,6 +3918,10 @@ public final class OrganisationOuterClass {
         return this;
       }
       /**
+       * <pre>
+       * best matches first
+       * </pre>
+       *
        * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.Organisation organisations = 1 [json_name = "organisations"];</code>
        */
       public Builder setOrganisations(
@@ -3508,6 +3936,10 @@ public final class OrganisationOuterClass {
         return this;
       }
       /**
+       * <pre>
+       * best matches first
+       * </pre>
+       *
        * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.Organisation organisations = 1 [json_name = "organisations"];</code>
        */
       public Builder addOrganisations(com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.Organisation value) {
@@ -3524,6 +3956,10 @@ public final class OrganisationOuterClass {
         return this;
       }
       /**
+       * <pre>
+       * best matches first
+       * </pre>
+       *
        * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.Organisation organisations = 1 [json_name = "organisations"];</code>
        */
       public Builder addOrganisations(
@@ -3541,6 +3977,10 @@ public final class OrganisationOuterClass {
         return this;
       }
       /**
+       * <pre>
+       * best matches first
+       * </pre>
+       *
        * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.Organisation organisations = 1 [json_name = "organisations"];</code>
        */
       public Builder addOrganisations(
@@ -3555,6 +3995,10 @@ public final class OrganisationOuterClass {
         return this;
       }
       /**
+       * <pre>
+       * best matches first
+       * </pre>
+       *
        * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.Organisation organisations = 1 [json_name = "organisations"];</code>
        */
       public Builder addOrganisations(
@@ -3569,6 +4013,10 @@ public final class OrganisationOuterClass {
         return this;
       }
       /**
+       * <pre>
+       * best matches first
+       * </pre>
+       *
        * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.Organisation organisations = 1 [json_name = "organisations"];</code>
        */
       public Builder addAllOrganisations(
@@ -3584,6 +4032,10 @@ public final class OrganisationOuterClass {
         return this;
       }
       /**
+       * <pre>
+       * best matches first
+       * </pre>
+       *
        * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.Organisation organisations = 1 [json_name = "organisations"];</code>
        */
       public Builder clearOrganisations() {
@@ -3597,6 +4049,10 @@ public final class OrganisationOuterClass {
         return this;
       }
       /**
+       * <pre>
+       * best matches first
+       * </pre>
+       *
        * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.Organisation organisations = 1 [json_name = "organisations"];</code>
        */
       public Builder removeOrganisations(int index) {
@@ -3610,6 +4066,10 @@ public final class OrganisationOuterClass {
         return this;
       }
       /**
+       * <pre>
+       * best matches first
+       * </pre>
+       *
        * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.Organisation organisations = 1 [json_name = "organisations"];</code>
        */
       public com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.Organisation.Builder getOrganisationsBuilder(
@@ -3617,6 +4077,10 @@ public final class OrganisationOuterClass {
         return internalGetOrganisationsFieldBuilder().getBuilder(index);
       }
       /**
+       * <pre>
+       * best matches first
+       * </pre>
+       *
        * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.Organisation organisations = 1 [json_name = "organisations"];</code>
        */
       public com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.OrganisationOrBuilder getOrganisationsOrBuilder(
@@ -3627,6 +4091,10 @@ public final class OrganisationOuterClass {
         }
       }
       /**
+       * <pre>
+       * best matches first
+       * </pre>
+       *
        * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.Organisation organisations = 1 [json_name = "organisations"];</code>
        */
       public java.util.List<? extends com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.OrganisationOrBuilder> 
@@ -3638,6 +4106,10 @@ public final class OrganisationOuterClass {
         }
       }
       /**
+       * <pre>
+       * best matches first
+       * </pre>
+       *
        * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.Organisation organisations = 1 [json_name = "organisations"];</code>
        */
       public com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.Organisation.Builder addOrganisationsBuilder() {
@@ -3645,6 +4117,10 @@ public final class OrganisationOuterClass {
             com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.Organisation.getDefaultInstance());
       }
       /**
+       * <pre>
+       * best matches first
+       * </pre>
+       *
        * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.Organisation organisations = 1 [json_name = "organisations"];</code>
        */
       public com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.Organisation.Builder addOrganisationsBuilder(
@@ -3653,6 +4129,10 @@ public final class OrganisationOuterClass {
             index, com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.Organisation.getDefaultInstance());
       }
       /**
+       * <pre>
+       * best matches first
+       * </pre>
+       *
        * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.Organisation organisations = 1 [json_name = "organisations"];</code>
        */
       public java.util.List<com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.Organisation.Builder> 
@@ -3674,6 +4154,98 @@ public final class OrganisationOuterClass {
         return organisationsBuilder_;
       }
 
+      private java.lang.Object nextPageToken_ = "";
+      /**
+       * <pre>
+       * empty on the last page
+       * </pre>
+       *
+       * <code>string next_page_token = 2 [json_name = "nextPageToken"];</code>
+       * @return The nextPageToken.
+       */
+      public java.lang.String getNextPageToken() {
+        java.lang.Object ref = nextPageToken_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          nextPageToken_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * empty on the last page
+       * </pre>
+       *
+       * <code>string next_page_token = 2 [json_name = "nextPageToken"];</code>
+       * @return The bytes for nextPageToken.
+       */
+      public com.google.protobuf.ByteString
+          getNextPageTokenBytes() {
+        java.lang.Object ref = nextPageToken_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          nextPageToken_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * empty on the last page
+       * </pre>
+       *
+       * <code>string next_page_token = 2 [json_name = "nextPageToken"];</code>
+       * @param value The nextPageToken to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNextPageToken(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        nextPageToken_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * empty on the last page
+       * </pre>
+       *
+       * <code>string next_page_token = 2 [json_name = "nextPageToken"];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNextPageToken() {
+        nextPageToken_ = getDefaultInstance().getNextPageToken();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * empty on the last page
+       * </pre>
+       *
+       * <code>string next_page_token = 2 [json_name = "nextPageToken"];</code>
+       * @param value The bytes for nextPageToken to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNextPageTokenBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        nextPageToken_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:com.inspirationparticle.utro.gen.organisation.v1.SearchOrganisationsResponse)
     }
 
@@ -5257,6 +5829,36 @@ public final class OrganisationOuterClass {
      */
     com.google.protobuf.ByteString
         getOrganisationIdBytes();
+
+    /**
+     * <pre>
+     * defaults to 100, capped at 500
+     * </pre>
+     *
+     * <code>int32 page_size = 2 [json_name = "pageSize"];</code>
+     * @return The pageSize.
+     */
+    int getPageSize();
+
+    /**
+     * <pre>
+     * next_page_token from the previous page
+     * </pre>
+     *
+     * <code>string page_token = 3 [json_name = "pageToken"];</code>
+     * @return The pageToken.
+     */
+    java.lang.String getPageToken();
+    /**
+     * <pre>
+     * next_page_token from the previous page
+     * </pre>
+     *
+     * <code>string page_token = 3 [json_name = "pageToken"];</code>
+     * @return The bytes for pageToken.
+     */
+    com.google.protobuf.ByteString
+        getPageTokenBytes();
   }
   /**
    * Protobuf type {@code com.inspirationparticle.utro.gen.organisation.v1.GetOrganisationUsersRequest}
@@ -5281,6 +5883,7 @@ public final class OrganisationOuterClass {
     }
     private GetOrganisationUsersRequest() {
       organisationId_ = "";
+      pageToken_ = "";
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
@@ -5335,28 +5938,96 @@ public final class OrganisationOuterClass {
       }
     }
 
-    private byte memoizedIsInitialized = -1;
-    @java.lang.Override
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
+    public static final int PAGE_SIZE_FIELD_NUMBER = 2;
+    private int pageSize_ = 0;
+    /**
+     * <pre>
+     * defaults to 100, capped at 500
+     * </pre>
+     *
+     * <code>int32 page_size = 2 [json_name = "pageSize"];</code>
+     * @return The pageSize.
+     */
     @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(organisationId_)) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 1, organisationId_);
-      }
-      getUnknownFields().writeTo(output);
+    public int getPageSize() {
+      return pageSize_;
     }
 
+    public static final int PAGE_TOKEN_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object pageToken_ = "";
+    /**
+     * <pre>
+     * next_page_token from the previous page
+     * </pre>
+     *
+     * <code>string page_token = 3 [json_name = "pageToken"];</code>
+     * @return The pageToken.
+     */
     @java.lang.Override
-    public int getSerializedSize() {
+    public java.lang.String getPageToken() {
+      java.lang.Object ref = pageToken_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        pageToken_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * next_page_token from the previous page
+     * </pre>
+     *
+     * <code>string page_token = 3 [json_name = "pageToken"];</code>
+     * @return The bytes for pageToken.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPageTokenBytes() {
+      java.lang.Object ref = pageToken_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        pageToken_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(organisationId_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, organisationId_);
+      }
+      if (pageSize_ != 0) {
+        output.writeInt32(2, pageSize_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(pageToken_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 3, pageToken_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
       int size = memoizedSize;
       if (size != -1) return size;
 
@@ -5364,6 +6035,13 @@ public final class OrganisationOuterClass {
       if (!com.google.protobuf.GeneratedMessage.isStringEmpty(organisationId_)) {
         size += com.google.protobuf.GeneratedMessage.computeStringSize(1, organisationId_);
       }
+      if (pageSize_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, pageSize_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(pageToken_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(3, pageToken_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -5381,6 +6059,10 @@ public final class OrganisationOuterClass {
 
       if (!getOrganisationId()
           .equals(other.getOrganisationId())) return false;
+      if (getPageSize()
+          != other.getPageSize()) return false;
+      if (!getPageToken()
+          .equals(other.getPageToken())) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -5394,6 +6076,10 @@ public final class OrganisationOuterClass {
       hash = (19 * hash) + getDescriptor().hashCode();
       hash = (37 * hash) + ORGANISATION_ID_FIELD_NUMBER;
       hash = (53 * hash) + getOrganisationId().hashCode();
+      hash = (37 * hash) + PAGE_SIZE_FIELD_NUMBER;
+      hash = (53 * hash) + getPageSize();
+      hash = (37 * hash) + PAGE_TOKEN_FIELD_NUMBER;
+      hash = (53 * hash) + getPageToken().hashCode();
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -5526,6 +6212,8 @@ public final class OrganisationOuterClass {
         super.clear();
         bitField0_ = 0;
         organisationId_ = "";
+        pageSize_ = 0;
+        pageToken_ = "";
         return this;
       }
 
@@ -5562,6 +6250,12 @@ public final class OrganisationOuterClass {
         if (((from_bitField0_ & 0x00000001) != 0)) {
           result.organisationId_ = organisationId_;
         }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.pageSize_ = pageSize_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.pageToken_ = pageToken_;
+        }
       }
 
       @java.lang.Override
@@ -5581,6 +6275,14 @@ public final class OrganisationOuterClass {
           bitField0_ |= 0x00000001;
           onChanged();
         }
+        if (other.getPageSize() != 0) {
+          setPageSize(other.getPageSize());
+        }
+        if (!other.getPageToken().isEmpty()) {
+          pageToken_ = other.pageToken_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -5612,6 +6314,16 @@ public final class OrganisationOuterClass {
                 bitField0_ |= 0x00000001;
                 break;
               } // case 10
+              case 16: {
+                pageSize_ = input.readInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 26: {
+                pageToken_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -5701,6 +6413,142 @@ public final class OrganisationOuterClass {
         return this;
       }
 
+      private int pageSize_ ;
+      /**
+       * <pre>
+       * defaults to 100, capped at 500
+       * </pre>
+       *
+       * <code>int32 page_size = 2 [json_name = "pageSize"];</code>
+       * @return The pageSize.
+       */
+      @java.lang.Override
+      public int getPageSize() {
+        return pageSize_;
+      }
+      /**
+       * <pre>
+       * defaults to 100, capped at 500
+       * </pre>
+       *
+       * <code>int32 page_size = 2 [json_name = "pageSize"];</code>
+       * @param value The pageSize to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPageSize(int value) {
+
+        pageSize_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * defaults to 100, capped at 500
+       * </pre>
+       *
+       * <code>int32 page_size = 2 [json_name = "pageSize"];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPageSize() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        pageSize_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object pageToken_ = "";
+      /**
+       * <pre>
+       * next_page_token from the previous page
+       * </pre>
+       *
+       * <code>string page_token = 3 [json_name = "pageToken"];</code>
+       * @return The pageToken.
+       */
+      public java.lang.String getPageToken() {
+        java.lang.Object ref = pageToken_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          pageToken_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * next_page_token from the previous page
+       * </pre>
+       *
+       * <code>string page_token = 3 [json_name = "pageToken"];</code>
+       * @return The bytes for pageToken.
+       */
+      public com.google.protobuf.ByteString
+          getPageTokenBytes() {
+        java.lang.Object ref = pageToken_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          pageToken_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * next_page_token from the previous page
+       * </pre>
+       *
+       * <code>string page_token = 3 [json_name = "pageToken"];</code>
+       * @param value The pageToken to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPageToken(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        pageToken_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * next_page_token from the previous page
+       * </pre>
+       *
+       * <code>string page_token = 3 [json_name = "pageToken"];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPageToken() {
+        pageToken_ = getDefaultInstance().getPageToken();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * next_page_token from the previous page
+       * </pre>
+       *
+       * <code>string page_token = 3 [json_name = "pageToken"];</code>
+       * @param value The bytes for pageToken to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPageTokenBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        pageToken_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:com.inspirationparticle.utro.gen.organisation.v1.GetOrganisationUsersRequest)
     }
 
@@ -5757,28 +6605,68 @@ public final class OrganisationOuterClass {
       com.google.protobuf.MessageOrBuilder {
 
     /**
+     * <pre>
+     * ordered by full name, then username
+     * </pre>
+     *
      * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
      */
     java.util.List<com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User> 
         getUsersList();
     /**
+     * <pre>
+     * ordered by full name, then username
+     * </pre>
+     *
      * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
      */
     com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User getUsers(int index);
     /**
+     * <pre>
+     * ordered by full name, then username
+     * </pre>
+     *
      * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
      */
     int getUsersCount();
     /**
+     * <pre>
+     * ordered by full name, then username
+     * </pre>
+     *
      * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
      */
     java.util.List<? extends com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.UserOrBuilder> 
         getUsersOrBuilderList();
     /**
+     * <pre>
+     * ordered by full name, then username
+     * </pre>
+     *
      * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
      */
     com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.UserOrBuilder getUsersOrBuilder(
         int index);
+
+    /**
+     * <pre>
+     * empty on the last page
+     * </pre>
+     *
+     * <code>string next_page_token = 2 [json_name = "nextPageToken"];</code>
+     * @return The nextPageToken.
+     */
+    java.lang.String getNextPageToken();
+    /**
+     * <pre>
+     * empty on the last page
+     * </pre>
+     *
+     * <code>string next_page_token = 2 [json_name = "nextPageToken"];</code>
+     * @return The bytes for nextPageToken.
+     */
+    com.google.protobuf.ByteString
+        getNextPageTokenBytes();
   }
   /**
    * Protobuf type {@code com.inspirationparticle.utro.gen.organisation.v1.GetOrganisationUsersResponse}
@@ -5803,6 +6691,7 @@ public final class OrganisationOuterClass {
     }
     private GetOrganisationUsersResponse() {
       users_ = java.util.Collections.emptyList();
+      nextPageToken_ = "";
     }
 
     public static final com.google.protobuf.Descriptors.Descriptor
@@ -5822,6 +6711,10 @@ public final class OrganisationOuterClass {
     @SuppressWarnings("serial")
     private java.util.List<com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User> users_;
     /**
+     * <pre>
+     * ordered by full name, then username
+     * </pre>
+     *
      * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
      */
     @java.lang.Override
@@ -5829,6 +6722,10 @@ public final class OrganisationOuterClass {
       return users_;
     }
     /**
+     * <pre>
+     * ordered by full name, then username
+     * </pre>
+     *
      * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
      */
     @java.lang.Override
@@ -5837,6 +6734,10 @@ public final class OrganisationOuterClass {
       return users_;
     }
     /**
+     * <pre>
+     * ordered by full name, then username
+     * </pre>
+     *
      * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
      */
     @java.lang.Override
@@ -5844,6 +6745,10 @@ public final class OrganisationOuterClass {
       return users_.size();
     }
     /**
+     * <pre>
+     * ordered by full name, then username
+     * </pre>
+     *
      * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
      */
     @java.lang.Override
@@ -5851,6 +6756,10 @@ public final class OrganisationOuterClass {
       return users_.get(index);
     }
     /**
+     * <pre>
+     * ordered by full name, then username
+     * </pre>
+     *
      * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
      */
     @java.lang.Override
@@ -5859,6 +6768,53 @@ public final class OrganisationOuterClass {
       return users_.get(index);
     }
 
+    public static final int NEXT_PAGE_TOKEN_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object nextPageToken_ = "";
+    /**
+     * <pre>
+     * empty on the last page
+     * </pre>
+     *
+     * <code>string next_page_token = 2 [json_name = "nextPageToken"];</code>
+     * @return The nextPageToken.
+     */
+    @java.lang.Override
+    public java.lang.String getNextPageToken() {
+      java.lang.Object ref = nextPageToken_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        nextPageToken_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * empty on the last page
+     * </pre>
+     *
+     * <code>string next_page_token = 2 [json_name = "nextPageToken"];</code>
+     * @return The bytes for nextPageToken.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNextPageTokenBytes() {
+      java.lang.Object ref = nextPageToken_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        nextPageToken_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -5876,6 +6832,9 @@ public final class OrganisationOuterClass {
       for (int i = 0; i < users_.size(); i++) {
         output.writeMessage(1, users_.get(i));
       }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(nextPageToken_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, nextPageToken_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -5889,6 +6848,9 @@ public final class OrganisationOuterClass {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(1, users_.get(i));
       }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(nextPageToken_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, nextPageToken_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -5906,6 +6868,8 @@ public final class OrganisationOuterClass {
 
       if (!getUsersList()
           .equals(other.getUsersList())) return false;
+      if (!getNextPageToken()
+          .equals(other.getNextPageToken())) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -5921,6 +6885,8 @@ public final class OrganisationOuterClass {
         hash = (37 * hash) + USERS_FIELD_NUMBER;
         hash = (53 * hash) + getUsersList().hashCode();
       }
+      hash = (37 * hash) + NEXT_PAGE_TOKEN_FIELD_NUMBER;
+      hash = (53 * hash) + getNextPageToken().hashCode();
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -6059,6 +7025,7 @@ public final class OrganisationOuterClass {
           usersBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000001);
+        nextPageToken_ = "";
         return this;
       }
 
@@ -6105,6 +7072,9 @@ public final class OrganisationOuterClass {
 
       private void buildPartial0(com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.GetOrganisationUsersResponse result) {
         int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.nextPageToken_ = nextPageToken_;
+        }
       }
 
       @java.lang.Override
@@ -6145,6 +7115,11 @@ public final class OrganisationOuterClass {
             }
           }
         }
+        if (!other.getNextPageToken().isEmpty()) {
+          nextPageToken_ = other.nextPageToken_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -6184,6 +7159,11 @@ public final class OrganisationOuterClass {
                 }
                 break;
               } // case 10
+              case 18: {
+                nextPageToken_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -6214,6 +7194,10 @@ public final class OrganisationOuterClass {
           com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User, com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User.Builder, com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.UserOrBuilder> usersBuilder_;
 
       /**
+       * <pre>
+       * ordered by full name, then username
+       * </pre>
+       *
        * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
        */
       public java.util.List<com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User> getUsersList() {
@@ -6224,6 +7208,10 @@ public final class OrganisationOuterClass {
         }
       }
       /**
+       * <pre>
+       * ordered by full name, then username
+       * </pre>
+       *
        * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
        */
       public int getUsersCount() {
@@ -6234,6 +7222,10 @@ public final class OrganisationOuterClass {
         }
       }
       /**
+       * <pre>
+       * ordered by full name, then username
+       * </pre>
+       *
        * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
        */
       public com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User getUsers(int index) {
@@ -6244,6 +7236,10 @@ public final class OrganisationOuterClass {
         }
       }
       /**
+       * <pre>
+       * ordered by full name, then username
+       * </pre>
+       *
        * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
        */
       public Builder setUsers(
@@ -6261,6 +7257,10 @@ public final class OrganisationOuterClass {
         return this;
       }
       /**
+       * <pre>
+       * ordered by full name, then username
+       * </pre>
+       *
        * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
        */
       public Builder setUsers(
@@ -6275,6 +7275,10 @@ public final class OrganisationOuterClass {
         return this;
       }
       /**
+       * <pre>
+       * ordered by full name, then username
+       * </pre>
+       *
        * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
        */
       public Builder addUsers(com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User value) {
@@ -6291,6 +7295,10 @@ public final class OrganisationOuterClass {
         return this;
       }
       /**
+       * <pre>
+       * ordered by full name, then username
+       * </pre>
+       *
        * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
        */
       public Builder addUsers(
@@ -6307,157 +7315,803 @@ public final class OrganisationOuterClass {
         }
         return this;
       }
-      /**
-       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
-       */
-      public Builder addUsers(
-          com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User.Builder builderForValue) {
-        if (usersBuilder_ == null) {
-          ensureUsersIsMutable();
-          users_.add(builderForValue.build());
-          onChanged();
-        } else {
-          usersBuilder_.addMessage(builderForValue.build());
+      /**
+       * <pre>
+       * ordered by full name, then username
+       * </pre>
+       *
+       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
+       */
+      public Builder addUsers(
+          com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User.Builder builderForValue) {
+        if (usersBuilder_ == null) {
+          ensureUsersIsMutable();
+          users_.add(builderForValue.build());
+          onChanged();
+        } else {
+          usersBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * ordered by full name, then username
+       * </pre>
+       *
+       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
+       */
+      public Builder addUsers(
+          int index, com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User.Builder builderForValue) {
+        if (usersBuilder_ == null) {
+          ensureUsersIsMutable();
+          users_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          usersBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * ordered by full name, then username
+       * </pre>
+       *
+       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
+       */
+      public Builder addAllUsers(
+          java.lang.Iterable<? extends com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User> values) {
+        if (usersBuilder_ == null) {
+          ensureUsersIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, users_);
+          onChanged();
+        } else {
+          usersBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * ordered by full name, then username
+       * </pre>
+       *
+       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
+       */
+      public Builder clearUsers() {
+        if (usersBuilder_ == null) {
+          users_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          usersBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * ordered by full name, then username
+       * </pre>
+       *
+       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
+       */
+      public Builder removeUsers(int index) {
+        if (usersBuilder_ == null) {
+          ensureUsersIsMutable();
+          users_.remove(index);
+          onChanged();
+        } else {
+          usersBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * ordered by full name, then username
+       * </pre>
+       *
+       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
+       */
+      public com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User.Builder getUsersBuilder(
+          int index) {
+        return internalGetUsersFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * ordered by full name, then username
+       * </pre>
+       *
+       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
+       */
+      public com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.UserOrBuilder getUsersOrBuilder(
+          int index) {
+        if (usersBuilder_ == null) {
+          return users_.get(index);  } else {
+          return usersBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * ordered by full name, then username
+       * </pre>
+       *
+       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
+       */
+      public java.util.List<? extends com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.UserOrBuilder> 
+           getUsersOrBuilderList() {
+        if (usersBuilder_ != null) {
+          return usersBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(users_);
+        }
+      }
+      /**
+       * <pre>
+       * ordered by full name, then username
+       * </pre>
+       *
+       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
+       */
+      public com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User.Builder addUsersBuilder() {
+        return internalGetUsersFieldBuilder().addBuilder(
+            com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * ordered by full name, then username
+       * </pre>
+       *
+       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
+       */
+      public com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User.Builder addUsersBuilder(
+          int index) {
+        return internalGetUsersFieldBuilder().addBuilder(
+            index, com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * ordered by full name, then username
+       * </pre>
+       *
+       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
+       */
+      public java.util.List<com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User.Builder> 
+           getUsersBuilderList() {
+        return internalGetUsersFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User, com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User.Builder, com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.UserOrBuilder> 
+          internalGetUsersFieldBuilder() {
+        if (usersBuilder_ == null) {
+          usersBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User, com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User.Builder, com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.UserOrBuilder>(
+                  users_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          users_ = null;
+        }
+        return usersBuilder_;
+      }
+
+      private java.lang.Object nextPageToken_ = "";
+      /**
+       * <pre>
+       * empty on the last page
+       * </pre>
+       *
+       * <code>string next_page_token = 2 [json_name = "nextPageToken"];</code>
+       * @return The nextPageToken.
+       */
+      public java.lang.String getNextPageToken() {
+        java.lang.Object ref = nextPageToken_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          nextPageToken_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * empty on the last page
+       * </pre>
+       *
+       * <code>string next_page_token = 2 [json_name = "nextPageToken"];</code>
+       * @return The bytes for nextPageToken.
+       */
+      public com.google.protobuf.ByteString
+          getNextPageTokenBytes() {
+        java.lang.Object ref = nextPageToken_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          nextPageToken_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * empty on the last page
+       * </pre>
+       *
+       * <code>string next_page_token = 2 [json_name = "nextPageToken"];</code>
+       * @param value The nextPageToken to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNextPageToken(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        nextPageToken_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * empty on the last page
+       * </pre>
+       *
+       * <code>string next_page_token = 2 [json_name = "nextPageToken"];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNextPageToken() {
+        nextPageToken_ = getDefaultInstance().getNextPageToken();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * empty on the last page
+       * </pre>
+       *
+       * <code>string next_page_token = 2 [json_name = "nextPageToken"];</code>
+       * @param value The bytes for nextPageToken to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNextPageTokenBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        nextPageToken_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:com.inspirationparticle.utro.gen.organisation.v1.GetOrganisationUsersResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:com.inspirationparticle.utro.gen.organisation.v1.GetOrganisationUsersResponse)
+    private static final com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.GetOrganisationUsersResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.GetOrganisationUsersResponse();
+    }
+
+    public static com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.GetOrganisationUsersResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GetOrganisationUsersResponse>
+        PARSER = new com.google.protobuf.AbstractParser<GetOrganisationUsersResponse>() {
+      @java.lang.Override
+      public GetOrganisationUsersResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetOrganisationUsersResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetOrganisationUsersResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.GetOrganisationUsersResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface StreamOrganisationUsersRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:com.inspirationparticle.utro.gen.organisation.v1.StreamOrganisationUsersRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string organisation_id = 1 [json_name = "organisationId"];</code>
+     * @return The organisationId.
+     */
+    java.lang.String getOrganisationId();
+    /**
+     * <code>string organisation_id = 1 [json_name = "organisationId"];</code>
+     * @return The bytes for organisationId.
+     */
+    com.google.protobuf.ByteString
+        getOrganisationIdBytes();
+  }
+  /**
+   * Protobuf type {@code com.inspirationparticle.utro.gen.organisation.v1.StreamOrganisationUsersRequest}
+   */
+  public static final class StreamOrganisationUsersRequest extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:com.inspirationparticle.utro.gen.organisation.v1.StreamOrganisationUsersRequest)
+      StreamOrganisationUsersRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 31,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        StreamOrganisationUsersRequest.class.getName());
+    }
+    // Use StreamOrganisationUsersRequest.newBuilder() to construct.
+    private StreamOrganisationUsersRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private StreamOrganisationUsersRequest() {
+      organisationId_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.internal_static_com_inspirationparticle_utro_gen_organisation_v1_StreamOrganisationUsersRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.internal_static_com_inspirationparticle_utro_gen_organisation_v1_StreamOrganisationUsersRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest.class, com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest.Builder.class);
+    }
+
+    public static final int ORGANISATION_ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object organisationId_ = "";
+    /**
+     * <code>string organisation_id = 1 [json_name = "organisationId"];</code>
+     * @return The organisationId.
+     */
+    @java.lang.Override
+    public java.lang.String getOrganisationId() {
+      java.lang.Object ref = organisationId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        organisationId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string organisation_id = 1 [json_name = "organisationId"];</code>
+     * @return The bytes for organisationId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getOrganisationIdBytes() {
+      java.lang.Object ref = organisationId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        organisationId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(organisationId_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, organisationId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(organisationId_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, organisationId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest)) {
+        return super.equals(obj);
+      }
+      com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest other = (com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest) obj;
+
+      if (!getOrganisationId()
+          .equals(other.getOrganisationId())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + ORGANISATION_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getOrganisationId().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code com.inspirationparticle.utro.gen.organisation.v1.StreamOrganisationUsersRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:com.inspirationparticle.utro.gen.organisation.v1.StreamOrganisationUsersRequest)
+        com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.internal_static_com_inspirationparticle_utro_gen_organisation_v1_StreamOrganisationUsersRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.internal_static_com_inspirationparticle_utro_gen_organisation_v1_StreamOrganisationUsersRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest.class, com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest.Builder.class);
+      }
+
+      // Construct using com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        organisationId_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.internal_static_com_inspirationparticle_utro_gen_organisation_v1_StreamOrganisationUsersRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest getDefaultInstanceForType() {
+        return com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest build() {
+        com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
         }
-        return this;
+        return result;
       }
-      /**
-       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
-       */
-      public Builder addUsers(
-          int index, com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User.Builder builderForValue) {
-        if (usersBuilder_ == null) {
-          ensureUsersIsMutable();
-          users_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          usersBuilder_.addMessage(index, builderForValue.build());
+
+      @java.lang.Override
+      public com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest buildPartial() {
+        com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest result = new com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.organisationId_ = organisationId_;
         }
-        return this;
       }
-      /**
-       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
-       */
-      public Builder addAllUsers(
-          java.lang.Iterable<? extends com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User> values) {
-        if (usersBuilder_ == null) {
-          ensureUsersIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, users_);
-          onChanged();
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest) {
+          return mergeFrom((com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest)other);
         } else {
-          usersBuilder_.addAllMessages(values);
+          super.mergeFrom(other);
+          return this;
         }
-        return this;
       }
-      /**
-       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
-       */
-      public Builder clearUsers() {
-        if (usersBuilder_ == null) {
-          users_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
+
+      public Builder mergeFrom(com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest other) {
+        if (other == com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest.getDefaultInstance()) return this;
+        if (!other.getOrganisationId().isEmpty()) {
+          organisationId_ = other.organisationId_;
+          bitField0_ |= 0x00000001;
           onChanged();
-        } else {
-          usersBuilder_.clear();
         }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
         return this;
       }
-      /**
-       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
-       */
-      public Builder removeUsers(int index) {
-        if (usersBuilder_ == null) {
-          ensureUsersIsMutable();
-          users_.remove(index);
-          onChanged();
-        } else {
-          usersBuilder_.remove(index);
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
         }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                organisationId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
         return this;
       }
+      private int bitField0_;
+
+      private java.lang.Object organisationId_ = "";
       /**
-       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
-       */
-      public com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User.Builder getUsersBuilder(
-          int index) {
-        return internalGetUsersFieldBuilder().getBuilder(index);
-      }
-      /**
-       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
+       * <code>string organisation_id = 1 [json_name = "organisationId"];</code>
+       * @return The organisationId.
        */
-      public com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.UserOrBuilder getUsersOrBuilder(
-          int index) {
-        if (usersBuilder_ == null) {
-          return users_.get(index);  } else {
-          return usersBuilder_.getMessageOrBuilder(index);
+      public java.lang.String getOrganisationId() {
+        java.lang.Object ref = organisationId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          organisationId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
         }
       }
       /**
-       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
+       * <code>string organisation_id = 1 [json_name = "organisationId"];</code>
+       * @return The bytes for organisationId.
        */
-      public java.util.List<? extends com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.UserOrBuilder> 
-           getUsersOrBuilderList() {
-        if (usersBuilder_ != null) {
-          return usersBuilder_.getMessageOrBuilderList();
+      public com.google.protobuf.ByteString
+          getOrganisationIdBytes() {
+        java.lang.Object ref = organisationId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          organisationId_ = b;
+          return b;
         } else {
-          return java.util.Collections.unmodifiableList(users_);
+          return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
+       * <code>string organisation_id = 1 [json_name = "organisationId"];</code>
+       * @param value The organisationId to set.
+       * @return This builder for chaining.
        */
-      public com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User.Builder addUsersBuilder() {
-        return internalGetUsersFieldBuilder().addBuilder(
-            com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User.getDefaultInstance());
+      public Builder setOrganisationId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        organisationId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
+       * <code>string organisation_id = 1 [json_name = "organisationId"];</code>
+       * @return This builder for chaining.
        */
-      public com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User.Builder addUsersBuilder(
-          int index) {
-        return internalGetUsersFieldBuilder().addBuilder(
-            index, com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User.getDefaultInstance());
+      public Builder clearOrganisationId() {
+        organisationId_ = getDefaultInstance().getOrganisationId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .com.inspirationparticle.utro.gen.organisation.v1.User users = 1 [json_name = "users"];</code>
+       * <code>string organisation_id = 1 [json_name = "organisationId"];</code>
+       * @param value The bytes for organisationId to set.
+       * @return This builder for chaining.
        */
-      public java.util.List<com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User.Builder> 
-           getUsersBuilderList() {
-        return internalGetUsersFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilder<
-          com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User, com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User.Builder, com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.UserOrBuilder> 
-          internalGetUsersFieldBuilder() {
-        if (usersBuilder_ == null) {
-          usersBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
-              com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User, com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User.Builder, com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.UserOrBuilder>(
-                  users_,
-                  ((bitField0_ & 0x00000001) != 0),
-                  getParentForChildren(),
-                  isClean());
-          users_ = null;
-        }
-        return usersBuilder_;
+      public Builder setOrganisationIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        organisationId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:com.inspirationparticle.utro.gen.organisation.v1.GetOrganisationUsersResponse)
+      // @@protoc_insertion_point(builder_scope:com.inspirationparticle.utro.gen.organisation.v1.StreamOrganisationUsersRequest)
     }
 
-    // @@protoc_insertion_point(class_scope:com.inspirationparticle.utro.gen.organisation.v1.GetOrganisationUsersResponse)
-    private static final com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.GetOrganisationUsersResponse DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:com.inspirationparticle.utro.gen.organisation.v1.StreamOrganisationUsersRequest)
+    private static final com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.GetOrganisationUsersResponse();
+      DEFAULT_INSTANCE = new com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest();
     }
 
-    public static com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.GetOrganisationUsersResponse getDefaultInstance() {
+    public static com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<GetOrganisationUsersResponse>
-        PARSER = new com.google.protobuf.AbstractParser<GetOrganisationUsersResponse>() {
+    private static final com.google.protobuf.Parser<StreamOrganisationUsersRequest>
+        PARSER = new com.google.protobuf.AbstractParser<StreamOrganisationUsersRequest>() {
       @java.lang.Override
-      public GetOrganisationUsersResponse parsePartialFrom(
+      public StreamOrganisationUsersRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -6476,17 +8130,17 @@ public final class OrganisationOuterClass {
       }
     };
 
-    public static com.google.protobuf.Parser<GetOrganisationUsersResponse> parser() {
+    public static com.google.protobuf.Parser<StreamOrganisationUsersRequest> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<GetOrganisationUsersResponse> getParserForType() {
+    public com.google.protobuf.Parser<StreamOrganisationUsersRequest> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.GetOrganisationUsersResponse getDefaultInstanceForType() {
+    public com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -9295,6 +10949,11 @@ public final class OrganisationOuterClass {
   private static final 
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_com_inspirationparticle_utro_gen_organisation_v1_GetOrganisationUsersResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_com_inspirationparticle_utro_gen_organisation_v1_StreamOrganisationUsersRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_com_inspirationparticle_utro_gen_organisation_v1_StreamOrganisationUsersRequest_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_com_inspirationparticle_utro_gen_organisation_v1_User_descriptor;
   private static final 
@@ -9331,66 +10990,77 @@ public final class OrganisationOuterClass {
       "tion\"\200\001\n\032CreateOrganisationResponse\022b\n\014o" +
       "rganisation\030\001 \001(\0132>.com.inspirationparti" +
       "cle.utro.gen.organisation.v1.Organisatio" +
-      "nR\014organisation\"2\n\032SearchOrganisationsRe" +
-      "quest\022\024\n\005query\030\001 \001(\tR\005query\"\203\001\n\033SearchOr" +
-      "ganisationsResponse\022d\n\rorganisations\030\001 \003" +
-      "(\0132>.com.inspirationparticle.utro.gen.or" +
-      "ganisation.v1.OrganisationR\rorganisation" +
-      "s\"\342\002\n\014Organisation\022\016\n\002id\030\001 \001(\tR\002id\022\022\n\004na" +
-      "me\030\002 \001(\tR\004name\022 \n\013description\030\003 \001(\tR\013des" +
-      "cription\022]\n\013member_type\030\004 \001(\0162<.com.insp" +
-      "irationparticle.utro.gen.organisation.v1" +
-      ".MemberTypeR\nmemberType\0227\n\tjoined_at\030\005 \001" +
-      "(\0132\032.google.protobuf.TimestampR\010joinedAt" +
-      "\0229\n\ncreated_at\030\006 \001(\0132\032.google.protobuf.T" +
-      "imestampR\tcreatedAt\0229\n\nupdated_at\030\007 \001(\0132" +
-      "\032.google.protobuf.TimestampR\tupdatedAt\"F" +
-      "\n\033GetOrganisationUsersRequest\022\'\n\017organis" +
-      "ation_id\030\001 \001(\tR\016organisationId\"l\n\034GetOrg" +
-      "anisationUsersResponse\022L\n\005users\030\001 \003(\01326." +
-      "com.inspirationparticle.utro.gen.organis" +
-      "ation.v1.UserR\005users\"\363\002\n\004User\022\016\n\002id\030\001 \001(" +
-      "\tR\002id\022\032\n\010username\030\002 \001(\tR\010username\022\033\n\tful" +
-      "l_name\030\003 \001(\tR\010fullName\022\024\n\005email\030\004 \001(\tR\005e" +
-      "mail\022]\n\013member_type\030\005 \001(\0162<.com.inspirat" +
-      "ionparticle.utro.gen.organisation.v1.Mem" +
-      "berTypeR\nmemberType\0227\n\tjoined_at\030\006 \001(\0132\032" +
-      ".google.protobuf.TimestampR\010joinedAt\0229\n\n" +
-      "created_at\030\007 \001(\0132\032.google.protobuf.Times" +
-      "tampR\tcreatedAt\0229\n\nupdated_at\030\010 \001(\0132\032.go" +
-      "ogle.protobuf.TimestampR\tupdatedAt\"c\n\037Re" +
-      "moveOrganisationMemberRequest\022\'\n\017organis" +
-      "ation_id\030\001 \001(\tR\016organisationId\022\027\n\007user_i" +
-      "d\030\002 \001(\tR\006userId\"<\n RemoveOrganisationMem" +
-      "berResponse\022\030\n\007success\030\001 \001(\010R\007success*`\n" +
-      "\nMemberType\022\033\n\027MEMBER_TYPE_UNSPECIFIED\020\000" +
-      "\022\026\n\022MEMBER_TYPE_MEMBER\020\001\022\035\n\031MEMBER_TYPE_" +
-      "ADMINISTRATOR\020\0022\252\007\n\023OrganisationService\022" +
-      "\257\001\n\022GetMyOrganisations\022K.com.inspiration" +
-      "particle.utro.gen.organisation.v1.GetMyO" +
-      "rganisationsRequest\032L.com.inspirationpar" +
+      "nR\014organisation\"n\n\032SearchOrganisationsRe" +
+      "quest\022\024\n\005query\030\001 \001(\tR\005query\022\033\n\tpage_size" +
+      "\030\002 \001(\005R\010pageSize\022\035\n\npage_token\030\003 \001(\tR\tpa" +
+      "geToken\"\253\001\n\033SearchOrganisationsResponse\022" +
+      "d\n\rorganisations\030\001 \003(\0132>.com.inspiration" +
+      "particle.utro.gen.organisation.v1.Organi" +
+      "sationR\rorganisations\022&\n\017next_page_token" +
+      "\030\002 \001(\tR\rnextPageToken\"\342\002\n\014Organisation\022\016" +
+      "\n\002id\030\001 \001(\tR\002id\022\022\n\004name\030\002 \001(\tR\004name\022 \n\013de" +
+      "scription\030\003 \001(\tR\013description\022]\n\013member_t" +
+      "ype\030\004 \001(\0162<.com.inspirationparticle.utro" +
+      ".gen.organisation.v1.MemberTypeR\nmemberT" +
+      "ype\0227\n\tjoined_at\030\005 \001(\0132\032.google.protobuf" +
+      ".TimestampR\010joinedAt\0229\n\ncreated_at\030\006 \001(\013" +
+      "2\032.google.protobuf.TimestampR\tcreatedAt\022" +
+      "9\n\nupdated_at\030\007 \001(\0132\032.google.protobuf.Ti" +
+      "mestampR\tupdatedAt\"\202\001\n\033GetOrganisationUs" +
+      "ersRequest\022\'\n\017organisation_id\030\001 \001(\tR\016org" +
+      "anisationId\022\033\n\tpage_size\030\002 \001(\005R\010pageSize" +
+      "\022\035\n\npage_token\030\003 \001(\tR\tpageToken\"\224\001\n\034GetO" +
+      "rganisationUsersResponse\022L\n\005users\030\001 \003(\0132" +
+      "6.com.inspirationparticle.utro.gen.organ" +
+      "isation.v1.UserR\005users\022&\n\017next_page_toke" +
+      "n\030\002 \001(\tR\rnextPageToken\"I\n\036StreamOrganisa" +
+      "tionUsersRequest\022\'\n\017organisation_id\030\001 \001(" +
+      "\tR\016organisationId\"\363\002\n\004User\022\016\n\002id\030\001 \001(\tR\002" +
+      "id\022\032\n\010username\030\002 \001(\tR\010username\022\033\n\tfull_n" +
+      "ame\030\003 \001(\tR\010fullName\022\024\n\005email\030\004 \001(\tR\005emai" +
+      "l\022]\n\013member_type\030\005 \001(\0162<.com.inspiration" +
+      "particle.utro.gen.organisation.v1.Member" +
+      "TypeR\nmemberType\0227\n\tjoined_at\030\006 \001(\0132\032.go" +
+      "ogle.protobuf.TimestampR\010joinedAt\0229\n\ncre" +
+      "ated_at\030\007 \001(\0132\032.google.protobuf.Timestam" +
+      "pR\tcreatedAt\0229\n\nupdated_at\030\010 \001(\0132\032.googl" +
+      "e.protobuf.TimestampR\tupdatedAt\"c\n\037Remov" +
+      "eOrganisationMemberRequest\022\'\n\017organisati" +
+      "on_id\030\001 \001(\tR\016organisationId\022\027\n\007user_id\030\002" +
+      " \001(\tR\006userId\"<\n RemoveOrganisationMember" +
+      "Response\022\030\n\007success\030\001 \001(\010R\007success*`\n\nMe" +
+      "mberType\022\033\n\027MEMBER_TYPE_UNSPECIFIED\020\000\022\026\n" +
+      "\022MEMBER_TYPE_MEMBER\020\001\022\035\n\031MEMBER_TYPE_ADM" +
+      "INISTRATOR\020\0022\322\010\n\023OrganisationService\022\257\001\n" +
+      "\022GetMyOrganisations\022K.com.inspirationpar" +
       "ticle.utro.gen.organisation.v1.GetMyOrga" +
-      "nisationsResponse\022\257\001\n\022CreateOrganisation" +
-      "\022K.com.inspirationparticle.utro.gen.orga" +
-      "nisation.v1.CreateOrganisationRequest\032L." +
+      "nisationsRequest\032L.com.inspirationpartic" +
+      "le.utro.gen.organisation.v1.GetMyOrganis" +
+      "ationsResponse\022\257\001\n\022CreateOrganisation\022K." +
+      "com.inspirationparticle.utro.gen.organis" +
+      "ation.v1.CreateOrganisationRequest\032L.com" +
+      ".inspirationparticle.utro.gen.organisati" +
+      "on.v1.CreateOrganisationResponse\022\262\001\n\023Sea" +
+      "rchOrganisations\022L.com.inspirationpartic" +
+      "le.utro.gen.organisation.v1.SearchOrgani" +
+      "sationsRequest\032M.com.inspirationparticle" +
+      ".utro.gen.organisation.v1.SearchOrganisa" +
+      "tionsResponse\022\265\001\n\024GetOrganisationUsers\022M" +
+      ".com.inspirationparticle.utro.gen.organi" +
+      "sation.v1.GetOrganisationUsersRequest\032N." +
       "com.inspirationparticle.utro.gen.organis" +
-      "ation.v1.CreateOrganisationResponse\022\262\001\n\023" +
-      "SearchOrganisations\022L.com.inspirationpar" +
-      "ticle.utro.gen.organisation.v1.SearchOrg" +
-      "anisationsRequest\032M.com.inspirationparti" +
-      "cle.utro.gen.organisation.v1.SearchOrgan" +
-      "isationsResponse\022\265\001\n\024GetOrganisationUser" +
-      "s\022M.com.inspirationparticle.utro.gen.org" +
-      "anisation.v1.GetOrganisationUsersRequest" +
-      "\032N.com.inspirationparticle.utro.gen.orga" +
-      "nisation.v1.GetOrganisationUsersResponse" +
-      "\022\301\001\n\030RemoveOrganisationMember\022Q.com.insp" +
-      "irationparticle.utro.gen.organisation.v1" +
-      ".RemoveOrganisationMemberRequest\032R.com.i" +
-      "nspirationparticle.utro.gen.organisation" +
-      ".v1.RemoveOrganisationMemberResponseB2\n0" +
+      "ation.v1.GetOrganisationUsersResponse\022\245\001" +
+      "\n\027StreamOrganisationUsers\022P.com.inspirat" +
+      "ionparticle.utro.gen.organisation.v1.Str" +
+      "eamOrganisationUsersRequest\0326.com.inspir" +
+      "ationparticle.utro.gen.organisation.v1.U" +
+      "ser0\001\022\301\001\n\030RemoveOrganisationMember\022Q.com" +
+      ".inspirationparticle.utro.gen.organisati" +
+      "on.v1.RemoveOrganisationMemberRequest\032R." +
       "com.inspirationparticle.utro.gen.organis" +
-      "ation.v1b\006proto3"
+      "ation.v1.RemoveOrganisationMemberRespons" +
+      "eB2\n0com.inspirationparticle.utro.gen.or" +
+      "ganisation.v1b\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -9426,13 +11096,13 @@ public final class OrganisationOuterClass {
     internal_static_com_inspirationparticle_utro_gen_organisation_v1_SearchOrganisationsRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_inspirationparticle_utro_gen_organisation_v1_SearchOrganisationsRequest_descriptor,
-        new java.lang.String[] { "Query", });
+        new java.lang.String[] { "Query", "PageSize", "PageToken", });
     internal_static_com_inspirationparticle_utro_gen_organisation_v1_SearchOrganisationsResponse_descriptor =
       getDescriptor().getMessageTypes().get(5);
     internal_static_com_inspirationparticle_utro_gen_organisation_v1_SearchOrganisationsResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_inspirationparticle_utro_gen_organisation_v1_SearchOrganisationsResponse_descriptor,
-        new java.lang.String[] { "Organisations", });
+        new java.lang.String[] { "Organisations", "NextPageToken", });
     internal_static_com_inspirationparticle_utro_gen_organisation_v1_Organisation_descriptor =
       getDescriptor().getMessageTypes().get(6);
     internal_static_com_inspirationparticle_utro_gen_organisation_v1_Organisation_fieldAccessorTable = new
@@ -9444,27 +11114,33 @@ public final class OrganisationOuterClass {
     internal_static_com_inspirationparticle_utro_gen_organisation_v1_GetOrganisationUsersRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_inspirationparticle_utro_gen_organisation_v1_GetOrganisationUsersRequest_descriptor,
-        new java.lang.String[] { "OrganisationId", });
+        new java.lang.String[] { "OrganisationId", "PageSize", "PageToken", });
     internal_static_com_inspirationparticle_utro_gen_organisation_v1_GetOrganisationUsersResponse_descriptor =
       getDescriptor().getMessageTypes().get(8);
     internal_static_com_inspirationparticle_utro_gen_organisation_v1_GetOrganisationUsersResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_inspirationparticle_utro_gen_organisation_v1_GetOrganisationUsersResponse_descriptor,
-        new java.lang.String[] { "Users", });
-    internal_static_com_inspirationparticle_utro_gen_organisation_v1_User_descriptor =
+        new java.lang.String[] { "Users", "NextPageToken", });
+    internal_static_com_inspirationparticle_utro_gen_organisation_v1_StreamOrganisationUsersRequest_descriptor =
       getDescriptor().getMessageTypes().get(9);
+    internal_static_com_inspirationparticle_utro_gen_organisation_v1_StreamOrganisationUsersRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_com_inspirationparticle_utro_gen_organisation_v1_StreamOrganisationUsersRequest_descriptor,
+        new java.lang.String[] { "OrganisationId", });
+    internal_static_com_inspirationparticle_utro_gen_organisation_v1_User_descriptor =
+      getDescriptor().getMessageTypes().get(10);
     internal_static_com_inspirationparticle_utro_gen_organisation_v1_User_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_inspirationparticle_utro_gen_organisation_v1_User_descriptor,
         new java.lang.String[] { "Id", "Username", "FullName", "Email", "MemberType", "JoinedAt", "CreatedAt", "UpdatedAt", });
     internal_static_com_inspirationparticle_utro_gen_organisation_v1_RemoveOrganisationMemberRequest_descriptor =
-      getDescriptor().getMessageTypes().get(10);
+      getDescriptor().getMessageTypes().get(11);
     internal_static_com_inspirationparticle_utro_gen_organisation_v1_RemoveOrganisationMemberRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_inspirationparticle_utro_gen_organisation_v1_RemoveOrganisationMemberRequest_descriptor,
         new java.lang.String[] { "OrganisationId", "UserId", });
     internal_static_com_inspirationparticle_utro_gen_organisation_v1_RemoveOrganisationMemberResponse_descriptor =
-      getDescriptor().getMessageTypes().get(11);
+      getDescriptor().getMessageTypes().get(12);
     internal_static_com_inspirationparticle_utro_gen_organisation_v1_RemoveOrganisationMemberResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_com_inspirationparticle_utro_gen_organisation_v1_RemoveOrganisationMemberResponse_descriptor,
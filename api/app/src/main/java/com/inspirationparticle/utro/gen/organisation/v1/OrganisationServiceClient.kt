@@ -8,6 +8,7 @@ import com.connectrpc.Headers
 import com.connectrpc.MethodSpec
 import com.connectrpc.ProtocolClientInterface
 import com.connectrpc.ResponseMessage
+import com.connectrpc.ServerOnlyStreamInterface
 import com.connectrpc.StreamType
 
 public class OrganisationServiceClient(
@@ -71,6 +72,23 @@ public class OrganisationServiceClient(
   )
 
 
+  /**
+   *  Every member of the organisation in the same order as GetOrganisationUsers, written as it is
+   * read
+   */
+  override suspend fun streamOrganisationUsers(headers: Headers):
+      ServerOnlyStreamInterface<OrganisationOuterClass.StreamOrganisationUsersRequest, OrganisationOuterClass.User>
+      = client.serverStream(
+    headers,
+    MethodSpec(
+    "com.inspirationparticle.utro.gen.organisation.v1.OrganisationService/StreamOrganisationUsers",
+      com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.StreamOrganisationUsersRequest::class,
+      com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass.User::class,
+      StreamType.SERVER,
+    ),
+  )
+
+
   override suspend
       fun removeOrganisationMember(request: OrganisationOuterClass.RemoveOrganisationMemberRequest,
       headers: Headers): ResponseMessage<OrganisationOuterClass.RemoveOrganisationMemberResponse> =
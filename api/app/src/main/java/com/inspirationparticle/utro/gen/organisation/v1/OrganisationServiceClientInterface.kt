@@ -6,6 +6,7 @@ package com.inspirationparticle.utro.gen.organisation.v1
 
 import com.connectrpc.Headers
 import com.connectrpc.ResponseMessage
+import com.connectrpc.ServerOnlyStreamInterface
 
 public interface OrganisationServiceClientInterface {
   public suspend fun getMyOrganisations(request: OrganisationOuterClass.GetMyOrganisationsRequest,
@@ -25,6 +26,13 @@ public interface OrganisationServiceClientInterface {
       headers: Headers = emptyMap()):
       ResponseMessage<OrganisationOuterClass.GetOrganisationUsersResponse>
 
+  /**
+   *  Every member of the organisation in the same order as GetOrganisationUsers, written as it is
+   * read
+   */
+  public suspend fun streamOrganisationUsers(headers: Headers = emptyMap()):
+      ServerOnlyStreamInterface<OrganisationOuterClass.StreamOrganisationUsersRequest, OrganisationOuterClass.User>
+
   public suspend
       fun removeOrganisationMember(request: OrganisationOuterClass.RemoveOrganisationMemberRequest,
       headers: Headers = emptyMap()):
@@ -0,0 +1,192 @@
+package com.inspirationparticle.utro.mail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Delivers outbox emails in the background.
+ * Each poll claims a batch of due rows and sends it over a single SMTP connection. Messages the server
+ * refuses, or a whole batch when the connection fails, are retried with exponential backoff until
+ * the attempt limit is reached.
+ */
+@Slf4j
+@Component
+public class EmailDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final EmailOutbox outbox;
+    private final JavaMailSender mailSender;
+    private final String from;
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final int maxAttempts;
+
+    private final Timer sendTimer;
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+
+    public EmailDispatcher(EmailOutbox outbox,
+                           JavaMailSender mailSender,
+                           MeterRegistry meterRegistry,
+                           @Value("${mail.from:no-reply@utro.local}") String from,
+                           @Value("${mail.outbox.batch-size:50}") int batchSize,
+                           @Value("${mail.outbox.lease:PT2M}") Duration lease,
+                           @Value("${mail.outbox.retry-backoff:PT30S}") Duration retryBackoff,
+                           @Value("${mail.outbox.max-retry-backoff:PT1H}") Duration maxRetryBackoff,
+                           @Value("${mail.outbox.max-attempts:8}") int maxAttempts) {
+        this.outbox = outbox;
+        this.mailSender = mailSender;
+        this.from = from;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+        this.maxAttempts = maxAttempts;
+
+        this.sendTimer = Timer.builder("mail.outbox.send")
+                .description("Time to deliver one batch of outbox emails")
+                .register(meterRegistry);
+        this.sent = Counter.builder("mail.outbox.sent")
+                .description("Outbox emails accepted by the mail server")
+                .register(meterRegistry);
+        this.retried = Counter.builder("mail.outbox.retried")
+                .description("Outbox email deliveries that failed and were rescheduled")
+                .register(meterRegistry);
+        this.failed = Counter.builder("mail.outbox.failed")
+                .description("Outbox emails given up on after the last attempt")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Sends due emails until the outbox has no full batch left.
+     *
+     * @return number of emails delivered
+     */
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval:PT5S}",
+               initialDelayString = "${mail.outbox.poll-interval:PT5S}")
+    public int dispatch() {
+        int delivered = 0;
+        while (true) {
+            List<OutboxEmail> claimed = outbox.claimDue(batchSize, lease);
+            if (!claimed.isEmpty()) {
+                delivered += sendTimer.record(() -> send(claimed));
+            }
+            if (claimed.size() < batchSize) {
+                return delivered;
+            }
+        }
+    }
+
+    private int send(List<OutboxEmail> batch) {
+        Map<MimeMessage, OutboxEmail> messages = new IdentityHashMap<>();
+        for (OutboxEmail email : batch) {
+            try {
+                messages.put(toMimeMessage(email.message()), email);
+            } catch (MessagingException e) {
+                // The message itself is malformed, so retrying cannot help
+                giveUp(email, e);
+            }
+        }
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        Map<Object, Exception> failures;
+        try {
+            mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+            failures = Collections.emptyMap();
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages().isEmpty() ? allFailed(messages, e) : e.getFailedMessages();
+        } catch (MailException e) {
+            failures = allFailed(messages, e);
+        }
+
+        List<UUID> delivered = new ArrayList<>(messages.size());
+        for (Map.Entry<MimeMessage, OutboxEmail> entry : messages.entrySet()) {
+            Exception failure = failures.get(entry.getKey());
+            if (failure == null) {
+                delivered.add(entry.getValue().id());
+            } else if (entry.getValue().attempts() >= maxAttempts) {
+                giveUp(entry.getValue(), failure);
+            } else {
+                retry(entry.getValue(), failure);
+            }
+        }
+
+        outbox.markSent(delivered);
+        sent.increment(delivered.size());
+        return delivered.size();
+    }
+
+    private MimeMessage toMimeMessage(EmailMessage message) throws MessagingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, StandardCharsets.UTF_8.name());
+        helper.setFrom(from);
+        helper.setTo(message.recipient());
+        helper.setSubject(message.subject());
+        helper.setText(message.body());
+        return mimeMessage;
+    }
+
+    private void retry(OutboxEmail email, Exception failure) {
+        Duration delay = backoff(email.attempts());
+        outbox.scheduleRetry(email.id(), Instant.now().plus(delay), describe(failure));
+        retried.increment();
+        log.warn("Email delivery failed, retrying: id={}, attempt={}, delay={}, error={}",
+                email.id(), email.attempts(), delay, failure.getMessage());
+    }
+
+    private void giveUp(OutboxEmail email, Exception failure) {
+        outbox.markFailed(email.id(), describe(failure));
+        failed.increment();
+        log.error("Email delivery failed permanently: id={}, attempts={}, error={}",
+                email.id(), email.attempts(), failure.getMessage());
+    }
+
+    /**
+     * Exponential backoff with up to 20% jitter so retries from one failed batch spread out
+     */
+    Duration backoff(int attempts) {
+        long base = retryBackoff.toMillis() << Math.min(attempts - 1, 20);
+        long capped = Math.min(base, maxRetryBackoff.toMillis());
+        long jitter = (long) (capped * 0.2 * ThreadLocalRandom.current().nextDouble());
+        return Duration.ofMillis(capped - jitter);
+    }
+
+    private static Map<Object, Exception> allFailed(Map<MimeMessage, OutboxEmail> messages, Exception failure) {
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        messages.keySet().forEach(message -> failures.put(message, failure));
+        return failures;
+    }
+
+    private static String describe(Exception failure) {
+        String description = failure.getClass().getSimpleName() + ": " + failure.getMessage();
+        return description.length() > MAX_ERROR_LENGTH ? description.substring(0, MAX_ERROR_LENGTH) : description;
+    }
+}
@@ -0,0 +1,7 @@
+package com.inspirationparticle.utro.mail;
+
+/**
+ * A plain-text email to be delivered through the outbox
+ */
+public record EmailMessage(String recipient, String subject, String body) {
+}
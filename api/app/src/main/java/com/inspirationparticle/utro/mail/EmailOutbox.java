@@ -0,0 +1,94 @@
+package com.inspirationparticle.utro.mail;
+
+import com.inspirationparticle.utro.util.UUIDv7Generator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * email_outbox table access.
+ * enqueue joins the caller's transaction so an email exists exactly when the change that caused it commits.
+ * claimDue leases rows by pushing next_attempt_at past the send window, which lets several dispatchers
+ * share the table without holding row locks while talking to the mail server.
+ */
+@Repository
+public class EmailOutbox {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO email_outbox (id, recipient, subject, body, status, attempts, next_attempt_at, created_at) " +
+            "VALUES (?, ?, ?, ?, 'PENDING', 0, ?, ?)";
+
+    private static final String CLAIM_SQL =
+            "UPDATE email_outbox SET attempts = attempts + 1, next_attempt_at = ? " +
+            "WHERE id IN (" +
+            "    SELECT id FROM email_outbox" +
+            "    WHERE status = 'PENDING' AND next_attempt_at <= ?" +
+            "    ORDER BY next_attempt_at" +
+            "    LIMIT ?" +
+            "    FOR UPDATE SKIP LOCKED" +
+            ") " +
+            "RETURNING id, recipient, subject, body, attempts";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EmailOutbox(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void enqueue(List<EmailMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        UUIDv7Generator.Reservation ids = UUIDv7Generator.reserve(messages.size());
+        List<Object[]> batch = new ArrayList<>(messages.size());
+        for (EmailMessage message : messages) {
+            batch.add(new Object[]{ids.next(), message.recipient(), message.subject(), message.body(), now, now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+    }
+
+    /**
+     * Claims up to limit due emails; they will not be handed out again until the lease expires.
+     */
+    public List<OutboxEmail> claimDue(int limit, Duration lease) {
+        Instant now = Instant.now();
+        return jdbcTemplate.query(CLAIM_SQL,
+                (rs, rowNum) -> new OutboxEmail(
+                        rs.getObject("id", UUID.class),
+                        rs.getInt("attempts"),
+                        new EmailMessage(rs.getString("recipient"), rs.getString("subject"), rs.getString("body"))),
+                Timestamp.from(now.plus(lease)), Timestamp.from(now), limit);
+    }
+
+    public void markSent(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> batch = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            batch.add(new Object[]{now, id});
+        }
+        jdbcTemplate.batchUpdate(
+                "UPDATE email_outbox SET status = 'SENT', sent_at = ?, last_error = NULL WHERE id = ?", batch);
+    }
+
+    public void scheduleRetry(UUID id, Instant nextAttemptAt, String error) {
+        jdbcTemplate.update("UPDATE email_outbox SET next_attempt_at = ?, last_error = ? WHERE id = ?",
+                Timestamp.from(nextAttemptAt), error, id);
+    }
+
+    public void markFailed(UUID id, String error) {
+        jdbcTemplate.update("UPDATE email_outbox SET status = 'FAILED', last_error = ? WHERE id = ?", error, id);
+    }
+}
@@ -0,0 +1,9 @@
+package com.inspirationparticle.utro.mail;
+
+import java.util.UUID;
+
+/**
+ * An outbox row claimed for delivery; attempts includes the current one
+ */
+public record OutboxEmail(UUID id, int attempts, EmailMessage message) {
+}
@@ -0,0 +1,176 @@
+package com.inspirationparticle.utro.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Counts every statement run through the wrapped data source for {@link QueryCounter}, Hibernate's and JdbcTemplate's
+ * alike, and records it in {@link QueryStatistics}: execution time, rows read from its result sets and how long the
+ * connection it ran on was held. Without statistics (query-statistics.enabled=false) statements are only counted.
+ * Connections, statements and result sets are JDK proxies that time the execute calls and count next(); everything
+ * else, unwrap included, goes straight to the driver's objects.
+ */
+public class FingerprintingDataSource extends DelegatingDataSource {
+
+    private final QueryStatistics statistics;
+    private final QueryCounter queryCounter;
+
+    /**
+     * statistics may be null, to count statements without recording them
+     */
+    public FingerprintingDataSource(DataSource dataSource, QueryStatistics statistics, QueryCounter queryCounter) {
+        super(dataSource);
+        this.statistics = statistics;
+        this.queryCounter = queryCounter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connection(super.getConnection(username, password));
+    }
+
+    private Connection connection(Connection target) {
+        return proxy(Connection.class, new ConnectionHandler(target));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(FingerprintingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final long acquiredAt = System.nanoTime();
+        private final Set<QueryStatistics.Entry> ran = new HashSet<>();
+        private boolean released;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "prepareStatement", "prepareCall" -> {
+                    Statement statement = (Statement) FingerprintingDataSource.invoke(target, method, args);
+                    return proxy(method.getReturnType(), new StatementHandler(this, statement, (String) args[0]));
+                }
+                case "createStatement" -> {
+                    Statement statement = (Statement) FingerprintingDataSource.invoke(target, method, args);
+                    return proxy(Statement.class, new StatementHandler(this, statement, null));
+                }
+                case "close" -> {
+                    if (!released && statistics != null) {
+                        released = true;
+                        statistics.connectionReleased(ran, System.nanoTime() - acquiredAt);
+                    }
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                default -> {
+                }
+            }
+            return FingerprintingDataSource.invoke(target, method, args);
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final ConnectionHandler connection;
+        private final Statement target;
+        private final String preparedSql;
+        private String batchSql;
+        private QueryStatistics.Entry last;
+
+        StatementHandler(ConnectionHandler connection, Statement target, String preparedSql) {
+            this.connection = connection;
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s
+                        : preparedSql != null ? preparedSql : batchSql;
+                if (sql == null) {
+                    return FingerprintingDataSource.invoke(target, method, args);
+                }
+                queryCounter.statement(sql);
+                if (statistics == null) {
+                    return FingerprintingDataSource.invoke(target, method, args);
+                }
+                QueryStatistics.Entry entry = statistics.entry(sql);
+                long startedAt = System.nanoTime();
+                try {
+                    Object result = FingerprintingDataSource.invoke(target, method, args);
+                    return result instanceof ResultSet resultSet ? resultSet(resultSet, entry) : result;
+                } finally {
+                    statistics.executed(entry, System.nanoTime() - startedAt);
+                    connection.ran.add(entry);
+                    last = entry;
+                }
+            }
+            switch (name) {
+                case "addBatch" -> {
+                    if (args != null && args.length == 1 && args[0] instanceof String sql) {
+                        batchSql = sql;
+                    }
+                }
+                case "getResultSet" -> {
+                    ResultSet resultSet = (ResultSet) FingerprintingDataSource.invoke(target, method, args);
+                    return resultSet == null || last == null ? resultSet : resultSet(resultSet, last);
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                default -> {
+                }
+            }
+            return FingerprintingDataSource.invoke(target, method, args);
+        }
+
+        private ResultSet resultSet(ResultSet target, QueryStatistics.Entry entry) {
+            return proxy(ResultSet.class, (proxy, method, args) -> {
+                Object result = FingerprintingDataSource.invoke(target, method, args);
+                if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                    statistics.rowRead(entry);
+                }
+                return result;
+            });
+        }
+    }
+}
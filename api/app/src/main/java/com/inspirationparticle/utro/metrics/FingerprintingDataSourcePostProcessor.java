@@ -0,0 +1,37 @@
+package com.inspirationparticle.utro.metrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application's data sources in {@link FingerprintingDataSource}, which counts statements for
+ * {@link QueryCounter} and, unless query-statistics.enabled=false, records them in {@link QueryStatistics}
+ */
+@Component
+public class FingerprintingDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<QueryStatistics> statistics;
+    private final ObjectProvider<QueryCounter> queryCounter;
+    private final boolean enabled;
+
+    public FingerprintingDataSourcePostProcessor(ObjectProvider<QueryStatistics> statistics,
+                                                 ObjectProvider<QueryCounter> queryCounter,
+                                                 @Value("${query-statistics.enabled:true}") boolean enabled) {
+        this.statistics = statistics;
+        this.queryCounter = queryCounter;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof FingerprintingDataSource)) {
+            return new FingerprintingDataSource(dataSource, enabled ? statistics.getObject() : null,
+                    queryCounter.getObject());
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,19 @@
+package com.inspirationparticle.utro.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Most SQL statements a request handler may issue through Hibernate, including lazy loads while the response is
+ * written. Exceeding it is logged or fails the request, depending on query-budget.enforcement.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int statements();
+}
@@ -0,0 +1,7 @@
+package com.inspirationparticle.utro.metrics;
+
+public class QueryBudgetExceededException extends RuntimeException {
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
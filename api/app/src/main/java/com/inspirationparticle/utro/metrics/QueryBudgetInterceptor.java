@@ -0,0 +1,68 @@
+package com.inspirationparticle.utro.metrics;
+
+import io.opentelemetry.api.trace.Span;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Counts the database work of each handler call, from the handler to the last lazy load while the response is
+ * written, and checks it against the handler's {@link QueryBudget}. The counts are recorded per RPC, added to the
+ * current span and left on the request as {@link #QUERY_COUNT_ATTRIBUTE} for tests.
+ */
+@Slf4j
+@Component
+public class QueryBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String QUERY_COUNT_ATTRIBUTE = QueryCount.class.getName();
+
+    private final QueryCounter queryCounter;
+    private final RpcMetrics rpcMetrics;
+
+    public QueryBudgetInterceptor(QueryCounter queryCounter, RpcMetrics rpcMetrics) {
+        this.queryCounter = queryCounter;
+        this.rpcMetrics = rpcMetrics;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod method) {
+            QueryBudget budget = method.getMethodAnnotation(QueryBudget.class);
+            request.setAttribute(QUERY_COUNT_ATTRIBUTE, queryCounter.start(budget == null ? -1 : budget.statements()));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        QueryCount count = queryCounter.stop();
+        if (count == null || !(handler instanceof HandlerMethod method)) {
+            return;
+        }
+
+        RpcMetrics.RpcMethod rpc = rpcMetrics.method(request.getRequestURI());
+        if (rpc != null) {
+            rpcMetrics.recordQueries(rpc, count.statements(), count.entityLoads(), count.collectionFetches());
+        }
+        Span span = Span.current();
+        span.setAttribute("db.statements", count.statements());
+        span.setAttribute("db.entity_loads", count.entityLoads());
+        span.setAttribute("db.collection_fetches", count.collectionFetches());
+
+        if (queryCounter.enforcement() == QueryCounter.Enforcement.LOG && queryCounter.violated(count)) {
+            log.warn("Query budget exceeded by {}: {}, most repeated statement: {}",
+                    method.getShortLogMessage(), count, count.mostRepeated());
+        }
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        // The async dispatch that writes the response starts counting again on its own thread
+        queryCounter.stop();
+    }
+}
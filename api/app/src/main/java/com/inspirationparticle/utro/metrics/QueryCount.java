@@ -0,0 +1,80 @@
+package com.inspirationparticle.utro.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Database work done on one thread while a request is handled
+ */
+public final class QueryCount {
+
+    private final int budget;
+    private final Map<String, Integer> executions = new HashMap<>();
+    private int statements;
+    private int entityLoads;
+    private int collectionFetches;
+    private String mostRepeated;
+    private int mostRepeatedTimes;
+
+    QueryCount(int budget) {
+        this.budget = budget;
+    }
+
+    void statement(String sql) {
+        statements++;
+        int times = executions.merge(sql, 1, Integer::sum);
+        if (times > mostRepeatedTimes) {
+            mostRepeated = sql;
+            mostRepeatedTimes = times;
+        }
+    }
+
+    void entityLoad() {
+        entityLoads++;
+    }
+
+    void collectionFetch() {
+        collectionFetches++;
+    }
+
+    /**
+     * Declared statement budget, or -1 when the handler has none
+     */
+    public int budget() {
+        return budget;
+    }
+
+    public boolean overBudget() {
+        return budget >= 0 && statements > budget;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public int entityLoads() {
+        return entityLoads;
+    }
+
+    public int collectionFetches() {
+        return collectionFetches;
+    }
+
+    /**
+     * The statement executed most often, the usual shape of an N+1: one query per row of an earlier one
+     */
+    public String mostRepeated() {
+        return mostRepeated;
+    }
+
+    public int mostRepeatedTimes() {
+        return mostRepeatedTimes;
+    }
+
+    @Override
+    public String toString() {
+        return "statements=" + statements + (budget >= 0 ? "/" + budget : "")
+                + ", entityLoads=" + entityLoads + ", collectionFetches=" + collectionFetches
+                + ", mostRepeated=" + mostRepeatedTimes + "x";
+    }
+}
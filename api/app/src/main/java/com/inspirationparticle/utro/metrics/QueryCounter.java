@@ -0,0 +1,124 @@
+package com.inspirationparticle.utro.metrics;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts the statements, entity loads and collection fetches performed on the current thread between
+ * {@link #start} and {@link #stop}. Statements are counted by {@link FingerprintingDataSource} as they execute, so
+ * JdbcTemplate queries count as well as Hibernate's; loads and fetches come from Hibernate listeners. Threads that
+ * are not counting pay one ThreadLocal lookup.
+ * <p>
+ * With query-budget.enforcement=fail the statement that exceeds the budget, or that repeats
+ * query-budget.repeated-statements times, throws instead of running.
+ */
+@Component
+public class QueryCounter implements PostLoadEventListener, InitializeCollectionEventListener,
+        HibernatePropertiesCustomizer {
+
+    public enum Enforcement {
+        NONE, LOG, FAIL
+    }
+
+    private static final ThreadLocal<QueryCount> CURRENT = new ThreadLocal<>();
+
+    private final Enforcement enforcement;
+    private final int repeatedStatements;
+
+    public QueryCounter(@Value("${query-budget.enforcement:log}") Enforcement enforcement,
+                        @Value("${query-budget.repeated-statements:10}") int repeatedStatements) {
+        this.enforcement = enforcement;
+        this.repeatedStatements = repeatedStatements;
+    }
+
+    /**
+     * Starts counting on this thread; budget is the statement budget, or -1 for none
+     */
+    public QueryCount start(int budget) {
+        QueryCount count = new QueryCount(budget);
+        CURRENT.set(count);
+        return count;
+    }
+
+    public QueryCount stop() {
+        QueryCount count = CURRENT.get();
+        CURRENT.remove();
+        return count;
+    }
+
+    public Enforcement enforcement() {
+        return enforcement;
+    }
+
+    /**
+     * Whether the counts break the budget or look like an N+1
+     */
+    public boolean violated(QueryCount count) {
+        return count.overBudget() || count.mostRepeatedTimes() >= repeatedStatements;
+    }
+
+    /**
+     * Counts a statement that is about to execute
+     */
+    public void statement(String sql) {
+        QueryCount count = CURRENT.get();
+        if (count != null) {
+            count.statement(sql);
+            if (enforcement == Enforcement.FAIL && violated(count)) {
+                throw new QueryBudgetExceededException("Query budget exceeded (" + count + "): " + sql);
+            }
+        }
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        QueryCount count = CURRENT.get();
+        if (count != null) {
+            count.entityLoad();
+        }
+    }
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) {
+        QueryCount count = CURRENT.get();
+        if (count != null) {
+            count.collectionFetch();
+        }
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER, (IntegratorProvider) () -> List.of(new Integrator() {
+            @Override
+            public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                                  SessionFactoryImplementor sessionFactory) {
+                EventListenerRegistry listeners = sessionFactory.getServiceRegistry()
+                        .getService(EventListenerRegistry.class);
+                listeners.appendListeners(EventType.POST_LOAD, QueryCounter.this);
+                listeners.appendListeners(EventType.INIT_COLLECTION, QueryCounter.this);
+            }
+
+            @Override
+            public void disintegrate(SessionFactoryImplementor sessionFactory,
+                                     SessionFactoryServiceRegistry serviceRegistry) {
+            }
+        }));
+    }
+}
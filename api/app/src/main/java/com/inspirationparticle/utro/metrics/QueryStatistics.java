@@ -0,0 +1,139 @@
+package com.inspirationparticle.utro.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Execution statistics per SQL fingerprint, fed by {@link FingerprintingDataSource}. A fingerprint is the
+ * statement with literals replaced by ? and IN lists collapsed, so the same repository query maps to one entry
+ * however its parameters and batch sizes vary, and no values end up in the statistics.
+ */
+@Component
+public class QueryStatistics {
+
+    static final String OTHER = "(other statements)";
+
+    private static final Pattern COMMENT = Pattern.compile("/\\*.*?\\*/|--[^\\n]*", Pattern.DOTALL);
+    private static final Pattern STRING = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER = Pattern.compile("(?<![\\w$.])\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_CACHED_STATEMENTS = 10_000;
+
+    public enum Order {
+        TOTAL, MAX, COUNT, ROWS, HOLD
+    }
+
+    public record Summary(String fingerprint, long count, double totalMillis, double meanMillis, double maxMillis,
+                          long rows, double connectionHoldMillis, double maxConnectionHoldMillis) {
+    }
+
+    static final class Entry {
+        final String fingerprint;
+        final LongAdder count = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        final LongAdder rows = new LongAdder();
+        final LongAdder holdNanos = new LongAdder();
+        final LongAccumulator maxHoldNanos = new LongAccumulator(Math::max, 0);
+
+        Entry(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        Summary summary() {
+            long executions = count.sum();
+            long total = totalNanos.sum();
+            return new Summary(fingerprint, executions, millis(total), executions == 0 ? 0 : millis(total / executions),
+                    millis(maxNanos.get()), rows.sum(), millis(holdNanos.sum()), millis(maxHoldNanos.get()));
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+
+    private final int maxFingerprints;
+    private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public QueryStatistics(@Value("${query-statistics.max-fingerprints:1000}") int maxFingerprints) {
+        this.maxFingerprints = maxFingerprints;
+    }
+
+    static String fingerprint(String sql) {
+        String normalised = COMMENT.matcher(sql).replaceAll(" ");
+        normalised = STRING.matcher(normalised).replaceAll("?");
+        normalised = NUMBER.matcher(normalised).replaceAll("?");
+        normalised = IN_LIST.matcher(normalised).replaceAll("in (?)");
+        return WHITESPACE.matcher(normalised).replaceAll(" ").trim();
+    }
+
+    /**
+     * The entry statements with this SQL are recorded in; distinct fingerprints past the limit share one entry
+     */
+    Entry entry(String sql) {
+        String fingerprint = fingerprints.get(sql);
+        if (fingerprint == null) {
+            fingerprint = fingerprint(sql);
+            // Statements built with inlined values are all different; stop remembering them past the limit
+            if (fingerprints.size() < MAX_CACHED_STATEMENTS) {
+                fingerprints.put(sql, fingerprint);
+            }
+        }
+        Entry entry = entries.get(fingerprint);
+        if (entry == null) {
+            String key = entries.size() < maxFingerprints ? fingerprint : OTHER;
+            entry = entries.computeIfAbsent(key, Entry::new);
+        }
+        return entry;
+    }
+
+    void executed(Entry entry, long nanos) {
+        entry.count.increment();
+        entry.totalNanos.add(nanos);
+        entry.maxNanos.accumulate(nanos);
+    }
+
+    void rowRead(Entry entry) {
+        entry.rows.increment();
+    }
+
+    /**
+     * A connection was returned to the pool; the time it was held counts for every statement that ran on it
+     */
+    void connectionReleased(Collection<Entry> ran, long holdNanos) {
+        for (Entry entry : ran) {
+            entry.holdNanos.add(holdNanos);
+            entry.maxHoldNanos.accumulate(holdNanos);
+        }
+    }
+
+    public List<Summary> top(Order order, int limit) {
+        Comparator<Summary> comparator = switch (order) {
+            case TOTAL -> Comparator.comparingDouble(Summary::totalMillis);
+            case MAX -> Comparator.comparingDouble(Summary::maxMillis);
+            case COUNT -> Comparator.comparingLong(Summary::count);
+            case ROWS -> Comparator.comparingLong(Summary::rows);
+            case HOLD -> Comparator.comparingDouble(Summary::connectionHoldMillis);
+        };
+        return entries.values().stream()
+                .map(Entry::summary)
+                .sorted(comparator.reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public void reset() {
+        entries.clear();
+    }
+}
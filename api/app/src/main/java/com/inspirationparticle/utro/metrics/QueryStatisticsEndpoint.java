@@ -0,0 +1,44 @@
+package com.inspirationparticle.utro.metrics;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * /actuator/queries: the SQL fingerprints ranked by total time, or by ?order=max|count|rows|hold, top ?limit=20.
+ * DELETE starts the statistics over, e.g. before a load test. Only the users in security.operators may use it.
+ */
+@Component
+@Endpoint(id = "queries")
+public class QueryStatisticsEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final QueryStatistics statistics;
+
+    public QueryStatisticsEndpoint(QueryStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    @ReadOperation
+    public List<QueryStatistics.Summary> top(@Nullable String order, @Nullable Integer limit) {
+        QueryStatistics.Order by;
+        try {
+            by = order == null ? QueryStatistics.Order.TOTAL : QueryStatistics.Order.valueOf(order.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException("Unknown order: " + order, "order must be total, max, count, rows or hold");
+        }
+        return statistics.top(by, limit == null ? DEFAULT_LIMIT : Math.max(1, limit));
+    }
+
+    @DeleteOperation
+    public void reset() {
+        statistics.reset();
+    }
+}
@@ -0,0 +1,154 @@
+package com.inspirationparticle.utro.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * RPC-level meters, tagged with the Connect service and method, e.g. service=TherapistService, method=ListTherapists.
+ * Only paths mapped by a controller are recorded, so unknown paths cannot grow the number of series.
+ * <p>
+ * rpc.server.duration     latency with SLO buckets, also tagged with the Connect code derived from the HTTP status
+ * rpc.server.request.size and rpc.server.response.size, in bytes
+ * rpc.server.response.items  number of entries in the list field of list and search responses
+ * rpc.server.db.statements, rpc.server.db.entity.loads and rpc.server.db.collection.fetches  Hibernate work per call
+ * rpc.server.allocated and rpc.server.cpu  heap allocated and CPU time used by the request threads
+ */
+@Component
+public class RpcMetrics {
+
+    // /<proto package>.<Service>/<Method>
+    private static final Pattern RPC_PATH = Pattern.compile("^/(?:[A-Za-z_][\\w]*\\.)+(\\w+)/(\\w+)$");
+
+    private static final Duration[] LATENCY_SLOS = {
+            Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50),
+            Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1),
+            Duration.ofMillis(2500), Duration.ofSeconds(5), Duration.ofSeconds(10)};
+    private static final double[] SIZE_SLOS = {256, 1024, 4096, 16_384, 65_536, 262_144, 1_048_576, 4_194_304};
+    private static final Duration[] CPU_SLOS = {
+            Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(25),
+            Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofSeconds(1)};
+    private static final double[] ALLOCATION_SLOS = {
+            65_536, 262_144, 1_048_576, 4_194_304, 16_777_216, 67_108_864, 268_435_456};
+    // Boundaries must be positive; empty results land in the first bucket
+    private static final double[] COUNT_SLOS = {1, 5, 10, 20, 50, 100, 500};
+
+    public record RpcMethod(String service, String method) {
+    }
+
+    private final MeterRegistry registry;
+    private volatile Map<String, RpcMethod> methods = Map.of();
+
+    public RpcMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void registerHandlerMappings(ContextRefreshedEvent event) {
+        RequestMappingHandlerMapping mapping = event.getApplicationContext()
+                .getBean("requestMappingHandlerMapping", RequestMappingHandlerMapping.class);
+        register(mapping.getHandlerMethods().keySet().stream()
+                .flatMap(info -> info.getPatternValues().stream())
+                .toList());
+    }
+
+    void register(Collection<String> paths) {
+        Map<String, RpcMethod> known = new HashMap<>();
+        for (String path : paths) {
+            Matcher matcher = RPC_PATH.matcher(path);
+            if (matcher.matches()) {
+                known.put(path, new RpcMethod(matcher.group(1), matcher.group(2)));
+            }
+        }
+        methods = Map.copyOf(known);
+    }
+
+    /**
+     * The RPC served at the path, or null when it is not a known RPC
+     */
+    public RpcMethod method(String path) {
+        return methods.get(path);
+    }
+
+    public void recordCall(RpcMethod rpc, int status, long durationNanos, long requestBytes, long responseBytes) {
+        Timer.builder("rpc.server.duration")
+                .description("Server-side duration of Connect RPCs")
+                .tags("service", rpc.service(), "method", rpc.method(), "code", connectCode(status))
+                .serviceLevelObjectives(LATENCY_SLOS)
+                .register(registry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        summary("rpc.server.request.size", "Size of RPC request bodies", rpc, "bytes", SIZE_SLOS).record(requestBytes);
+        summary("rpc.server.response.size", "Size of RPC response bodies", rpc, "bytes", SIZE_SLOS).record(responseBytes);
+    }
+
+    public void recordItems(RpcMethod rpc, int items) {
+        summary("rpc.server.response.items", "Entries in the list field of RPC responses", rpc, "items", COUNT_SLOS)
+                .record(items);
+    }
+
+    public void recordQueries(RpcMethod rpc, int statements, int entityLoads, int collectionFetches) {
+        summary("rpc.server.db.statements", "SQL statements issued through Hibernate per RPC", rpc, "statements",
+                COUNT_SLOS).record(statements);
+        summary("rpc.server.db.entity.loads", "Entities loaded per RPC", rpc, "entities", COUNT_SLOS)
+                .record(entityLoads);
+        summary("rpc.server.db.collection.fetches", "Lazy collections initialised per RPC", rpc, "collections",
+                COUNT_SLOS).record(collectionFetches);
+    }
+
+    public void recordResources(RpcMethod rpc, long allocatedBytes, long cpuNanos) {
+        summary("rpc.server.allocated", "Heap allocated by the request threads of an RPC", rpc, "bytes",
+                ALLOCATION_SLOS).record(allocatedBytes);
+        Timer.builder("rpc.server.cpu")
+                .description("CPU time used by the request threads of an RPC")
+                .tags("service", rpc.service(), "method", rpc.method())
+                .serviceLevelObjectives(CPU_SLOS)
+                .register(registry)
+                .record(cpuNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private DistributionSummary summary(String name, String description, RpcMethod rpc, String unit, double[] slos) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .baseUnit(unit)
+                .tags("service", rpc.service(), "method", rpc.method())
+                .serviceLevelObjectives(slos)
+                .register(registry);
+    }
+
+    /**
+     * Connect error code for the HTTP status a handler answered with, following the code-to-status table of the
+     * Connect protocol that ResponseStatusException statuses are chosen by
+     */
+    static String connectCode(int status) {
+        if (status >= 200 && status < 300) {
+            return "ok";
+        }
+        return switch (status) {
+            case 400 -> "invalid_argument";
+            case 401 -> "unauthenticated";
+            case 403 -> "permission_denied";
+            case 404 -> "not_found";
+            case 408, 504 -> "deadline_exceeded";
+            case 409 -> "already_exists";
+            case 412 -> "failed_precondition";
+            case 413, 429 -> "resource_exhausted";
+            case 499 -> "canceled";
+            case 501 -> "unimplemented";
+            case 503 -> "unavailable";
+            case 500 -> "internal";
+            default -> "unknown";
+        };
+    }
+}
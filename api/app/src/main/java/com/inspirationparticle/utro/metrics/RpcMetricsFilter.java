@@ -0,0 +1,216 @@
+package com.inspirationparticle.utro.metrics;
+
+import com.inspirationparticle.utro.profiling.RpcEvent;
+import io.opentelemetry.api.trace.Span;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Times every known RPC and counts the bytes read from the request and written to the response.
+ * Runs ahead of Spring Security so that rejected calls are recorded too; streaming responses are recorded
+ * when the async request completes. Each call is also an {@link RpcEvent} in Flight Recorder recordings, and the
+ * service, method, Connect code and body sizes are added to its server span.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RpcMetricsFilter extends OncePerRequestFilter {
+
+    private final RpcMetrics rpcMetrics;
+
+    public RpcMetricsFilter(RpcMetrics rpcMetrics) {
+        this.rpcMetrics = rpcMetrics;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RpcMetrics.RpcMethod rpc = rpcMetrics.method(request.getRequestURI());
+        if (rpc == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Span span = Span.current();
+        RpcEvent rpcEvent = new RpcEvent();
+        rpcEvent.begin();
+        long startedAt = System.nanoTime();
+        CountingRequest countingRequest = new CountingRequest(request);
+        CountingResponse countingResponse = new CountingResponse(response);
+        boolean failed = true;
+        try {
+            filterChain.doFilter(countingRequest, countingResponse);
+            failed = false;
+        } finally {
+            if (!failed && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        record(rpc, countingResponse.getStatus(), startedAt, span, rpcEvent, countingRequest,
+                                countingResponse);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                        record(rpc, HttpServletResponse.SC_GATEWAY_TIMEOUT, startedAt, span, rpcEvent, countingRequest,
+                                countingResponse);
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                        record(rpc, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, startedAt, span, rpcEvent,
+                                countingRequest, countingResponse);
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                // An exception escaping the chain becomes a 500 after this filter has returned
+                record(rpc, failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : countingResponse.getStatus(),
+                        startedAt, span, rpcEvent, countingRequest, countingResponse);
+            }
+        }
+    }
+
+    private void record(RpcMetrics.RpcMethod rpc, int status, long startedAt, Span span, RpcEvent event,
+                        CountingRequest request, CountingResponse response) {
+        rpcMetrics.recordCall(rpc, status, System.nanoTime() - startedAt, request.bytes, response.bytes);
+        span.setAttribute("rpc.system", "connect_rpc");
+        span.setAttribute("rpc.service", rpc.service());
+        span.setAttribute("rpc.method", rpc.method());
+        String code = RpcMetrics.connectCode(status);
+        if (!"ok".equals(code)) {
+            span.setAttribute("rpc.connect_rpc.error_code", code);
+        }
+        span.setAttribute("http.request.body.size", request.bytes);
+        span.setAttribute("http.response.body.size", response.bytes);
+        if (event.shouldCommit()) {
+            event.service = rpc.service();
+            event.method = rpc.method();
+            event.code = code;
+            event.requestBytes = request.bytes;
+            event.responseBytes = response.bytes;
+            event.commit();
+        }
+    }
+
+    private static final class CountingRequest extends HttpServletRequestWrapper {
+
+        private volatile long bytes;
+        private ServletInputStream inputStream;
+
+        CountingRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                ServletInputStream delegate = super.getInputStream();
+                inputStream = new ServletInputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        int b = delegate.read();
+                        if (b >= 0) {
+                            bytes++;
+                        }
+                        return b;
+                    }
+
+                    @Override
+                    public int read(byte[] buffer, int offset, int length) throws IOException {
+                        int read = delegate.read(buffer, offset, length);
+                        if (read > 0) {
+                            bytes += read;
+                        }
+                        return read;
+                    }
+
+                    @Override
+                    public boolean isFinished() {
+                        return delegate.isFinished();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return delegate.isReady();
+                    }
+
+                    @Override
+                    public void setReadListener(ReadListener listener) {
+                        delegate.setReadListener(listener);
+                    }
+                };
+            }
+            return inputStream;
+        }
+    }
+
+    private static final class CountingResponse extends HttpServletResponseWrapper {
+
+        private volatile long bytes;
+        private ServletOutputStream outputStream;
+
+        CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream delegate = super.getOutputStream();
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        delegate.write(b);
+                        bytes++;
+                    }
+
+                    @Override
+                    public void write(byte[] buffer, int offset, int length) throws IOException {
+                        delegate.write(buffer, offset, length);
+                        bytes += length;
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        delegate.close();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return delegate.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener listener) {
+                        delegate.setWriteListener(listener);
+                    }
+                };
+            }
+            return outputStream;
+        }
+    }
+}
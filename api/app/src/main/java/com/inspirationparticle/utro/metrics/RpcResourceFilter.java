@@ -0,0 +1,123 @@
+package com.inspirationparticle.utro.metrics;
+
+import com.inspirationparticle.utro.util.ConnectStream;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accounts the heap each RPC allocates and the CPU time it uses, from the per-thread counters of the
+ * {@link com.sun.management.ThreadMXBean}, and records them as rpc.server.allocated and rpc.server.cpu.
+ * <p>
+ * Only the threads the request runs on are measured: the initial dispatch, on its bulkhead thread when it has one
+ * and including authentication and JSON encoding, and any async dispatch. The body of a streaming response is
+ * written on a task executor thread and is not counted.
+ * <p>
+ * With rpc-resources.headers=true, set by the local and test profiles, the figures are also returned as the
+ * {@link #ALLOCATED_BYTES_HEADER} and {@link #CPU_TIME_HEADER} headers. Unary responses are buffered for that, since
+ * the body is flushed before the encoding has finished.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 11)
+public class RpcResourceFilter extends OncePerRequestFilter {
+
+    public static final String ALLOCATED_BYTES_HEADER = "X-Allocated-Bytes";
+    public static final String CPU_TIME_HEADER = "X-Cpu-Time-Micros";
+
+    private static final String USAGE_ATTRIBUTE = RpcResourceFilter.class.getName() + ".usage";
+
+    private final RpcMetrics rpcMetrics;
+    private final com.sun.management.ThreadMXBean threads;
+    private final boolean headers;
+
+    @Autowired
+    public RpcResourceFilter(RpcMetrics rpcMetrics, @Value("${rpc-resources.headers:false}") boolean headers) {
+        this(rpcMetrics, threadMXBean(), headers);
+    }
+
+    RpcResourceFilter(RpcMetrics rpcMetrics, com.sun.management.ThreadMXBean threads, boolean headers) {
+        this.rpcMetrics = rpcMetrics;
+        this.threads = threads;
+        this.headers = headers;
+    }
+
+    /**
+     * The JVM's thread bean when it measures both allocation and CPU time of the current thread, otherwise null
+     */
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()
+                && threads.isCurrentThreadCpuTimeSupported() && threads.isThreadCpuTimeEnabled()) {
+            return threads;
+        }
+        return null;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        // The async dispatch that writes the response runs on another request thread
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RpcMetrics.RpcMethod rpc = threads == null ? null : rpcMetrics.method(request.getRequestURI());
+        if (rpc == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Usage usage = (Usage) request.getAttribute(USAGE_ATTRIBUTE);
+        if (usage == null) {
+            usage = new Usage();
+            request.setAttribute(USAGE_ATTRIBUTE, usage);
+        }
+        boolean buffered = headers && !isAsyncDispatch(request)
+                && !ConnectStream.CONTENT_TYPE.equals(request.getContentType());
+        HttpServletResponse target = buffered ? new ContentCachingResponseWrapper(response) : response;
+
+        long allocatedAt = threads.getCurrentThreadAllocatedBytes();
+        long cpuAt = threads.getCurrentThreadCpuTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, target);
+            failed = false;
+        } finally {
+            usage.allocatedBytes += threads.getCurrentThreadAllocatedBytes() - allocatedAt;
+            usage.cpuNanos += threads.getCurrentThreadCpuTime() - cpuAt;
+            if (!request.isAsyncStarted()) {
+                rpcMetrics.recordResources(rpc, usage.allocatedBytes, usage.cpuNanos);
+                ContentCachingResponseWrapper cached =
+                        WebUtils.getNativeResponse(target, ContentCachingResponseWrapper.class);
+                if (cached != null && !failed) {
+                    if (!cached.isCommitted()) {
+                        cached.setHeader(ALLOCATED_BYTES_HEADER, Long.toString(usage.allocatedBytes));
+                        cached.setHeader(CPU_TIME_HEADER,
+                                Long.toString(TimeUnit.NANOSECONDS.toMicros(usage.cpuNanos)));
+                    }
+                    cached.copyBodyToResponse();
+                }
+            }
+        }
+    }
+
+    private static final class Usage {
+
+        private long allocatedBytes;
+        private long cpuNanos;
+    }
+}
@@ -0,0 +1,57 @@
+package com.inspirationparticle.utro.metrics;
+
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.Message;
+import io.opentelemetry.api.trace.Span;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Records how many entries list and search RPCs return: the size of the first repeated message field of the
+ * response (therapists, organisations, users, invitations, ...). The count is also added to the server span.
+ */
+@ControllerAdvice
+public class RpcResultCountAdvice implements ResponseBodyAdvice<Object> {
+
+    private final RpcMetrics rpcMetrics;
+
+    public RpcResultCountAdvice(RpcMetrics rpcMetrics) {
+        this.rpcMetrics = rpcMetrics;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body instanceof Message message) {
+            RpcMetrics.RpcMethod rpc = rpcMetrics.method(request.getURI().getPath());
+            Descriptors.FieldDescriptor list = rpc == null ? null : listField(message.getDescriptorForType());
+            if (list != null) {
+                int items = message.getRepeatedFieldCount(list);
+                rpcMetrics.recordItems(rpc, items);
+                Span.current().setAttribute("rpc.response.items", items);
+            }
+        }
+        return body;
+    }
+
+    private static Descriptors.FieldDescriptor listField(Descriptors.Descriptor descriptor) {
+        for (Descriptors.FieldDescriptor field : descriptor.getFields()) {
+            if (field.isRepeated() && !field.isMapField()
+                    && field.getJavaType() == Descriptors.FieldDescriptor.JavaType.MESSAGE) {
+                return field;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.inspirationparticle.utro.organisation;
+
+/**
+ * Outcome of one email in a bulk invitation request; invitation is set only when it was created
+ */
+public record BulkInvitationResult(String email, Outcome outcome, Invitation invitation) {
+
+    public enum Outcome {
+        CREATED,
+        INVALID_EMAIL,
+        DUPLICATE,
+        ALREADY_MEMBER,
+        ALREADY_INVITED
+    }
+
+    static BulkInvitationResult rejected(String email, Outcome outcome) {
+        return new BulkInvitationResult(email, outcome, null);
+    }
+}
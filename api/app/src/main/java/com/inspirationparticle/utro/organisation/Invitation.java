@@ -1,6 +1,7 @@
 package com.inspirationparticle.utro.organisation;
 
 import com.inspirationparticle.utro.user.User;
+import com.inspirationparticle.utro.util.UUIDv7Generator;
 import jakarta.persistence.*;
 import lombok.*;
 import java.time.Instant;
@@ -46,7 +47,7 @@ public class Invitation {
     @PrePersist
     protected void onCreate() {
         if (id == null) {
-            id = UUID.randomUUID();
+            id = UUIDv7Generator.generateUUIDv7();
         }
         if (createdAt == null) {
             createdAt = Instant.now();
@@ -0,0 +1,70 @@
+package com.inspirationparticle.utro.organisation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Marks pending invitations past their expiry as EXPIRED so the pending set stays small.
+ * Each batch is a single auto-committed statement that claims rows with FOR UPDATE SKIP LOCKED,
+ * so sweepers on several replicas take disjoint rows and never wait on each other or on user requests.
+ */
+@Slf4j
+@Component
+public class InvitationExpirySweeper {
+
+    static final String EXPIRE_BATCH_SQL =
+            "UPDATE invitation SET status = 'EXPIRED' " +
+            "WHERE id IN (" +
+            "    SELECT id FROM invitation" +
+            "    WHERE status = 'PENDING' AND expires_at <= now()" +
+            "    ORDER BY expires_at" +
+            "    LIMIT ?" +
+            "    FOR UPDATE SKIP LOCKED" +
+            ")";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Counter expired;
+
+    public InvitationExpirySweeper(JdbcTemplate jdbcTemplate,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${invitation.expiry-sweeper.batch-size:500}") int batchSize,
+                                   @Value("${invitation.expiry-sweeper.max-batches:100}") int maxBatches) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.expired = Counter.builder("invitation.expired")
+                .description("Invitations marked expired by the sweeper")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Expires overdue invitations batch by batch until a batch comes back short or the per-run cap is hit.
+     *
+     * @return number of invitations expired in this run
+     */
+    @Scheduled(fixedDelayString = "${invitation.expiry-sweeper.interval:PT1M}",
+               initialDelayString = "${invitation.expiry-sweeper.interval:PT1M}")
+    public int sweep() {
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int updated = jdbcTemplate.update(EXPIRE_BATCH_SQL, batchSize);
+            total += updated;
+            if (updated < batchSize) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            expired.increment(total);
+            log.info("Expired pending invitations: count={}", total);
+        }
+        return total;
+    }
+}
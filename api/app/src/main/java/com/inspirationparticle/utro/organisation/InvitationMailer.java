@@ -0,0 +1,60 @@
+package com.inspirationparticle.utro.organisation;
+
+import com.inspirationparticle.utro.mail.EmailMessage;
+import com.inspirationparticle.utro.mail.EmailOutbox;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Composes invitation emails and queues them in the outbox within the caller's transaction.
+ * Delivery happens later on the dispatcher, so creating invitations never waits on the mail server.
+ */
+@Component
+public class InvitationMailer {
+
+    private final OrganisationRepository organisationRepository;
+    private final EmailOutbox emailOutbox;
+    private final String webUrl;
+
+    public InvitationMailer(OrganisationRepository organisationRepository,
+                            EmailOutbox emailOutbox,
+                            @Value("${app.web-url:http://localhost:3000}") String webUrl) {
+        this.organisationRepository = organisationRepository;
+        this.emailOutbox = emailOutbox;
+        this.webUrl = webUrl;
+    }
+
+    /**
+     * Queues one email per invitation; all invitations must belong to the same organisation.
+     */
+    public void enqueue(List<Invitation> invitations) {
+        if (invitations.isEmpty()) {
+            return;
+        }
+
+        Organisation stub = invitations.get(0).getOrganisation();
+        String organisationName = organisationRepository.findById(stub.getId())
+                .map(Organisation::getName)
+                .orElse("an organisation");
+
+        List<EmailMessage> messages = new ArrayList<>(invitations.size());
+        for (Invitation invitation : invitations) {
+            messages.add(compose(invitation, organisationName));
+        }
+        emailOutbox.enqueue(messages);
+    }
+
+    private EmailMessage compose(Invitation invitation, String organisationName) {
+        String role = invitation.getMemberType() == MemberType.ADMINISTRATOR ? "an administrator" : "a member";
+        String inviter = invitation.getInvitedBy() != null && invitation.getInvitedBy().getFullName() != null
+                ? invitation.getInvitedBy().getFullName()
+                : "Someone";
+        String body = inviter + " has invited you to join " + organisationName + " on Utro as " + role + ".\n\n"
+                + "Sign in at " + webUrl + " with " + invitation.getEmail() + " to accept or decline the invitation.\n"
+                + "The invitation expires on " + invitation.getExpiresAt() + ".\n";
+        return new EmailMessage(invitation.getEmail(), "You have been invited to join " + organisationName, body);
+    }
+}
@@ -3,14 +3,15 @@ package com.inspirationparticle.utro.organisation;
 import com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass;
 import com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass;
 import com.inspirationparticle.utro.time.TimeMapper;
+import com.inspirationparticle.utro.util.UUIDCodec;
 
 public class InvitationMapper {
     
     public static InvitationOuterClass.Invitation toProto(Invitation invitation) {
         InvitationOuterClass.Invitation.Builder builder = InvitationOuterClass.Invitation.newBuilder()
-                .setId(invitation.getId().toString())
+                .setId(UUIDCodec.format(invitation.getId()))
                 .setEmail(invitation.getEmail())
-                .setOrganisationId(invitation.getOrganisation().getId().toString())
+                .setOrganisationId(UUIDCodec.format(invitation.getOrganisation().getId()))
                 .setMemberType(mapMemberType(invitation.getMemberType()))
                 .setStatus(mapStatus(invitation.getStatus()))
                 .setCreatedAt(TimeMapper.timestampFromInstant(invitation.getCreatedAt()))
@@ -23,6 +24,18 @@ public class InvitationMapper {
         return builder.build();
     }
     
+    public static InvitationOuterClass.CreateInvitationResult toProto(BulkInvitationResult result) {
+        InvitationOuterClass.CreateInvitationResult.Builder builder = InvitationOuterClass.CreateInvitationResult.newBuilder()
+                .setEmail(result.email())
+                .setOutcome(mapOutcome(result.outcome()));
+
+        if (result.invitation() != null) {
+            builder.setInvitation(toProto(result.invitation()));
+        }
+
+        return builder.build();
+    }
+    
     private static OrganisationOuterClass.MemberType mapMemberType(MemberType memberType) {
         return memberType == MemberType.ADMINISTRATOR 
                 ? OrganisationOuterClass.MemberType.MEMBER_TYPE_ADMINISTRATOR 
@@ -38,4 +51,15 @@ public class InvitationMapper {
             default: return InvitationOuterClass.InvitationStatus.INVITATION_STATUS_UNSPECIFIED;
         }
     }
+    
+    private static InvitationOuterClass.CreateInvitationOutcome mapOutcome(BulkInvitationResult.Outcome outcome) {
+        switch (outcome) {
+            case CREATED: return InvitationOuterClass.CreateInvitationOutcome.CREATE_INVITATION_OUTCOME_CREATED;
+            case INVALID_EMAIL: return InvitationOuterClass.CreateInvitationOutcome.CREATE_INVITATION_OUTCOME_INVALID_EMAIL;
+            case DUPLICATE: return InvitationOuterClass.CreateInvitationOutcome.CREATE_INVITATION_OUTCOME_DUPLICATE;
+            case ALREADY_MEMBER: return InvitationOuterClass.CreateInvitationOutcome.CREATE_INVITATION_OUTCOME_ALREADY_MEMBER;
+            case ALREADY_INVITED: return InvitationOuterClass.CreateInvitationOutcome.CREATE_INVITATION_OUTCOME_ALREADY_INVITED;
+            default: return InvitationOuterClass.CreateInvitationOutcome.CREATE_INVITATION_OUTCOME_UNSPECIFIED;
+        }
+    }
 }
@@ -3,6 +3,7 @@ package com.inspirationparticle.utro.organisation;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -10,7 +11,7 @@ import java.util.UUID;
 public interface InvitationRepository extends JpaRepository<Invitation, UUID> {
     
     @Query("SELECT i FROM Invitation i " +
-           "WHERE i.email = :email " +
+           "WHERE lower(i.email) = :email " +
            "AND i.organisation.id = :organisationId " +
            "AND i.status = 'PENDING' " +
            "AND i.expiresAt > CURRENT_TIMESTAMP")
@@ -19,6 +20,16 @@ public interface InvitationRepository extends JpaRepository<Invitation, UUID> {
         @Param("organisationId") UUID organisationId
     );
     
+    @Query("SELECT lower(i.email) FROM Invitation i " +
+           "WHERE i.organisation.id = :organisationId " +
+           "AND lower(i.email) IN :emails " +
+           "AND i.status = 'PENDING' " +
+           "AND i.expiresAt > CURRENT_TIMESTAMP")
+    List<String> findActiveInvitationEmails(
+        @Param("organisationId") UUID organisationId,
+        @Param("emails") Collection<String> emails
+    );
+    
     @Query("SELECT i FROM Invitation i " +
            "WHERE i.email = :email " +
            "AND i.status = 'PENDING' " +
@@ -2,37 +2,55 @@ package com.inspirationparticle.utro.organisation;
 
 import com.inspirationparticle.utro.user.User;
 import com.inspirationparticle.utro.user.UserRepository;
+import com.inspirationparticle.utro.util.UUIDv7Generator;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 @Service
 @RequiredArgsConstructor
 public class InvitationService {
+    public static final int MAX_BULK_INVITATIONS = 1000;
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final String INSERT_INVITATION_SQL =
+            "INSERT INTO invitation (id, email, organisation_id, invited_by, member_type, status, created_at, expires_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
     private final InvitationRepository invitationRepository;
     private final OrganisationMemberRepository organisationMemberRepository;
     private final UserRepository userRepository;
-    private final OrganisationRepository organisationRepository;
+    private final InvitationMailer invitationMailer;
+    private final OrganisationAccess organisationAccess;
+    private final JdbcTemplate jdbcTemplate;
 
     @Transactional
     public Invitation createInvitation(String email, UUID organisationId, MemberType memberType, User inviter) {
+        // Emails are compared case-insensitively, as for bulk invitations
+        String lowerCased = email.toLowerCase(Locale.ROOT);
+
         // Check if user is already a member
-        userRepository.findByEmail(email).ifPresent(user -> {
-            if (organisationMemberRepository.findByUserIdAndOrganisationId(user.getId(), organisationId).isPresent()) {
-                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "User is already a member of this organization");
-            }
-        });
+        if (!organisationMemberRepository.findMemberEmails(organisationId, Set.of(lowerCased)).isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "User is already a member of this organization");
+        }
 
         // Check for existing pending invitation
-        invitationRepository.findActiveInvitation(email, organisationId).ifPresent(invitation -> {
+        invitationRepository.findActiveInvitation(lowerCased, organisationId).ifPresent(invitation -> {
             throw new ResponseStatusException(HttpStatus.CONFLICT, "An active invitation already exists for this email");
         });
 
@@ -53,10 +71,107 @@ public class InvitationService {
                 .build();
 
         invitation = invitationRepository.save(invitation);
-        // Email sending can be implemented later
+        invitationMailer.enqueue(List.of(invitation));
         return invitation;
     }
 
+    /**
+     * Invites every email in one pass: two set-based lookups find existing members and pending invitations,
+     * and the remaining invitations are inserted in a single JDBC batch. Results follow the request order.
+     */
+    @Transactional
+    public List<BulkInvitationResult> createInvitations(List<String> emails, UUID organisationId, MemberType memberType, User inviter) {
+        if (emails.size() > MAX_BULK_INVITATIONS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + MAX_BULK_INVITATIONS + " emails can be invited at once");
+        }
+        if (!organisationAccess.isAdmin(inviter.getId(), organisationId)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only organization administrators can invite in bulk");
+        }
+
+        List<String> normalised = new ArrayList<>(emails.size());
+        Set<String> candidates = new HashSet<>();
+        for (String email : emails) {
+            String trimmed = email == null ? "" : email.trim();
+            normalised.add(trimmed);
+            if (EMAIL_PATTERN.matcher(trimmed).matches()) {
+                candidates.add(trimmed);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return normalised.stream()
+                    .map(email -> BulkInvitationResult.rejected(email, BulkInvitationResult.Outcome.INVALID_EMAIL))
+                    .toList();
+        }
+
+        // Emails are compared case-insensitively, as for duplicates within the request
+        Set<String> lowerCased = new HashSet<>(candidates.size());
+        for (String candidate : candidates) {
+            lowerCased.add(candidate.toLowerCase(Locale.ROOT));
+        }
+        Set<String> members = new HashSet<>(organisationMemberRepository.findMemberEmails(organisationId, lowerCased));
+        Set<String> invited = new HashSet<>(invitationRepository.findActiveInvitationEmails(organisationId, lowerCased));
+
+        Organisation organisation = new Organisation();
+        organisation.setId(organisationId);
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(7, ChronoUnit.DAYS); // 7 days expiration
+
+        List<BulkInvitationResult> results = new ArrayList<>(normalised.size());
+        List<Invitation> created = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (String email : normalised) {
+            if (!candidates.contains(email)) {
+                results.add(BulkInvitationResult.rejected(email, BulkInvitationResult.Outcome.INVALID_EMAIL));
+            } else if (!seen.add(email.toLowerCase(Locale.ROOT))) {
+                results.add(BulkInvitationResult.rejected(email, BulkInvitationResult.Outcome.DUPLICATE));
+            } else if (members.contains(email.toLowerCase(Locale.ROOT))) {
+                results.add(BulkInvitationResult.rejected(email, BulkInvitationResult.Outcome.ALREADY_MEMBER));
+            } else if (invited.contains(email.toLowerCase(Locale.ROOT))) {
+                results.add(BulkInvitationResult.rejected(email, BulkInvitationResult.Outcome.ALREADY_INVITED));
+            } else {
+                Invitation invitation = Invitation.builder()
+                        .email(email)
+                        .organisation(organisation)
+                        .invitedBy(inviter)
+                        .memberType(memberType)
+                        .status(Invitation.InvitationStatus.PENDING)
+                        .createdAt(now)
+                        .expiresAt(expiresAt)
+                        .build();
+                created.add(invitation);
+                results.add(new BulkInvitationResult(email, BulkInvitationResult.Outcome.CREATED, invitation));
+            }
+        }
+
+        insertInvitations(created);
+        invitationMailer.enqueue(created);
+        return results;
+    }
+
+    private void insertInvitations(List<Invitation> invitations) {
+        if (invitations.isEmpty()) {
+            return;
+        }
+
+        UUIDv7Generator.Reservation ids = UUIDv7Generator.reserve(invitations.size());
+        List<Object[]> batch = new ArrayList<>(invitations.size());
+        for (Invitation invitation : invitations) {
+            invitation.setId(ids.next());
+            batch.add(new Object[]{
+                    invitation.getId(),
+                    invitation.getEmail(),
+                    invitation.getOrganisation().getId(),
+                    invitation.getInvitedBy() != null ? invitation.getInvitedBy().getId() : null,
+                    invitation.getMemberType().name(),
+                    invitation.getStatus().name(),
+                    Timestamp.from(invitation.getCreatedAt()),
+                    Timestamp.from(invitation.getExpiresAt())
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_INVITATION_SQL, batch);
+    }
+
     @Transactional
     public Invitation acceptInvitation(UUID invitationId, String email) {
         Invitation invitation = invitationRepository.findById(invitationId)
@@ -87,6 +202,7 @@ public class InvitationService {
         member.setMemberType(invitation.getMemberType());
                 
         organisationMemberRepository.save(member);
+        organisationAccess.membershipsChanged(user.getId());
         
         // Update invitation status
         invitation.setStatus(Invitation.InvitationStatus.ACCEPTED);
@@ -122,12 +238,7 @@ public class InvitationService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Invitation not found"));
                 
         // Check if the user has permission to cancel this invitation
-        boolean isAdmin = organisationMemberRepository
-                .findByUserIdAndOrganisationId(
-                        user.getId(), 
-                        invitation.getOrganisation().getId())
-                .map(member -> member.getMemberType() == MemberType.ADMINISTRATOR)
-                .orElse(false);
+        boolean isAdmin = organisationAccess.isAdmin(user.getId(), invitation.getOrganisation().getId());
                 
         if (!isAdmin) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only organization administrators can cancel invitations");
@@ -144,13 +255,4 @@ public class InvitationService {
     public List<Invitation> getOrganizationInvitations(UUID organisationId) {
         return invitationRepository.findByOrganisationId(organisationId);
     }
-
-    private void sendInvitationEmail(Invitation invitation) {
-        // TODO: Implement email sending logic
-        // Email functionality will be added in a future iteration
-        Organisation org = organisationRepository.findById(invitation.getOrganisation().getId())
-                .orElse(invitation.getOrganisation());
-        System.out.println("Email would be sent to " + invitation.getEmail() + 
-                          " for organization " + org.getName());
-    }
 }
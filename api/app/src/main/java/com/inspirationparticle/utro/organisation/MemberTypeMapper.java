@@ -4,6 +4,9 @@ import com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass;
 
 public class MemberTypeMapper {
     public static OrganisationOuterClass.MemberType protoFromEntity(MemberType memberType) {
+        if (memberType == null) {
+            return OrganisationOuterClass.MemberType.MEMBER_TYPE_UNSPECIFIED;
+        }
         switch (memberType) {
             case ADMINISTRATOR -> {
                 return OrganisationOuterClass.MemberType.MEMBER_TYPE_ADMINISTRATOR;
@@ -0,0 +1,71 @@
+package com.inspirationparticle.utro.organisation;
+
+import com.inspirationparticle.utro.auth.MembershipVersionCache;
+import com.inspirationparticle.utro.auth.TokenMemberships;
+import com.inspirationparticle.utro.user.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Answers organisation role questions for the current request.
+ * Roles come from the access token when it carries up-to-date membership claims for the user,
+ * otherwise from organisation_member.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrganisationAccess {
+    private final OrganisationMemberRepository organisationMemberRepository;
+    private final MembershipVersionCache membershipVersionCache;
+
+    public Optional<MemberType> memberType(UUID userId, UUID organisationId) {
+        Optional<TokenMemberships> token = TokenMemberships.current()
+                .filter(memberships -> memberships.userId().equals(userId))
+                .filter(memberships -> membershipVersionCache.isCurrent(userId, memberships.version()));
+        if (token.isPresent()) {
+            return token.get().memberType(organisationId);
+        }
+
+        return organisationMemberRepository.findByUserIdAndOrganisationId(userId, organisationId)
+                .map(OrganisationMember::getMemberType);
+    }
+
+    public boolean isMember(UUID userId, UUID organisationId) {
+        return memberType(userId, organisationId).isPresent();
+    }
+
+    public boolean isAdmin(UUID userId, UUID organisationId) {
+        return memberType(userId, organisationId)
+                .map(memberType -> memberType == MemberType.ADMINISTRATOR)
+                .orElse(false);
+    }
+
+    /**
+     * Builds the membership claims for a new access token, or returns null when the user
+     * belongs to too many organisations to embed them.
+     */
+    public TokenMemberships tokenMembershipsFor(User user) {
+        List<OrganisationMember> memberships = organisationMemberRepository.findByUserId(user.getId());
+        if (memberships.size() > TokenMemberships.MAX_TOKEN_MEMBERSHIPS) {
+            return null;
+        }
+
+        Map<UUID, MemberType> roles = new HashMap<>();
+        for (OrganisationMember membership : memberships) {
+            roles.put(membership.getOrganisation().getId(), membership.getMemberType());
+        }
+        return new TokenMemberships(user.getId(), user.getMembershipVersion(), roles);
+    }
+
+    /**
+     * Called after memberships of a user change on this instance so stale tokens are detected immediately.
+     */
+    public void membershipsChanged(UUID userId) {
+        membershipVersionCache.invalidate(userId);
+    }
+}
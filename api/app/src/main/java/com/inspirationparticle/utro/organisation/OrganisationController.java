@@ -2,6 +2,7 @@ package com.inspirationparticle.utro.organisation;
 
 import com.inspirationparticle.utro.user.User;
 import com.inspirationparticle.utro.user.UserRepository;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -9,16 +10,23 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.http.HttpStatus;
 
 import com.inspirationparticle.utro.gen.organisation.v1.InvitationOuterClass;
 import com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass;
+import com.inspirationparticle.utro.metrics.QueryBudget;
+import com.inspirationparticle.utro.util.ConnectStream;
+import com.inspirationparticle.utro.util.UUIDCodec;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+@Slf4j
 @RestController
 public class OrganisationController {
 
@@ -37,6 +45,15 @@ public class OrganisationController {
     @Autowired
     private InvitationService invitationService;
 
+    @Autowired
+    private OrganisationAccess organisationAccess;
+
+    @Autowired
+    private OrganisationSearch organisationSearch;
+
+    @Autowired
+    private OrganisationMemberDirectory organisationMemberDirectory;
+
     @PreAuthorize("hasAuthority('ROLE_USER')")
     @PostMapping(value = "/com.inspirationparticle.utro.gen.organisation.v1.InvitationService/CreateInvitation",
                  consumes = "application/json",
@@ -56,7 +73,7 @@ public class OrganisationController {
                 
         Invitation invitation = invitationService.createInvitation(
                 request.getEmail(),
-                UUID.fromString(request.getOrganisationId()),
+                UUIDCodec.parse(request.getOrganisationId()),
                 memberType,
                 inviter
         );
@@ -67,6 +84,35 @@ public class OrganisationController {
                 .build());
     }
     
+    @PreAuthorize("hasAuthority('ROLE_USER')")
+    @PostMapping(value = "/com.inspirationparticle.utro.gen.organisation.v1.InvitationService/CreateInvitations",
+                 consumes = "application/json",
+                 produces = "application/json")
+    public ResponseEntity<InvitationOuterClass.CreateInvitationsResponse> createInvitations(
+            @RequestBody InvitationOuterClass.CreateInvitationsRequest request) {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String username = authentication.getName();
+
+        User inviter = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found"));
+
+        MemberType memberType = request.getMemberType() == OrganisationOuterClass.MemberType.MEMBER_TYPE_ADMINISTRATOR
+                ? MemberType.ADMINISTRATOR
+                : MemberType.MEMBER;
+
+        List<BulkInvitationResult> results = invitationService.createInvitations(
+                request.getEmailsList(),
+                UUIDCodec.parse(request.getOrganisationId()),
+                memberType,
+                inviter
+        );
+
+        return ResponseEntity.ok(InvitationOuterClass.CreateInvitationsResponse.newBuilder()
+                .addAllResults(results.stream().map(InvitationMapper::toProto).toList())
+                .build());
+    }
+    
     @PreAuthorize("hasAuthority('ROLE_USER')")
     @PostMapping(value = "/com.inspirationparticle.utro.gen.organisation.v1.InvitationService/GetInvitations",
                  consumes = "application/json",
@@ -81,18 +127,14 @@ public class OrganisationController {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found"));
                 
-        boolean hasAccess = organisationMemberRepository
-                .findByUserIdAndOrganisationId(
-                        user.getId(), 
-                        UUID.fromString(request.getOrganisationId()))
-                .isPresent();
+        boolean hasAccess = organisationAccess.isMember(user.getId(), UUIDCodec.parse(request.getOrganisationId()));
                 
         if (!hasAccess) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "No access to this organization");
         }
         
         List<Invitation> invitations = invitationService.getOrganizationInvitations(
-                UUID.fromString(request.getOrganisationId()));
+                UUIDCodec.parse(request.getOrganisationId()));
                 
         List<InvitationOuterClass.Invitation> invitationProtos = invitations.stream()
                 .map(InvitationMapper::toProto)
@@ -119,12 +161,12 @@ public class OrganisationController {
         Invitation invitation;
         if (request.getAccept()) {
             invitation = invitationService.acceptInvitation(
-                    UUID.fromString(request.getInvitationId()),
+                    UUIDCodec.parse(request.getInvitationId()),
                     user.getEmail()
             );
         } else {
             invitation = invitationService.declineInvitation(
-                    UUID.fromString(request.getInvitationId()),
+                    UUIDCodec.parse(request.getInvitationId()),
                     user.getEmail()
             );
         }
@@ -148,7 +190,7 @@ public class OrganisationController {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found"));
                 
         invitationService.cancelInvitation(
-                UUID.fromString(request.getInvitationId()),
+                UUIDCodec.parse(request.getInvitationId()),
                 user
         );
         
@@ -157,6 +199,7 @@ public class OrganisationController {
                 .build());
     }
     
+    @QueryBudget(statements = 2)
     @PreAuthorize("hasAuthority('ROLE_USER')")
     @PostMapping(value = "/com.inspirationparticle.utro.gen.organisation.v1.OrganisationService/GetMyOrganisations",
                  consumes = "application/json",
@@ -215,19 +258,22 @@ public class OrganisationController {
                  consumes = "application/json",
                  produces = "application/json")
     public ResponseEntity<OrganisationOuterClass.SearchOrganisationsResponse> searchOrganisations(@RequestBody OrganisationOuterClass.SearchOrganisationsRequest request) {
-        List<Organisation> entities = organisationRepository.searchByNameOrDescription(request.getQuery());
+        OrganisationSearch.Page page = organisationSearch.search(
+                request.getQuery(), request.getPageSize(), request.getPageToken());
 
-        List<OrganisationOuterClass.Organisation> organisations = entities.stream()
+        List<OrganisationOuterClass.Organisation> organisations = page.organisations().stream()
                 .map(orgEntity -> OrganisationMapper.protoFromEntity(orgEntity, null))
                 .collect(Collectors.toList());
 
         OrganisationOuterClass.SearchOrganisationsResponse response = OrganisationOuterClass.SearchOrganisationsResponse.newBuilder()
                 .addAllOrganisations(organisations)
+                .setNextPageToken(page.nextPageToken())
                 .build();
 
         return ResponseEntity.ok(response);
     }
 
+    @QueryBudget(statements = 3)
     @PreAuthorize("hasAuthority('ROLE_USER')")
     @PostMapping(value = "/com.inspirationparticle.utro.gen.organisation.v1.OrganisationService/GetOrganisationUsers",
                  consumes = "application/json", 
@@ -248,40 +294,79 @@ public class OrganisationController {
         // Parse organisation ID
         UUID organisationId;
         try {
-            organisationId = UUID.fromString(request.getOrganisationId());
+            organisationId = UUIDCodec.parse(request.getOrganisationId());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         }
 
-        // Check if user is member of the requested organisation
-        Optional<OrganisationMember> membershipOpt = organisationMemberRepository
-            .findByUserIdAndOrganisationId(user.getId(), organisationId);
-        if (membershipOpt.isEmpty()) {
+        // Only allow admins of the requested organisation to see all users
+        if (!organisationAccess.isAdmin(user.getId(), organisationId)) {
             return ResponseEntity.status(403).build();
         }
 
-        // Only allow admins to see all users
-        OrganisationMember membership = membershipOpt.get();
-        if (membership.getMemberType() != MemberType.ADMINISTRATOR) {
-            return ResponseEntity.status(403).build();
-        }
+        OrganisationMemberDirectory.Page page = organisationMemberDirectory.page(
+                organisationId, request.getPageSize(), request.getPageToken());
 
-        // Get all users in the organisation
-        List<OrganisationMember> allMembers = organisationMemberRepository
-            .findByOrganisationIdWithUser(organisationId);
-        
-        List<OrganisationOuterClass.User> users = allMembers.stream()
+        List<OrganisationOuterClass.User> users = page.members().stream()
             .map(member -> OrganisationMapper.userProtoFromMember(member))
             .collect(Collectors.toList());
 
         OrganisationOuterClass.GetOrganisationUsersResponse response = 
             OrganisationOuterClass.GetOrganisationUsersResponse.newBuilder()
                 .addAllUsers(users)
+                .setNextPageToken(page.nextPageToken())
                 .build();
 
         return ResponseEntity.ok(response);
     }
 
+    @PreAuthorize("hasAuthority('ROLE_USER')")
+    @PostMapping(value = "/com.inspirationparticle.utro.gen.organisation.v1.OrganisationService/StreamOrganisationUsers",
+                 consumes = ConnectStream.CONTENT_TYPE,
+                 produces = ConnectStream.CONTENT_TYPE)
+    public ResponseEntity<StreamingResponseBody> streamOrganisationUsers(@RequestBody byte[] body) {
+        OrganisationOuterClass.StreamOrganisationUsersRequest request = ConnectStream.parseRequest(
+                body, OrganisationOuterClass.StreamOrganisationUsersRequest.newBuilder()).build();
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        User user = userRepository.findByUsername(authentication.getName())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "User not found"));
+
+        UUID organisationId;
+        try {
+            organisationId = UUIDCodec.parse(request.getOrganisationId());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid organisation ID");
+        }
+
+        if (!organisationAccess.isAdmin(user.getId(), organisationId)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only administrators can list members");
+        }
+
+        // Members are written as the cursor yields them; failures after the first byte end the stream with an error
+        StreamingResponseBody stream = out -> {
+            ConnectStream connect = new ConnectStream(out);
+            try {
+                organisationMemberDirectory.forEachMember(organisationId, member -> {
+                    try {
+                        connect.send(OrganisationMapper.userProtoFromMember(member));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                log.debug("Client went away while streaming members of organisation {}", organisationId);
+                return;
+            } catch (RuntimeException e) {
+                log.error("Failed to stream members of organisation {}", organisationId, e);
+                connect.fail("internal", "Failed to list organisation members");
+                return;
+            }
+            connect.complete();
+        };
+        return ResponseEntity.ok().contentType(ConnectStream.MEDIA_TYPE).body(stream);
+    }
+
     @PreAuthorize("hasAuthority('ROLE_USER')")
     @PostMapping(value = "/com.inspirationparticle.utro.gen.organisation.v1.OrganisationService/RemoveOrganisationMember",
                  consumes = "application/json",
@@ -303,17 +388,14 @@ public class OrganisationController {
         UUID organisationId;
         UUID userIdToRemove;
         try {
-            organisationId = UUID.fromString(request.getOrganisationId());
-            userIdToRemove = UUID.fromString(request.getUserId());
+            organisationId = UUIDCodec.parse(request.getOrganisationId());
+            userIdToRemove = UUIDCodec.parse(request.getUserId());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         }
 
         // Check if requesting user is admin of the organisation
-        Optional<OrganisationMember> requestingUserMembership = organisationMemberRepository
-            .findByUserIdAndOrganisationId(user.getId(), organisationId);
-        if (requestingUserMembership.isEmpty() || 
-            requestingUserMembership.get().getMemberType() != MemberType.ADMINISTRATOR) {
+        if (!organisationAccess.isAdmin(user.getId(), organisationId)) {
             return ResponseEntity.status(403).build();
         }
 
@@ -331,6 +413,7 @@ public class OrganisationController {
 
         // Remove the member
         organisationMemberRepository.delete(memberToRemove.get());
+        organisationAccess.membershipsChanged(userIdToRemove);
 
         OrganisationOuterClass.RemoveOrganisationMemberResponse response = 
             OrganisationOuterClass.RemoveOrganisationMemberResponse.newBuilder()
@@ -2,13 +2,14 @@ package com.inspirationparticle.utro.organisation;
 
 import com.inspirationparticle.utro.gen.organisation.v1.OrganisationOuterClass;
 import com.inspirationparticle.utro.time.TimeMapper;
+import com.inspirationparticle.utro.util.UUIDCodec;
 
 public class OrganisationMapper {
     public static OrganisationOuterClass.Organisation protoFromEntity(Organisation e, MemberType mt) {
         return OrganisationOuterClass.Organisation.newBuilder()
-                .setId(e.getId().toString())
+                .setId(UUIDCodec.format(e.getId()))
                 .setName(e.getName())
-                .setDescription(e.getDescription())
+                .setDescription(e.getDescription() != null ? e.getDescription() : "")
                 .setCreatedAt(TimeMapper.timestampFromInstant(e.getCreatedAt()))
                 .setUpdatedAt(TimeMapper.timestampFromInstant(e.getUpdatedAt()))
                 .setMemberType(MemberTypeMapper.protoFromEntity(mt)).build();
@@ -23,7 +24,7 @@ public class OrganisationMapper {
 
     public static OrganisationOuterClass.User userProtoFromMember(OrganisationMember member) {
         return OrganisationOuterClass.User.newBuilder()
-                .setId(member.getUser().getId().toString())
+                .setId(UUIDCodec.format(member.getUser().getId()))
                 .setUsername(member.getUser().getUsername())
                 .setFullName(member.getUser().getFullName() != null ? member.getUser().getFullName() : "")
                 .setEmail(member.getUser().getEmail() != null ? member.getUser().getEmail() : "")
@@ -36,7 +37,7 @@ public class OrganisationMapper {
     
     public static OrganisationOuterClass.User userProtoFromUser(com.inspirationparticle.utro.user.User user) {
         return OrganisationOuterClass.User.newBuilder()
-                .setId(user.getId().toString())
+                .setId(UUIDCodec.format(user.getId()))
                 .setUsername(user.getUsername())
                 .setFullName(user.getFullName() != null ? user.getFullName() : "")
                 .setEmail(user.getEmail() != null ? user.getEmail() : "")
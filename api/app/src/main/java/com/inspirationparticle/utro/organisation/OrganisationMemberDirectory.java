@@ -0,0 +1,164 @@
+package com.inspirationparticle.utro.organisation;
+
+import com.inspirationparticle.utro.user.User;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Member listings for an organisation, ordered by (full name, username, user id) with unnamed members last.
+ * Pages use a keyset cursor on that tuple, so every page costs the same regardless of depth; the stream
+ * reads the whole membership through a forward-only cursor and hands each member over as it arrives,
+ * so neither holds more than a page or a fetch batch in memory.
+ */
+@Repository
+public class OrganisationMemberDirectory {
+
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 500;
+    static final int STREAM_FETCH_SIZE = 500;
+
+    private static final String SELECT =
+            "SELECT u.id, u.username, u.full_name, u.email, u.created_at, u.updated_at, om.member_type, om.joined_at" +
+            " FROM organisation_member om JOIN \"user\" u ON u.id = om.user_id" +
+            " WHERE om.organisation_id = ?";
+    private static final String AFTER =
+            " AND (u.full_name IS NULL, coalesce(u.full_name, ''), u.username, u.id) > (?, ?, ?, ?)";
+    private static final String ORDER = " ORDER BY u.full_name IS NULL, coalesce(u.full_name, ''), u.username, u.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public OrganisationMemberDirectory(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public record Page(List<OrganisationMember> members, String nextPageToken) {
+    }
+
+    public Page page(UUID organisationId, int requestedPageSize, String pageToken) {
+        int pageSize = requestedPageSize <= 0 ? DEFAULT_PAGE_SIZE : Math.min(requestedPageSize, MAX_PAGE_SIZE);
+        Cursor after = pageToken == null || pageToken.isEmpty() ? null : Cursor.decode(pageToken);
+
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder(SELECT);
+        params.add(organisationId);
+        if (after != null) {
+            sql.append(AFTER);
+            params.add(after.fullName() == null);
+            params.add(after.fullName() == null ? "" : after.fullName());
+            params.add(after.username());
+            params.add(after.id());
+        }
+        sql.append(ORDER).append(" LIMIT ?");
+        params.add(pageSize + 1);
+
+        List<OrganisationMember> members = jdbcTemplate.query(sql.toString(),
+                (rs, rowNum) -> mapMember(rs), params.toArray());
+
+        String nextPageToken = "";
+        if (members.size() > pageSize) {
+            members = members.subList(0, pageSize);
+            User last = members.get(pageSize - 1).getUser();
+            nextPageToken = new Cursor(last.getFullName(), last.getUsername(), last.getId()).encode();
+        }
+        return new Page(members, nextPageToken);
+    }
+
+    /**
+     * Hand every member to the consumer in listing order.
+     * Runs in a read-only transaction so the driver can use a server-side cursor; the connection is
+     * held until the consumer has seen the last member, and an exception from the consumer ends the read.
+     */
+    public void forEachMember(UUID organisationId, Consumer<OrganisationMember> consumer) {
+        readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(SELECT + ORDER,
+                            ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(STREAM_FETCH_SIZE);
+                    statement.setObject(1, organisationId);
+                    return statement;
+                },
+                (RowCallbackHandler) rs -> consumer.accept(mapMember(rs))));
+    }
+
+    private static OrganisationMember mapMember(ResultSet rs) throws SQLException {
+        User user = new User();
+        user.setId(rs.getObject("id", UUID.class));
+        user.setUsername(rs.getString("username"));
+        user.setFullName(rs.getString("full_name"));
+        user.setEmail(rs.getString("email"));
+        user.setCreatedAt(toInstant(rs.getTimestamp("created_at")));
+        user.setUpdatedAt(toInstant(rs.getTimestamp("updated_at")));
+
+        OrganisationMember member = new OrganisationMember();
+        member.setUser(user);
+        member.setMemberType(MemberType.valueOf(rs.getString("member_type")));
+        member.setJoinedAt(toInstant(rs.getTimestamp("joined_at")));
+        return member;
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+
+    /**
+     * Opaque page token: the sort key of the last member on the previous page, a null full name
+     * encoded as length -1
+     */
+    record Cursor(String fullName, String username, UUID id) {
+
+        String encode() {
+            byte[] fullNameBytes = fullName == null ? new byte[0] : fullName.getBytes(StandardCharsets.UTF_8);
+            byte[] usernameBytes = username.getBytes(StandardCharsets.UTF_8);
+            ByteBuffer buffer = ByteBuffer.allocate(20 + fullNameBytes.length + usernameBytes.length)
+                    .putLong(id.getMostSignificantBits())
+                    .putLong(id.getLeastSignificantBits())
+                    .putInt(fullName == null ? -1 : fullNameBytes.length)
+                    .put(fullNameBytes)
+                    .put(usernameBytes);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+        }
+
+        static Cursor decode(String token) {
+            byte[] bytes;
+            try {
+                bytes = Base64.getUrlDecoder().decode(token);
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid page token");
+            }
+            if (bytes.length < 20) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid page token");
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            UUID id = new UUID(buffer.getLong(), buffer.getLong());
+            int fullNameLength = buffer.getInt();
+            if (fullNameLength < -1 || fullNameLength > buffer.remaining()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid page token");
+            }
+            String fullName = fullNameLength < 0 ? null : new String(bytes, 20, fullNameLength, StandardCharsets.UTF_8);
+            int usernameOffset = 20 + Math.max(fullNameLength, 0);
+            String username = new String(bytes, usernameOffset, bytes.length - usernameOffset, StandardCharsets.UTF_8);
+            return new Cursor(fullName, username, id);
+        }
+    }
+}
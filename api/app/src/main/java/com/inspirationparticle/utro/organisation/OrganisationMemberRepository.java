@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,9 +25,10 @@ public interface OrganisationMemberRepository extends JpaRepository<Organisation
 
     Optional<OrganisationMember> findByUserIdAndOrganisationId(UUID userId, UUID organisationId);
     
-    @Query("SELECT om FROM OrganisationMember om " +
-           "JOIN FETCH om.user u " +
+    @Query("SELECT lower(u.email) FROM OrganisationMember om " +
+           "JOIN om.user u " +
            "WHERE om.organisation.id = :organisationId " +
-           "ORDER BY u.fullName, u.username")
-    List<OrganisationMember> findByOrganisationIdWithUser(@Param("organisationId") UUID organisationId);
+           "AND lower(u.email) IN :emails")
+    List<String> findMemberEmails(@Param("organisationId") UUID organisationId,
+                                  @Param("emails") Collection<String> emails);
 }
\ No newline at end of file
@@ -0,0 +1,139 @@
+package com.inspirationparticle.utro.organisation;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Ranked, paginated organisation search.
+ * Queries of three or more characters match names and descriptions by substring or trigram word similarity,
+ * both served by pg_trgm GIN indexes; shorter queries only match name prefixes. Results are ordered by rank
+ * and paged with a keyset cursor on (rank, id), which keeps pages stable without an OFFSET. The rank is computed,
+ * so no index can serve the order: every page ranks and sorts all matches, and its cost grows with the number of
+ * matches rather than with the page size or depth.
+ */
+@Repository
+public class OrganisationSearch {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_QUERY_LENGTH = 100;
+    static final int MIN_TRIGRAM_QUERY_LENGTH = 3;
+
+    // Name matches weigh double; an exact or prefix name match lifts a result above fuzzy ones
+    private static final String RANK =
+            "CAST(word_similarity(?, o.name) * 2 + word_similarity(?, coalesce(o.description, ''))" +
+            " + CASE WHEN lower(o.name) = lower(?) THEN 2 WHEN lower(o.name) LIKE ? THEN 1 ELSE 0 END" +
+            " AS double precision)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrganisationSearch(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public record Page(List<Organisation> organisations, String nextPageToken) {
+    }
+
+    public Page search(String rawQuery, int requestedPageSize, String pageToken) {
+        String query = rawQuery == null ? "" : rawQuery.trim();
+        if (query.length() > MAX_QUERY_LENGTH) {
+            query = query.substring(0, MAX_QUERY_LENGTH);
+        }
+        int pageSize = requestedPageSize <= 0 ? DEFAULT_PAGE_SIZE : Math.min(requestedPageSize, MAX_PAGE_SIZE);
+        Cursor after = pageToken == null || pageToken.isEmpty() ? null : Cursor.decode(pageToken);
+
+        String prefixPattern = escapeLike(query.toLowerCase(Locale.ROOT)) + "%";
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT * FROM (SELECT o.id, o.name, o.description, o.created_at, o.updated_at, ");
+        if (query.isEmpty()) {
+            sql.append("CAST(0 AS double precision) AS rank FROM organisation o");
+        } else {
+            sql.append(RANK).append(" AS rank FROM organisation o WHERE ");
+            params.add(query);
+            params.add(query);
+            params.add(query);
+            params.add(prefixPattern);
+            if (query.length() >= MIN_TRIGRAM_QUERY_LENGTH) {
+                String substringPattern = "%" + escapeLike(query) + "%";
+                sql.append("o.name ILIKE ? OR o.description ILIKE ? OR ? <% o.name");
+                params.add(substringPattern);
+                params.add(substringPattern);
+                params.add(query);
+            } else {
+                sql.append("lower(o.name) LIKE ?");
+                params.add(prefixPattern);
+            }
+        }
+        sql.append(") ranked");
+        if (after != null) {
+            sql.append(" WHERE rank < ? OR (rank = ? AND id > ?)");
+            params.add(after.rank());
+            params.add(after.rank());
+            params.add(after.id());
+        }
+        sql.append(" ORDER BY rank DESC, id LIMIT ?");
+        params.add(pageSize + 1);
+
+        List<Ranked> rows = jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new Ranked(
+                Organisation.builder()
+                        .id(rs.getObject("id", UUID.class))
+                        .name(rs.getString("name"))
+                        .description(rs.getString("description"))
+                        .createdAt(rs.getTimestamp("created_at").toInstant())
+                        .updatedAt(rs.getTimestamp("updated_at").toInstant())
+                        .build(),
+                rs.getDouble("rank")), params.toArray());
+
+        String nextPageToken = "";
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            Ranked last = rows.get(pageSize - 1);
+            nextPageToken = new Cursor(last.rank(), last.organisation().getId()).encode();
+        }
+        return new Page(rows.stream().map(Ranked::organisation).toList(), nextPageToken);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private record Ranked(Organisation organisation, double rank) {
+    }
+
+    /**
+     * Opaque page token: the rank and id of the last organisation on the previous page
+     */
+    record Cursor(double rank, UUID id) {
+
+        String encode() {
+            ByteBuffer buffer = ByteBuffer.allocate(24)
+                    .putDouble(rank)
+                    .putLong(id.getMostSignificantBits())
+                    .putLong(id.getLeastSignificantBits());
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+        }
+
+        static Cursor decode(String token) {
+            byte[] bytes;
+            try {
+                bytes = Base64.getUrlDecoder().decode(token);
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid page token");
+            }
+            if (bytes.length != 24) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid page token");
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            return new Cursor(buffer.getDouble(), new UUID(buffer.getLong(), buffer.getLong()));
+        }
+    }
+}
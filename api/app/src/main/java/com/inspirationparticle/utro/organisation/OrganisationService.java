@@ -11,6 +11,7 @@ import org.springframework.validation.annotation.Validated;
 public class OrganisationService {
     private final OrganisationRepository organisationRepository;
     private final OrganisationMemberRepository organisationMemberRepository;
+    private final OrganisationAccess organisationAccess;
 
     @Transactional
     public Organisation createOrganisation(@Validated Organisation org, User createdBy) {
@@ -27,6 +28,7 @@ public class OrganisationService {
         membership.setOrganisation(org);
         membership.setMemberType(MemberType.ADMINISTRATOR);
         organisationMemberRepository.save(membership);
+        organisationAccess.membershipsChanged(createdBy.getId());
 
         return org;
     }
@@ -0,0 +1,150 @@
+package com.inspirationparticle.utro.profiling;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JDK Flight Recorder on demand, one recording at a time:
+ * <pre>
+ * POST   /actuator/flightrecorder {"settings": "profile", "duration": "2m"}   start; settings default or profile
+ * GET    /actuator/flightrecorder                                            recordings and their state
+ * GET    /actuator/flightrecorder/{id}                                       download what it has recorded so far
+ * POST   /actuator/flightrecorder/{id}                                       stop it
+ * DELETE /actuator/flightrecorder/{id}                                       stop it and discard the data
+ * </pre>
+ * A recording stops by itself after its duration (default 5 minutes) and is kept until it is deleted; starting one
+ * when {@link #MAX_KEPT} are kept discards the oldest, so at most that many ever take up disk space.
+ */
+@Component
+@Endpoint(id = "flightrecorder")
+public class FlightRecorderEndpoint {
+
+    private static final Duration DEFAULT_DURATION = Duration.ofMinutes(5);
+    private static final long MAX_SIZE_BYTES = 256L * 1024 * 1024;
+    static final int MAX_KEPT = 3;
+
+    public record RecordingInfo(long id, String settings, String state, Instant startTime, Duration duration) {
+    }
+
+    private record OnDemand(Recording recording, String settings) {
+
+        RecordingInfo info() {
+            return new RecordingInfo(recording.getId(), settings, recording.getState().name(),
+                    recording.getStartTime(), recording.getDuration());
+        }
+    }
+
+    private final Map<Long, OnDemand> recordings = new ConcurrentHashMap<>();
+
+    @ReadOperation
+    public List<RecordingInfo> recordings() {
+        return recordings.values().stream().map(OnDemand::info).toList();
+    }
+
+    @WriteOperation
+    public synchronized WebEndpointResponse<Object> start(@Nullable String settings, @Nullable Duration duration) {
+        if (recordings.values().stream().anyMatch(r -> r.recording().getState() == RecordingState.RUNNING)) {
+            return new WebEndpointResponse<>("A recording is already running", WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        String name = settings == null ? "default" : settings;
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(name);
+        } catch (IOException | ParseException e) {
+            return new WebEndpointResponse<>("Unknown settings: " + name + ", use default or profile",
+                    WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+
+        while (recordings.size() >= MAX_KEPT) {
+            recordings.keySet().stream().min(Long::compare)
+                    .map(recordings::remove)
+                    .ifPresent(oldest -> oldest.recording().close());
+        }
+
+        Recording recording = new Recording(configuration);
+        recording.setName("utro-on-demand");
+        recording.setToDisk(true);
+        recording.setMaxSize(MAX_SIZE_BYTES);
+        recording.setDuration(duration == null ? DEFAULT_DURATION : duration);
+        recording.start();
+        OnDemand onDemand = new OnDemand(recording, name);
+        recordings.put(recording.getId(), onDemand);
+        return new WebEndpointResponse<>(onDemand.info());
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized WebEndpointResponse<Resource> download(@Selector long id) {
+        OnDemand onDemand = recordings.get(id);
+        if (onDemand == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        Path file = null;
+        try {
+            file = Files.createTempFile("utro-" + id + "-", ".jfr");
+            // A copy of the data so far; a running recording keeps recording
+            onDemand.recording().dump(file);
+            // The file goes away once the response has been streamed
+            return new WebEndpointResponse<>(new InputStreamResource(
+                    Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE)));
+        } catch (IOException e) {
+            deleteQuietly(file);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @WriteOperation
+    public synchronized WebEndpointResponse<RecordingInfo> stop(@Selector long id) {
+        OnDemand onDemand = recordings.get(id);
+        if (onDemand == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        if (onDemand.recording().getState() == RecordingState.RUNNING) {
+            onDemand.recording().stop();
+        }
+        return new WebEndpointResponse<>(onDemand.info());
+    }
+
+    @DeleteOperation
+    public synchronized WebEndpointResponse<RecordingInfo> delete(@Selector long id) {
+        OnDemand onDemand = recordings.remove(id);
+        if (onDemand == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        RecordingInfo info = onDemand.info();
+        onDemand.recording().close();
+        return new WebEndpointResponse<>(info);
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // a leftover in the temp directory
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.inspirationparticle.utro.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.inspirationparticle.utro.JwtValidation")
+@Label("JWT Validation")
+@Category({"Utro", "Security"})
+@StackTrace(false)
+public class JwtValidationEvent extends jdk.jfr.Event {
+
+    /**
+     * valid, revoked or invalid
+     */
+    @Label("Outcome")
+    public String outcome;
+}
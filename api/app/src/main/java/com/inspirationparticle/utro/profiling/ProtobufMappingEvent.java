@@ -0,0 +1,16 @@
+package com.inspirationparticle.utro.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.inspirationparticle.utro.ProtobufMapping")
+@Label("Protobuf Mapping")
+@Category({"Utro", "Protobuf"})
+@StackTrace(false)
+public class ProtobufMappingEvent extends jdk.jfr.Event {
+
+    @Label("Message")
+    public String message;
+}
@@ -0,0 +1,22 @@
+package com.inspirationparticle.utro.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.inspirationparticle.utro.ProtobufSerialization")
+@Label("Protobuf Serialization")
+@Category({"Utro", "Protobuf"})
+@StackTrace(false)
+public class ProtobufSerializationEvent extends jdk.jfr.Event {
+
+    @Label("Message")
+    public String message;
+
+    /**
+     * read for request bodies, write for responses
+     */
+    @Label("Direction")
+    public String direction;
+}
@@ -0,0 +1,33 @@
+package com.inspirationparticle.utro.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.inspirationparticle.utro.Rpc")
+@Label("RPC")
+@Description("A Connect RPC, from the request entering the filter chain to the response being written")
+@Category({"Utro", "API"})
+@StackTrace(false)
+public class RpcEvent extends jdk.jfr.Event {
+
+    @Label("Service")
+    public String service;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Code")
+    public String code;
+
+    @Label("Request Size")
+    @DataAmount
+    public long requestBytes;
+
+    @Label("Response Size")
+    @DataAmount
+    public long responseBytes;
+}
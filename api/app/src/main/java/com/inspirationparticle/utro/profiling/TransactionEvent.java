@@ -0,0 +1,23 @@
+package com.inspirationparticle.utro.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.inspirationparticle.utro.Transaction")
+@Label("Database Transaction")
+@Category({"Utro", "Database"})
+public class TransactionEvent extends jdk.jfr.Event {
+
+    @Label("Name")
+    public String name;
+
+    @Label("Read Only")
+    public boolean readOnly;
+
+    /**
+     * commit, rollback, or begin-failed / commit-failed / rollback-failed
+     */
+    @Label("Outcome")
+    public String outcome;
+}
@@ -0,0 +1,58 @@
+package com.inspirationparticle.utro.profiling;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Records each transaction the transaction manager begins as a {@link TransactionEvent}, from begin to commit or
+ * rollback. Spring Boot registers the listener with the auto-configured transaction manager; participating
+ * transactions do not start an event of their own.
+ */
+@Component
+public class TransactionEventListener implements TransactionExecutionListener {
+
+    // Suspended outer transactions stay below the REQUIRES_NEW ones started inside them
+    private static final ThreadLocal<Deque<TransactionEvent>> OPEN = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void beforeBegin(TransactionExecution transaction) {
+        TransactionEvent event = new TransactionEvent();
+        event.begin();
+        OPEN.get().push(event);
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (beginFailure != null) {
+            end(transaction, "begin-failed");
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        end(transaction, commitFailure == null ? "commit" : "commit-failed");
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
+        end(transaction, rollbackFailure == null ? "rollback" : "rollback-failed");
+    }
+
+    private static void end(TransactionExecution transaction, String outcome) {
+        Deque<TransactionEvent> open = OPEN.get();
+        TransactionEvent event = open.poll();
+        if (open.isEmpty()) {
+            OPEN.remove();
+        }
+        if (event != null && event.shouldCommit()) {
+            event.name = transaction.getTransactionName();
+            event.readOnly = transaction.isReadOnly();
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+}
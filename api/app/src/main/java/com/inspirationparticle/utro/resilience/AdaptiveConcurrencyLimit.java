@@ -0,0 +1,102 @@
+package com.inspirationparticle.utro.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that follows the measured latency, in the manner of the gradient limiters of Netflix'
+ * concurrency-limits.
+ * <p>
+ * A long-term average of the latency stands for what a call costs when nothing queues. Each completed call
+ * compares its latency with that average: while it is within tolerance times the average the limit grows by
+ * about its square root, the headroom queueing needs to be noticed; beyond it the limit shrinks in proportion,
+ * by at most half. When the database slows down, latency rises first and the limit follows it down before every
+ * request thread is waiting on the connection pool.
+ * <p>
+ * {@link #tryAcquire()} and {@link #release(long, boolean)} are lock-free; updating the limit takes a lock.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    // Average over about this many calls; once the latency stays at a new level the average catches up with it
+    private static final int LONG_WINDOW = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longRttNanos;
+
+    /**
+     * @param tolerance how much slower than the long-term average a call may be before the limit shrinks, e.g. 2.0
+     * @param smoothing weight of each new estimate against the current limit, between 0 and 1
+     */
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance,
+                                    double smoothing) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * Takes a slot unless the limit is reached
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Gives the slot back. Calls that are not a latency sample, such as streams whose duration depends on the
+     * client, release with sample set to false.
+     */
+    public void release(long rttNanos, boolean sample) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        if (sample) {
+            onSample(rttNanos, inFlightBefore);
+        }
+    }
+
+    synchronized void onSample(long rttNanos, int inFlightAtEnd) {
+        double rtt = Math.max(1, rttNanos);
+        if (longRttNanos == 0) {
+            longRttNanos = rtt;
+        } else {
+            longRttNanos += (rtt - longRttNanos) * 2 / (LONG_WINDOW + 1);
+        }
+        // Once the slowdown is over, let the average come back down faster than it went up
+        if (longRttNanos / rtt > 2) {
+            longRttNanos *= 0.95;
+        }
+        // A limit that is not used says nothing about the capacity above it
+        if (inFlightAtEnd < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / rtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+}
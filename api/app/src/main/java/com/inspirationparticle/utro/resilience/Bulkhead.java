@@ -0,0 +1,164 @@
+package com.inspirationparticle.utro.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The bounded pool of threads one {@link RpcGroup} runs on, fed from a bounded queue. Work that does not fit in
+ * the queue, or that does not get a thread within the queue timeout, is turned away instead of run late.
+ * <p>
+ * The threads belong to their group for good, so {@link #current()} tells any code on them, such as
+ * {@link PartitionedDataSource}, which group it is working for.
+ */
+public class Bulkhead {
+
+    private static final ThreadLocal<RpcGroup> CURRENT = new ThreadLocal<>();
+
+    private final RpcGroup group;
+    private final ThreadPoolExecutor executor;
+    private final long queueTimeoutNanos;
+    private final Timer queueWait;
+    private final Counter rejections;
+
+    public Bulkhead(RpcGroup group, int threads, int queueCapacity, long queueTimeoutMillis,
+                    MeterRegistry meterRegistry) {
+        this.group = group;
+        this.queueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(queueTimeoutMillis);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(() -> {
+                        CURRENT.set(group);
+                        runnable.run();
+                    }, "bulkhead-" + group.key() + "-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.queueWait = Timer.builder("bulkhead.queue.wait")
+                .description("Time requests of an RPC group waited for one of its threads")
+                .tag("group", group.key())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejections = Counter.builder("bulkhead.rejected")
+                .description("Requests rejected because their RPC group's queue was full or they waited too long")
+                .tag("group", group.key())
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Requests of an RPC group waiting for a thread")
+                .tag("group", group.key())
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Requests of an RPC group running on its threads")
+                .tag("group", group.key())
+                .register(meterRegistry);
+    }
+
+    /**
+     * The group whose bulkhead the calling thread belongs to, or null on any other thread
+     */
+    public static RpcGroup current() {
+        return CURRENT.get();
+    }
+
+    public RpcGroup group() {
+        return group;
+    }
+
+    /**
+     * Runs the task on one of the group's threads and waits for it to finish. Whatever the task throws is
+     * rethrown here.
+     *
+     * @return false, without running the task, if the queue was full or no thread was free within the queue timeout
+     */
+    public boolean run(Task task) throws Exception {
+        long queuedAt = System.nanoTime();
+        // Claimed by whichever comes first: a thread starting the task, or the caller giving up on it
+        AtomicBoolean claimed = new AtomicBoolean();
+        Future<?> result;
+        try {
+            result = executor.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return null;
+                }
+                queueWait.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                task.run();
+                return null;
+            });
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            return false;
+        }
+
+        try {
+            try {
+                result.get(queueTimeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (claimed.compareAndSet(false, true)) {
+                    queueWait.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                    rejections.increment();
+                    return false;
+                }
+                // Already running, it only has to finish
+                result.get();
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Queues the task for one of the group's threads without waiting for it, for work that outlives the request
+     * thread, such as the body of a streaming response. A queued task waits for a thread however long it takes.
+     *
+     * @throws RejectedExecutionException if the queue is full
+     */
+    public void execute(Runnable task) {
+        long queuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                queueWait.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                task.run();
+            });
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw e;
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @FunctionalInterface
+    public interface Task {
+
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,107 @@
+package com.inspirationparticle.utro.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.context.Context;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Runs each {@link RpcGroup} on its own {@link Bulkhead}, so that a slow export or a login storm works on its own
+ * threads and database connections and profile reads keep theirs. The rest of the filter chain, Spring Security
+ * and the handler run on a thread of the request's group while the request thread waits, in the way
+ * {@link com.inspirationparticle.utro.auth.CredentialVerifier} runs password checks; a request that does not get
+ * a thread in time is answered with 503 and Retry-After.
+ * <p>
+ * A group therefore holds at most its threads plus its queue capacity of the server's request threads, which
+ * leaves the rest to the other groups. Runs right behind the tracing filter, so that the RPC metrics and the
+ * concurrency limit measure the work on the bulkhead thread.
+ * <p>
+ * A handler that returns a streaming body finishes before the body is written. {@link BulkheadTaskExecutor}, the
+ * MVC async executor, queues the body on the bulkhead of the thread that started it, so it also runs on the
+ * group's threads and connections.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 9)
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    private final RpcGroups rpcGroups;
+    private final boolean enabled;
+    private final String retryAfterSeconds;
+    private final Map<RpcGroup, Bulkhead> bulkheads = new EnumMap<>(RpcGroup.class);
+
+    public BulkheadFilter(RpcGroups rpcGroups, MeterRegistry meterRegistry, Environment environment,
+                          @Value("${bulkhead.enabled:true}") boolean enabled,
+                          @Value("${bulkhead.retry-after-seconds:1}") int retryAfterSeconds) {
+        this.rpcGroups = rpcGroups;
+        this.enabled = enabled;
+        this.retryAfterSeconds = Integer.toString(retryAfterSeconds);
+        if (!enabled) {
+            return;
+        }
+        for (RpcGroup group : RpcGroup.values()) {
+            String prefix = "bulkhead.groups." + group.key() + ".";
+            bulkheads.put(group, new Bulkhead(group,
+                    environment.getProperty(prefix + "threads", Integer.class, 16),
+                    environment.getProperty(prefix + "queue-capacity", Integer.class, 16),
+                    environment.getProperty(prefix + "queue-timeout-millis", Long.class, 2000L),
+                    meterRegistry));
+        }
+    }
+
+    /**
+     * The group's bulkhead, or null when bulkheads are disabled
+     */
+    public Bulkhead bulkhead(RpcGroup group) {
+        return bulkheads.get(group);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RpcGroup group = rpcGroups.groupOf(request.getRequestURI());
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Context context = Context.current();
+        boolean ran;
+        try {
+            ran = bulkheads.get(group).run(() -> {
+                try (var ignored = context.makeCurrent()) {
+                    filterChain.doFilter(request, response);
+                }
+            });
+        } catch (ServletException | IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServletException(e);
+        }
+        if (!ran) {
+            ConcurrencyLimitFilter.reject(response, retryAfterSeconds);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        bulkheads.values().forEach(Bulkhead::shutdown);
+    }
+}
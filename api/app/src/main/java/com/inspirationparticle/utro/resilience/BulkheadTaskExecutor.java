@@ -0,0 +1,31 @@
+package com.inspirationparticle.utro.resilience;
+
+import io.opentelemetry.context.Context;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+/**
+ * Runs async request work, such as a streaming response body, on the {@link Bulkhead} of the thread that submits
+ * it, so that it keeps to its group's threads and {@link PartitionedDataSource} pool after the handler has returned.
+ * Work submitted from any other thread, or with bulkheads disabled, goes to the fallback executor.
+ */
+public class BulkheadTaskExecutor implements AsyncTaskExecutor {
+
+    private final BulkheadFilter bulkheads;
+    private final AsyncTaskExecutor fallback;
+
+    public BulkheadTaskExecutor(BulkheadFilter bulkheads, AsyncTaskExecutor fallback) {
+        this.bulkheads = bulkheads;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        RpcGroup group = Bulkhead.current();
+        Bulkhead bulkhead = group == null ? null : bulkheads.bulkhead(group);
+        if (bulkhead == null) {
+            fallback.execute(task);
+            return;
+        }
+        bulkhead.execute(Context.current().wrap(task));
+    }
+}
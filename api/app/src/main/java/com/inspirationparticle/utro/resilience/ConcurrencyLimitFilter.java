@@ -0,0 +1,147 @@
+package com.inspirationparticle.utro.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Sheds load before it queues: each {@link RpcGroup} has an {@link AdaptiveConcurrencyLimit}, and a request
+ * over its group's limit is answered straight away with 503 and Retry-After, as a Connect unavailable error.
+ * Runs after the RPC metrics filter, so that rejected calls show up with code unavailable, and ahead of Spring
+ * Security, so that they cost next to nothing.
+ * <p>
+ * rpc.server.concurrency.limit, rpc.server.concurrency.in.flight and rpc.server.concurrency.rejected are
+ * published per group.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 12)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final byte[] REJECTION =
+            "{\"code\":\"unavailable\",\"message\":\"Server is overloaded, retry later\"}"
+                    .getBytes(StandardCharsets.UTF_8);
+
+    private final RpcGroups rpcGroups;
+    private final boolean enabled;
+    private final String retryAfterSeconds;
+    private final Map<RpcGroup, AdaptiveConcurrencyLimit> limits = new EnumMap<>(RpcGroup.class);
+    private final Map<RpcGroup, Counter> rejections = new EnumMap<>(RpcGroup.class);
+
+    public ConcurrencyLimitFilter(RpcGroups rpcGroups, MeterRegistry meterRegistry, Environment environment,
+                                  @Value("${concurrency-limit.enabled:true}") boolean enabled,
+                                  @Value("${concurrency-limit.retry-after-seconds:1}") int retryAfterSeconds,
+                                  @Value("${concurrency-limit.tolerance:2.0}") double tolerance,
+                                  @Value("${concurrency-limit.smoothing:0.2}") double smoothing) {
+        this.rpcGroups = rpcGroups;
+        this.enabled = enabled;
+        this.retryAfterSeconds = Integer.toString(retryAfterSeconds);
+        for (RpcGroup group : RpcGroup.values()) {
+            String prefix = "concurrency-limit.groups." + group.key() + ".";
+            AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(
+                    environment.getProperty(prefix + "initial-limit", Integer.class, 20),
+                    environment.getProperty(prefix + "min-limit", Integer.class, 2),
+                    environment.getProperty(prefix + "max-limit", Integer.class, 200),
+                    tolerance, smoothing);
+            limits.put(group, limit);
+            Gauge.builder("rpc.server.concurrency.limit", limit, AdaptiveConcurrencyLimit::limit)
+                    .description("Current adaptive concurrency limit of an RPC group")
+                    .tag("group", group.key())
+                    .register(meterRegistry);
+            Gauge.builder("rpc.server.concurrency.in.flight", limit, AdaptiveConcurrencyLimit::inFlight)
+                    .description("Requests of an RPC group being served")
+                    .tag("group", group.key())
+                    .register(meterRegistry);
+            rejections.put(group, Counter.builder("rpc.server.concurrency.rejected")
+                    .description("Requests rejected with 503 because their RPC group was at its concurrency limit")
+                    .tag("group", group.key())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RpcGroup group = rpcGroups.groupOf(request.getRequestURI());
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        AdaptiveConcurrencyLimit limit = limits.get(group);
+        if (!limit.tryAcquire()) {
+            rejections.get(group).increment();
+            reject(response, retryAfterSeconds);
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            async = request.isAsyncStarted();
+        } finally {
+            if (async) {
+                // Streams hold their slot until they finish, but how long they take is up to the client
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        limit.release(0, false);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                limit.release(System.nanoTime() - startedAt, true);
+            }
+        }
+    }
+
+    AdaptiveConcurrencyLimit limit(RpcGroup group) {
+        return limits.get(group);
+    }
+
+    /**
+     * Answers 503 with Retry-After and a Connect unavailable error
+     */
+    static void reject(HttpServletResponse response, String retryAfterSeconds) throws IOException {
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(REJECTION.length);
+        response.getOutputStream().write(REJECTION);
+    }
+}
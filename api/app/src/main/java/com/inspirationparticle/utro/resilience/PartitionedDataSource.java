@@ -0,0 +1,42 @@
+package com.inspirationparticle.utro.resilience;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Hands out connections from the pool of the {@link RpcGroup} whose {@link Bulkhead} the calling thread belongs
+ * to, so that one group waiting on the database cannot take the connections of another. Groups without a pool of
+ * their own, and all work off the bulkheads such as migrations and scheduled jobs, use the application's pool.
+ * <p>
+ * Not an AbstractRoutingDataSource: the tracing and query statistics wrappers leave those alone.
+ */
+public class PartitionedDataSource extends DelegatingDataSource {
+
+    private final Map<RpcGroup, DataSource> partitions;
+
+    public PartitionedDataSource(DataSource shared, Map<RpcGroup, ? extends DataSource> partitions) {
+        super(shared);
+        this.partitions = partitions.isEmpty() ? Map.of() : new EnumMap<>(partitions);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return target().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return target().getConnection(username, password);
+    }
+
+    private DataSource target() {
+        RpcGroup group = Bulkhead.current();
+        DataSource partition = group == null ? null : partitions.get(group);
+        return partition != null ? partition : obtainTargetDataSource();
+    }
+}
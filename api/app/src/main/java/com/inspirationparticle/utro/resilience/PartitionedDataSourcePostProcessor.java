@@ -0,0 +1,76 @@
+package com.inspirationparticle.utro.resilience;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gives each {@link RpcGroup} with bulkhead.groups.&lt;group&gt;.connections set a Hikari pool of that size, copied
+ * from the application's, and puts them behind a {@link PartitionedDataSource}. Runs ahead of the tracing and
+ * query statistics wrappers, so that they see the connections of every partition. Nothing changes when
+ * bulkhead.enabled=false.
+ */
+@Component
+public class PartitionedDataSourcePostProcessor implements BeanPostProcessor, Ordered, DisposableBean {
+
+    private final Environment environment;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final List<HikariDataSource> partitions = new ArrayList<>();
+
+    public PartitionedDataSourcePostProcessor(Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof HikariDataSource shared)
+                || !environment.getProperty("bulkhead.enabled", Boolean.class, true)) {
+            return bean;
+        }
+
+        Map<RpcGroup, HikariDataSource> pools = new EnumMap<>(RpcGroup.class);
+        for (RpcGroup group : RpcGroup.values()) {
+            int connections = environment.getProperty("bulkhead.groups." + group.key() + ".connections",
+                    Integer.class, 0);
+            if (connections > 0) {
+                HikariConfig config = new HikariConfig();
+                shared.copyStateTo(config);
+                config.setPoolName(beanName + "-" + group.key());
+                config.setMaximumPoolSize(connections);
+                if (config.getMinimumIdle() > connections) {
+                    config.setMinimumIdle(connections);
+                }
+                // hikaricp_* metrics per partition, tagged with its pool name
+                meterRegistry.ifAvailable(registry ->
+                        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+                HikariDataSource pool = new HikariDataSource(config);
+                partitions.add(pool);
+                pools.put(group, pool);
+            }
+        }
+        return pools.isEmpty() ? bean : new PartitionedDataSource(shared, pools);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public void destroy() {
+        partitions.forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,148 @@
+package com.inspirationparticle.utro.resilience;
+
+import com.inspirationparticle.utro.metrics.RpcMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rate limits the RPCs and paths listed under rate-limit.rules with a {@link RateLimiter} per rule, keyed by the
+ * signed-in user or else the client's address. Runs once the request is authenticated and before its body is read,
+ * so a refused search or login costs neither a query nor a BCrypt round.
+ * <p>
+ * The address is the remote address as Tomcat resolves it: with server.forward-headers-strategy native, that of the
+ * client in X-Forwarded-For when the request came through a trusted proxy, so callers behind the ingress do not all
+ * share the proxy's bucket.
+ * <p>
+ * Every limited response carries the {@link #LIMIT_HEADER}, {@link #REMAINING_HEADER} and {@link #RESET_HEADER}
+ * headers; a refused one is 429 with Retry-After and a Connect resource_exhausted error.
+ */
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    public static final String LIMIT_HEADER = "RateLimit-Limit";
+    public static final String REMAINING_HEADER = "RateLimit-Remaining";
+    public static final String RESET_HEADER = "RateLimit-Reset";
+
+    private static final byte[] REJECTION =
+            "{\"code\":\"resource_exhausted\",\"message\":\"Too many requests, retry later\"}"
+                    .getBytes(StandardCharsets.UTF_8);
+
+    private final RpcMetrics rpcMetrics;
+    private final boolean enabled;
+    private final Map<RpcMetrics.RpcMethod, Limit> rpcLimits = new HashMap<>();
+    private final Map<String, Limit> pathLimits = new HashMap<>();
+
+    public RateLimitInterceptor(RpcMetrics rpcMetrics, MeterRegistry meterRegistry, Environment environment,
+                                @Value("${rate-limit.enabled:true}") boolean enabled,
+                                @Value("${rate-limit.stripes:16}") int stripes,
+                                @Value("${rate-limit.sweep-interval-millis:10000}") long sweepIntervalMillis) {
+        this.rpcMetrics = rpcMetrics;
+        this.enabled = enabled;
+        Map<String, Rule> rules = Binder.get(environment)
+                .bind("rate-limit.rules", Bindable.mapOf(String.class, Rule.class))
+                .orElse(Map.of());
+        rules.forEach((name, rule) -> {
+            RateLimiter limiter = new RateLimiter(rule.capacity(), rule.refillPerSecond(), stripes,
+                    sweepIntervalMillis);
+            Limit limit = new Limit(limiter, Counter.builder("rate.limit.rejected")
+                    .description("Requests refused with 429 by a rate-limit rule")
+                    .tag("rule", name)
+                    .register(meterRegistry));
+            Gauge.builder("rate.limit.clients", limiter, RateLimiter::clients)
+                    .description("Clients of a rate-limit rule whose bucket is not full")
+                    .tag("rule", name)
+                    .register(meterRegistry);
+            for (String member : rule.rpcs()) {
+                String rpc = member.trim();
+                Limit previous;
+                if (rpc.startsWith("/")) {
+                    previous = pathLimits.putIfAbsent(rpc, limit);
+                } else {
+                    String[] parts = rpc.split("/", 2);
+                    if (parts.length != 2) {
+                        throw new IllegalStateException("rate-limit.rules." + name + " lists " + rpc
+                                + ", which is neither Service/Method nor a path");
+                    }
+                    previous = rpcLimits.putIfAbsent(new RpcMetrics.RpcMethod(parts[0], parts[1]), limit);
+                }
+                if (previous != null) {
+                    throw new IllegalStateException(rpc + " is listed in more than one rate-limit rule");
+                }
+            }
+        });
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (!enabled || !(handler instanceof HandlerMethod)) {
+            return true;
+        }
+        String path = request.getRequestURI();
+        RpcMetrics.RpcMethod rpc = rpcMetrics.method(path);
+        Limit limit = rpc != null ? rpcLimits.get(rpc) : null;
+        if (limit == null) {
+            limit = pathLimits.get(path);
+        }
+        if (limit == null) {
+            return true;
+        }
+
+        RateLimiter.Decision decision = limit.limiter().tryAcquire(client(request), System.nanoTime());
+        response.setIntHeader(LIMIT_HEADER, limit.limiter().capacity());
+        response.setIntHeader(REMAINING_HEADER, decision.remaining());
+        response.setIntHeader(RESET_HEADER, decision.resetSeconds());
+        if (decision.allowed()) {
+            return true;
+        }
+
+        limit.rejections().increment();
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setIntHeader(HttpHeaders.RETRY_AFTER, decision.retryAfterSeconds());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(REJECTION.length);
+        response.getOutputStream().write(REJECTION);
+        return false;
+    }
+
+    private static String client(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return request.getRemoteAddr();
+    }
+
+    /**
+     * One rate-limit rule: the RPCs (Service/Method) and paths that share a bucket per client, how many requests
+     * the bucket holds and how fast it refills
+     */
+    public record Rule(List<String> rpcs, int capacity, double refillPerSecond) {
+    }
+
+    private record Limit(RateLimiter limiter, Counter rejections) {
+    }
+}
@@ -0,0 +1,113 @@
+package com.inspirationparticle.utro.resilience;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets of one rate-limit rule, one per client. A bucket holds capacity requests and refills at a steady
+ * rate.
+ * <p>
+ * Each bucket is a single long, the time at which it would be full again, so that taking a token is one
+ * compare-and-set (the generic cell rate algorithm, which admits the same requests as a token bucket). Clients are
+ * spread over stripes, each a {@link ConcurrentHashMap} that its callers sweep now and then: a bucket that has
+ * filled up again is the same as no bucket, so it is dropped.
+ */
+public class RateLimiter {
+
+    private final int capacity;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final long sweepIntervalNanos;
+    private final Stripe[] stripes;
+
+    /**
+     * @param stripes rounded up to a power of two
+     */
+    public RateLimiter(int capacity, double refillPerSecond, int stripes, long sweepIntervalMillis) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate limits need a capacity of at least 1 and a positive refill rate");
+        }
+        this.capacity = capacity;
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond);
+        this.burstNanos = intervalNanos * capacity;
+        this.sweepIntervalNanos = TimeUnit.MILLISECONDS.toNanos(sweepIntervalMillis);
+        int count = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new Stripe(System.nanoTime() + sweepIntervalNanos);
+        }
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Takes a token from the client's bucket, if one is left
+     */
+    public Decision tryAcquire(String client, long nowNanos) {
+        int hash = client.hashCode();
+        Stripe stripe = stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+        stripe.sweepIfDue(nowNanos, sweepIntervalNanos);
+
+        AtomicLong fullAt = stripe.buckets.get(client);
+        if (fullAt == null) {
+            fullAt = stripe.buckets.computeIfAbsent(client, key -> new AtomicLong(nowNanos));
+        }
+        while (true) {
+            long current = fullAt.get();
+            long next = (current - nowNanos > 0 ? current : nowNanos) + intervalNanos;
+            long drawn = next - nowNanos;
+            if (drawn > burstNanos) {
+                long waitNanos = drawn - burstNanos;
+                return new Decision(false, 0, seconds(drawn - intervalNanos), seconds(waitNanos));
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return new Decision(true, (int) ((burstNanos - drawn) / intervalNanos), seconds(drawn), 0);
+            }
+        }
+    }
+
+    /**
+     * Clients with a bucket that is not full
+     */
+    public int clients() {
+        int clients = 0;
+        for (Stripe stripe : stripes) {
+            clients += stripe.buckets.size();
+        }
+        return clients;
+    }
+
+    private static int seconds(long nanos) {
+        return (int) Math.max(1, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * @param remaining         tokens left in the bucket
+     * @param resetSeconds      until the bucket is full again
+     * @param retryAfterSeconds until the next token, when the request was refused
+     */
+    public record Decision(boolean allowed, int remaining, int resetSeconds, int retryAfterSeconds) {
+    }
+
+    private static final class Stripe {
+
+        private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+        private final AtomicLong nextSweep;
+
+        private Stripe(long firstSweep) {
+            this.nextSweep = new AtomicLong(firstSweep);
+        }
+
+        private void sweepIfDue(long nowNanos, long sweepIntervalNanos) {
+            long due = nextSweep.get();
+            if (nowNanos - due < 0 || !nextSweep.compareAndSet(due, nowNanos + sweepIntervalNanos)) {
+                return;
+            }
+            // A client refilling at this moment may lose its bucket and get a fresh one; at most one extra burst
+            buckets.values().removeIf(fullAt -> fullAt.get() - nowNanos <= 0);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.inspirationparticle.utro.resilience;
+
+/**
+ * Classes of API work that are limited separately, so that one kind of traffic cannot use up the capacity
+ * another needs. Which RPCs belong to which group is configured under rpc-groups.
+ */
+public enum RpcGroup {
+    /** Interactive directory and profile reads, and every RPC no other group lists */
+    READ,
+    WRITE,
+    IMAGE,
+    /** Admin and bulk operations: imports, exports, bulk invitations, streams */
+    BULK,
+    /** Login and logout, which spend their time in BCrypt */
+    AUTH;
+
+    /**
+     * The group's key in configuration, e.g. concurrency-limit.groups.bulk
+     */
+    public String key() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,45 @@
+package com.inspirationparticle.utro.resilience;
+
+import com.inspirationparticle.utro.metrics.RpcMetrics;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Assigns requests to an {@link RpcGroup}. rpc-groups.&lt;group&gt; lists the RPCs of each group as Service/Method,
+ * and may list plain paths such as /export/therapists. RPCs listed nowhere are reads; other paths, such as the
+ * actuator, belong to no group.
+ */
+@Component
+public class RpcGroups {
+
+    private final RpcMetrics rpcMetrics;
+    private final Map<String, RpcGroup> groups = new HashMap<>();
+
+    public RpcGroups(RpcMetrics rpcMetrics, Environment environment) {
+        this.rpcMetrics = rpcMetrics;
+        for (RpcGroup group : RpcGroup.values()) {
+            String[] members = environment.getProperty("rpc-groups." + group.key(), String[].class, new String[0]);
+            for (String member : members) {
+                RpcGroup previous = groups.putIfAbsent(member.trim(), group);
+                if (previous != null) {
+                    throw new IllegalStateException(member.trim() + " is listed in rpc-groups." + previous.key()
+                            + " and rpc-groups." + group.key());
+                }
+            }
+        }
+    }
+
+    /**
+     * The group of the request path, or null when it is neither a known RPC nor listed in rpc-groups
+     */
+    public RpcGroup groupOf(String path) {
+        RpcMetrics.RpcMethod rpc = rpcMetrics.method(path);
+        if (rpc == null) {
+            return groups.get(path);
+        }
+        return groups.getOrDefault(rpc.service() + "/" + rpc.method(), RpcGroup.READ);
+    }
+}
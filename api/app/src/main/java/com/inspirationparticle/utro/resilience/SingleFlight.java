@@ -0,0 +1,91 @@
+package com.inspirationparticle.utro.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical concurrent reads: while a call for an RPC, request and authorisation scope is running,
+ * further calls with the same key wait for it and get the same result, or the same exception, instead of running
+ * the queries and mapping again. Nothing is kept once the call has finished; this is not a cache.
+ * <p>
+ * Requests are compared with equals, which for protobuf messages compares field values, so two JSON bodies that
+ * decode to the same message are the same request. Results are shared between threads and must not be changed
+ * by the callers.
+ */
+@Component
+public class SingleFlight {
+
+    /**
+     * Scope of reads whose result is the same for every signed-in caller
+     */
+    public static final String SIGNED_IN = "signed-in";
+
+    private final boolean enabled;
+    private final MeterRegistry meterRegistry;
+    private final Map<Key, CompletableFuture<Object>> calls = new ConcurrentHashMap<>();
+
+    public SingleFlight(MeterRegistry meterRegistry, @Value("${single-flight.enabled:true}") boolean enabled) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        Gauge.builder("single.flight.in.flight", calls, Map::size)
+                .description("Reads currently running that identical requests can join")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the call, unless an identical one is already running, in which case this waits for its result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String rpc, Object request, String scope, Supplier<T> call) {
+        if (!enabled) {
+            return call.get();
+        }
+        Key key = new Key(rpc, request, scope);
+        CompletableFuture<Object> own = new CompletableFuture<>();
+        CompletableFuture<Object> running = calls.putIfAbsent(key, own);
+        if (running != null) {
+            shared(rpc).increment();
+            try {
+                return (T) running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            T result = call.get();
+            own.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, own);
+        }
+    }
+
+    private Counter shared(String rpc) {
+        return Counter.builder("single.flight.shared")
+                .description("Calls answered with the result of an identical call that was already running")
+                .tag("rpc", rpc)
+                .register(meterRegistry);
+    }
+
+    private record Key(String rpc, Object request, String scope) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.inspirationparticle.utro.therapist;
 
 import com.inspirationparticle.utro.gen.v1.TherapistProto;
+import com.inspirationparticle.utro.resilience.SingleFlight;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -12,6 +13,9 @@ public class SpecializationController {
     @Autowired
     private SpecializationServiceImpl specializationService;
 
+    @Autowired
+    private SingleFlight singleFlight;
+
     @PreAuthorize("hasAuthority('ROLE_USER')")
     @PostMapping(value = "/com.inspirationparticle.utro.gen.v1.SpecializationService/GetSpecialization",
                  consumes = "application/json",
@@ -25,7 +29,8 @@ public class SpecializationController {
                  consumes = "application/json",
                  produces = "application/json")
     public ResponseEntity<TherapistProto.ListSpecializationsResponse> listSpecializations(@RequestBody TherapistProto.ListSpecializationsRequest request) {
-        return specializationService.listSpecializations(request);
+        return singleFlight.execute("SpecializationService/ListSpecializations", request, SingleFlight.SIGNED_IN,
+                () -> specializationService.listSpecializations(request));
     }
 
     @PreAuthorize("hasAuthority('ROLE_USER')")
@@ -1,6 +1,7 @@
 package com.inspirationparticle.utro.therapist;
 
 import com.inspirationparticle.utro.gen.v1.TherapistProto.*;
+import com.inspirationparticle.utro.util.UUIDCodec;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -22,7 +23,7 @@ public class SpecializationServiceImpl {
     @PostMapping("/GetSpecialization")
     public ResponseEntity<com.inspirationparticle.utro.gen.v1.TherapistProto.Specialization> getSpecialization(@RequestBody com.inspirationparticle.utro.gen.v1.TherapistProto.GetSpecializationRequest request) {
         try {
-            UUID id = UUID.fromString(request.getId());
+            UUID id = UUIDCodec.parse(request.getId());
             Optional<com.inspirationparticle.utro.therapist.Specialization> specialization = 
                 specializationRepository.findById(id);
             
@@ -2,6 +2,7 @@ package com.inspirationparticle.utro.therapist;
 
 import com.inspirationparticle.utro.gen.v1.TherapistProto;
 import com.inspirationparticle.utro.time.TimeMapper;
+import com.inspirationparticle.utro.util.UUIDCodec;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -14,7 +15,7 @@ public class TherapistCertificationMapper {
         }
 
         TherapistProto.TherapistCertification.Builder builder = TherapistProto.TherapistCertification.newBuilder()
-            .setId(certification.getId().toString())
+            .setId(UUIDCodec.format(certification.getId()))
             .setName(certification.getName())
             .setIssuingOrganization(certification.getIssuingOrganization())
             .setIsActive(certification.getIsActive() != null ? certification.getIsActive() : false)
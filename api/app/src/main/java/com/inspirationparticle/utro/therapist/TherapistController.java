@@ -1,9 +1,15 @@
 package com.inspirationparticle.utro.therapist;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.inspirationparticle.utro.gen.v1.TherapistProto;
+import com.inspirationparticle.utro.metrics.QueryBudget;
+import com.inspirationparticle.utro.resilience.SingleFlight;
 import com.inspirationparticle.utro.user.User;
 import com.inspirationparticle.utro.user.UserRepository;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -11,7 +17,12 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -24,12 +35,25 @@ public class TherapistController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TherapistImportService therapistImportService;
+
+    @Autowired
+    private TherapistExportService therapistExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SingleFlight singleFlight;
+
     @PreAuthorize("hasAuthority('ROLE_USER')")
     @PostMapping(value = "/com.inspirationparticle.utro.gen.v1.TherapistService/GetTherapist",
                  consumes = "application/json",
                  produces = "application/json")
     public ResponseEntity<TherapistProto.Therapist> getTherapist(@RequestBody TherapistProto.GetTherapistRequest request) {
-        return therapistService.getTherapist(request);
+        return singleFlight.execute("TherapistService/GetTherapist", request, SingleFlight.SIGNED_IN,
+                () -> therapistService.getTherapist(request));
     }
 
     @PreAuthorize("hasAuthority('ROLE_USER')")
@@ -37,7 +61,9 @@ public class TherapistController {
                  consumes = "application/json", 
                  produces = "application/json")
     public ResponseEntity<TherapistProto.Therapist> getTherapistBySlug(@RequestBody TherapistProto.GetTherapistBySlugRequest request) {
-        return therapistService.getTherapistBySlug(request);
+        // A shared profile link brings many identical requests at once
+        return singleFlight.execute("TherapistService/GetTherapistBySlug", request, SingleFlight.SIGNED_IN,
+                () -> therapistService.getTherapistBySlug(request));
     }
 
     @PreAuthorize("hasAuthority('ROLE_USER')")
@@ -48,12 +74,20 @@ public class TherapistController {
         return therapistService.getTherapistByUser(request);
     }
 
+    @QueryBudget(statements = 12)
     @PreAuthorize("hasAuthority('ROLE_USER')")
     @PostMapping(value = "/com.inspirationparticle.utro.gen.v1.TherapistService/ListTherapists",
                  consumes = "application/json",
                  produces = "application/json")
     public ResponseEntity<TherapistProto.ListTherapistsResponse> listTherapists(@RequestBody TherapistProto.ListTherapistsRequest request) {
-        return therapistService.listTherapists(request);
+        // Everyone who may see none of the unpublished profiles gets the same listing, so it is shared
+        TherapistServiceImpl.PublishedListing listing = singleFlight.execute("TherapistService/ListTherapists",
+                request, SingleFlight.SIGNED_IN, () -> therapistService.listPublishedTherapists(request));
+        if (therapistService.canViewAny(listing.unpublished())) {
+            // Unpublished profiles are listed for their therapist and organisation admins only
+            return therapistService.listTherapists(request);
+        }
+        return listing.response();
     }
 
     @PreAuthorize("hasAuthority('ROLE_USER')")
@@ -121,4 +155,62 @@ public class TherapistController {
         String username = auth.getName();
         return therapistService.unpublishTherapist(request, username);
     }
-}
\ No newline at end of file
+
+    /**
+     * Bulk import of CreateTherapistRequest records as NDJSON or CSV (organisation admins only).
+     * The upload is read and imported in chunks while progress and per-record errors are streamed back as NDJSON.
+     */
+    @PreAuthorize("hasAuthority('ROLE_USER')")
+    @PostMapping(value = "/admin/therapists/import",
+                 consumes = {"application/x-ndjson", "text/csv"},
+                 produces = "application/x-ndjson")
+    public void importTherapists(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        User caller = userRepository.findByUsername(auth.getName())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found"));
+
+        InputStreamReader body = new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8);
+        TherapistImportReader reader;
+        try {
+            reader = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.parseMediaType("text/csv"))
+                    ? TherapistImportReader.csv(body)
+                    : TherapistImportReader.ndjson(body);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType("application/x-ndjson");
+        therapistImportService.importTherapists(reader, caller.getId(),
+                new TherapistImportReport(response.getOutputStream(), objectMapper));
+    }
+
+    /**
+     * Export of the published therapist directory as NDJSON, or as length-delimited binary Therapist messages
+     * when application/x-protobuf is requested. Profiles are streamed from the database as they are written.
+     */
+    @PreAuthorize("hasAuthority('ROLE_USER')")
+    @GetMapping(value = "/export/therapists",
+                produces = {"application/x-ndjson", "application/x-protobuf"})
+    public void exportTherapists(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                 HttpServletResponse response) throws IOException {
+        // The first of the two formats named in Accept wins; wildcards get NDJSON
+        TherapistExportService.Format format = TherapistExportService.Format.NDJSON;
+        for (MediaType type : accept != null ? MediaType.parseMediaTypes(accept) : List.<MediaType>of()) {
+            if (type.isWildcardType() || type.isWildcardSubtype()) {
+                continue;
+            }
+            if (type.isCompatibleWith(MediaType.parseMediaType(TherapistExportService.Format.PROTOBUF.getContentType()))) {
+                format = TherapistExportService.Format.PROTOBUF;
+                break;
+            }
+            if (type.isCompatibleWith(MediaType.parseMediaType(TherapistExportService.Format.NDJSON.getContentType()))) {
+                break;
+            }
+        }
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(format.getContentType());
+        therapistExportService.export(format, response.getOutputStream());
+    }
+}
@@ -2,6 +2,7 @@ package com.inspirationparticle.utro.therapist;
 
 import com.inspirationparticle.utro.gen.v1.TherapistProto;
 import com.inspirationparticle.utro.time.TimeMapper;
+import com.inspirationparticle.utro.util.UUIDCodec;
 
 public class TherapistEducationMapper {
 
@@ -11,7 +12,7 @@ public class TherapistEducationMapper {
         }
 
         TherapistProto.TherapistEducation.Builder builder = TherapistProto.TherapistEducation.newBuilder()
-            .setId(education.getId().toString())
+            .setId(UUIDCodec.format(education.getId()))
             .setDegree(education.getDegree())
             .setInstitution(education.getInstitution())
             .setIsCompleted(education.getIsCompleted() != null ? education.getIsCompleted() : false)
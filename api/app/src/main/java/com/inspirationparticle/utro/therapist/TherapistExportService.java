@@ -0,0 +1,114 @@
+package com.inspirationparticle.utro.therapist;
+
+import com.google.protobuf.util.JsonFormat;
+import com.inspirationparticle.utro.config.ProtobufConfig;
+import com.inspirationparticle.utro.gen.v1.TherapistProto;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Export of the published therapist directory in constant memory.
+ * Profiles are read through a forward-only cursor and written in chunks: each chunk is mapped with its
+ * lazy associations batch fetched, flushed to the client and then detached, so the persistence context
+ * never holds more than one chunk however large the directory grows.
+ */
+@Slf4j
+@Service
+public class TherapistExportService {
+
+    static final int CHUNK_SIZE = 100;
+
+    public enum Format {
+        /**
+         * One JSON Therapist message per line, with the same field names as the API
+         */
+        NDJSON("application/x-ndjson"),
+        /**
+         * Varint length-delimited binary Therapist messages, as read by parseDelimitedFrom
+         */
+        PROTOBUF("application/x-protobuf");
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+    }
+
+    private static final JsonFormat.Printer PRINTER = ProtobufConfig.jsonPrinter().omittingInsignificantWhitespace();
+
+    private final TherapistRepository therapistRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transaction;
+
+    public TherapistExportService(TherapistRepository therapistRepository, EntityManager entityManager,
+                                  PlatformTransactionManager transactionManager) {
+        this.therapistRepository = therapistRepository;
+        this.entityManager = entityManager;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setReadOnly(true);
+    }
+
+    /**
+     * Write every published, public and active therapist to the stream and return how many were written
+     */
+    public long export(Format format, OutputStream out) throws IOException {
+        long startedAt = System.nanoTime();
+        Long exported;
+        try {
+            exported = transaction.execute(status -> {
+                try (Stream<Therapist> therapists = therapistRepository.streamPublishedForExport()) {
+                    Iterator<Therapist> cursor = therapists.iterator();
+                    List<Therapist> chunk = new ArrayList<>(CHUNK_SIZE);
+                    long written = 0;
+                    while (cursor.hasNext()) {
+                        chunk.add(cursor.next());
+                        if (chunk.size() == CHUNK_SIZE) {
+                            written += writeChunk(chunk, format, out);
+                        }
+                    }
+                    return written + writeChunk(chunk, format, out);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        log.info("Exported {} therapists as {} in {} ms", exported, format, (System.nanoTime() - startedAt) / 1_000_000);
+        return exported;
+    }
+
+    private int writeChunk(List<Therapist> chunk, Format format, OutputStream out) throws IOException {
+        for (Therapist therapist : chunk) {
+            TherapistProto.Therapist message = TherapistProtoMapper.toProto(therapist);
+            if (format == Format.PROTOBUF) {
+                message.writeDelimitedTo(out);
+            } else {
+                out.write(PRINTER.print(message).getBytes(StandardCharsets.UTF_8));
+                out.write('\n');
+            }
+        }
+        out.flush();
+        int written = chunk.size();
+        chunk.clear();
+        entityManager.clear();
+        return written;
+    }
+}
@@ -0,0 +1,238 @@
+package com.inspirationparticle.utro.therapist;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors.EnumValueDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.util.JsonFormat;
+import com.inspirationparticle.utro.config.ProtobufConfig;
+import com.inspirationparticle.utro.gen.v1.TherapistProto;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Reads CreateTherapistRequest records one at a time from an import upload.
+ * NDJSON carries one JSON message per line. CSV has a header row of proto field names, separates
+ * repeated values with '|', accepts enum values with or without their prefix and base64 for bytes.
+ * A record that cannot be decoded is returned with an error instead of a request, so one bad line
+ * does not end the import.
+ */
+public abstract class TherapistImportReader {
+
+    /**
+     * Upper bound on a single record, profile image included
+     */
+    static final int MAX_RECORD_CHARS = 4 * 1024 * 1024;
+
+    private static final JsonFormat.Parser PARSER = ProtobufConfig.jsonParser();
+
+    public record ImportRecord(long line, TherapistProto.CreateTherapistRequest request, String error) {
+
+        static ImportRecord failed(long line, String error) {
+            return new ImportRecord(line, null, error);
+        }
+    }
+
+    protected final BufferedReader reader;
+    protected long lineNumber;
+
+    protected TherapistImportReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader, 64 * 1024);
+    }
+
+    public static TherapistImportReader ndjson(Reader reader) {
+        return new Ndjson(reader);
+    }
+
+    public static TherapistImportReader csv(Reader reader) throws IOException {
+        return new Csv(reader);
+    }
+
+    /**
+     * The next record, or null at the end of the upload
+     */
+    public abstract ImportRecord next() throws IOException;
+
+    private static final class Ndjson extends TherapistImportReader {
+
+        Ndjson(Reader reader) {
+            super(reader);
+        }
+
+        @Override
+        public ImportRecord next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                lineNumber++;
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+
+            if (line.length() > MAX_RECORD_CHARS) {
+                return ImportRecord.failed(lineNumber, "Record exceeds " + MAX_RECORD_CHARS + " characters");
+            }
+            TherapistProto.CreateTherapistRequest.Builder builder = TherapistProto.CreateTherapistRequest.newBuilder();
+            try {
+                PARSER.merge(line, builder);
+            } catch (InvalidProtocolBufferException e) {
+                return ImportRecord.failed(lineNumber, "Malformed JSON: " + e.getMessage());
+            }
+            return new ImportRecord(lineNumber, builder.build(), null);
+        }
+    }
+
+    private static final class Csv extends TherapistImportReader {
+
+        private final List<FieldDescriptor> columns = new ArrayList<>();
+        private final StringBuilder field = new StringBuilder();
+        private final List<String> values = new ArrayList<>();
+        private long rowLine;
+
+        Csv(Reader reader) throws IOException {
+            super(reader);
+            List<String> header = readRow();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV upload has no header row");
+            }
+            for (String name : header) {
+                FieldDescriptor descriptor = TherapistProto.CreateTherapistRequest.getDescriptor()
+                        .findFieldByName(name.trim());
+                if (descriptor == null) {
+                    throw new IllegalArgumentException("Unknown CSV column: " + name);
+                }
+                columns.add(descriptor);
+            }
+        }
+
+        @Override
+        public ImportRecord next() throws IOException {
+            List<String> row;
+            do {
+                row = readRow();
+                if (row == null) {
+                    return null;
+                }
+            } while (row.size() == 1 && row.get(0).isEmpty());
+
+            long line = rowLine;
+            if (row.size() != columns.size()) {
+                return ImportRecord.failed(line, "Expected " + columns.size() + " columns but found " + row.size());
+            }
+            TherapistProto.CreateTherapistRequest.Builder builder = TherapistProto.CreateTherapistRequest.newBuilder();
+            for (int i = 0; i < columns.size(); i++) {
+                String value = row.get(i);
+                if (value.isEmpty()) {
+                    continue;
+                }
+                FieldDescriptor column = columns.get(i);
+                try {
+                    if (column.isRepeated()) {
+                        for (String item : value.split("\\|")) {
+                            if (!item.isBlank()) {
+                                builder.addRepeatedField(column, convert(column, item.trim()));
+                            }
+                        }
+                    } else {
+                        builder.setField(column, convert(column, value));
+                    }
+                } catch (IllegalArgumentException e) {
+                    return ImportRecord.failed(line, "Invalid value for " + column.getName() + ": " + e.getMessage());
+                }
+            }
+            return new ImportRecord(line, builder.build(), null);
+        }
+
+        private static Object convert(FieldDescriptor column, String value) {
+            return switch (column.getJavaType()) {
+                case STRING -> value;
+                case BOOLEAN -> switch (value.trim().toLowerCase()) {
+                    case "true", "1", "yes" -> true;
+                    case "false", "0", "no" -> false;
+                    default -> throw new IllegalArgumentException("expected true or false");
+                };
+                case ENUM -> {
+                    String name = value.trim().toUpperCase();
+                    EnumValueDescriptor enumValue = column.getEnumType().findValueByName(name);
+                    if (enumValue == null) {
+                        // Values share the prefix of the zero value, e.g. THERAPIST_VISIBILITY_UNSPECIFIED
+                        String zero = column.getEnumType().getValues().get(0).getName();
+                        String prefix = zero.substring(0, zero.lastIndexOf('_') + 1);
+                        enumValue = column.getEnumType().findValueByName(prefix + name);
+                    }
+                    if (enumValue == null) {
+                        throw new IllegalArgumentException("unknown value " + value);
+                    }
+                    yield enumValue;
+                }
+                case BYTE_STRING -> ByteString.copyFrom(Base64.getDecoder().decode(value.trim()));
+                default -> throw new IllegalArgumentException("unsupported column type");
+            };
+        }
+
+        /**
+         * One RFC 4180 row; quoted fields may contain separators, doubled quotes and line breaks
+         */
+        private List<String> readRow() throws IOException {
+            values.clear();
+            field.setLength(0);
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            rowLine = ++lineNumber;
+            boolean quoted = false;
+            int length = 0;
+            while (true) {
+                if (c == -1) {
+                    values.add(field.toString());
+                    return new ArrayList<>(values);
+                }
+                if (++length > MAX_RECORD_CHARS) {
+                    throw new IllegalArgumentException("CSV row at line " + lineNumber + " exceeds "
+                            + MAX_RECORD_CHARS + " characters");
+                }
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int following = reader.read();
+                        if (following == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            reader.reset();
+                        }
+                    } else {
+                        if (c == '\n') {
+                            lineNumber++;
+                        }
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n' || c == '\r') {
+                    if (c == '\r') {
+                        reader.mark(1);
+                        if (reader.read() != '\n') {
+                            reader.reset();
+                        }
+                    }
+                    values.add(field.toString());
+                    return new ArrayList<>(values);
+                } else {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+        }
+    }
+}
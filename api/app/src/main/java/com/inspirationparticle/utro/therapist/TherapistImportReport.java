@@ -0,0 +1,73 @@
+package com.inspirationparticle.utro.therapist;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Progress of a therapist import, written to the response as NDJSON while the upload is still being read.
+ * Every rejected record produces {"line":..,"error":..}; every committed chunk and the end of the import
+ * produce a progress line with running totals.
+ */
+public class TherapistImportReport {
+
+    public record RowError(long line, String error) {
+    }
+
+    public record Progress(long processed, long imported, long failed, boolean done, long elapsedMs) {
+    }
+
+    private final OutputStream out;
+    private final ObjectMapper objectMapper;
+    private final long startedAt = System.nanoTime();
+
+    private long imported;
+    private long failed;
+
+    public TherapistImportReport(OutputStream out, ObjectMapper objectMapper) {
+        this.out = out;
+        this.objectMapper = objectMapper;
+    }
+
+    public void rowFailed(long line, String error) throws IOException {
+        failed++;
+        writeLine(new RowError(line, error));
+    }
+
+    public void chunkImported(int count) throws IOException {
+        imported += count;
+        writeLine(progress(false));
+        out.flush();
+    }
+
+    public void complete() throws IOException {
+        writeLine(progress(true));
+        out.flush();
+    }
+
+    /**
+     * Ends the report early when the upload itself cannot be read any further
+     */
+    public void abort(long line, String error) throws IOException {
+        writeLine(new RowError(line, error));
+        complete();
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    private Progress progress(boolean done) {
+        return new Progress(imported + failed, imported, failed, done, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private void writeLine(Object event) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(event));
+        out.write('\n');
+    }
+}
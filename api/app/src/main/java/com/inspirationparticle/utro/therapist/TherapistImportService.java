@@ -0,0 +1,295 @@
+package com.inspirationparticle.utro.therapist;
+
+import com.inspirationparticle.utro.gen.v1.TherapistProto;
+import com.inspirationparticle.utro.organisation.OrganisationAccess;
+import com.inspirationparticle.utro.util.UUIDCodec;
+import com.inspirationparticle.utro.util.UUIDv7Generator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Bulk therapist import from an NDJSON or CSV upload.
+ * Records are validated as they are read and imported in chunks: each chunk resolves users, existing
+ * therapists, slugs and specializations with one set query apiece, then inserts therapists and their
+ * languages, tags and specializations as JDBC batches in its own transaction. Only one chunk is held
+ * in memory, and a rejected record is reported without failing the rest of the upload.
+ */
+@Slf4j
+@Service
+public class TherapistImportService {
+
+    static final int CHUNK_SIZE = 1000;
+
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    private static final String INSERT_THERAPIST =
+            "INSERT INTO therapist (id, user_id, organisation_id, professional_title, description_eng, description_pl," +
+            " work_experience_eng, work_experience_pl, in_person_therapy_format, online_therapy_format," +
+            " profile_image, profile_image_mime_type, contact_email, contact_phone, website_url, is_active," +
+            " is_accepting_new_clients, visibility, slug, meta_description)" +
+            " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, true, ?, ?, ?, ?)";
+    private static final String INSERT_LANGUAGE = "INSERT INTO therapist_languages (therapist_id, language) VALUES (?, ?)";
+    private static final String INSERT_TAG = "INSERT INTO therapist_search_tags (therapist_id, tag) VALUES (?, ?)";
+    private static final String INSERT_SPECIALIZATION =
+            "INSERT INTO therapist_specialization (therapist_id, specialization_id, is_primary) VALUES (?, ?, false)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final OrganisationAccess organisationAccess;
+
+    public TherapistImportService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                  OrganisationAccess organisationAccess) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.organisationAccess = organisationAccess;
+    }
+
+    /**
+     * A record that passed validation, with its identifiers parsed
+     */
+    record Row(long line, TherapistProto.CreateTherapistRequest request, UUID userId, UUID organisationId,
+               String slug, Set<UUID> specializationIds) {
+    }
+
+    /**
+     * Import every record the reader yields on behalf of the caller, who must administer each target organisation
+     */
+    public void importTherapists(TherapistImportReader reader, UUID callerId, TherapistImportReport report)
+            throws IOException {
+        Map<UUID, Boolean> administered = new HashMap<>();
+        List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+        TherapistImportReader.ImportRecord record;
+        while (true) {
+            try {
+                record = reader.next();
+            } catch (IllegalArgumentException e) {
+                importChunk(chunk, callerId, administered, report);
+                report.abort(0, e.getMessage());
+                return;
+            }
+            if (record == null) {
+                break;
+            }
+            if (record.error() != null) {
+                report.rowFailed(record.line(), record.error());
+                continue;
+            }
+            Row row;
+            try {
+                row = validate(record);
+            } catch (IllegalArgumentException e) {
+                report.rowFailed(record.line(), e.getMessage());
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() == CHUNK_SIZE) {
+                importChunk(chunk, callerId, administered, report);
+                chunk.clear();
+            }
+        }
+        importChunk(chunk, callerId, administered, report);
+        report.complete();
+        log.info("Therapist import by {} finished: imported={}, failed={}",
+                callerId, report.getImported(), report.getFailed());
+    }
+
+    static Row validate(TherapistImportReader.ImportRecord record) {
+        TherapistProto.CreateTherapistRequest request = record.request();
+        UUID userId = parseId("user_id", request.getUserId());
+        UUID organisationId = parseId("organisation_id", request.getOrganisationId());
+
+        Set<UUID> specializationIds = new LinkedHashSet<>();
+        for (String id : request.getSpecializationIdsList()) {
+            specializationIds.add(parseId("specialization_ids", id));
+        }
+
+        checkLength("professional_title", request.getProfessionalTitle(), 255);
+        checkLength("contact_email", request.getContactEmail(), 255);
+        checkLength("contact_phone", request.getContactPhone(), 50);
+        checkLength("website_url", request.getWebsiteUrl(), 500);
+        checkLength("slug", request.getSlug(), 255);
+        checkLength("profile_image_mime_type", request.getProfileImageMimeType(), 50);
+        request.getLanguagesList().forEach(language -> checkLength("languages", language, 255));
+        request.getSearchTagsList().forEach(tag -> checkLength("search_tags", tag, 255));
+
+        if (!request.getContactEmail().isEmpty() && !EMAIL.matcher(request.getContactEmail()).matches()) {
+            throw new IllegalArgumentException("contact_email is not a valid email address");
+        }
+        if (!request.getProfileImageData().isEmpty() && !request.getProfileImageMimeType().startsWith("image/")) {
+            throw new IllegalArgumentException("profile_image_mime_type must be an image type");
+        }
+
+        String slug = request.getSlug().isBlank() ? null : request.getSlug().trim();
+        return new Row(record.line(), request, userId, organisationId, slug, specializationIds);
+    }
+
+    private void importChunk(List<Row> chunk, UUID callerId, Map<UUID, Boolean> administered,
+                             TherapistImportReport report) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        Set<UUID> userIds = new HashSet<>();
+        Set<String> slugs = new HashSet<>();
+        Set<UUID> specializationIds = new HashSet<>();
+        for (Row row : chunk) {
+            administered.computeIfAbsent(row.organisationId(), id -> organisationAccess.isAdmin(callerId, id));
+            userIds.add(row.userId());
+            if (row.slug() != null) {
+                slugs.add(row.slug());
+            }
+            specializationIds.addAll(row.specializationIds());
+        }
+
+        Set<UUID> existingUsers = new HashSet<>(findIds("SELECT id FROM \"user\" WHERE id = ANY(?)", userIds));
+        Set<UUID> existingTherapists = new HashSet<>(
+                findIds("SELECT user_id FROM therapist WHERE user_id = ANY(?)", userIds));
+        Set<String> takenSlugs = new HashSet<>(findSlugs(slugs));
+        Set<UUID> knownSpecializations = new HashSet<>(
+                findIds("SELECT id FROM specialization WHERE id = ANY(?)", specializationIds));
+
+        List<Row> accepted = new ArrayList<>(chunk.size());
+        Set<UUID> chunkUsers = new HashSet<>();
+        Set<String> chunkSlugs = new HashSet<>();
+        for (Row row : chunk) {
+            String error = null;
+            if (!administered.get(row.organisationId())) {
+                error = "Not an administrator of organisation " + row.organisationId();
+            } else if (!existingUsers.contains(row.userId())) {
+                error = "User " + row.userId() + " does not exist";
+            } else if (existingTherapists.contains(row.userId()) || !chunkUsers.add(row.userId())) {
+                error = "User " + row.userId() + " already has a therapist profile";
+            } else if (row.slug() != null && (takenSlugs.contains(row.slug()) || !chunkSlugs.add(row.slug()))) {
+                error = "Slug " + row.slug() + " is already taken";
+            } else if (!knownSpecializations.containsAll(row.specializationIds())) {
+                error = "Unknown specialization in specialization_ids";
+            }
+
+            if (error == null) {
+                accepted.add(row);
+            } else {
+                report.rowFailed(row.line(), error);
+            }
+        }
+
+        if (accepted.isEmpty()) {
+            report.chunkImported(0);
+            return;
+        }
+        try {
+            transaction.executeWithoutResult(status -> insert(accepted));
+        } catch (DataIntegrityViolationException e) {
+            // Another writer took a user or slug between the lookups and the insert
+            log.warn("Therapist import chunk of {} rows conflicted with a concurrent change", accepted.size(), e);
+            for (Row row : accepted) {
+                report.rowFailed(row.line(), "Conflicted with a concurrent change, retry this record");
+            }
+            report.chunkImported(0);
+            return;
+        }
+        report.chunkImported(accepted.size());
+    }
+
+    private void insert(List<Row> rows) {
+        UUIDv7Generator.Reservation ids = UUIDv7Generator.reserve(rows.size());
+        UUID[] therapistIds = new UUID[rows.size()];
+        List<Object[]> languages = new ArrayList<>();
+        List<Object[]> tags = new ArrayList<>();
+        List<Object[]> specializations = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            UUID id = ids.next();
+            therapistIds[i] = id;
+            new LinkedHashSet<>(row.request().getLanguagesList()).forEach(language -> languages.add(new Object[]{id, language}));
+            new LinkedHashSet<>(row.request().getSearchTagsList()).forEach(tag -> tags.add(new Object[]{id, tag}));
+            row.specializationIds().forEach(specializationId -> specializations.add(new Object[]{id, specializationId}));
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_THERAPIST, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Row row = rows.get(i);
+                TherapistProto.CreateTherapistRequest request = row.request();
+                boolean hasImage = !request.getProfileImageData().isEmpty();
+                ps.setObject(1, therapistIds[i]);
+                ps.setObject(2, row.userId());
+                ps.setObject(3, row.organisationId());
+                ps.setString(4, request.getProfessionalTitle());
+                ps.setString(5, request.getDescriptionEng());
+                ps.setString(6, request.getDescriptionPl());
+                ps.setString(7, request.getWorkExperienceEng());
+                ps.setString(8, request.getWorkExperiencePl());
+                ps.setBoolean(9, request.getInPersonTherapyFormat());
+                ps.setBoolean(10, request.getOnlineTherapyFormat());
+                ps.setBytes(11, hasImage ? request.getProfileImageData().toByteArray() : null);
+                ps.setString(12, hasImage ? request.getProfileImageMimeType() : null);
+                ps.setString(13, request.getContactEmail());
+                ps.setString(14, request.getContactPhone());
+                ps.setString(15, request.getWebsiteUrl());
+                ps.setBoolean(16, request.getIsAcceptingNewClients());
+                ps.setString(17, TherapistMapper.mapVisibilityFromProto(request.getVisibility()).name());
+                ps.setString(18, row.slug());
+                ps.setString(19, request.getMetaDescription());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+        jdbcTemplate.batchUpdate(INSERT_LANGUAGE, languages);
+        jdbcTemplate.batchUpdate(INSERT_TAG, tags);
+        jdbcTemplate.batchUpdate(INSERT_SPECIALIZATION, specializations);
+    }
+
+    private List<UUID> findIds(String sql, Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(sql,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids.toArray())),
+                (rs, rowNum) -> rs.getObject(1, UUID.class));
+    }
+
+    private List<String> findSlugs(Collection<String> slugs) {
+        if (slugs.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query("SELECT slug FROM therapist WHERE slug = ANY(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("varchar", slugs.toArray())),
+                (rs, rowNum) -> rs.getString(1));
+    }
+
+    private static UUID parseId(String field, String value) {
+        try {
+            return UUIDCodec.parse(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(field + " is not a valid UUID: '" + value + "'");
+        }
+    }
+
+    private static void checkLength(String field, String value, int max) {
+        if (value.length() > max) {
+            throw new IllegalArgumentException(field + " is longer than " + max + " characters");
+        }
+    }
+}
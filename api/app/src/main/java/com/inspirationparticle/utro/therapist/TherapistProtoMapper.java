@@ -1,7 +1,9 @@
 package com.inspirationparticle.utro.therapist;
 
 import com.inspirationparticle.utro.gen.v1.TherapistProto.*;
+import com.inspirationparticle.utro.profiling.ProtobufMappingEvent;
 import com.inspirationparticle.utro.time.TimeMapper;
+import com.inspirationparticle.utro.util.UUIDCodec;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -14,11 +16,22 @@ public class TherapistProtoMapper {
             return null;
         }
 
+        ProtobufMappingEvent event = new ProtobufMappingEvent();
+        event.begin();
+        try {
+            return therapistProto(therapist);
+        } finally {
+            event.message = "Therapist";
+            event.commit();
+        }
+    }
+
+    private static com.inspirationparticle.utro.gen.v1.TherapistProto.Therapist therapistProto(com.inspirationparticle.utro.therapist.Therapist therapist) {
         com.inspirationparticle.utro.gen.v1.TherapistProto.Therapist.Builder builder = com.inspirationparticle.utro.gen.v1.TherapistProto.Therapist.newBuilder()
-            .setId(therapist.getId().toString())
-            .setUserId(therapist.getUser().getId().toString())
+            .setId(UUIDCodec.format(therapist.getId()))
+            .setUserId(UUIDCodec.format(therapist.getUser().getId()))
             .setUserName(therapist.getUser().getUsername())
-            .setOrganisationId(therapist.getOrganisation().getId().toString())
+            .setOrganisationId(UUIDCodec.format(therapist.getOrganisation().getId()))
             .setOrganisationName(therapist.getOrganisation().getName())
             .setInPersonTherapyFormat(therapist.getInPersonTherapyFormat() != null ? therapist.getInPersonTherapyFormat() : false)
             .setOnlineTherapyFormat(therapist.getOnlineTherapyFormat() != null ? therapist.getOnlineTherapyFormat() : false)
@@ -111,7 +124,7 @@ public class TherapistProtoMapper {
         }
 
         com.inspirationparticle.utro.gen.v1.TherapistProto.Specialization.Builder builder = com.inspirationparticle.utro.gen.v1.TherapistProto.Specialization.newBuilder()
-            .setId(specialization.getId().toString())
+            .setId(UUIDCodec.format(specialization.getId()))
             .setNameEng(specialization.getNameEng())
             .setNamePl(specialization.getNamePl())
             .setIsActive(specialization.getIsActive() != null ? specialization.getIsActive() : false)
@@ -137,7 +150,7 @@ public class TherapistProtoMapper {
         }
 
         com.inspirationparticle.utro.gen.v1.TherapistProto.TherapistSpecialization.Builder builder = com.inspirationparticle.utro.gen.v1.TherapistProto.TherapistSpecialization.newBuilder()
-            .setSpecializationId(ts.getSpecialization().getId().toString())
+            .setSpecializationId(UUIDCodec.format(ts.getSpecialization().getId()))
             .setNameEng(ts.getSpecialization().getNameEng())
             .setNamePl(ts.getSpecialization().getNamePl())
             .setIsPrimary(ts.getIsPrimary() != null ? ts.getIsPrimary() : false)
@@ -165,7 +178,7 @@ public class TherapistProtoMapper {
         }
 
         com.inspirationparticle.utro.gen.v1.TherapistProto.TherapistEducation.Builder builder = com.inspirationparticle.utro.gen.v1.TherapistProto.TherapistEducation.newBuilder()
-            .setId(education.getId().toString())
+            .setId(UUIDCodec.format(education.getId()))
             .setDegree(education.getDegree())
             .setInstitution(education.getInstitution())
             .setIsCompleted(education.getIsCompleted() != null ? education.getIsCompleted() : false)
@@ -201,7 +214,7 @@ public class TherapistProtoMapper {
         }
 
         com.inspirationparticle.utro.gen.v1.TherapistProto.TherapistCertification.Builder builder = com.inspirationparticle.utro.gen.v1.TherapistProto.TherapistCertification.newBuilder()
-            .setId(certification.getId().toString())
+            .setId(UUIDCodec.format(certification.getId()))
             .setName(certification.getName())
             .setIssuingOrganization(certification.getIssuingOrganization())
             .setIsActive(certification.getIsActive() != null ? certification.getIsActive() : false)
@@ -4,12 +4,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface TherapistRepository extends JpaRepository<Therapist, UUID> {
@@ -50,6 +54,26 @@ public interface TherapistRepository extends JpaRepository<Therapist, UUID> {
            "EXISTS (SELECT 1 FROM t.languages l WHERE LOWER(l) = LOWER(:language))")
     List<Therapist> findByLanguage(@Param("language") String language);
     
+    /**
+     * Published public profiles in id order through a forward-only cursor, for the directory export.
+     * profile_image is selected as NULL so image bytes never reach the heap; the entities are read-only
+     * and must be consumed inside a transaction.
+     */
+    @Query(value = "SELECT t.id, t.user_id, t.organisation_id, t.professional_title, t.description_eng, t.description_pl, " +
+                   "t.work_experience_eng, t.work_experience_pl, t.in_person_therapy_format, t.online_therapy_format, " +
+                   "CAST(NULL AS bytea) AS profile_image, t.profile_image_mime_type, t.contact_email, t.contact_phone, " +
+                   "t.website_url, t.is_active, t.is_accepting_new_clients, t.visibility, t.slug, t.meta_description, " +
+                   "t.created_at, t.updated_at, t.published_at " +
+                   "FROM therapist t " +
+                   "WHERE t.is_active = true AND t.visibility = 'PUBLIC' AND t.published_at IS NOT NULL " +
+                   "ORDER BY t.id",
+           nativeQuery = true)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Therapist> streamPublishedForExport();
+
     boolean existsBySlug(String slug);
     
     boolean existsByUserIdAndIdNot(UUID userId, UUID id);
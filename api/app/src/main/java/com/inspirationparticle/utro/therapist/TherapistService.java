@@ -1,13 +1,12 @@
 package com.inspirationparticle.utro.therapist;
 
 import com.inspirationparticle.utro.gen.v1.TherapistProto;
-import com.inspirationparticle.utro.organisation.MemberType;
 import com.inspirationparticle.utro.organisation.Organisation;
-import com.inspirationparticle.utro.organisation.OrganisationMember;
-import com.inspirationparticle.utro.organisation.OrganisationMemberRepository;
+import com.inspirationparticle.utro.organisation.OrganisationAccess;
 import com.inspirationparticle.utro.organisation.OrganisationRepository;
 import com.inspirationparticle.utro.user.User;
 import com.inspirationparticle.utro.user.UserRepository;
+import com.inspirationparticle.utro.util.UUIDCodec;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -16,7 +15,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
-import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -24,7 +22,7 @@ import java.util.UUID;
 public class TherapistService {
     private final TherapistRepository therapistRepository;
     private final UserRepository userRepository;
-    private final OrganisationMemberRepository organisationMemberRepository;
+    private final OrganisationAccess organisationAccess;
     private final OrganisationRepository organisationRepository;
 
     @Transactional
@@ -34,8 +32,8 @@ public class TherapistService {
         User currentUser = userRepository.findByUsername(username)
                 .orElseThrow(() -> new AccessDeniedException("User not found"));
 
-        UUID organisationId = UUID.fromString(request.getOrganisationId());
-        UUID targetUserId = UUID.fromString(request.getUserId());
+        UUID organisationId = UUIDCodec.parse(request.getOrganisationId());
+        UUID targetUserId = UUIDCodec.parse(request.getUserId());
         
         // Check if current user is admin of the organisation
         if (!isOrganisationAdmin(currentUser.getId(), organisationId)) {
@@ -70,7 +68,7 @@ public class TherapistService {
         User currentUser = userRepository.findByUsername(username)
                 .orElseThrow(() -> new AccessDeniedException("User not found"));
 
-        UUID therapistId = UUID.fromString(request.getId());
+        UUID therapistId = UUIDCodec.parse(request.getId());
         Therapist therapist = therapistRepository.findById(therapistId)
                 .orElseThrow(() -> new IllegalArgumentException("Therapist not found"));
 
@@ -97,7 +95,7 @@ public class TherapistService {
         User currentUser = userRepository.findByUsername(username)
                 .orElseThrow(() -> new AccessDeniedException("User not found"));
 
-        UUID therapistId = UUID.fromString(request.getId());
+        UUID therapistId = UUIDCodec.parse(request.getId());
         Therapist therapist = therapistRepository.findById(therapistId)
                 .orElseThrow(() -> new IllegalArgumentException("Therapist not found"));
 
@@ -121,7 +119,7 @@ public class TherapistService {
         User currentUser = userRepository.findByUsername(username)
                 .orElseThrow(() -> new AccessDeniedException("User not found"));
 
-        UUID therapistId = UUID.fromString(request.getId());
+        UUID therapistId = UUIDCodec.parse(request.getId());
         Therapist therapist = therapistRepository.findById(therapistId)
                 .orElseThrow(() -> new IllegalArgumentException("Therapist not found"));
 
@@ -146,7 +144,7 @@ public class TherapistService {
         User currentUser = userRepository.findByUsername(username)
                 .orElseThrow(() -> new AccessDeniedException("User not found"));
 
-        UUID therapistId = UUID.fromString(request.getId());
+        UUID therapistId = UUIDCodec.parse(request.getId());
         Therapist therapist = therapistRepository.findById(therapistId)
                 .orElseThrow(() -> new IllegalArgumentException("Therapist not found"));
 
@@ -165,9 +163,6 @@ public class TherapistService {
     }
 
     private boolean isOrganisationAdmin(UUID userId, UUID organisationId) {
-        Optional<OrganisationMember> membership = organisationMemberRepository
-                .findByUserIdAndOrganisationId(userId, organisationId);
-        return membership.isPresent() && 
-               membership.get().getMemberType() == MemberType.ADMINISTRATOR;
+        return organisationAccess.isAdmin(userId, organisationId);
     }
 }
\ No newline at end of file
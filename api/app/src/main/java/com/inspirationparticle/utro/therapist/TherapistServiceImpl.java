@@ -1,10 +1,14 @@
 package com.inspirationparticle.utro.therapist;
 
+import com.inspirationparticle.utro.auth.TokenMemberships;
 import com.inspirationparticle.utro.gen.v1.TherapistProto.*;
-import com.inspirationparticle.utro.organisation.MemberType;
-import com.inspirationparticle.utro.organisation.OrganisationMemberRepository;
+import com.inspirationparticle.utro.organisation.OrganisationAccess;
 import com.inspirationparticle.utro.user.User;
 import com.inspirationparticle.utro.user.UserRepository;
+import com.inspirationparticle.utro.util.UUIDCodec;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -15,8 +19,10 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -35,12 +41,15 @@ public class TherapistServiceImpl {
     private UserRepository userRepository;
 
     @Autowired
-    private OrganisationMemberRepository organisationMemberRepository;
+    private OrganisationAccess organisationAccess;
+
+    @Autowired
+    private Tracer tracer;
 
     @PostMapping("/GetTherapist")
     public ResponseEntity<com.inspirationparticle.utro.gen.v1.TherapistProto.Therapist> getTherapist(@RequestBody com.inspirationparticle.utro.gen.v1.TherapistProto.GetTherapistRequest request) {
         try {
-            UUID id = UUID.fromString(request.getId());
+            UUID id = UUIDCodec.parse(request.getId());
             Optional<com.inspirationparticle.utro.therapist.Therapist> therapist = therapistRepository.findById(id);
 
             if (therapist.isEmpty()) {
@@ -68,7 +77,7 @@ public class TherapistServiceImpl {
     @PostMapping("/GetTherapistByUser")
     public ResponseEntity<com.inspirationparticle.utro.gen.v1.TherapistProto.Therapist> getTherapistByUser(@RequestBody com.inspirationparticle.utro.gen.v1.TherapistProto.GetTherapistByUserRequest request) {
         try {
-            UUID userId = UUID.fromString(request.getUserId());
+            UUID userId = UUIDCodec.parse(request.getUserId());
             Optional<com.inspirationparticle.utro.therapist.Therapist> therapist = 
                 therapistRepository.findByUserId(userId);
             
@@ -85,9 +94,6 @@ public class TherapistServiceImpl {
     @PostMapping("/ListTherapists")
     public ResponseEntity<com.inspirationparticle.utro.gen.v1.TherapistProto.ListTherapistsResponse> listTherapists(@RequestBody com.inspirationparticle.utro.gen.v1.TherapistProto.ListTherapistsRequest request) {
         try {
-            List<com.inspirationparticle.utro.therapist.Therapist> therapists;
-            int totalCount = 0;
-
             // Get current user if authenticated
             Authentication auth = SecurityContextHolder.getContext().getAuthentication();
             User currentUser = null;
@@ -95,29 +101,7 @@ public class TherapistServiceImpl {
                 currentUser = userRepository.findByUsername(auth.getName()).orElse(null);
             }
 
-            // Apply filters based on request
-            if (request.hasOrganisationId()) {
-                UUID orgId = UUID.fromString(request.getOrganisationId());
-                therapists = therapistRepository.findVisibleTherapists(orgId);
-            } else if (request.hasSpecializationId()) {
-                UUID specId = UUID.fromString(request.getSpecializationId());
-                therapists = therapistRepository.findBySpecializationId(specId);
-            } else if (request.hasLanguage()) {
-                therapists = therapistRepository.findByLanguage(request.getLanguage());
-            } else if (request.hasInPerson() || request.hasOnline()) {
-                boolean inPerson = request.hasInPerson() && request.getInPerson();
-                boolean online = request.hasOnline() && request.getOnline();
-                therapists = therapistRepository.findByTherapyFormats(inPerson, online);
-            } else if (request.hasAcceptingClients() && request.getAcceptingClients()) {
-                therapists = therapistRepository.findByIsActiveTrueAndIsAcceptingNewClientsTrue();
-            } else if (request.hasVisibility()) {
-                com.inspirationparticle.utro.therapist.Therapist.TherapistVisibility visibility = 
-                    TherapistMapper.mapVisibilityFromProto(request.getVisibility());
-                therapists = therapistRepository.findByVisibilityAndIsActiveTrue(visibility);
-            } else {
-                therapists = therapistRepository.findByVisibilityAndIsActiveTrue(
-                    com.inspirationparticle.utro.therapist.Therapist.TherapistVisibility.PUBLIC);
-            }
+            List<com.inspirationparticle.utro.therapist.Therapist> therapists = findTherapists(request);
 
             // Filter out unpublished therapists unless user is authorized
             List<com.inspirationparticle.utro.therapist.Therapist> filteredTherapists = new ArrayList<>();
@@ -133,9 +117,7 @@ public class TherapistServiceImpl {
                         canView = true;
                     } else {
                         // Show unpublished if user is org admin
-                        var membership = organisationMemberRepository
-                            .findByUserIdAndOrganisationId(currentUser.getId(), therapist.getOrganisation().getId());
-                        if (membership.isPresent() && membership.get().getMemberType() == MemberType.ADMINISTRATOR) {
+                        if (organisationAccess.isAdmin(currentUser.getId(), therapist.getOrganisation().getId())) {
                             canView = true;
                         }
                     }
@@ -145,35 +127,120 @@ public class TherapistServiceImpl {
                     filteredTherapists.add(therapist);
                 }
             }
-            therapists = filteredTherapists;
 
-            totalCount = therapists.size();
+            return ResponseEntity.ok(page(request, filteredTherapists));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
 
-            // Apply pagination
-            int pageSize = Math.max(1, request.getPageSize());
-            int pageNumber = Math.max(0, request.getPageNumber());
-            int start = pageNumber * pageSize;
-            int end = Math.min(start + pageSize, therapists.size());
+    /**
+     * The listing as seen by callers who may view none of its unpublished profiles, which is the same for all of
+     * them, with the therapist and organisation of each unpublished profile it left out
+     */
+    public PublishedListing listPublishedTherapists(com.inspirationparticle.utro.gen.v1.TherapistProto.ListTherapistsRequest request) {
+        try {
+            List<com.inspirationparticle.utro.therapist.Therapist> published = new ArrayList<>();
+            Set<UnpublishedProfile> unpublished = new LinkedHashSet<>();
+            for (com.inspirationparticle.utro.therapist.Therapist therapist : findTherapists(request)) {
+                if (therapist.getPublishedAt() != null) {
+                    published.add(therapist);
+                } else {
+                    unpublished.add(new UnpublishedProfile(therapist.getUser().getId(),
+                            therapist.getOrganisation().getId()));
+                }
+            }
+            return new PublishedListing(ResponseEntity.ok(page(request, published)), List.copyOf(unpublished));
+        } catch (IllegalArgumentException e) {
+            return new PublishedListing(ResponseEntity.badRequest().build(), List.of());
+        }
+    }
 
-            if (start < therapists.size()) {
-                therapists = therapists.subList(start, end);
-            } else {
-                therapists = List.of();
+    /**
+     * Whether the current user is the therapist or an organisation admin of any of these unpublished profiles
+     */
+    public boolean canViewAny(List<UnpublishedProfile> unpublished) {
+        if (unpublished.isEmpty()) {
+            return false;
+        }
+        Optional<UUID> userId = TokenMemberships.current().map(TokenMemberships::userId);
+        if (userId.isEmpty()) {
+            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+            if (auth == null || !auth.isAuthenticated() || auth.getName().equals("anonymousUser")) {
+                return false;
+            }
+            userId = userRepository.findByUsername(auth.getName()).map(User::getId);
+        }
+        if (userId.isEmpty()) {
+            return false;
+        }
+        for (UnpublishedProfile profile : unpublished) {
+            if (profile.userId().equals(userId.get())
+                    || organisationAccess.isAdmin(userId.get(), profile.organisationId())) {
+                return true;
             }
+        }
+        return false;
+    }
 
-            List<com.inspirationparticle.utro.gen.v1.TherapistProto.Therapist> protoTherapists = therapists.stream()
-                .map(TherapistProtoMapper::toProto)
-                .collect(Collectors.toList());
+    public record PublishedListing(
+            ResponseEntity<com.inspirationparticle.utro.gen.v1.TherapistProto.ListTherapistsResponse> response,
+            List<UnpublishedProfile> unpublished) {
+    }
 
-            return ResponseEntity.ok(com.inspirationparticle.utro.gen.v1.TherapistProto.ListTherapistsResponse.newBuilder()
-                .addAllTherapists(protoTherapists)
-                .setTotalCount(totalCount)
-                .setPageSize(pageSize)
-                .setPageNumber(pageNumber)
-                .build());
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().build();
+    public record UnpublishedProfile(UUID userId, UUID organisationId) {
+    }
+
+    private List<com.inspirationparticle.utro.therapist.Therapist> findTherapists(com.inspirationparticle.utro.gen.v1.TherapistProto.ListTherapistsRequest request) {
+        // Apply filters based on request
+        if (request.hasOrganisationId()) {
+            UUID orgId = UUIDCodec.parse(request.getOrganisationId());
+            return therapistRepository.findVisibleTherapists(orgId);
+        } else if (request.hasSpecializationId()) {
+            UUID specId = UUIDCodec.parse(request.getSpecializationId());
+            return therapistRepository.findBySpecializationId(specId);
+        } else if (request.hasLanguage()) {
+            return therapistRepository.findByLanguage(request.getLanguage());
+        } else if (request.hasInPerson() || request.hasOnline()) {
+            boolean inPerson = request.hasInPerson() && request.getInPerson();
+            boolean online = request.hasOnline() && request.getOnline();
+            return therapistRepository.findByTherapyFormats(inPerson, online);
+        } else if (request.hasAcceptingClients() && request.getAcceptingClients()) {
+            return therapistRepository.findByIsActiveTrueAndIsAcceptingNewClientsTrue();
+        } else if (request.hasVisibility()) {
+            com.inspirationparticle.utro.therapist.Therapist.TherapistVisibility visibility = 
+                TherapistMapper.mapVisibilityFromProto(request.getVisibility());
+            return therapistRepository.findByVisibilityAndIsActiveTrue(visibility);
         }
+        return therapistRepository.findByVisibilityAndIsActiveTrue(
+            com.inspirationparticle.utro.therapist.Therapist.TherapistVisibility.PUBLIC);
+    }
+
+    private com.inspirationparticle.utro.gen.v1.TherapistProto.ListTherapistsResponse page(
+            com.inspirationparticle.utro.gen.v1.TherapistProto.ListTherapistsRequest request,
+            List<com.inspirationparticle.utro.therapist.Therapist> therapists) {
+        int totalCount = therapists.size();
+
+        // Apply pagination
+        int pageSize = Math.max(1, request.getPageSize());
+        int pageNumber = Math.max(0, request.getPageNumber());
+        int start = pageNumber * pageSize;
+        int end = Math.min(start + pageSize, therapists.size());
+
+        if (start < therapists.size()) {
+            therapists = therapists.subList(start, end);
+        } else {
+            therapists = List.of();
+        }
+
+        List<com.inspirationparticle.utro.gen.v1.TherapistProto.Therapist> protoTherapists = toProto(therapists);
+
+        return com.inspirationparticle.utro.gen.v1.TherapistProto.ListTherapistsResponse.newBuilder()
+            .addAllTherapists(protoTherapists)
+            .setTotalCount(totalCount)
+            .setPageSize(pageSize)
+            .setPageNumber(pageNumber)
+            .build();
     }
 
     @PostMapping("/SearchTherapists")
@@ -189,9 +256,7 @@ public class TherapistServiceImpl {
         Page<com.inspirationparticle.utro.therapist.Therapist> therapistsPage = 
             therapistRepository.searchTherapists(request.getQuery(), pageable);
 
-        List<com.inspirationparticle.utro.gen.v1.TherapistProto.Therapist> protoTherapists = therapistsPage.getContent().stream()
-            .map(TherapistProtoMapper::toProto)
-            .collect(Collectors.toList());
+        List<com.inspirationparticle.utro.gen.v1.TherapistProto.Therapist> protoTherapists = toProto(therapistsPage.getContent());
 
         return ResponseEntity.ok(com.inspirationparticle.utro.gen.v1.TherapistProto.SearchTherapistsResponse.newBuilder()
             .addAllTherapists(protoTherapists)
@@ -204,7 +269,7 @@ public class TherapistServiceImpl {
     @PostMapping("/GetTherapistProfileImage")
     public ResponseEntity<com.inspirationparticle.utro.gen.v1.TherapistProto.GetTherapistProfileImageResponse> getTherapistProfileImage(@RequestBody com.inspirationparticle.utro.gen.v1.TherapistProto.GetTherapistProfileImageRequest request) {
         try {
-            UUID id = UUID.fromString(request.getId());
+            UUID id = UUIDCodec.parse(request.getId());
             Optional<com.inspirationparticle.utro.therapist.Therapist> therapist = therapistRepository.findById(id);
             
             if (therapist.isEmpty()) {
@@ -249,4 +314,19 @@ public class TherapistServiceImpl {
             com.inspirationparticle.utro.gen.v1.TherapistProto.UnpublishTherapistRequest request, String username) {
         return therapistService.unpublishTherapist(request, username);
     }
+
+    // One span for the page rather than one per therapist; lazy collections loaded while mapping show up under it
+    private List<com.inspirationparticle.utro.gen.v1.TherapistProto.Therapist> toProto(
+            List<com.inspirationparticle.utro.therapist.Therapist> therapists) {
+        Span span = tracer.spanBuilder("TherapistProtoMapper.toProto")
+                .setAttribute("result.count", therapists.size())
+                .startSpan();
+        try (Scope ignored = span.makeCurrent()) {
+            return therapists.stream()
+                .map(TherapistProtoMapper::toProto)
+                .collect(Collectors.toList());
+        } finally {
+            span.end();
+        }
+    }
 }
\ No newline at end of file
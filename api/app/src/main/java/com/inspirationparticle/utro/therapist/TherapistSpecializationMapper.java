@@ -2,6 +2,7 @@ package com.inspirationparticle.utro.therapist;
 
 import com.inspirationparticle.utro.gen.v1.TherapistProto;
 import com.inspirationparticle.utro.time.TimeMapper;
+import com.inspirationparticle.utro.util.UUIDCodec;
 
 public class TherapistSpecializationMapper {
 
@@ -13,7 +14,7 @@ public class TherapistSpecializationMapper {
         Specialization spec = ts.getSpecialization();
         
         TherapistProto.TherapistSpecialization.Builder builder = TherapistProto.TherapistSpecialization.newBuilder()
-            .setSpecializationId(spec.getId().toString())
+            .setSpecializationId(UUIDCodec.format(spec.getId()))
             .setNameEng(spec.getNameEng())
             .setNamePl(spec.getNamePl())
             .setIsPrimary(ts.getIsPrimary() != null ? ts.getIsPrimary() : false)
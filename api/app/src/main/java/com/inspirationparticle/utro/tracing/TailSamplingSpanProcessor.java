@@ -0,0 +1,192 @@
+package com.inspirationparticle.utro.tracing;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the traces head sampling dropped when they turn out to be interesting: one of their spans ended with an
+ * error, or the local root span took at least the latency threshold.
+ * <p>
+ * Works together with {@link #sampler(Sampler)}, which records the spans of dropped traces instead of discarding
+ * them. Those spans are not sampled, so the batch processor ignores them; this processor buffers them per trace
+ * until the local root span ends, then exports the trace or forgets it. At most maxTraces traces and
+ * maxSpansPerTrace spans of each are buffered; spans beyond that are not kept.
+ */
+public class TailSamplingSpanProcessor implements SpanProcessor {
+
+    private static final long STALE_AFTER_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Supplier<SpanExporter> exporter;
+    private final long latencyThresholdNanos;
+    private final int maxTraces;
+    private final int maxSpansPerTrace;
+    private final Map<String, Pending> buffered = new ConcurrentHashMap<>();
+    private final AtomicLong droppedSpans = new AtomicLong();
+
+    public TailSamplingSpanProcessor(Supplier<SpanExporter> exporter, Duration latencyThreshold, int maxTraces,
+                                     int maxSpansPerTrace) {
+        this.exporter = exporter;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.maxTraces = maxTraces;
+        this.maxSpansPerTrace = maxSpansPerTrace;
+    }
+
+    /**
+     * Wraps the head sampler so that the traces it drops are still recorded for this processor
+     */
+    public static Sampler sampler(Sampler headSampler) {
+        return new RecordingSampler(headSampler);
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        SpanContext context = span.getSpanContext();
+        if (context.isSampled()) {
+            return;
+        }
+
+        String traceId = context.getTraceId();
+        SpanData data = span.toSpanData();
+        boolean localRoot = !span.getParentSpanContext().isValid() || span.getParentSpanContext().isRemote();
+        Pending trace = localRoot ? buffered.remove(traceId) : buffer(traceId);
+        if (!localRoot) {
+            if (trace == null || !trace.add(data, maxSpansPerTrace)) {
+                droppedSpans.incrementAndGet();
+            }
+            return;
+        }
+
+        List<SpanData> spans = trace == null ? new ArrayList<>() : trace.spans();
+        spans.add(data);
+        if (keep(data, spans)) {
+            exporter.get().export(spans);
+        }
+    }
+
+    private Pending buffer(String traceId) {
+        Pending trace = buffered.get(traceId);
+        if (trace != null) {
+            return trace;
+        }
+        if (buffered.size() >= maxTraces) {
+            // Spans ending after their local root would otherwise hold a slot forever
+            long staleBefore = System.nanoTime() - Math.max(STALE_AFTER_NANOS, 10 * latencyThresholdNanos);
+            buffered.values().removeIf(pending -> pending.createdAt - staleBefore < 0);
+            if (buffered.size() >= maxTraces) {
+                return null;
+            }
+        }
+        return buffered.computeIfAbsent(traceId, id -> new Pending(System.nanoTime()));
+    }
+
+    private boolean keep(SpanData root, List<SpanData> spans) {
+        if (root.getEndEpochNanos() - root.getStartEpochNanos() >= latencyThresholdNanos) {
+            return true;
+        }
+        for (SpanData span : spans) {
+            if (span.getStatus().getStatusCode() == StatusCode.ERROR) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    /**
+     * Spans not buffered because too many traces were pending or their trace was over maxSpansPerTrace
+     */
+    public long droppedSpans() {
+        return droppedSpans.get();
+    }
+
+    int pendingTraces() {
+        return buffered.size();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        buffered.clear();
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    private static final class Pending {
+
+        private final long createdAt;
+        private final List<SpanData> spans = new ArrayList<>();
+
+        Pending(long createdAt) {
+            this.createdAt = createdAt;
+        }
+
+        synchronized boolean add(SpanData span, int max) {
+            if (spans.size() >= max) {
+                return false;
+            }
+            spans.add(span);
+            return true;
+        }
+
+        synchronized List<SpanData> spans() {
+            return new ArrayList<>(spans);
+        }
+    }
+
+    private record RecordingSampler(Sampler headSampler) implements Sampler {
+
+        @Override
+        public SamplingResult shouldSample(Context parentContext, String traceId, String name, SpanKind spanKind,
+                                           Attributes attributes, List<LinkData> parentLinks) {
+            SamplingResult result = headSampler.shouldSample(parentContext, traceId, name, spanKind, attributes,
+                    parentLinks);
+            if (result.getDecision() != SamplingDecision.DROP) {
+                return result;
+            }
+            return SamplingResult.create(SamplingDecision.RECORD_ONLY, result.getAttributes());
+        }
+
+        @Override
+        public String getDescription() {
+            return "TailSampling{" + headSampler.getDescription() + "}";
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.inspirationparticle.utro.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A span for each call into the services and the Spring Data repositories, named like
+ * TherapistRepository.findByLanguage. Calls returning a collection or a page get the number of entries as
+ * result.count; the JDBC spans of the statements they run are their children.
+ */
+@Aspect
+@Component
+public class TracingAspect {
+
+    private final Tracer tracer;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    public TracingAspect(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Around("execution(public * *(..)) && ("
+            + "within(com.inspirationparticle.utro.therapist.TherapistService)"
+            + " || within(com.inspirationparticle.utro.organisation.InvitationService)"
+            + " || within(com.inspirationparticle.utro.organisation.OrganisationService))")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        String type = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        return trace(type + "." + joinPoint.getSignature().getName(), joinPoint);
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))"
+            + " && this(org.springframework.data.repository.Repository)")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        String type = repositoryNames.computeIfAbsent(joinPoint.getThis().getClass(),
+                proxyClass -> repositoryName(joinPoint.getThis(), joinPoint.getSignature().getDeclaringType()));
+        return trace(type + "." + joinPoint.getSignature().getName(), joinPoint);
+    }
+
+    private Object trace(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        Span span = tracer.spanBuilder(name).startSpan();
+        try (Scope ignored = span.makeCurrent()) {
+            Object result = joinPoint.proceed();
+            if (result instanceof Collection<?> collection) {
+                span.setAttribute("result.count", collection.size());
+            } else if (result instanceof Slice<?> slice) {
+                span.setAttribute("result.count", slice.getNumberOfElements());
+            }
+            return result;
+        } catch (Throwable e) {
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    /**
+     * The application's repository interface behind the proxy, rather than CrudRepository or JpaRepository
+     * that findById or save are declared on
+     */
+    private static String repositoryName(Object proxy, Class<?> declaringType) {
+        for (Class<?> type : AopProxyUtils.proxiedUserInterfaces(proxy)) {
+            if (Repository.class.isAssignableFrom(type) && !type.getName().startsWith("org.springframework.")) {
+                return type.getSimpleName();
+            }
+        }
+        return declaringType.getSimpleName();
+    }
+}
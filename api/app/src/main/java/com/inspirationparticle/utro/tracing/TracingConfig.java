@@ -0,0 +1,65 @@
+package com.inspirationparticle.utro.tracing;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.instrumentation.spring.webmvc.v6_0.SpringWebMvcTelemetry;
+import io.opentelemetry.sdk.autoconfigure.spi.AutoConfigurationCustomizerProvider;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import jakarta.servlet.Filter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Tracing of the API on top of the OpenTelemetry starter.
+ * <p>
+ * Head sampling is the SDK's own, set with otel.traces.sampler and otel.traces.sampler.arg. With
+ * tracing.tail-sampling.enabled the traces it drops are still recorded, and those that fail or are slow are
+ * exported by the {@link TailSamplingSpanProcessor}.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    public Tracer tracer(OpenTelemetry openTelemetry) {
+        return openTelemetry.getTracer("com.inspirationparticle.utro");
+    }
+
+    /**
+     * Server spans, started ahead of Spring Security and the RPC metrics filter so that they cover authentication
+     * and rejected calls too. Replaces the starter's filter, which is registered after the security chain and is
+     * turned off with otel.instrumentation.spring-webmvc.enabled=false.
+     */
+    @Bean
+    public FilterRegistrationBean<Filter> tracingFilter(OpenTelemetry openTelemetry) {
+        FilterRegistrationBean<Filter> registration =
+                new FilterRegistrationBean<>(SpringWebMvcTelemetry.create(openTelemetry).createServletFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "tracing.tail-sampling.enabled", havingValue = "true")
+    public AutoConfigurationCustomizerProvider tailSampling(
+            @Value("${tracing.tail-sampling.latency-threshold:1s}") Duration latencyThreshold,
+            @Value("${tracing.tail-sampling.max-traces:1000}") int maxTraces,
+            @Value("${tracing.tail-sampling.max-spans-per-trace:500}") int maxSpansPerTrace) {
+        List<SpanExporter> exporters = new CopyOnWriteArrayList<>();
+        TailSamplingSpanProcessor processor = new TailSamplingSpanProcessor(
+                () -> SpanExporter.composite(exporters), latencyThreshold, maxTraces, maxSpansPerTrace);
+        return customizer -> customizer
+                .addSamplerCustomizer((sampler, config) -> TailSamplingSpanProcessor.sampler(sampler))
+                .addSpanExporterCustomizer((exporter, config) -> {
+                    exporters.add(exporter);
+                    return exporter;
+                })
+                .addTracerProviderCustomizer((builder, config) -> builder.addSpanProcessor(processor));
+    }
+}
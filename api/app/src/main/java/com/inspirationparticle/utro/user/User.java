@@ -54,6 +54,11 @@ public class User {
     @Column(name = "last_login_at")
     private Instant lastLoginAt;
 
+    // Maintained by a database trigger on organisation_member, never written from here
+    @Column(name = "membership_version", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "bigint default 0")
+    private Long membershipVersion = 0L;
+
     @PrePersist
     protected void onCreate() {
         if (id == null) {
@@ -148,6 +153,10 @@ public class User {
         this.lastLoginAt = lastLoginAt;
     }
 
+    public Long getMembershipVersion() {
+        return membershipVersion;
+    }
+
     public String getPassword() {
         return password;
     }
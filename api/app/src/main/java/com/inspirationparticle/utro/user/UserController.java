@@ -1,5 +1,6 @@
 package com.inspirationparticle.utro.user;
 
+import com.inspirationparticle.utro.util.UUIDCodec;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
@@ -48,7 +49,7 @@ public class UserController {
         
         return ResponseEntity.ok(Map.of(
             "message", "User created successfully",
-            "userId", user.getId().toString(),
+            "userId", UUIDCodec.format(user.getId()),
             "username", user.getUsername()
         ));
     }
@@ -1,6 +1,8 @@
 package com.inspirationparticle.utro.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -13,4 +15,35 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByProviderAndProviderId(String provider, String providerId);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+
+    /**
+     * Finds the user matching the provider identity, username or email (in that order of preference)
+     * or inserts a new one, in a single statement. Returns empty only if a concurrent insert won the race.
+     */
+    @Query(value = "WITH existing AS (" +
+            "    SELECT * FROM \"user\" u" +
+            "    WHERE (CAST(:providerId AS varchar) IS NOT NULL AND u.provider = CAST(:provider AS varchar) AND u.provider_id = CAST(:providerId AS varchar))" +
+            "       OR u.username = CAST(:username AS varchar)" +
+            "       OR (CAST(:email AS varchar) IS NOT NULL AND u.email = CAST(:email AS varchar))" +
+            "    ORDER BY CASE" +
+            "        WHEN u.provider_id = CAST(:providerId AS varchar) AND u.provider = CAST(:provider AS varchar) THEN 0" +
+            "        WHEN u.username = CAST(:username AS varchar) THEN 1" +
+            "        ELSE 2 END" +
+            "    LIMIT 1" +
+            "), inserted AS (" +
+            "    INSERT INTO \"user\" (id, username, email, full_name, provider, provider_id, created_at, updated_at, last_login_at)" +
+            "    SELECT :id, CAST(:username AS varchar), CAST(:email AS varchar), CAST(:fullName AS varchar)," +
+            "           CAST(:provider AS varchar), CAST(:providerId AS varchar), now(), now(), now()" +
+            "    WHERE NOT EXISTS (SELECT 1 FROM existing)" +
+            "    ON CONFLICT DO NOTHING" +
+            "    RETURNING *" +
+            ") " +
+            "SELECT * FROM existing UNION ALL SELECT * FROM inserted LIMIT 1",
+            nativeQuery = true)
+    Optional<User> findOrInsert(@Param("id") UUID id,
+                                @Param("username") String username,
+                                @Param("email") String email,
+                                @Param("fullName") String fullName,
+                                @Param("provider") String provider,
+                                @Param("providerId") String providerId);
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.inspirationparticle.utro.user;
 
+import com.inspirationparticle.utro.util.UUIDv7Generator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -16,42 +17,29 @@ import java.util.Optional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final LastLoginRecorder lastLoginRecorder;
     private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    // Hashed once at startup with the same cost factor as real passwords
+    private final String dummyHash = passwordEncoder.encode("dummy-password-for-timing");
 
     public User findOrCreateUser(String username, String email, String fullName, String provider, String providerId) {
         log.debug("Finding or creating user: username={}, email={}, provider={}", username, email, provider);
-        Optional<User> existingUser = Optional.empty();
+        String effectiveProvider = provider != null ? provider : "local";
         
-        if (providerId != null && provider != null) {
-            existingUser = userRepository.findByProviderAndProviderId(provider, providerId);
-        }
-        
-        if (existingUser.isEmpty() && username != null) {
-            existingUser = userRepository.findByUsername(username);
-        }
+        // One round trip for lookup-or-insert; last login is written behind, off the request transaction
+        Optional<User> user = userRepository.findOrInsert(
+                UUIDv7Generator.generateUUIDv7(), username, email, fullName, effectiveProvider, providerId);
         
-        if (existingUser.isEmpty() && email != null) {
-            existingUser = userRepository.findByEmail(email);
+        if (user.isEmpty()) {
+            // A concurrent login inserted the same user between our lookup and insert
+            log.debug("Concurrent user creation detected, re-reading: username={}", username);
+            user = userRepository.findByUsername(username);
         }
         
-        if (existingUser.isPresent()) {
-            User user = existingUser.get();
-            log.info("User found: id={}, username={}", user.getId(), user.getUsername());
-            user.setLastLoginAt(Instant.now());
-            return userRepository.save(user);
-        } else {
-            log.info("Creating new user: username={}, email={}", username, email);
-            User newUser = new User();
-            newUser.setUsername(username);
-            newUser.setEmail(email);
-            newUser.setFullName(fullName);
-            newUser.setProvider(provider != null ? provider : "local");
-            newUser.setProviderId(providerId);
-            newUser.setLastLoginAt(Instant.now());
-            User savedUser = userRepository.save(newUser);
-            log.info("New user created successfully: id={}", savedUser.getId());
-            return savedUser;
-        }
+        User result = user.orElseThrow(() -> new IllegalStateException("User could not be found or created: " + username));
+        lastLoginRecorder.record(result.getId(), Instant.now());
+        log.info("User resolved for login: id={}, username={}", result.getId(), result.getUsername());
+        return result;
     }
 
     public Optional<User> findByUsername(String username) {
@@ -61,8 +49,7 @@ public class UserService {
 
     public void updateLastLogin(User user) {
         log.debug("Updating last login for user: id={}", user.getId());
-        user.setLastLoginAt(Instant.now());
-        userRepository.save(user);
+        lastLoginRecorder.record(user.getId(), Instant.now());
     }
 
     public boolean validateCredentials(String username, String password) {
@@ -76,6 +63,8 @@ public class UserService {
         Optional<User> userOpt = userRepository.findByUsername(username);
         if (userOpt.isEmpty()) {
             log.warn("User not found: {}", username);
+            // Hash anyway so unknown usernames take as long as wrong passwords
+            passwordEncoder.matches(password, dummyHash);
             return false;
         }
         
@@ -83,6 +72,7 @@ public class UserService {
         
         if (user.getPassword() == null) {
             log.warn("User has no password set: {}", username);
+            passwordEncoder.matches(password, dummyHash);
             return false;
         }
         
@@ -0,0 +1,102 @@
+package com.inspirationparticle.utro.util;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.MessageOrBuilder;
+import com.google.protobuf.util.JsonFormat;
+import com.inspirationparticle.utro.config.ProtobufConfig;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Connect protocol server-streaming over JSON
+ * Every message travels in an envelope of a flags byte and a 4-byte big-endian length followed by the JSON
+ * payload; the response ends with an end-of-stream envelope, which carries the error if the stream failed
+ * after the 200 status was already sent
+ */
+public final class ConnectStream {
+
+    public static final String CONTENT_TYPE = "application/connect+json";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(CONTENT_TYPE);
+
+    private static final int HEADER_LENGTH = 5;
+    private static final byte FLAG_COMPRESSED = 0x01;
+    private static final byte FLAG_END_STREAM = 0x02;
+
+    // Same JSON shape as the unary endpoints
+    private static final JsonFormat.Parser PARSER = ProtobufConfig.jsonParser();
+    private static final JsonFormat.Printer PRINTER = ProtobufConfig.jsonPrinter().omittingInsignificantWhitespace();
+
+    private final OutputStream out;
+    private final byte[] header = new byte[HEADER_LENGTH];
+
+    public ConnectStream(OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Unwrap the single enveloped request message of a server-streaming call
+     */
+    public static <B extends Message.Builder> B parseRequest(byte[] body, B builder) {
+        if (body == null || body.length < HEADER_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Missing request envelope");
+        }
+        ByteBuffer envelope = ByteBuffer.wrap(body);
+        byte flags = envelope.get();
+        int length = envelope.getInt();
+        if ((flags & FLAG_COMPRESSED) != 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Compressed requests are not supported");
+        }
+        if (length != body.length - HEADER_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Malformed request envelope");
+        }
+        try {
+            PARSER.merge(new String(body, HEADER_LENGTH, length, StandardCharsets.UTF_8), builder);
+        } catch (InvalidProtocolBufferException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Malformed request message");
+        }
+        return builder;
+    }
+
+    public void send(MessageOrBuilder message) throws IOException {
+        write((byte) 0, PRINTER.print(message).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * End the stream successfully
+     */
+    public void complete() throws IOException {
+        write(FLAG_END_STREAM, "{}".getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    /**
+     * End the stream with a Connect error code such as "internal" or "unavailable"
+     */
+    public void fail(String code, String message) throws IOException {
+        String json = "{\"error\":{\"code\":\"" + code + "\",\"message\":\"" + escape(message) + "\"}}";
+        write(FLAG_END_STREAM, json.getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private void write(byte flags, byte[] payload) throws IOException {
+        header[0] = flags;
+        header[1] = (byte) (payload.length >>> 24);
+        header[2] = (byte) (payload.length >>> 16);
+        header[3] = (byte) (payload.length >>> 8);
+        header[4] = (byte) payload.length;
+        out.write(header);
+        out.write(payload);
+    }
+
+    private static String escape(String value) {
+        return new String(JsonStringEncoder.getInstance().quoteAsString(value));
+    }
+}
@@ -0,0 +1,28 @@
+package com.inspirationparticle.utro.util;
+
+import java.util.UUID;
+
+/**
+ * UUID parsing and formatting for request and response mapping
+ * IDs arrive and leave as standalone Strings inside protobuf messages, where the JDK's own fast paths
+ * are the quickest option
+ */
+public final class UUIDCodec {
+
+    private UUIDCodec() {
+    }
+
+    /**
+     * Parse a UUID, throwing IllegalArgumentException for null or malformed input
+     */
+    public static UUID parse(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("UUID string must not be null");
+        }
+        return UUID.fromString(value);
+    }
+
+    public static String format(UUID uuid) {
+        return uuid.toString();
+    }
+}
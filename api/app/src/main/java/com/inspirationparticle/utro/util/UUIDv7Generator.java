@@ -1,68 +1,56 @@
 package com.inspirationparticle.utro.util;
 
-import java.nio.ByteBuffer;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.util.NoSuchElementException;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * UUID Version 7 Generator
  * Generates time-ordered UUIDs based on Unix timestamp with millisecond precision
  * Compatible with PostgreSQL 18's UUID v7 implementation
+ *
+ * Lock-free: the timestamp and 12-bit counter are packed into one long that is advanced with CAS,
+ * so IDs are strictly increasing across all threads. When the counter overflows within a millisecond
+ * it carries into the timestamp instead of waiting for the clock. The random tail comes from
+ * a per-thread DRBG read through a per-thread buffer, so generating an ID allocates only the UUID.
  */
 public class UUIDv7Generator {
-    
-    private static final SecureRandom RANDOM = new SecureRandom();
-    private static final AtomicInteger SEQUENCE = new AtomicInteger(RANDOM.nextInt() & 0xFFF);
-    private static long lastTimestamp = 0;
-    
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    // A new millisecond starts the counter in the lower half, leaving room before it carries
+    private static final int SEQUENCE_START_RANGE = 1 << (SEQUENCE_BITS - 1);
+
+    // (timestamp ms << 12) | sequence of the last issued ID; only ever increases
+    private static final AtomicLong STATE = new AtomicLong();
+
+    private static final ThreadLocal<RandomBuffer> RANDOM = ThreadLocal.withInitial(RandomBuffer::new);
+
     /**
      * Generate a new UUID v7
-     * Format: 48-bit timestamp (ms) | 4-bit version | 12-bit random | 2-bit variant | 62-bit random
+     * Format: 48-bit timestamp (ms) | 4-bit version | 12-bit sequence | 2-bit variant | 62-bit random
      */
     public static UUID generateUUIDv7() {
-        long timestamp = System.currentTimeMillis();
-        
-        // Handle clock sequence for same millisecond
-        synchronized (UUIDv7Generator.class) {
-            if (timestamp == lastTimestamp) {
-                int seq = SEQUENCE.incrementAndGet() & 0xFFF;
-                if (seq == 0) {
-                    // Sequence overflow, wait for next millisecond
-                    while (timestamp == lastTimestamp) {
-                        timestamp = System.currentTimeMillis();
-                    }
-                }
-            } else {
-                SEQUENCE.set(RANDOM.nextInt() & 0xFFF);
-            }
-            lastTimestamp = timestamp;
+        RandomBuffer random = RANDOM.get();
+        return build(reserveStates(1, random), random.nextLong());
+    }
+
+    /**
+     * Reserve a contiguous block of IDs with a single CAS, for bulk inserts.
+     * The returned reservation is not thread-safe and is meant to be drained by one caller.
+     */
+    public static Reservation reserve(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Reservation size must be positive");
         }
-        
-        // Create 16 byte buffer for UUID
-        ByteBuffer buffer = ByteBuffer.allocate(16);
-        
-        // Timestamp (48 bits)
-        buffer.putShort((short) (timestamp >>> 32));
-        buffer.putInt((int) timestamp);
-        
-        // Version (4 bits) and sequence (12 bits)
-        int versionAndSeq = (0x7 << 12) | (SEQUENCE.get() & 0xFFF);
-        buffer.putShort((short) versionAndSeq);
-        
-        // Variant (2 bits) and random (62 bits)
-        byte[] randomBytes = new byte[8];
-        RANDOM.nextBytes(randomBytes);
-        randomBytes[0] = (byte) ((randomBytes[0] & 0x3F) | 0x80); // Set variant bits
-        buffer.put(randomBytes);
-        
-        buffer.rewind();
-        long mostSigBits = buffer.getLong();
-        long leastSigBits = buffer.getLong();
-        
-        return new UUID(mostSigBits, leastSigBits);
+        return new Reservation(reserveStates(count, RANDOM.get()), count);
     }
-    
+
     /**
      * Extract timestamp from UUID v7
      */
@@ -70,7 +58,7 @@ public class UUIDv7Generator {
         long mostSigBits = uuid.getMostSignificantBits();
         return (mostSigBits >>> 16) & 0xFFFFFFFFFFFFL;
     }
-    
+
     /**
      * Check if a UUID is version 7
      */
@@ -79,4 +67,94 @@ public class UUIDv7Generator {
         int version = (int) ((mostSigBits >>> 12) & 0xF);
         return version == 7;
     }
-}
\ No newline at end of file
+
+    /**
+     * Claims count consecutive states and returns the first one
+     */
+    private static long reserveStates(int count, RandomBuffer random) {
+        long clock = System.currentTimeMillis() << SEQUENCE_BITS;
+        long fresh = 0;
+        while (true) {
+            long last = STATE.get();
+            long first;
+            if (clock > last) {
+                if (fresh == 0) {
+                    fresh = clock | (random.nextLong() & (SEQUENCE_START_RANGE - 1));
+                }
+                first = fresh;
+            } else {
+                first = last + 1;
+            }
+            if (STATE.compareAndSet(last, first + count - 1)) {
+                return first;
+            }
+        }
+    }
+
+    private static UUID build(long state, long random) {
+        long timestamp = (state >>> SEQUENCE_BITS) & 0xFFFFFFFFFFFFL;
+        long mostSigBits = (timestamp << 16) | 0x7000L | (state & SEQUENCE_MASK);
+        long leastSigBits = (random & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * A block of IDs reserved ahead of time, issued in increasing order
+     */
+    public static final class Reservation {
+        private final long firstState;
+        private final int size;
+        private int issued;
+
+        private Reservation(long firstState, int size) {
+            this.firstState = firstState;
+            this.size = size;
+        }
+
+        public UUID next() {
+            if (issued == size) {
+                throw new NoSuchElementException("Reservation of " + size + " IDs exhausted");
+            }
+            return build(firstState + issued++, RANDOM.get().nextLong());
+        }
+
+        public boolean hasNext() {
+            return issued < size;
+        }
+
+        public int remaining() {
+            return size - issued;
+        }
+    }
+
+    /**
+     * Random bytes drawn from a thread-confined SecureRandom in blocks
+     */
+    private static final class RandomBuffer {
+        private static final int SIZE = 512;
+        private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+        private final SecureRandom source = newSource();
+        private final byte[] buffer = new byte[SIZE];
+        private int position = SIZE;
+
+        long nextLong() {
+            if (position == SIZE) {
+                source.nextBytes(buffer);
+                position = 0;
+            }
+            long value = (long) LONGS.get(buffer, position);
+            position += Long.BYTES;
+            return value;
+        }
+
+        private static SecureRandom newSource() {
+            // DRBG instances do not share state, unlike NativePRNG which serialises on /dev/urandom
+            try {
+                return SecureRandom.getInstance("DRBG");
+            } catch (NoSuchAlgorithmException e) {
+                return new SecureRandom();
+            }
+        }
+    }
+}
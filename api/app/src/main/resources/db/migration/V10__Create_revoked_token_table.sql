@@ -0,0 +1,11 @@
+-- Revoked access tokens, keyed by the token's jti claim
+-- Rows are only needed until the token would have expired anyway
+CREATE TABLE revoked_token (
+    jti UUID PRIMARY KEY,
+    username VARCHAR(255),
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    revoked_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_revoked_token_expires_at ON revoked_token(expires_at);
+CREATE INDEX idx_revoked_token_revoked_at ON revoked_token(revoked_at);
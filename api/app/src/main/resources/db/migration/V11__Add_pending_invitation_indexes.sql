@@ -0,0 +1,5 @@
+-- Pending invitations ordered by expiry, for the expiry sweeper
+CREATE INDEX idx_invitation_pending_expires_at ON invitation(expires_at) WHERE status = 'PENDING';
+
+-- Active invitation lookups per organisation and email only ever look at pending rows
+CREATE INDEX idx_invitation_pending_organisation_email ON invitation(organisation_id, email, expires_at) WHERE status = 'PENDING';
@@ -0,0 +1,16 @@
+-- Outgoing emails, written in the same transaction as the change that triggers them
+CREATE TABLE email_outbox (
+    id UUID PRIMARY KEY,
+    recipient VARCHAR(255) NOT NULL,
+    subject VARCHAR(255) NOT NULL,
+    body TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL,
+    sent_at TIMESTAMP
+);
+
+-- Due emails for the dispatcher; sent and failed rows are never scanned
+CREATE INDEX idx_email_outbox_pending_next_attempt ON email_outbox(next_attempt_at) WHERE status = 'PENDING';
@@ -0,0 +1,8 @@
+-- Trigram indexes for ranked, substring and fuzzy organisation search
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_organisation_name_trgm ON organisation USING gin (name gin_trgm_ops);
+CREATE INDEX idx_organisation_description_trgm ON organisation USING gin (description gin_trgm_ops);
+
+-- Name prefix lookups for queries too short for trigrams
+CREATE INDEX idx_organisation_lower_name_prefix ON organisation (lower(name) text_pattern_ops);
@@ -0,0 +1,9 @@
+-- Member listings are ordered and paged on (full_name IS NULL, coalesce(full_name, ''), username, id).
+-- Large organisations walk this index in order and probe the membership primary key for each user.
+CREATE INDEX idx_user_member_sort ON "user" ((full_name IS NULL), (coalesce(full_name, '')), username, id);
+
+-- Smaller organisations are read with an index-only scan of their memberships and top-N sorted.
+-- This supersedes the single-column organisation index.
+CREATE INDEX idx_organisation_member_organisation_user ON organisation_member (organisation_id, user_id)
+    INCLUDE (member_type, joined_at);
+DROP INDEX IF EXISTS idx_organisation_member_organisation;
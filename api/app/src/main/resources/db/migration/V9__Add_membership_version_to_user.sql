@@ -0,0 +1,23 @@
+-- Add a per-user membership version for organisation role claims in access tokens
+-- Tokens carry the version they were issued with; a mismatch means the roles in the token are stale
+
+ALTER TABLE "user" ADD COLUMN membership_version BIGINT NOT NULL DEFAULT 0;
+
+-- Bump the version of every user whose memberships change
+CREATE OR REPLACE FUNCTION bump_membership_version()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        UPDATE "user" SET membership_version = membership_version + 1 WHERE id = OLD.user_id;
+    END IF;
+    IF TG_OP = 'INSERT' OR (TG_OP = 'UPDATE' AND NEW.user_id <> OLD.user_id) THEN
+        UPDATE "user" SET membership_version = membership_version + 1 WHERE id = NEW.user_id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER organisation_member_version_trigger
+    AFTER INSERT OR UPDATE OR DELETE ON organisation_member
+    FOR EACH ROW
+    EXECUTE FUNCTION bump_membership_version();
@@ -0,0 +1,80 @@
+package com.inspirationparticle.utro.auth;
+
+import com.inspirationparticle.utro.user.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CredentialVerifierTest {
+
+    @Mock
+    private UserService userService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CredentialVerifier credentialVerifier;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        credentialVerifier = new CredentialVerifier(userService, meterRegistry, 1, 1, 5000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        credentialVerifier.shutdown();
+    }
+
+    @Test
+    void testVerify_WithValidCredentials_ReturnsResultAndRecordsTime() {
+        // Given
+        when(userService.validateCredentials("testuser", "secret")).thenReturn(true);
+
+        // When
+        boolean valid = credentialVerifier.verify("testuser", "secret");
+
+        // Then
+        assertTrue(valid);
+        assertEquals(1, meterRegistry.get("auth.login.verify").timer().count());
+    }
+
+    @Test
+    void testVerify_WhenPoolAndQueueAreFull_RejectsImmediately() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userService.validateCredentials(anyString(), anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+
+        // One login occupies the only thread, a second waits in the queue
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> credentialVerifier.verify("first", "secret"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> credentialVerifier.verify("second", "secret"));
+        while (meterRegistry.get("auth.login.queue.depth").gauge().value() < 1) {
+            Thread.sleep(5);
+        }
+
+        // When / Then
+        assertThrows(LoginThrottledException.class, () -> credentialVerifier.verify("third", "secret"));
+        assertEquals(1.0, meterRegistry.get("auth.login.rejected").counter().count());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+    }
+}
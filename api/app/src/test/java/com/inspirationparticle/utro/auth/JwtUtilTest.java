@@ -0,0 +1,63 @@
+package com.inspirationparticle.utro.auth;
+
+import com.inspirationparticle.utro.organisation.MemberType;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    @BeforeAll
+    static void setUp() {
+        new JwtUtil().setSecret("test-secret-key-for-jwt-util-tests-only");
+    }
+
+    @Test
+    void testGenerateToken_WithoutMemberships_HasNoOrganisationClaims() {
+        // When
+        Claims claims = JwtUtil.validateToken(JwtUtil.generateToken("testuser"));
+
+        // Then
+        assertEquals("testuser", claims.getSubject());
+        assertNull(TokenMemberships.fromClaims(claims));
+    }
+
+    @Test
+    void testGenerateToken_WithMemberships_RoundTripsRolesAndVersion() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        UUID adminOrganisation = UUID.randomUUID();
+        UUID memberOrganisation = UUID.randomUUID();
+        TokenMemberships memberships = new TokenMemberships(userId, 7L, Map.of(
+                adminOrganisation, MemberType.ADMINISTRATOR,
+                memberOrganisation, MemberType.MEMBER));
+
+        // When
+        Claims claims = JwtUtil.validateToken(JwtUtil.generateToken("testuser", memberships));
+        TokenMemberships parsed = TokenMemberships.fromClaims(claims);
+
+        // Then
+        assertNotNull(parsed);
+        assertEquals(userId, parsed.userId());
+        assertEquals(7L, parsed.version());
+        assertEquals(MemberType.ADMINISTRATOR, parsed.memberType(adminOrganisation).orElseThrow());
+        assertEquals(MemberType.MEMBER, parsed.memberType(memberOrganisation).orElseThrow());
+        assertTrue(parsed.memberType(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    void testGenerateToken_AssignsUniqueTokenId() {
+        // When
+        Claims first = JwtUtil.validateToken(JwtUtil.generateToken("testuser"));
+        Claims second = JwtUtil.validateToken(JwtUtil.generateToken("testuser"));
+
+        // Then
+        assertNotNull(first.getId());
+        assertNotEquals(first.getId(), second.getId());
+    }
+}
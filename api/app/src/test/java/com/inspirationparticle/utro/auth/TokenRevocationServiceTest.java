@@ -0,0 +1,75 @@
+package com.inspirationparticle.utro.auth;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationService = new TokenRevocationService(revokedTokenRepository, 0.001);
+    }
+
+    @Test
+    void testIsRevoked_WithUnknownToken_DoesNotQueryDatabase() {
+        // When
+        boolean revoked = tokenRevocationService.isRevoked(UUID.randomUUID().toString());
+
+        // Then
+        assertFalse(revoked);
+        verify(revokedTokenRepository, never()).existsById(any());
+    }
+
+    @Test
+    void testIsRevoked_WithMissingOrMalformedJti_ReturnsFalse() {
+        assertFalse(tokenRevocationService.isRevoked(null));
+        assertFalse(tokenRevocationService.isRevoked("not-a-uuid"));
+        verifyNoInteractions(revokedTokenRepository);
+    }
+
+    @Test
+    void testRevoke_ThenIsRevoked_ConfirmsAgainstDatabase() {
+        // Given
+        UUID jti = UUID.randomUUID();
+        when(revokedTokenRepository.existsById(jti)).thenReturn(false, true);
+
+        // When
+        tokenRevocationService.revoke(jti.toString(), "testuser", Instant.now().plusSeconds(3600));
+
+        // Then
+        assertTrue(tokenRevocationService.isRevoked(jti.toString()));
+        verify(revokedTokenRepository).save(any(RevokedToken.class));
+    }
+
+    @Test
+    void testRebuild_LoadsRevocationsRecordedElsewhere() {
+        // Given
+        UUID jti = UUID.randomUUID();
+        when(revokedTokenRepository.findUnexpiredJtis(any())).thenReturn(List.of(jti));
+        when(revokedTokenRepository.existsById(jti)).thenReturn(true);
+
+        // When
+        tokenRevocationService.rebuild();
+
+        // Then
+        assertTrue(tokenRevocationService.isRevoked(jti.toString()));
+        verify(revokedTokenRepository).deleteExpired(any());
+    }
+}
@@ -0,0 +1,89 @@
+package com.inspirationparticle.utro.config;
+
+import com.inspirationparticle.utro.UtroApplication;
+import com.inspirationparticle.utro.auth.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationExcludeFilter;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Diagnostic actuator endpoints are for the users listed in security.operators only
+ */
+@SpringBootTest(classes = ActuatorSecurityIntegrationTest.Application.class, properties = "security.operators=ops")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ActuatorSecurityIntegrationTest {
+
+    /**
+     * The application without security.SecurityConfig, which shares its bean name with config.SecurityConfig
+     */
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @AutoConfigurationPackage(basePackageClasses = UtroApplication.class)
+    @ComponentScan(basePackageClasses = UtroApplication.class, excludeFilters = {
+            @ComponentScan.Filter(type = FilterType.CUSTOM, classes = TypeExcludeFilter.class),
+            @ComponentScan.Filter(type = FilterType.CUSTOM, classes = AutoConfigurationExcludeFilter.class),
+            @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {
+                    UtroApplication.class,
+                    com.inspirationparticle.utro.security.SecurityConfig.class
+            })
+    })
+    static class Application {
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testFlightRecorder_IsForbiddenToAnonymousCallersAndUsers() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/actuator/flightrecorder"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/flightrecorder").header(HttpHeaders.AUTHORIZATION, bearer("alice")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void testFlightRecorder_IsOpenToOperators() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/actuator/flightrecorder").header(HttpHeaders.AUTHORIZATION, bearer("ops")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testQueryStatistics_IsOpenToOperatorsOnly() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/actuator/queries"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/actuator/queries").header(HttpHeaders.AUTHORIZATION, bearer("alice")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/queries").header(HttpHeaders.AUTHORIZATION, bearer("ops")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testHealth_StaysPublic() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    private static String bearer(String username) {
+        return "Bearer " + JwtUtil.generateToken(username);
+    }
+}
@@ -0,0 +1,122 @@
+package com.inspirationparticle.utro.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Mock
+    private EmailOutbox outbox;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testDispatch_SendsClaimedBatchAndMarksItSent() throws Exception {
+        // Given
+        EmailDispatcher dispatcher = dispatcher(ServerSetupTest.SMTP.getPort(), 10);
+        List<OutboxEmail> batch = List.of(
+                email("anna@example.com", 1),
+                email("ben@example.com", 1),
+                email("cleo@example.com", 1));
+        when(outbox.claimDue(eq(10), any(Duration.class))).thenReturn(batch);
+
+        // When
+        int delivered = dispatcher.dispatch();
+
+        // Then
+        assertEquals(3, delivered);
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(3, received.length);
+        assertEquals("You have been invited", received[0].getSubject());
+        assertTrue(GreenMailUtil.getBody(received[0]).contains("Welcome"));
+        verify(outbox).markSent(argThat((Collection<UUID> ids) -> ids.size() == 3));
+        verify(outbox, never()).scheduleRetry(any(), any(), anyString());
+        assertEquals(3.0, meterRegistry.counter("mail.outbox.sent").count());
+    }
+
+    @Test
+    void testDispatch_WhenServerUnreachable_RetriesAndGivesUpAtAttemptLimit() {
+        // Given
+        EmailDispatcher dispatcher = dispatcher(unusedPort(), 10);
+        OutboxEmail firstAttempt = email("anna@example.com", 1);
+        OutboxEmail lastAttempt = email("ben@example.com", 3);
+        when(outbox.claimDue(anyInt(), any(Duration.class))).thenReturn(List.of(firstAttempt, lastAttempt));
+
+        // When
+        int delivered = dispatcher.dispatch();
+
+        // Then
+        assertEquals(0, delivered);
+        verify(outbox).scheduleRetry(eq(firstAttempt.id()), any(Instant.class), anyString());
+        verify(outbox).markFailed(eq(lastAttempt.id()), anyString());
+        verify(outbox).markSent(argThat((Collection<UUID> ids) -> ids.isEmpty()));
+        assertEquals(1.0, meterRegistry.counter("mail.outbox.retried").count());
+        assertEquals(1.0, meterRegistry.counter("mail.outbox.failed").count());
+    }
+
+    @Test
+    void testBackoff_GrowsExponentiallyUpToCap() {
+        // Given
+        EmailDispatcher dispatcher = dispatcher(ServerSetupTest.SMTP.getPort(), 10);
+
+        // Then
+        assertTrue(dispatcher.backoff(1).toMillis() > 800 && dispatcher.backoff(1).toMillis() <= 1000);
+        assertTrue(dispatcher.backoff(3).toMillis() > 3200 && dispatcher.backoff(3).toMillis() <= 4000);
+        assertTrue(dispatcher.backoff(30).toMillis() <= 60_000);
+    }
+
+    private EmailDispatcher dispatcher(int port, int batchSize) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(port);
+        mailSender.getJavaMailProperties().put("mail.smtp.connectiontimeout", "2000");
+        return new EmailDispatcher(outbox, mailSender, meterRegistry, "no-reply@utro.local", batchSize,
+                Duration.ofMinutes(2), Duration.ofSeconds(1), Duration.ofMinutes(1), 3);
+    }
+
+    private static OutboxEmail email(String recipient, int attempts) {
+        return new OutboxEmail(UUID.randomUUID(), attempts,
+                new EmailMessage(recipient, "You have been invited", "Welcome to Utro"));
+    }
+
+    private static int unusedPort() {
+        try (java.net.ServerSocket socket = new java.net.ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (java.io.IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
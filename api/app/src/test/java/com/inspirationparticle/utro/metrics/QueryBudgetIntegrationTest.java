@@ -0,0 +1,183 @@
+package com.inspirationparticle.utro.metrics;
+
+import com.inspirationparticle.utro.UtroApplication;
+import com.inspirationparticle.utro.auth.JwtUtil;
+import com.inspirationparticle.utro.organisation.MemberType;
+import com.inspirationparticle.utro.organisation.Organisation;
+import com.inspirationparticle.utro.organisation.OrganisationMember;
+import com.inspirationparticle.utro.organisation.OrganisationMemberRepository;
+import com.inspirationparticle.utro.organisation.OrganisationRepository;
+import com.inspirationparticle.utro.therapist.Therapist;
+import com.inspirationparticle.utro.therapist.TherapistRepository;
+import com.inspirationparticle.utro.user.User;
+import com.inspirationparticle.utro.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationExcludeFilter;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.inspirationparticle.utro.metrics.QueryCountAssertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement counts of the list endpoints must not grow with the number of rows they return
+ */
+@SpringBootTest(classes = QueryBudgetIntegrationTest.Application.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QueryBudgetIntegrationTest {
+
+    private static final int THERAPISTS = 15;
+
+    /**
+     * The application without security.SecurityConfig, which shares its bean name with config.SecurityConfig
+     */
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @AutoConfigurationPackage(basePackageClasses = UtroApplication.class)
+    @ComponentScan(basePackageClasses = UtroApplication.class, excludeFilters = {
+            @ComponentScan.Filter(type = FilterType.CUSTOM, classes = TypeExcludeFilter.class),
+            @ComponentScan.Filter(type = FilterType.CUSTOM, classes = AutoConfigurationExcludeFilter.class),
+            @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {
+                    UtroApplication.class,
+                    com.inspirationparticle.utro.security.SecurityConfig.class
+            })
+    })
+    static class Application {
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrganisationRepository organisationRepository;
+
+    @Autowired
+    private OrganisationMemberRepository organisationMemberRepository;
+
+    @Autowired
+    private TherapistRepository therapistRepository;
+
+    private User admin;
+    private Organisation organisation;
+
+    @BeforeEach
+    void setUp() {
+        admin = userRepository.save(user("qb-admin"));
+        organisation = new Organisation();
+        organisation.setId(UUID.randomUUID());
+        organisation.setName("Query Budget Practice");
+        organisation = organisationRepository.save(organisation);
+        organisationMemberRepository.save(member(admin, MemberType.ADMINISTRATOR));
+
+        for (int i = 0; i < THERAPISTS; i++) {
+            User user = userRepository.save(user("qb-therapist-" + i));
+            organisationMemberRepository.save(member(user, MemberType.MEMBER));
+            Therapist therapist = new Therapist();
+            therapist.setId(UUID.randomUUID());
+            therapist.setUser(user);
+            therapist.setOrganisation(organisation);
+            therapist.setProfessionalTitle("Psychotherapist");
+            therapist.setInPersonTherapyFormat(true);
+            therapist.setOnlineTherapyFormat(true);
+            therapist.setIsActive(true);
+            therapist.setIsAcceptingNewClients(true);
+            therapist.setVisibility(Therapist.TherapistVisibility.PUBLIC);
+            therapist.setLanguages(Set.of("Polish", "English"));
+            therapist.setSearchTags(Set.of("anxiety"));
+            therapist.setSlug("qb-therapist-" + i);
+            therapist.setPublishedAt(Instant.now());
+            therapistRepository.save(therapist);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        therapistRepository.deleteAll();
+        organisationMemberRepository.deleteAll();
+        organisationRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testListTherapists_LoadsCollectionsInBatches() throws Exception {
+        // When
+        MvcResult result = call("/com.inspirationparticle.utro.gen.v1.TherapistService/ListTherapists",
+                "{\"page_size\":50}");
+
+        // Then
+        assertStatementsAtMost(result, 12);
+        assertNoRepeatedStatements(result);
+    }
+
+    @Test
+    void testGetMyOrganisations_FetchesOrganisationsWithTheMemberships() throws Exception {
+        // When
+        MvcResult result = call("/com.inspirationparticle.utro.gen.organisation.v1.OrganisationService/GetMyOrganisations",
+                "{}");
+
+        // Then
+        assertStatementsAtMost(result, 2);
+        assertNoRepeatedStatements(result);
+    }
+
+    @Test
+    void testGetOrganisationUsers_DoesNotLoadMembersOneByOne() throws Exception {
+        // When
+        MvcResult result = call("/com.inspirationparticle.utro.gen.organisation.v1.OrganisationService/GetOrganisationUsers",
+                "{\"organisation_id\":\"" + organisation.getId() + "\",\"page_size\":50}");
+
+        // Then
+        assertStatementsAtMost(result, 3);
+        assertNoRepeatedStatements(result);
+    }
+
+    private MvcResult call(String path, String body) throws Exception {
+        return mockMvc.perform(post(path)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + JwtUtil.generateToken(admin.getUsername()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+
+    private static User user(String username) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setUsername(username);
+        user.setFullName(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("hash");
+        return user;
+    }
+
+    private OrganisationMember member(User user, MemberType memberType) {
+        OrganisationMember member = new OrganisationMember();
+        member.setUser(user);
+        member.setOrganisation(organisation);
+        member.setMemberType(memberType);
+        return member;
+    }
+}
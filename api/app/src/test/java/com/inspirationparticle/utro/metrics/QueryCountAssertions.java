@@ -0,0 +1,36 @@
+package com.inspirationparticle.utro.metrics;
+
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Assertions on the database work of a MockMvc call, as counted by {@link QueryBudgetInterceptor}
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    public static QueryCount queryCount(MvcResult result) {
+        QueryCount count = (QueryCount) result.getRequest().getAttribute(QueryBudgetInterceptor.QUERY_COUNT_ATTRIBUTE);
+        assertNotNull(count, "no query count, the request did not reach a handler");
+        return count;
+    }
+
+    public static void assertStatementsAtMost(MvcResult result, int statements) {
+        QueryCount count = queryCount(result);
+        assertTrue(count.statements() <= statements,
+                "expected at most " + statements + " statements, got " + count + ", most repeated: " + count.mostRepeated());
+    }
+
+    /**
+     * No statement ran more than once, so nothing was loaded row by row
+     */
+    public static void assertNoRepeatedStatements(MvcResult result) {
+        QueryCount count = queryCount(result);
+        assertTrue(count.mostRepeatedTimes() <= 1,
+                "statement ran " + count.mostRepeatedTimes() + " times: " + count.mostRepeated());
+    }
+}
@@ -0,0 +1,57 @@
+package com.inspirationparticle.utro.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryCounterTest {
+
+    private final QueryCounter failing = new QueryCounter(QueryCounter.Enforcement.FAIL, 3);
+
+    @AfterEach
+    void tearDown() {
+        failing.stop();
+    }
+
+    @Test
+    void testStatement_WhenStatementExceedsBudget_FailsBeforeItRuns() {
+        // Given
+        failing.start(2);
+        failing.statement("select a");
+        failing.statement("select b");
+
+        // When / Then
+        assertThrows(QueryBudgetExceededException.class, () -> failing.statement("select c"));
+    }
+
+    @Test
+    void testStatement_WhenSameStatementRepeats_ReportsItAsNPlusOne() {
+        // Given
+        QueryCounter logging = new QueryCounter(QueryCounter.Enforcement.LOG, 3);
+        QueryCount count = logging.start(-1);
+
+        // When
+        logging.statement("select therapist");
+        for (int i = 0; i < 3; i++) {
+            logging.statement("select user where id=?");
+        }
+        logging.stop();
+
+        // Then
+        assertEquals(4, count.statements());
+        assertEquals("select user where id=?", count.mostRepeated());
+        assertTrue(logging.violated(count));
+    }
+
+    @Test
+    void testStatement_WhenNotCounting_IgnoresStatements() {
+        // When
+        for (int i = 0; i < 5; i++) {
+            failing.statement("select 1");
+        }
+
+        // Then
+        assertNull(failing.stop());
+    }
+}
@@ -0,0 +1,107 @@
+package com.inspirationparticle.utro.metrics;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryStatisticsTest {
+
+    private QueryStatistics statistics;
+    private QueryCounter queryCounter;
+    private FingerprintingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:query-statistics;DB_CLOSE_DELAY=-1");
+        statistics = new QueryStatistics(1000);
+        queryCounter = new QueryCounter(QueryCounter.Enforcement.FAIL, 10);
+        dataSource = new FingerprintingDataSource(h2, statistics, queryCounter);
+    }
+
+    @Test
+    void testFingerprint_ReplacesLiteralsAndCollapsesInLists() {
+        assertEquals("select t1_0.id from therapist t1_0 where t1_0.slug=? and t1_0.id in (?) limit ?",
+                QueryStatistics.fingerprint("select t1_0.id from therapist t1_0\n  where t1_0.slug='anna-o''brien'"
+                        + " and t1_0.id in (?, ?,?) limit 20"));
+        assertEquals(QueryStatistics.fingerprint("select * from invitation where id in (?)"),
+                QueryStatistics.fingerprint("select * from invitation where id in (?,?,?,?)"));
+    }
+
+    @Test
+    void testDataSource_RecordsExecutionsRowsAndConnectionHoldPerFingerprint() throws Exception {
+        // Given
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create table item (id int primary key, name varchar(20))");
+            statement.execute("insert into item values (1, 'a'), (2, 'b'), (3, 'c')");
+        }
+        statistics.reset();
+
+        // When
+        for (int i = 1; i <= 2; i++) {
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement("select name from item where id >= ?")) {
+                statement.setInt(1, i);
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        assertNotNull(rs.getString(1));
+                    }
+                }
+            }
+        }
+
+        // Then
+        List<QueryStatistics.Summary> top = statistics.top(QueryStatistics.Order.COUNT, 10);
+        assertEquals(1, top.size());
+        QueryStatistics.Summary select = top.get(0);
+        assertEquals("select name from item where id >= ?", select.fingerprint());
+        assertEquals(2, select.count());
+        assertEquals(5, select.rows());
+        assertTrue(select.connectionHoldMillis() >= select.totalMillis());
+        assertTrue(select.maxMillis() > 0);
+    }
+
+    @Test
+    void testDataSource_CountsJdbcTemplateStatementsForTheBudget() {
+        // Given
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table if not exists budget_item (id int primary key)");
+        QueryCount count = queryCounter.start(1);
+
+        // When
+        jdbcTemplate.queryForList("select id from budget_item", Integer.class);
+        Exception exception = assertThrows(Exception.class,
+                () -> jdbcTemplate.queryForList("select id from budget_item where id > ?", Integer.class, 0));
+        queryCounter.stop();
+
+        // Then
+        assertEquals(2, count.statements());
+        assertTrue(count.overBudget());
+        assertInstanceOf(QueryBudgetExceededException.class, exception);
+    }
+
+    @Test
+    void testEntry_PastTheLimit_GroupsNewFingerprintsTogether() {
+        // Given
+        statistics = new QueryStatistics(1);
+        statistics.executed(statistics.entry("select 1 from a"), 10);
+
+        // When
+        statistics.executed(statistics.entry("select 1 from b"), 10);
+        statistics.executed(statistics.entry("select 1 from c"), 10);
+
+        // Then
+        List<QueryStatistics.Summary> top = statistics.top(QueryStatistics.Order.COUNT, 10);
+        assertEquals(QueryStatistics.OTHER, top.get(0).fingerprint());
+        assertEquals(2, top.get(0).count());
+    }
+}
@@ -0,0 +1,131 @@
+package com.inspirationparticle.utro.metrics;
+
+import com.inspirationparticle.utro.gen.v1.TherapistProto;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RpcMetricsFilterTest {
+
+    private static final String LIST_THERAPISTS = "/com.inspirationparticle.utro.gen.v1.TherapistService/ListTherapists";
+
+    private SimpleMeterRegistry registry;
+    private RpcMetrics rpcMetrics;
+    private RpcMetricsFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        rpcMetrics = new RpcMetrics(registry);
+        rpcMetrics.register(List.of(LIST_THERAPISTS, "/api/therapists/export", "/actuator/health"));
+        filter = new RpcMetricsFilter(rpcMetrics);
+    }
+
+    @Test
+    void testFilter_WithKnownRpc_RecordsLatencyAndSizesTaggedWithServiceMethodAndCode() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", LIST_THERAPISTS);
+        request.setContent("{\"page_size\":20}".getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest req, jakarta.servlet.ServletResponse res)
+                    throws java.io.IOException {
+                req.getInputStream().readAllBytes();
+                res.getOutputStream().write(new byte[100]);
+            }
+        };
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        Timer timer = registry.find("rpc.server.duration")
+                .tags("service", "TherapistService", "method", "ListTherapists", "code", "ok").timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+        DistributionSummary requestSize = registry.find("rpc.server.request.size").tags("method", "ListTherapists").summary();
+        DistributionSummary responseSize = registry.find("rpc.server.response.size").tags("method", "ListTherapists").summary();
+        assertEquals(16, requestSize.totalAmount());
+        assertEquals(100, responseSize.totalAmount());
+    }
+
+    @Test
+    void testFilter_WithErrorStatus_TagsConnectCode() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", LIST_THERAPISTS);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest req, jakarta.servlet.ServletResponse res)
+                    throws java.io.IOException {
+                ((HttpServletResponse) res).sendError(HttpServletResponse.SC_UNAUTHORIZED);
+            }
+        };
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertNotNull(registry.find("rpc.server.duration").tags("code", "unauthenticated").timer());
+        assertNull(registry.find("rpc.server.duration").tags("code", "ok").timer());
+    }
+
+    @Test
+    void testFilter_WithPathThatIsNotAnRpc_RecordsNothing() throws Exception {
+        // Given
+        MockHttpServletRequest unknownRpc = new MockHttpServletRequest("POST", "/com.example.v1.FooService/Bar");
+        MockHttpServletRequest rest = new MockHttpServletRequest("GET", "/api/therapists/export");
+
+        // When
+        filter.doFilter(unknownRpc, new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(rest, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertTrue(registry.getMeters().isEmpty());
+    }
+
+    @Test
+    void testBeforeBodyWrite_WithListResponse_RecordsNumberOfItems() {
+        // Given
+        RpcResultCountAdvice advice = new RpcResultCountAdvice(rpcMetrics);
+        TherapistProto.ListTherapistsResponse body = TherapistProto.ListTherapistsResponse.newBuilder()
+                .addTherapists(TherapistProto.Therapist.getDefaultInstance())
+                .addTherapists(TherapistProto.Therapist.getDefaultInstance())
+                .addTherapists(TherapistProto.Therapist.getDefaultInstance())
+                .build();
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", LIST_THERAPISTS);
+
+        // When
+        advice.beforeBodyWrite(body, null, null, null, new ServletServerHttpRequest(request), null);
+
+        // Then
+        DistributionSummary items = registry.find("rpc.server.response.items")
+                .tags("service", "TherapistService", "method", "ListTherapists").summary();
+        assertNotNull(items);
+        assertEquals(3, items.totalAmount());
+    }
+
+    @Test
+    void testConnectCode_MapsHttpStatusesToConnectCodes() {
+        assertEquals("ok", RpcMetrics.connectCode(200));
+        assertEquals("invalid_argument", RpcMetrics.connectCode(400));
+        assertEquals("not_found", RpcMetrics.connectCode(404));
+        assertEquals("already_exists", RpcMetrics.connectCode(409));
+        assertEquals("resource_exhausted", RpcMetrics.connectCode(429));
+        assertEquals("internal", RpcMetrics.connectCode(500));
+        assertEquals("unknown", RpcMetrics.connectCode(418));
+    }
+}
@@ -0,0 +1,82 @@
+package com.inspirationparticle.utro.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RpcResourceFilterTest {
+
+    private static final String LIST_THERAPISTS = "/com.inspirationparticle.utro.gen.v1.TherapistService/ListTherapists";
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private SimpleMeterRegistry registry;
+    private RpcMetrics rpcMetrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        rpcMetrics = new RpcMetrics(registry);
+        rpcMetrics.register(List.of(LIST_THERAPISTS));
+    }
+
+    private static MockFilterChain allocatingChain(byte[][] retained) {
+        return new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) throws IOException {
+                retained[0] = new byte[4 * 1024 * 1024];
+                response.getOutputStream().write("{}".getBytes());
+                response.flushBuffer();
+            }
+        };
+    }
+
+    @Test
+    void testFilter_WithKnownRpc_RecordsAllocatedBytesAndCpuTime() throws Exception {
+        // Given
+        RpcResourceFilter filter = new RpcResourceFilter(rpcMetrics, threads, false);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        byte[][] retained = new byte[1][];
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("POST", LIST_THERAPISTS), response, allocatingChain(retained));
+
+        // Then
+        DistributionSummary allocated = registry.find("rpc.server.allocated")
+                .tags("service", "TherapistService", "method", "ListTherapists").summary();
+        Timer cpu = registry.find("rpc.server.cpu").tags("method", "ListTherapists").timer();
+        assertEquals(1, allocated.count());
+        assertTrue(allocated.totalAmount() >= retained[0].length);
+        assertEquals(1, cpu.count());
+        assertNull(response.getHeader(RpcResourceFilter.ALLOCATED_BYTES_HEADER));
+    }
+
+    @Test
+    void testFilter_WithHeadersEnabled_AddsHeadersBeforeTheBufferedBody() throws Exception {
+        // Given
+        RpcResourceFilter filter = new RpcResourceFilter(rpcMetrics, threads, true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("POST", LIST_THERAPISTS), response,
+                allocatingChain(new byte[1][]));
+
+        // Then
+        assertTrue(Long.parseLong(response.getHeader(RpcResourceFilter.ALLOCATED_BYTES_HEADER)) >= 4 * 1024 * 1024);
+        assertNotNull(response.getHeader(RpcResourceFilter.CPU_TIME_HEADER));
+        assertEquals("{}", response.getContentAsString());
+    }
+}
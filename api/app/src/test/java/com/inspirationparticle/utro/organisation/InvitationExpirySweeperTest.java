@@ -0,0 +1,55 @@
+package com.inspirationparticle.utro.organisation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InvitationExpirySweeperTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private InvitationExpirySweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sweeper = new InvitationExpirySweeper(jdbcTemplate, meterRegistry, 100, 5);
+    }
+
+    @Test
+    void testSweep_StopsAfterShortBatch() {
+        // Given
+        when(jdbcTemplate.update(InvitationExpirySweeper.EXPIRE_BATCH_SQL, 100)).thenReturn(100, 100, 42);
+
+        // When
+        int expired = sweeper.sweep();
+
+        // Then
+        assertEquals(242, expired);
+        verify(jdbcTemplate, times(3)).update(InvitationExpirySweeper.EXPIRE_BATCH_SQL, 100);
+        assertEquals(242.0, meterRegistry.counter("invitation.expired").count());
+    }
+
+    @Test
+    void testSweep_StopsAtBatchCap() {
+        // Given
+        when(jdbcTemplate.update(InvitationExpirySweeper.EXPIRE_BATCH_SQL, 100)).thenReturn(100);
+
+        // When
+        int expired = sweeper.sweep();
+
+        // Then
+        assertEquals(500, expired);
+        verify(jdbcTemplate, times(5)).update(InvitationExpirySweeper.EXPIRE_BATCH_SQL, 100);
+    }
+}
@@ -0,0 +1,192 @@
+package com.inspirationparticle.utro.organisation;
+
+import com.inspirationparticle.utro.user.User;
+import com.inspirationparticle.utro.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InvitationServiceTest {
+
+    @Mock
+    private InvitationRepository invitationRepository;
+
+    @Mock
+    private OrganisationMemberRepository organisationMemberRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private InvitationMailer invitationMailer;
+
+    @Mock
+    private OrganisationAccess organisationAccess;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private InvitationService invitationService;
+
+    private User admin;
+    private UUID organisationId;
+
+    @BeforeEach
+    void setUp() {
+        admin = new User();
+        admin.setId(UUID.randomUUID());
+        admin.setUsername("admin");
+        organisationId = UUID.randomUUID();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCreateInvitations_ValidatesWithSetQueriesAndInsertsInOneBatch() {
+        // Given
+        when(organisationAccess.isAdmin(admin.getId(), organisationId)).thenReturn(true);
+        when(organisationMemberRepository.findMemberEmails(eq(organisationId), any()))
+                .thenReturn(List.of("member@example.com"));
+        when(invitationRepository.findActiveInvitationEmails(eq(organisationId), any()))
+                .thenReturn(List.of("invited@example.com"));
+        List<String> emails = List.of(
+                " new@example.com ",
+                "member@example.com",
+                "invited@example.com",
+                "not-an-email",
+                "NEW@example.com",
+                "other@example.com");
+
+        // When
+        List<BulkInvitationResult> results = invitationService.createInvitations(emails, organisationId, MemberType.MEMBER, admin);
+
+        // Then
+        assertEquals(List.of(
+                BulkInvitationResult.Outcome.CREATED,
+                BulkInvitationResult.Outcome.ALREADY_MEMBER,
+                BulkInvitationResult.Outcome.ALREADY_INVITED,
+                BulkInvitationResult.Outcome.INVALID_EMAIL,
+                BulkInvitationResult.Outcome.DUPLICATE,
+                BulkInvitationResult.Outcome.CREATED),
+                results.stream().map(BulkInvitationResult::outcome).collect(Collectors.toList()));
+        assertEquals("new@example.com", results.get(0).email());
+        assertNotNull(results.get(0).invitation().getId());
+        assertNull(results.get(1).invitation());
+
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), batch.capture());
+        assertEquals(2, batch.getValue().size());
+        assertEquals("new@example.com", batch.getValue().get(0)[1]);
+        assertEquals("other@example.com", batch.getValue().get(1)[1]);
+        verify(invitationMailer).enqueue(argThat(invitations -> invitations.size() == 2));
+        verify(organisationMemberRepository, times(1)).findMemberEmails(eq(organisationId), any());
+        verify(invitationRepository, times(1)).findActiveInvitationEmails(eq(organisationId), any());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void testCreateInvitation_ForMemberInDifferentCase_ThrowsBadRequest() {
+        // Given
+        when(organisationMemberRepository.findMemberEmails(organisationId, Set.of("member@example.com")))
+                .thenReturn(List.of("member@example.com"));
+
+        // When
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
+                invitationService.createInvitation("Member@Example.com", organisationId, MemberType.MEMBER, admin));
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verify(invitationRepository, never()).save(any());
+    }
+
+    @Test
+    void testCreateInvitation_ForPendingInvitationInDifferentCase_ThrowsConflict() {
+        // Given
+        when(organisationMemberRepository.findMemberEmails(organisationId, Set.of("invited@example.com")))
+                .thenReturn(List.of());
+        when(invitationRepository.findActiveInvitation("invited@example.com", organisationId))
+                .thenReturn(Optional.of(new Invitation()));
+
+        // When
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
+                invitationService.createInvitation("INVITED@example.com", organisationId, MemberType.MEMBER, admin));
+
+        // Then
+        assertEquals(HttpStatus.CONFLICT, exception.getStatusCode());
+        verify(invitationRepository, never()).save(any());
+    }
+
+    @Test
+    void testCreateInvitations_MatchesMembersAndInvitationsIgnoringCase() {
+        // Given
+        when(organisationAccess.isAdmin(admin.getId(), organisationId)).thenReturn(true);
+        when(organisationMemberRepository.findMemberEmails(organisationId, Set.of("member@example.com", "invited@example.com")))
+                .thenReturn(List.of("member@example.com"));
+        when(invitationRepository.findActiveInvitationEmails(organisationId, Set.of("member@example.com", "invited@example.com")))
+                .thenReturn(List.of("invited@example.com"));
+
+        // When
+        List<BulkInvitationResult> results = invitationService.createInvitations(
+                List.of("Member@Example.com", "INVITED@example.com"), organisationId, MemberType.MEMBER, admin);
+
+        // Then
+        assertEquals(List.of(
+                BulkInvitationResult.Outcome.ALREADY_MEMBER,
+                BulkInvitationResult.Outcome.ALREADY_INVITED),
+                results.stream().map(BulkInvitationResult::outcome).collect(Collectors.toList()));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void testCreateInvitations_WhenNotAdmin_ThrowsForbidden() {
+        // Given
+        when(organisationAccess.isAdmin(admin.getId(), organisationId)).thenReturn(false);
+
+        // When
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
+                invitationService.createInvitations(List.of("a@example.com"), organisationId, MemberType.MEMBER, admin));
+
+        // Then
+        assertEquals(HttpStatus.FORBIDDEN, exception.getStatusCode());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void testCreateInvitations_OverLimit_ThrowsBadRequest() {
+        // Given
+        List<String> emails = IntStream.range(0, InvitationService.MAX_BULK_INVITATIONS + 1)
+                .mapToObj(i -> "user" + i + "@example.com")
+                .collect(Collectors.toList());
+
+        // When
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
+                invitationService.createInvitations(emails, organisationId, MemberType.MEMBER, admin));
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verifyNoInteractions(organisationAccess, jdbcTemplate);
+    }
+}
@@ -0,0 +1,105 @@
+package com.inspirationparticle.utro.organisation;
+
+import com.inspirationparticle.utro.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrganisationMemberDirectoryTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrganisationMemberDirectory directory;
+
+    @BeforeEach
+    void setUp() {
+        directory = new OrganisationMemberDirectory(jdbcTemplate, transactionManager);
+    }
+
+    @Test
+    void testPage_FetchesOneExtraRowAndReturnsCursorForTheLastMember() {
+        // Given
+        UUID organisationId = UUID.randomUUID();
+        List<OrganisationMember> rows = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            rows.add(member(i == 1 ? null : "Name " + i, "user" + i));
+        }
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenReturn(rows);
+
+        // When
+        OrganisationMemberDirectory.Page page = directory.page(organisationId, 2, "");
+
+        // Then
+        ArgumentCaptor<Object[]> params = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).query(anyString(), any(RowMapper.class), params.capture());
+        assertArrayEquals(new Object[]{organisationId, 3}, params.getValue());
+        assertEquals(2, page.members().size());
+        OrganisationMemberDirectory.Cursor cursor = OrganisationMemberDirectory.Cursor.decode(page.nextPageToken());
+        assertNull(cursor.fullName());
+        assertEquals("user1", cursor.username());
+        assertEquals(rows.get(1).getUser().getId(), cursor.id());
+    }
+
+    @Test
+    void testPage_ResumesAfterCursorAndCapsPageSize() {
+        // Given
+        UUID organisationId = UUID.randomUUID();
+        OrganisationMemberDirectory.Cursor cursor = new OrganisationMemberDirectory.Cursor("Zoë Ądam", "zoe", UUID.randomUUID());
+
+        // When
+        OrganisationMemberDirectory.Page page = directory.page(organisationId, 10_000, cursor.encode());
+
+        // Then
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> params = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).query(sql.capture(), any(RowMapper.class), params.capture());
+        assertTrue(sql.getValue().contains("> (?, ?, ?, ?)"));
+        assertArrayEquals(new Object[]{organisationId, false, "Zoë Ądam", "zoe", cursor.id(),
+                OrganisationMemberDirectory.MAX_PAGE_SIZE + 1}, params.getValue());
+        assertEquals("", page.nextPageToken());
+    }
+
+    @Test
+    void testPage_RejectsGarbageToken() {
+        // When
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> directory.page(UUID.randomUUID(), 10, "bm90IGEgdG9rZW4"));
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verify(jdbcTemplate, never()).query(anyString(), any(RowMapper.class), any(Object[].class));
+    }
+
+    private static OrganisationMember member(String fullName, String username) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setFullName(fullName);
+        user.setUsername(username);
+        OrganisationMember member = new OrganisationMember();
+        member.setUser(user);
+        member.setMemberType(MemberType.MEMBER);
+        return member;
+    }
+}
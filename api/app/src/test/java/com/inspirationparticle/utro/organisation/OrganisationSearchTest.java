@@ -0,0 +1,75 @@
+package com.inspirationparticle.utro.organisation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrganisationSearchTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private OrganisationSearch organisationSearch;
+
+    @Test
+    void testSearch_CapsPageSizeAndUsesTrigramsForLongQueries() {
+        // When
+        organisationSearch.search("therapy", 10_000, "");
+
+        // Then
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> params = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).query(sql.capture(), any(RowMapper.class), params.capture());
+        assertTrue(sql.getValue().contains("<% o.name"));
+        Object[] values = params.getValue();
+        assertEquals(OrganisationSearch.MAX_PAGE_SIZE + 1, values[values.length - 1]);
+    }
+
+    @Test
+    void testSearch_ShortQueryMatchesNamePrefixOnlyWithEscapedWildcards() {
+        // When
+        organisationSearch.search("a%", 0, "");
+
+        // Then
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> params = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).query(sql.capture(), any(RowMapper.class), params.capture());
+        assertTrue(sql.getValue().contains("lower(o.name) LIKE ?"));
+        assertFalse(sql.getValue().contains("ILIKE"));
+        Object[] values = params.getValue();
+        assertEquals("a\\%%", values[values.length - 2]);
+        assertEquals(OrganisationSearch.DEFAULT_PAGE_SIZE + 1, values[values.length - 1]);
+    }
+
+    @Test
+    void testCursor_RoundTripsAndRejectsGarbage() {
+        // Given
+        OrganisationSearch.Cursor cursor = new OrganisationSearch.Cursor(2.75, UUID.randomUUID());
+
+        // When
+        OrganisationSearch.Cursor decoded = OrganisationSearch.Cursor.decode(cursor.encode());
+
+        // Then
+        assertEquals(cursor, decoded);
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> organisationSearch.search("therapy", 10, "not a token"));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        verify(jdbcTemplate, never()).query(anyString(), any(RowMapper.class), any(Object[].class));
+    }
+}
@@ -0,0 +1,89 @@
+package com.inspirationparticle.utro.profiling;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecorderEndpointTest {
+
+    private final FlightRecorderEndpoint endpoint = new FlightRecorderEndpoint();
+
+    @AfterEach
+    void tearDown() {
+        endpoint.recordings().forEach(recording -> endpoint.delete(recording.id()));
+    }
+
+    @Test
+    void testDownload_ReturnsTheEventsSoFarAndKeepsRecording() throws Exception {
+        // Given
+        WebEndpointResponse<Object> started = endpoint.start("profile", Duration.ofMinutes(1));
+        long id = ((FlightRecorderEndpoint.RecordingInfo) started.getBody()).id();
+        RpcEvent event = new RpcEvent();
+        event.begin();
+        event.service = "TherapistService";
+        event.method = "ListTherapists";
+        event.code = "ok";
+        event.commit();
+
+        // When
+        WebEndpointResponse<Resource> response = endpoint.download(id);
+
+        // Then
+        Path file = Files.createTempFile("recording", ".jfr");
+        try (InputStream in = response.getBody().getInputStream()) {
+            Files.copy(in, file, java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+        }
+        List<RecordedEvent> rpcs = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals("com.inspirationparticle.utro.Rpc"))
+                .toList();
+        Files.delete(file);
+        assertEquals(1, rpcs.size());
+        assertEquals("ListTherapists", rpcs.get(0).getString("method"));
+        assertEquals("RUNNING", endpoint.recordings().get(0).state());
+    }
+
+    @Test
+    void testStart_WithMaxKeptRecordings_DiscardsTheOldest() {
+        // Given
+        long oldest = 0;
+        for (int i = 0; i < FlightRecorderEndpoint.MAX_KEPT; i++) {
+            long id = ((FlightRecorderEndpoint.RecordingInfo) endpoint.start(null, null).getBody()).id();
+            oldest = i == 0 ? id : oldest;
+            assertEquals("STOPPED", endpoint.stop(id).getBody().state());
+        }
+
+        // When
+        endpoint.start(null, null);
+
+        // Then
+        assertEquals(FlightRecorderEndpoint.MAX_KEPT, endpoint.recordings().size());
+        assertEquals(WebEndpointResponse.STATUS_NOT_FOUND, endpoint.download(oldest).getStatus());
+    }
+
+    @Test
+    void testStart_WithUnknownSettingsOrWhileRecording_IsRejected() {
+        // Given
+        endpoint.start(null, null);
+
+        // When
+        WebEndpointResponse<Object> second = endpoint.start(null, null);
+        WebEndpointResponse<Object> unknown = new FlightRecorderEndpoint().start("verbose", null);
+
+        // Then
+        assertEquals(WebEndpointResponse.STATUS_BAD_REQUEST, second.getStatus());
+        assertEquals(WebEndpointResponse.STATUS_BAD_REQUEST, unknown.getStatus());
+        assertEquals(1, endpoint.recordings().size());
+        assertEquals(WebEndpointResponse.STATUS_NOT_FOUND, endpoint.download(-1).getStatus());
+    }
+}
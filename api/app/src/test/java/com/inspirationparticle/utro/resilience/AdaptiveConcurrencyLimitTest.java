@@ -0,0 +1,78 @@
+package com.inspirationparticle.utro.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private static AdaptiveConcurrencyLimit limit() {
+        return new AdaptiveConcurrencyLimit(20, 2, 100, 2.0, 0.2);
+    }
+
+    @Test
+    void testTryAcquire_AtLimit_RefusesUntilASlotIsReleased() {
+        // Given
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 2.0, 0.2);
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+
+        // When
+        boolean third = limit.tryAcquire();
+        limit.release(FAST, false);
+
+        // Then
+        assertFalse(third);
+        assertTrue(limit.tryAcquire());
+    }
+
+    @Test
+    void testOnSample_WithSteadyLatencyAtFullUse_GrowsUpToMaxLimit() {
+        // Given
+        AdaptiveConcurrencyLimit limit = limit();
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            limit.onSample(FAST, limit.limit());
+        }
+
+        // Then
+        assertEquals(100, limit.limit());
+    }
+
+    @Test
+    void testOnSample_WhenLatencyJumps_ShrinksTowardsMinLimit() {
+        // Given
+        AdaptiveConcurrencyLimit limit = limit();
+        for (int i = 0; i < 200; i++) {
+            limit.onSample(FAST, limit.limit());
+        }
+
+        // When
+        for (int i = 0; i < 30; i++) {
+            limit.onSample(SLOW, limit.limit());
+        }
+
+        // Then
+        assertTrue(limit.limit() < 20, "limit " + limit.limit());
+    }
+
+    @Test
+    void testOnSample_WithMostOfTheLimitUnused_KeepsTheLimit() {
+        // Given
+        AdaptiveConcurrencyLimit limit = limit();
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            limit.onSample(FAST, 3);
+        }
+
+        // Then
+        assertEquals(20, limit.limit());
+    }
+}
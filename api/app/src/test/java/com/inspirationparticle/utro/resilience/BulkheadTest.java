@@ -0,0 +1,162 @@
+package com.inspirationparticle.utro.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BulkheadTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private Bulkhead bulkhead;
+
+    @AfterEach
+    void tearDown() {
+        bulkhead.shutdown();
+    }
+
+    @Test
+    void testRun_OnTheGroupsThread_ReturnsOnceTheTaskHasFinished() throws Exception {
+        // Given
+        bulkhead = new Bulkhead(RpcGroup.READ, 1, 1, 1000, registry);
+        AtomicReference<RpcGroup> group = new AtomicReference<>();
+
+        // When
+        boolean ran = bulkhead.run(() -> group.set(Bulkhead.current()));
+
+        // Then
+        assertTrue(ran);
+        assertEquals(RpcGroup.READ, group.get());
+        assertNull(Bulkhead.current());
+    }
+
+    @Test
+    void testRun_WhenTheTaskThrows_RethrowsOnTheCallersThread() {
+        // Given
+        bulkhead = new Bulkhead(RpcGroup.WRITE, 1, 1, 1000, registry);
+
+        // When / Then
+        assertThrows(IOException.class, () -> bulkhead.run(() -> {
+            throw new IOException("broken pipe");
+        }));
+    }
+
+    @Test
+    void testRun_WithNoThreadFreeWithinTheQueueTimeout_RejectsWithoutRunningTheTask() throws Exception {
+        // Given
+        bulkhead = new Bulkhead(RpcGroup.BULK, 1, 1, 50, registry);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> export = CompletableFuture.supplyAsync(() -> {
+            try {
+                return bulkhead.run(() -> {
+                    running.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        AtomicBoolean queuedTaskRan = new AtomicBoolean();
+
+        // When
+        boolean ran = bulkhead.run(() -> queuedTaskRan.set(true));
+        release.countDown();
+
+        // Then
+        assertFalse(ran);
+        assertTrue(export.get(5, TimeUnit.SECONDS));
+        assertFalse(queuedTaskRan.get());
+        assertEquals(1, registry.find("bulkhead.rejected").tag("group", "bulk").counter().count());
+    }
+
+    @Test
+    void testExecute_WithTheQueueFull_RejectsWithoutWaiting() throws Exception {
+        // Given
+        bulkhead = new Bulkhead(RpcGroup.BULK, 1, 1, 1000, registry);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        bulkhead.execute(() -> {
+            running.countDown();
+            awaitQuietly(release);
+        });
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        CountDownLatch queuedTaskRan = new CountDownLatch(1);
+        bulkhead.execute(queuedTaskRan::countDown);
+
+        // When / Then
+        assertThrows(RejectedExecutionException.class, () -> bulkhead.execute(() -> {
+        }));
+        release.countDown();
+        assertTrue(queuedTaskRan.await(5, TimeUnit.SECONDS));
+        assertEquals(1, registry.find("bulkhead.rejected").tag("group", "bulk").counter().count());
+    }
+
+    @Test
+    void testTaskExecutor_FromABulkheadThread_RunsTheTaskOnTheSameGroup() throws Exception {
+        // Given
+        BulkheadFilter filter = new BulkheadFilter(null, registry, new MockEnvironment(), true, 1);
+        BulkheadTaskExecutor executor = new BulkheadTaskExecutor(filter, new TaskExecutorAdapter(Runnable::run));
+        bulkhead = filter.bulkhead(RpcGroup.BULK);
+        CompletableFuture<RpcGroup> streamed = new CompletableFuture<>();
+        AtomicReference<RpcGroup> unrouted = new AtomicReference<>(RpcGroup.READ);
+
+        try {
+            // When
+            bulkhead.run(() -> executor.execute(() -> streamed.complete(Bulkhead.current())));
+            executor.execute(() -> unrouted.set(Bulkhead.current()));
+
+            // Then
+            assertEquals(RpcGroup.BULK, streamed.get(5, TimeUnit.SECONDS));
+            assertNull(unrouted.get());
+        } finally {
+            filter.shutdown();
+        }
+    }
+
+    @Test
+    void testPartitionedDataSource_OnABulkheadThread_UsesItsGroupsPool() throws Exception {
+        // Given
+        bulkhead = new Bulkhead(RpcGroup.WRITE, 1, 1, 1000, registry);
+        DataSource shared = mock(DataSource.class);
+        DataSource writes = mock(DataSource.class);
+        Connection sharedConnection = mock(Connection.class);
+        Connection writeConnection = mock(Connection.class);
+        when(shared.getConnection()).thenReturn(sharedConnection);
+        when(writes.getConnection()).thenReturn(writeConnection);
+        PartitionedDataSource dataSource = new PartitionedDataSource(shared, Map.of(RpcGroup.WRITE, writes));
+        AtomicReference<Connection> onBulkhead = new AtomicReference<>();
+
+        // When
+        bulkhead.run(() -> onBulkhead.set(dataSource.getConnection()));
+
+        // Then
+        assertSame(writeConnection, onBulkhead.get());
+        assertSame(sharedConnection, dataSource.getConnection());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.inspirationparticle.utro.resilience;
+
+import com.inspirationparticle.utro.metrics.RpcMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConcurrencyLimitFilterTest {
+
+    private static final String LIST_THERAPISTS = "/com.inspirationparticle.utro.gen.v1.TherapistService/ListTherapists";
+    private static final String LOGIN = "/com.inspirationparticle.utro.gen.auth.v1.AuthService/Login";
+
+    private SimpleMeterRegistry registry;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        RpcMetrics rpcMetrics = mock(RpcMetrics.class);
+        when(rpcMetrics.method(LIST_THERAPISTS)).thenReturn(new RpcMetrics.RpcMethod("TherapistService", "ListTherapists"));
+        when(rpcMetrics.method(LOGIN)).thenReturn(new RpcMetrics.RpcMethod("AuthService", "Login"));
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("rpc-groups.auth", "AuthService/Login, /login")
+                .withProperty("concurrency-limit.groups.read.initial-limit", "1")
+                .withProperty("concurrency-limit.groups.read.min-limit", "1");
+        filter = new ConcurrencyLimitFilter(new RpcGroups(rpcMetrics, environment), registry, environment,
+                true, 2, 2.0, 0.2);
+    }
+
+    @Test
+    void testFilter_WithGroupAtItsLimit_RejectsWith503AndRetryAfter() throws Exception {
+        // Given
+        assertTrue(filter.limit(RpcGroup.READ).tryAcquire());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("POST", LIST_THERAPISTS), response, chain);
+
+        // Then
+        assertEquals(503, response.getStatus());
+        assertEquals("2", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("\"unavailable\""));
+        assertNull(chain.getRequest());
+        assertEquals(1, registry.find("rpc.server.concurrency.rejected").tag("group", "read").counter().count());
+    }
+
+    @Test
+    void testFilter_WithOtherGroupAtItsLimit_LetsTheRequestThroughAndReleasesItsSlot() throws Exception {
+        // Given
+        assertTrue(filter.limit(RpcGroup.READ).tryAcquire());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("POST", LOGIN), response, chain);
+
+        // Then
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+        assertEquals(0, filter.limit(RpcGroup.AUTH).inFlight());
+    }
+
+    @Test
+    void testFilter_WithPathInNoGroup_IsNeverLimited() throws Exception {
+        // Given
+        assertTrue(filter.limit(RpcGroup.READ).tryAcquire());
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), new MockHttpServletResponse(), chain);
+
+        // Then
+        assertNotNull(chain.getRequest());
+    }
+}
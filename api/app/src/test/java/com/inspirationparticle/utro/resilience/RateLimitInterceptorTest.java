@@ -0,0 +1,143 @@
+package com.inspirationparticle.utro.resilience;
+
+import com.inspirationparticle.utro.metrics.RpcMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.filters.RemoteIpFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockFilterConfig;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RateLimitInterceptorTest {
+
+    private static final String SEARCH = "/com.inspirationparticle.utro.gen.v1.TherapistService/SearchTherapists";
+
+    private final HandlerMethod handler = mock(HandlerMethod.class);
+    private SimpleMeterRegistry registry;
+    private RateLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        RpcMetrics rpcMetrics = mock(RpcMetrics.class);
+        when(rpcMetrics.method(SEARCH)).thenReturn(new RpcMetrics.RpcMethod("TherapistService", "SearchTherapists"));
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("rate-limit.rules.search.rpcs", "TherapistService/SearchTherapists")
+                .withProperty("rate-limit.rules.search.capacity", "2")
+                .withProperty("rate-limit.rules.search.refill-per-second", "0.5")
+                .withProperty("rate-limit.rules.login.rpcs", "AuthService/Login, /login")
+                .withProperty("rate-limit.rules.login.capacity", "1")
+                .withProperty("rate-limit.rules.login.refill-per-second", "0.1");
+        interceptor = new RateLimitInterceptor(rpcMetrics, registry, environment, true, 4, 10_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testPreHandle_OverTheRulesCapacity_Answers429WithRateLimitHeaders() throws Exception {
+        // Given
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(search(), first, handler));
+        assertTrue(interceptor.preHandle(search(), new MockHttpServletResponse(), handler));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        boolean proceed = interceptor.preHandle(search(), response, handler);
+
+        // Then
+        assertEquals("2", first.getHeader("RateLimit-Limit"));
+        assertEquals("1", first.getHeader("RateLimit-Remaining"));
+        assertFalse(proceed);
+        assertEquals(429, response.getStatus());
+        assertEquals("0", response.getHeader("RateLimit-Remaining"));
+        assertEquals("2", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("\"resource_exhausted\""));
+        assertEquals(1, registry.find("rate.limit.rejected").tag("rule", "search").counter().count());
+    }
+
+    @Test
+    void testPreHandle_ForASignedInUser_KeysTheBucketByUserRatherThanAddress() throws Exception {
+        // Given
+        assertTrue(interceptor.preHandle(login(), new MockHttpServletResponse(), handler));
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "alice", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+        // When
+        boolean proceed = interceptor.preHandle(login(), new MockHttpServletResponse(), handler);
+
+        // Then
+        assertTrue(proceed);
+    }
+
+    @Test
+    void testPreHandle_BehindATrustedProxy_KeysTheBucketByTheForwardedClient() throws Exception {
+        // Given
+        RemoteIpFilter remoteIp = new RemoteIpFilter();
+        remoteIp.init(new MockFilterConfig());
+        assertTrue(loginViaProxy(remoteIp, "203.0.113.5"));
+
+        // When
+        boolean otherClient = loginViaProxy(remoteIp, "203.0.113.6");
+        boolean sameClient = loginViaProxy(remoteIp, "203.0.113.5");
+
+        // Then
+        assertTrue(otherClient);
+        assertFalse(sameClient);
+    }
+
+    @Test
+    void testPreHandle_ForAnUnlistedPath_AddsNoHeaders() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        boolean proceed = interceptor.preHandle(new MockHttpServletRequest("POST", "/export/therapists"), response,
+                handler);
+
+        // Then
+        assertTrue(proceed);
+        assertNull(response.getHeader("RateLimit-Limit"));
+    }
+
+    private static MockHttpServletRequest search() {
+        return new MockHttpServletRequest("POST", SEARCH);
+    }
+
+    private static MockHttpServletRequest login() {
+        return new MockHttpServletRequest("POST", "/login");
+    }
+
+    /**
+     * A login that reaches the interceptor through Tomcat's remote IP handling, from the ingress at 10.0.0.1
+     */
+    private boolean loginViaProxy(RemoteIpFilter remoteIp, String client) throws Exception {
+        MockHttpServletRequest request = login();
+        request.setRemoteAddr("10.0.0.1");
+        request.addHeader("X-Forwarded-For", client);
+        boolean[] proceed = new boolean[1];
+        remoteIp.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+        }, (req, res, chain) -> proceed[0] = interceptor.preHandle((HttpServletRequest) req,
+                (HttpServletResponse) res, handler)));
+        return proceed[0];
+    }
+}
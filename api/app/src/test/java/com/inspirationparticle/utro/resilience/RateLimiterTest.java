@@ -0,0 +1,67 @@
+package com.inspirationparticle.utro.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void testTryAcquire_BeyondTheBurst_RefusesUntilTheNextToken() {
+        // Given
+        RateLimiter limiter = new RateLimiter(3, 0.5, 4, 10_000);
+        long now = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.tryAcquire("10.0.0.1", now).allowed());
+        }
+
+        // When
+        RateLimiter.Decision refused = limiter.tryAcquire("10.0.0.1", now);
+        RateLimiter.Decision later = limiter.tryAcquire("10.0.0.1", now + 2 * SECOND);
+
+        // Then
+        assertFalse(refused.allowed());
+        assertEquals(0, refused.remaining());
+        assertEquals(2, refused.retryAfterSeconds());
+        assertEquals(6, refused.resetSeconds());
+        assertTrue(later.allowed());
+        assertEquals(0, later.remaining());
+    }
+
+    @Test
+    void testTryAcquire_CountsEachClientApart() {
+        // Given
+        RateLimiter limiter = new RateLimiter(1, 1, 4, 10_000);
+        long now = System.nanoTime();
+        assertTrue(limiter.tryAcquire("user:alice", now).allowed());
+
+        // When
+        RateLimiter.Decision bob = limiter.tryAcquire("user:bob", now);
+
+        // Then
+        assertTrue(bob.allowed());
+        assertFalse(limiter.tryAcquire("user:alice", now).allowed());
+    }
+
+    @Test
+    void testTryAcquire_AfterTheSweepInterval_DropsBucketsThatHaveFilledUp() {
+        // Given
+        RateLimiter limiter = new RateLimiter(2, 10, 1, 1_000);
+        long now = System.nanoTime();
+        limiter.tryAcquire("10.0.0.1", now);
+        limiter.tryAcquire("10.0.0.2", now);
+        assertEquals(2, limiter.clients());
+
+        // When
+        RateLimiter.Decision decision = limiter.tryAcquire("10.0.0.3", now + 2 * SECOND);
+
+        // Then
+        assertTrue(decision.allowed());
+        assertEquals(1, decision.remaining());
+        assertEquals(1, limiter.clients());
+    }
+}
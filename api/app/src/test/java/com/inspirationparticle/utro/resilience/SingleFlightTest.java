@@ -0,0 +1,96 @@
+package com.inspirationparticle.utro.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SingleFlight singleFlight = new SingleFlight(registry, true);
+
+    @Test
+    void testExecute_WhileAnIdenticalCallIsRunning_SharesItsResult() throws Exception {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() ->
+                singleFlight.execute("TherapistService/GetTherapistBySlug", "anna-kowalska", SingleFlight.SIGNED_IN,
+                        () -> {
+                            calls.incrementAndGet();
+                            started.countDown();
+                            await(release);
+                            return "profile";
+                        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() ->
+                singleFlight.execute("TherapistService/GetTherapistBySlug", "anna-kowalska", SingleFlight.SIGNED_IN,
+                        () -> {
+                            calls.incrementAndGet();
+                            return "profile again";
+                        }));
+
+        // When
+        awaitSharedCall();
+        release.countDown();
+
+        // Then
+        assertEquals("profile", first.get(5, TimeUnit.SECONDS));
+        assertEquals("profile", second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testExecute_WithADifferentScope_RunsItsOwnCall() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        singleFlight.execute("TherapistService/ListTherapists", "page 0", "user:alice", calls::incrementAndGet);
+        singleFlight.execute("TherapistService/ListTherapists", "page 0", "anonymous", calls::incrementAndGet);
+
+        // Then
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testExecute_OnceTheCallHasFailed_RunsTheNextOneAgain() {
+        // Given
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute("SpecializationService/ListSpecializations",
+                "all", SingleFlight.SIGNED_IN, () -> {
+                    throw new IllegalStateException("database down");
+                }));
+
+        // When
+        String result = singleFlight.execute("SpecializationService/ListSpecializations", "all",
+                SingleFlight.SIGNED_IN, () -> "specializations");
+
+        // Then
+        assertEquals("specializations", result);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void awaitSharedCall() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.find("single.flight.shared").counter() == null) {
+            if (System.nanoTime() > deadline) {
+                fail("The second caller did not join the call in flight within 5 seconds");
+            }
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.inspirationparticle.utro.therapist;
+
+import com.inspirationparticle.utro.gen.v1.TherapistProto;
+import com.inspirationparticle.utro.resilience.SingleFlight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TherapistControllerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Mock
+    private TherapistServiceImpl therapistService;
+
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(registry, true);
+
+    @InjectMocks
+    private TherapistController therapistController;
+
+    @Test
+    void testListTherapists_ForDifferentUsersWithTheDefaultRequest_SharesOneCall() throws Exception {
+        // Given
+        TherapistProto.ListTherapistsRequest request = TherapistProto.ListTherapistsRequest.newBuilder()
+                .setPageSize(20)
+                .build();
+        TherapistProto.ListTherapistsResponse listing = TherapistProto.ListTherapistsResponse.newBuilder()
+                .setTotalCount(1)
+                .build();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(therapistService.listPublishedTherapists(request)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new TherapistServiceImpl.PublishedListing(ResponseEntity.ok(listing), List.of());
+        });
+        CompletableFuture<ResponseEntity<TherapistProto.ListTherapistsResponse>> alice =
+                CompletableFuture.supplyAsync(() -> listAs("alice", request));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<ResponseEntity<TherapistProto.ListTherapistsResponse>> bob =
+                CompletableFuture.supplyAsync(() -> listAs("bob", request));
+
+        // When
+        awaitSharedCall();
+        release.countDown();
+
+        // Then
+        assertSame(listing, alice.get(5, TimeUnit.SECONDS).getBody());
+        assertSame(listing, bob.get(5, TimeUnit.SECONDS).getBody());
+        verify(therapistService, times(1)).listPublishedTherapists(request);
+        verify(therapistService, never()).listTherapists(any());
+    }
+
+    @Test
+    void testListTherapists_ForTheTherapistOfAnUnpublishedProfile_ListsForThem() {
+        // Given
+        TherapistProto.ListTherapistsRequest request = TherapistProto.ListTherapistsRequest.getDefaultInstance();
+        List<TherapistServiceImpl.UnpublishedProfile> unpublished =
+                List.of(new TherapistServiceImpl.UnpublishedProfile(UUID.randomUUID(), UUID.randomUUID()));
+        TherapistProto.ListTherapistsResponse own = TherapistProto.ListTherapistsResponse.newBuilder()
+                .setTotalCount(2)
+                .build();
+        when(therapistService.listPublishedTherapists(request)).thenReturn(new TherapistServiceImpl.PublishedListing(
+                ResponseEntity.ok(TherapistProto.ListTherapistsResponse.getDefaultInstance()), unpublished));
+        when(therapistService.canViewAny(unpublished)).thenReturn(true);
+        when(therapistService.listTherapists(request)).thenReturn(ResponseEntity.ok(own));
+
+        // When
+        ResponseEntity<TherapistProto.ListTherapistsResponse> response = listAs("anna", request);
+
+        // Then
+        assertSame(own, response.getBody());
+    }
+
+    private ResponseEntity<TherapistProto.ListTherapistsResponse> listAs(
+            String username, TherapistProto.ListTherapistsRequest request) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                username, null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        try {
+            return therapistController.listTherapists(request);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private void awaitSharedCall() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.find("single.flight.shared").counter() == null) {
+            if (System.nanoTime() > deadline) {
+                fail("The second caller did not join the call in flight within 5 seconds");
+            }
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.inspirationparticle.utro.therapist;
+
+import com.inspirationparticle.utro.gen.v1.TherapistProto;
+import com.inspirationparticle.utro.organisation.Organisation;
+import com.inspirationparticle.utro.user.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TherapistExportServiceTest {
+
+    @Mock
+    private TherapistRepository therapistRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TherapistExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new TherapistExportService(therapistRepository, entityManager, transactionManager);
+    }
+
+    @Test
+    void testExport_WritesNdjsonAndClearsPersistenceContextPerChunk() throws IOException {
+        // Given
+        int total = TherapistExportService.CHUNK_SIZE * 2 + 5;
+        when(therapistRepository.streamPublishedForExport())
+                .thenReturn(IntStream.range(0, total).mapToObj(TherapistExportServiceTest::therapist));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long exported = exportService.export(TherapistExportService.Format.NDJSON, out);
+
+        // Then
+        assertEquals(total, exported);
+        verify(entityManager, times(3)).clear();
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(total, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":\""));
+        assertTrue(lines[0].contains("\"slug\":\"therapist-0\""));
+    }
+
+    @Test
+    void testExport_WritesLengthDelimitedProtobuf() throws IOException {
+        // Given
+        when(therapistRepository.streamPublishedForExport())
+                .thenReturn(IntStream.range(0, 3).mapToObj(TherapistExportServiceTest::therapist));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        exportService.export(TherapistExportService.Format.PROTOBUF, out);
+
+        // Then
+        ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+        List<String> slugs = new ArrayList<>();
+        TherapistProto.Therapist message;
+        while ((message = TherapistProto.Therapist.parseDelimitedFrom(in)) != null) {
+            slugs.add(message.getSlug());
+        }
+        assertEquals(List.of("therapist-0", "therapist-1", "therapist-2"), slugs);
+    }
+
+    private static Therapist therapist(int index) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setUsername("user" + index);
+        Organisation organisation = new Organisation();
+        organisation.setId(UUID.randomUUID());
+        organisation.setName("Organisation");
+        Therapist therapist = new Therapist();
+        therapist.setId(UUID.randomUUID());
+        therapist.setUser(user);
+        therapist.setOrganisation(organisation);
+        therapist.setSlug("therapist-" + index);
+        therapist.setVisibility(Therapist.TherapistVisibility.PUBLIC);
+        therapist.setCreatedAt(Instant.now());
+        therapist.setUpdatedAt(Instant.now());
+        return therapist;
+    }
+}
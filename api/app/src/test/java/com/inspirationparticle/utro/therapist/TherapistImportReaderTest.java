@@ -0,0 +1,70 @@
+package com.inspirationparticle.utro.therapist;
+
+import com.inspirationparticle.utro.gen.v1.TherapistProto;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TherapistImportReaderTest {
+
+    @Test
+    void testNdjson_SkipsBlankLinesAndReportsMalformedRecords() throws IOException {
+        // Given
+        TherapistImportReader reader = TherapistImportReader.ndjson(new StringReader(
+                "{\"user_id\":\"u1\",\"languages\":[\"Polish\"],\"unknown\":1}\n\n{broken\n"));
+
+        // When
+        TherapistImportReader.ImportRecord first = reader.next();
+        TherapistImportReader.ImportRecord second = reader.next();
+
+        // Then
+        assertEquals(1, first.line());
+        assertEquals("u1", first.request().getUserId());
+        assertEquals("Polish", first.request().getLanguages(0));
+        assertEquals(3, second.line());
+        assertNull(second.request());
+        assertTrue(second.error().startsWith("Malformed JSON"));
+        assertNull(reader.next());
+    }
+
+    @Test
+    void testCsv_ParsesQuotedFieldsRepeatedValuesAndShortEnumNames() throws IOException {
+        // Given
+        TherapistImportReader reader = TherapistImportReader.csv(new StringReader(
+                "user_id,professional_title,languages,visibility,online_therapy_format\r\n" +
+                "u1,\"Dr \"\"Quoted\"\", PhD\",Polish|English,organisation_only,yes\r\n" +
+                "u2,\"Two\nlines\",,PUBLIC,maybe\r\n" +
+                "u3,Short\r\n"));
+
+        // When
+        TherapistImportReader.ImportRecord first = reader.next();
+        TherapistImportReader.ImportRecord second = reader.next();
+        TherapistImportReader.ImportRecord third = reader.next();
+
+        // Then
+        TherapistProto.CreateTherapistRequest request = first.request();
+        assertEquals(2, first.line());
+        assertEquals("Dr \"Quoted\", PhD", request.getProfessionalTitle());
+        assertEquals(2, request.getLanguagesCount());
+        assertEquals(TherapistProto.TherapistVisibility.THERAPIST_VISIBILITY_ORGANISATION_ONLY, request.getVisibility());
+        assertTrue(request.getOnlineTherapyFormat());
+        assertEquals(3, second.line());
+        assertEquals("Invalid value for online_therapy_format: expected true or false", second.error());
+        assertEquals(5, third.line());
+        assertEquals("Expected 5 columns but found 2", third.error());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void testCsv_RejectsUnknownColumns() {
+        // When
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> TherapistImportReader.csv(new StringReader("user_id,favourite_colour\n")));
+
+        // Then
+        assertEquals("Unknown CSV column: favourite_colour", exception.getMessage());
+    }
+}
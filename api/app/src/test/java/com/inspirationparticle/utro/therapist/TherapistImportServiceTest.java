@@ -0,0 +1,120 @@
+package com.inspirationparticle.utro.therapist;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inspirationparticle.utro.gen.v1.TherapistProto;
+import com.inspirationparticle.utro.organisation.OrganisationAccess;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TherapistImportServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private OrganisationAccess organisationAccess;
+
+    private TherapistImportService importService;
+
+    private final UUID callerId = UUID.randomUUID();
+    private final UUID organisationId = UUID.randomUUID();
+    private final UUID otherOrganisationId = UUID.randomUUID();
+    private final UUID therapistUser = UUID.randomUUID();
+    private final UUID missingUser = UUID.randomUUID();
+    private final UUID secondUser = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        importService = new TherapistImportService(jdbcTemplate, transactionManager, organisationAccess);
+    }
+
+    @Test
+    void testImport_ResolvesChunkWithSetLookupsAndReportsRejectedRows() throws IOException {
+        // Given
+        String upload = String.join("\n",
+                record(therapistUser, organisationId, "anna"),
+                record(missingUser, organisationId, "ben"),
+                record(secondUser, organisationId, "anna"),
+                record(secondUser, otherOrganisationId, "carl"),
+                "{\"user_id\":\"nope\",\"organisation_id\":\"" + organisationId + "\"}");
+        when(organisationAccess.isAdmin(callerId, organisationId)).thenReturn(true);
+        when(organisationAccess.isAdmin(callerId, otherOrganisationId)).thenReturn(false);
+        when(jdbcTemplate.query(startsWith("SELECT id FROM \"user\""), any(PreparedStatementSetter.class), any(RowMapper.class)))
+                .thenReturn(List.of(therapistUser, secondUser));
+        when(jdbcTemplate.query(startsWith("SELECT user_id FROM therapist"), any(PreparedStatementSetter.class), any(RowMapper.class)))
+                .thenReturn(List.of());
+        when(jdbcTemplate.query(startsWith("SELECT slug FROM therapist"), any(PreparedStatementSetter.class), any(RowMapper.class)))
+                .thenReturn(List.of());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        importService.importTherapists(TherapistImportReader.ndjson(new StringReader(upload)), callerId,
+                new TherapistImportReport(out, new ObjectMapper()));
+
+        // Then
+        ArgumentCaptor<BatchPreparedStatementSetter> therapists = ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO therapist ("), therapists.capture());
+        assertEquals(1, therapists.getValue().getBatchSize());
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO therapist_languages"), anyList());
+        verify(jdbcTemplate, never()).query(startsWith("SELECT id FROM specialization"), any(PreparedStatementSetter.class), any(RowMapper.class));
+        verify(organisationAccess, times(1)).isAdmin(callerId, organisationId);
+
+        String report = out.toString(StandardCharsets.UTF_8);
+        assertTrue(report.contains("{\"line\":5,\"error\":\"user_id is not a valid UUID: 'nope'\"}"));
+        assertTrue(report.contains("{\"line\":2,\"error\":\"User " + missingUser + " does not exist\"}"));
+        assertTrue(report.contains("{\"line\":3,\"error\":\"Slug anna is already taken\"}"));
+        assertTrue(report.contains("{\"line\":4,\"error\":\"Not an administrator of organisation " + otherOrganisationId + "\"}"));
+        assertTrue(report.contains("\"processed\":5,\"imported\":1,\"failed\":4,\"done\":true"));
+    }
+
+    @Test
+    void testValidate_RejectsInvalidContactEmail() {
+        // Given
+        TherapistImportReader.ImportRecord record = new TherapistImportReader.ImportRecord(7,
+                TherapistProto.CreateTherapistRequest.newBuilder()
+                        .setUserId(therapistUser.toString())
+                        .setOrganisationId(organisationId.toString())
+                        .setContactEmail("not-an-email")
+                        .build(),
+                null);
+
+        // When
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> TherapistImportService.validate(record));
+
+        // Then
+        assertEquals("contact_email is not a valid email address", exception.getMessage());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private static String record(UUID userId, UUID organisationId, String slug) {
+        return "{\"user_id\":\"" + userId + "\",\"organisation_id\":\"" + organisationId + "\",\"slug\":\"" + slug
+                + "\",\"languages\":[\"Polish\",\"Polish\"]}";
+    }
+}
@@ -3,14 +3,17 @@ package com.inspirationparticle.utro.therapist;
 import com.inspirationparticle.utro.gen.v1.TherapistProto;
 import com.inspirationparticle.utro.organisation.MemberType;
 import com.inspirationparticle.utro.organisation.Organisation;
-import com.inspirationparticle.utro.organisation.OrganisationMemberRepository;
+import com.inspirationparticle.utro.organisation.OrganisationAccess;
 import com.inspirationparticle.utro.user.User;
 import com.inspirationparticle.utro.user.UserRepository;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.api.trace.TracerProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -42,8 +45,10 @@ class TherapistServiceImplTest {
     private UserRepository userRepository;
 
     @Mock
-    private OrganisationMemberRepository organisationMemberRepository;
+    private OrganisationAccess organisationAccess;
 
+    @Spy
+    private Tracer tracer = TracerProvider.noop().get("test");
 
     @InjectMocks
     private TherapistServiceImpl therapistServiceImpl;
@@ -212,6 +217,28 @@ class TherapistServiceImplTest {
         verify(therapistRepository).findVisibleTherapists(orgId);
     }
 
+    @Test
+    void testListPublishedTherapists_LeavesOutUnpublishedProfilesAndNamesTheirOwners() {
+        // Given
+        Therapist unpublished = new Therapist();
+        unpublished.setId(UUID.randomUUID());
+        unpublished.setUser(testUser);
+        unpublished.setOrganisation(testOrganisation);
+        when(therapistRepository.findByVisibilityAndIsActiveTrue(Therapist.TherapistVisibility.PUBLIC))
+            .thenReturn(Arrays.asList(testTherapist, unpublished));
+
+        // When
+        TherapistServiceImpl.PublishedListing listing = therapistServiceImpl.listPublishedTherapists(
+            TherapistProto.ListTherapistsRequest.newBuilder().setPageSize(10).build());
+
+        // Then
+        assertEquals(1, listing.response().getBody().getTotalCount());
+        assertEquals(testId.toString(), listing.response().getBody().getTherapists(0).getId());
+        assertEquals(List.of(new TherapistServiceImpl.UnpublishedProfile(testUser.getId(), testOrganisation.getId())),
+            listing.unpublished());
+        verifyNoInteractions(userRepository, organisationAccess);
+    }
+
     @Test
     void testSearchTherapists_WithValidQuery_ReturnsMatchingTherapists() {
         // Given
@@ -0,0 +1,132 @@
+package com.inspirationparticle.utro.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TailSamplingSpanProcessorTest {
+
+    private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+    private SdkTracerProvider tracerProvider;
+    private TailSamplingSpanProcessor processor;
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    private Tracer tracer(Sampler headSampler, int maxTraces) {
+        processor = new TailSamplingSpanProcessor(() -> exporter, Duration.ofSeconds(1), maxTraces, 100);
+        tracerProvider = SdkTracerProvider.builder()
+                .setSampler(TailSamplingSpanProcessor.sampler(headSampler))
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .addSpanProcessor(processor)
+                .build();
+        return tracerProvider.get("test");
+    }
+
+    @Test
+    void testOnEnd_WithFastSuccessfulTraceDroppedByHeadSampling_ExportsNothing() {
+        // Given
+        Tracer tracer = tracer(Sampler.alwaysOff(), 10);
+
+        // When
+        Span root = tracer.spanBuilder("POST /ListTherapists").startSpan();
+        try (Scope ignored = root.makeCurrent()) {
+            tracer.spanBuilder("TherapistRepository.findAll").startSpan().end();
+        }
+        root.end();
+
+        // Then
+        assertTrue(exporter.getFinishedSpanItems().isEmpty());
+        assertEquals(0, processor.pendingTraces());
+    }
+
+    @Test
+    void testOnEnd_WithFailedSpan_ExportsWholeTrace() {
+        // Given
+        Tracer tracer = tracer(Sampler.alwaysOff(), 10);
+
+        // When
+        Span root = tracer.spanBuilder("POST /ListTherapists").startSpan();
+        try (Scope ignored = root.makeCurrent()) {
+            tracer.spanBuilder("TherapistService.createTherapist").startSpan().end();
+            tracer.spanBuilder("TherapistRepository.save").startSpan().setStatus(StatusCode.ERROR).end();
+        }
+        root.end();
+
+        // Then
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        assertEquals(List.of("TherapistService.createTherapist", "TherapistRepository.save", "POST /ListTherapists"),
+                spans.stream().map(SpanData::getName).toList());
+        assertTrue(spans.stream().noneMatch(span -> span.getSpanContext().isSampled()));
+        assertEquals(0, processor.pendingTraces());
+    }
+
+    @Test
+    void testOnEnd_WithSlowRootSpan_ExportsTrace() {
+        // Given
+        Tracer tracer = tracer(Sampler.alwaysOff(), 10);
+        Instant start = Instant.now();
+
+        // When
+        Span root = tracer.spanBuilder("POST /ListTherapists").setStartTimestamp(start).startSpan();
+        root.end(start.plusMillis(1500));
+
+        // Then
+        assertEquals(1, exporter.getFinishedSpanItems().size());
+    }
+
+    @Test
+    void testOnEnd_WithTraceSampledByHead_LeavesItToTheOtherProcessors() {
+        // Given
+        Tracer tracer = tracer(Sampler.alwaysOn(), 10);
+
+        // When
+        Span root = tracer.spanBuilder("POST /ListTherapists").startSpan();
+        try (Scope ignored = root.makeCurrent()) {
+            tracer.spanBuilder("TherapistRepository.save").startSpan().setStatus(StatusCode.ERROR).end();
+        }
+        root.end();
+
+        // Then
+        assertEquals(2, exporter.getFinishedSpanItems().size());
+        assertEquals(0, processor.pendingTraces());
+    }
+
+    @Test
+    void testOnEnd_WithMoreTracesInFlightThanMaxTraces_DropsSpansOfTheExtraTraces() {
+        // Given
+        Tracer tracer = tracer(Sampler.alwaysOff(), 1);
+        Span first = tracer.spanBuilder("first").startSpan();
+        Span second = tracer.spanBuilder("second").startSpan();
+
+        // When
+        try (Scope ignored = first.makeCurrent()) {
+            tracer.spanBuilder("first.child").startSpan().end();
+        }
+        try (Scope ignored = second.makeCurrent()) {
+            tracer.spanBuilder("second.child").startSpan().end();
+        }
+        second.setStatus(StatusCode.ERROR).end();
+        first.end();
+
+        // Then
+        assertEquals(1, processor.droppedSpans());
+        assertEquals(List.of("second"), exporter.getFinishedSpanItems().stream().map(SpanData::getName).toList());
+    }
+}
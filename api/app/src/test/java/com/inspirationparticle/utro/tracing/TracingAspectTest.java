@@ -0,0 +1,96 @@
+package com.inspirationparticle.utro.tracing;
+
+import com.inspirationparticle.utro.organisation.Organisation;
+import com.inspirationparticle.utro.organisation.OrganisationAccess;
+import com.inspirationparticle.utro.organisation.OrganisationExistsException;
+import com.inspirationparticle.utro.organisation.OrganisationMemberRepository;
+import com.inspirationparticle.utro.organisation.OrganisationRepository;
+import com.inspirationparticle.utro.organisation.OrganisationService;
+import com.inspirationparticle.utro.therapist.Therapist;
+import com.inspirationparticle.utro.therapist.TherapistRepository;
+import com.inspirationparticle.utro.user.User;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TracingAspectTest {
+
+    private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+    private SdkTracerProvider tracerProvider;
+    private TracingAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build();
+        aspect = new TracingAspect(tracerProvider.get("test"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    private <T> T traced(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    @Test
+    void testTraceRepository_WithListResult_NamesSpanAfterRepositoryAndCountsResults() {
+        // Given
+        TherapistRepository repository = mock(TherapistRepository.class);
+        when(repository.findAll()).thenReturn(List.of(new Therapist(), new Therapist(), new Therapist()));
+        TherapistRepository tracedRepository = traced(repository);
+
+        // When
+        tracedRepository.findAll();
+
+        // Then
+        SpanData span = exporter.getFinishedSpanItems().get(0);
+        assertEquals("TherapistRepository.findAll", span.getName());
+        assertEquals(3L, span.getAttributes().get(AttributeKey.longKey("result.count")));
+    }
+
+    @Test
+    void testTraceService_WithNestedRepositoryCalls_ParentsRepositorySpansToServiceSpan() {
+        // Given
+        OrganisationRepository organisationRepository = mock(OrganisationRepository.class);
+        when(organisationRepository.existsByName("Taken")).thenReturn(true);
+        OrganisationService service = traced(new OrganisationService(traced(organisationRepository),
+                mock(OrganisationMemberRepository.class), mock(OrganisationAccess.class)));
+        Organisation organisation = new Organisation();
+        organisation.setName("Taken");
+        User user = new User();
+        user.setId(UUID.randomUUID());
+
+        // When
+        assertThrows(OrganisationExistsException.class, () -> service.createOrganisation(organisation, user));
+
+        // Then
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        assertEquals(2, spans.size());
+        SpanData repositorySpan = spans.get(0);
+        SpanData serviceSpan = spans.get(1);
+        assertEquals("OrganisationRepository.existsByName", repositorySpan.getName());
+        assertEquals("OrganisationService.createOrganisation", serviceSpan.getName());
+        assertEquals(serviceSpan.getSpanId(), repositorySpan.getParentSpanId());
+        assertEquals(StatusCode.ERROR, serviceSpan.getStatus().getStatusCode());
+        assertEquals("exception", serviceSpan.getEvents().get(0).getName());
+    }
+}
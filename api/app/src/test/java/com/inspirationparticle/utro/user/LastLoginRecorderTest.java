@@ -0,0 +1,84 @@
+package com.inspirationparticle.utro.user;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LastLoginRecorderTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private LastLoginRecorder lastLoginRecorder;
+
+    @BeforeEach
+    void setUp() {
+        lastLoginRecorder = new LastLoginRecorder(jdbcTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFlush_WithRepeatedLogins_WritesLatestTimestampOncePerUser() {
+        // Given
+        UUID firstUser = UUID.randomUUID();
+        UUID secondUser = UUID.randomUUID();
+        Instant earlier = Instant.parse("2024-01-01T10:00:00Z");
+        Instant later = Instant.parse("2024-01-01T10:05:00Z");
+        lastLoginRecorder.record(firstUser, later);
+        lastLoginRecorder.record(firstUser, earlier);
+        lastLoginRecorder.record(secondUser, earlier);
+
+        // When
+        lastLoginRecorder.flush();
+
+        // Then
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture());
+        assertEquals(2, batch.getValue().size());
+        Object[] firstRow = batch.getValue().stream()
+                .filter(row -> row[1].equals(firstUser))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(Timestamp.from(later), firstRow[0]);
+    }
+
+    @Test
+    void testFlush_WithNothingPending_DoesNotTouchDatabase() {
+        // When
+        lastLoginRecorder.flush();
+
+        // Then
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void testFlush_WhenBatchFails_RetriesOnNextFlush() {
+        // Given
+        lastLoginRecorder.record(UUID.randomUUID(), Instant.now());
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new RuntimeException("connection lost"))
+                .thenReturn(new int[]{1});
+
+        // When
+        lastLoginRecorder.flush();
+        lastLoginRecorder.flush();
+
+        // Then
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+    }
+}
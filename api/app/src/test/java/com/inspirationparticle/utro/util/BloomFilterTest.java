@@ -0,0 +1,58 @@
+package com.inspirationparticle.utro.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void testMightContain_WithInsertedKeys_NeverReturnsFalseNegatives() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.001);
+        List<UUID> keys = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            UUID key = UUIDv7Generator.generateUUIDv7();
+            keys.add(key);
+            filter.put(key);
+        }
+
+        // Then
+        for (UUID key : keys) {
+            assertTrue(filter.mightContain(key));
+        }
+    }
+
+    @Test
+    void testMightContain_AtCapacity_KeepsFalsePositiveRateNearTarget() {
+        // Given
+        double targetRate = 0.001;
+        BloomFilter filter = new BloomFilter(50_000, targetRate);
+        for (int i = 0; i < 50_000; i++) {
+            filter.put(UUIDv7Generator.generateUUIDv7());
+        }
+
+        // When
+        int probes = 500_000;
+        int falsePositives = 0;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(UUIDv7Generator.generateUUIDv7())) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        double measuredRate = (double) falsePositives / probes;
+        assertTrue(measuredRate < targetRate * 2, "False-positive rate too high: " + measuredRate);
+    }
+
+    @Test
+    void testConstructor_WithInvalidRate_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1));
+    }
+}
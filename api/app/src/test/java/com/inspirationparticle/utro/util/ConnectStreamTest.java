@@ -0,0 +1,30 @@
+package com.inspirationparticle.utro.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectStreamTest {
+
+    @Test
+    void testFail_WithControlCharactersInTheMessage_WritesValidJson() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        String message = "Row 3:\n\t\"name\" is \\ empty\u0001";
+
+        // When
+        new ConnectStream(out).fail("internal", message);
+
+        // Then
+        byte[] envelope = out.toByteArray();
+        assertEquals(0x02, envelope[0]);
+        JsonNode error = new ObjectMapper().readTree(Arrays.copyOfRange(envelope, 5, envelope.length)).get("error");
+        assertEquals("internal", error.get("code").asText());
+        assertEquals(message, error.get("message").asText());
+    }
+}
@@ -0,0 +1,32 @@
+package com.inspirationparticle.utro.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UUIDCodecTest {
+
+    @Test
+    void testFormatAndParse_MatchJdkForRandomIds() {
+        for (int i = 0; i < 1_000; i++) {
+            // Given
+            UUID id = i % 2 == 0 ? UUID.randomUUID() : UUIDv7Generator.generateUUIDv7();
+
+            // When
+            String formatted = UUIDCodec.format(id);
+
+            // Then
+            assertEquals(id.toString(), formatted);
+            assertEquals(id, UUIDCodec.parse(formatted));
+            assertEquals(id, UUIDCodec.parse(formatted.toUpperCase()));
+        }
+    }
+
+    @Test
+    void testParse_WithInvalidInput_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> UUIDCodec.parse(null));
+        assertThrows(IllegalArgumentException.class, () -> UUIDCodec.parse("not-a-uuid"));
+    }
+}
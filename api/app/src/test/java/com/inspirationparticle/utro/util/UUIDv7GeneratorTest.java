@@ -0,0 +1,88 @@
+package com.inspirationparticle.utro.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UUIDv7GeneratorTest {
+
+    @Test
+    void testGenerateUUIDv7_SetsVersionVariantAndTimestamp() {
+        // Given
+        long before = System.currentTimeMillis();
+
+        // When
+        UUID id = UUIDv7Generator.generateUUIDv7();
+
+        // Then
+        assertTrue(UUIDv7Generator.isUUIDv7(id));
+        assertEquals(2, id.variant());
+        assertTrue(UUIDv7Generator.extractTimestamp(id) >= before);
+    }
+
+    @Test
+    void testGenerateUUIDv7_UnderContention_IsStrictlyIncreasingPerThreadAndUnique() throws Exception {
+        // Given
+        int threads = 8;
+        int perThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<UUID[]>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                UUID[] ids = new UUID[perThread];
+                for (int i = 0; i < perThread; i++) {
+                    ids[i] = UUIDv7Generator.generateUUIDv7();
+                }
+                return ids;
+            }));
+        }
+
+        // When
+        start.countDown();
+        List<Long> prefixes = new ArrayList<>();
+        for (Future<UUID[]> result : results) {
+            UUID[] ids = result.get(30, TimeUnit.SECONDS);
+            for (int i = 0; i < ids.length; i++) {
+                if (i > 0) {
+                    assertTrue(Long.compareUnsigned(ids[i - 1].getMostSignificantBits(), ids[i].getMostSignificantBits()) < 0);
+                }
+                prefixes.add(ids[i].getMostSignificantBits());
+            }
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(threads * perThread, prefixes.stream().distinct().count());
+    }
+
+    @Test
+    void testReserve_IssuesConsecutiveIdsAfterEarlierOnes() {
+        // Given
+        UUID before = UUIDv7Generator.generateUUIDv7();
+
+        // When
+        UUIDv7Generator.Reservation reservation = UUIDv7Generator.reserve(3);
+        UUID first = reservation.next();
+        UUID second = reservation.next();
+        UUID third = reservation.next();
+
+        // Then
+        assertTrue(Long.compareUnsigned(before.getMostSignificantBits(), first.getMostSignificantBits()) < 0);
+        assertEquals(first.getMostSignificantBits() + 1, second.getMostSignificantBits());
+        assertEquals(second.getMostSignificantBits() + 1, third.getMostSignificantBits());
+        assertFalse(reservation.hasNext());
+        assertThrows(NoSuchElementException.class, reservation::next);
+    }
+}
@@ -0,0 +1,86 @@
+package com.inspirationparticle.utro.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares a JMH JSON result file (-rf json) against a stored baseline and prints the change in score and
+ * in bytes allocated per operation for every benchmark present in both. Exits with 1 when any score is
+ * worse than the threshold, so it can gate a CI job.
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.inspirationparticle.utro.benchmarks.CompareResults \
+ *     benchmarks/baselines/baseline.json results.json [threshold-percent]
+ * </pre>
+ */
+public final class CompareResults {
+
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    private record Result(String mode, double score, double error, String unit, Double allocatedPerOp) {
+    }
+
+    private CompareResults() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: CompareResults <baseline.json> <results.json> [threshold-percent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        Map<String, Result> baseline = read(new File(args[0]));
+        Map<String, Result> current = read(new File(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-70s %14s %14s %8s %12s %12s%n", "Benchmark", "Baseline", "Current", "Change", "B/op base", "B/op now");
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result before = baseline.get(entry.getKey());
+            Result after = entry.getValue();
+            if (before == null || !before.unit().equals(after.unit())) {
+                System.out.printf("%-70s %14s %14.3f %8s%n", entry.getKey(), "-", after.score(), "new");
+                continue;
+            }
+            // Positive change is always an improvement: faster for time modes, more ops for throughput
+            double change = 100.0 * (after.score() - before.score()) / before.score();
+            if (!after.mode().equals("thrpt")) {
+                change = -change;
+            }
+            boolean regressed = change < -threshold;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-70s %14.3f %14.3f %+7.1f%% %12s %12s%s%n", entry.getKey(), before.score(), after.score(),
+                    change, bytes(before.allocatedPerOp()), bytes(after.allocatedPerOp()), regressed ? "  REGRESSION" : "");
+        }
+        System.out.printf("%d benchmark(s) more than %.0f%% worse than the baseline%n", regressions, threshold);
+        System.exit(regressions > 0 ? 1 : 0);
+    }
+
+    private static Map<String, Result> read(File file) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(run.path("benchmark").asText()
+                    .replace("com.inspirationparticle.utro.benchmarks.", ""));
+            run.path("params").fields().forEachRemaining(param ->
+                    key.append(':').append(param.getKey()).append('=').append(param.getValue().asText()));
+            key.append(" (").append(run.path("mode").asText()).append(", ").append(run.path("threads").asInt()).append("t)");
+
+            JsonNode primary = run.path("primaryMetric");
+            JsonNode allocation = run.path("secondaryMetrics").path(ALLOCATION);
+            results.put(key.toString(), new Result(run.path("mode").asText(), primary.path("score").asDouble(),
+                    primary.path("scoreError").asDouble(), primary.path("scoreUnit").asText(),
+                    allocation.isMissingNode() ? null : allocation.path("score").asDouble()));
+        }
+        return results;
+    }
+
+    private static String bytes(Double allocatedPerOp) {
+        return allocatedPerOp == null ? "-" : String.format("%.0f", allocatedPerOp);
+    }
+}
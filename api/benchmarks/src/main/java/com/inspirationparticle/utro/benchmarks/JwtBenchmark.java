@@ -0,0 +1,71 @@
+package com.inspirationparticle.utro.benchmarks;
+
+import com.inspirationparticle.utro.auth.JwtUtil;
+import com.inspirationparticle.utro.auth.TokenMemberships;
+import com.inspirationparticle.utro.organisation.MemberType;
+import com.inspirationparticle.utro.util.UUIDv7Generator;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue on login and validation on every authenticated request, for a plain token and one
+ * carrying three organisation memberships
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private TokenMemberships memberships;
+    private String plainToken;
+    private String membershipToken;
+
+    @Setup
+    public void setUp() {
+        new JwtUtil().setSecret("benchmark-secret-key-with-at-least-32-bytes");
+        Map<UUID, MemberType> roles = new HashMap<>();
+        roles.put(UUIDv7Generator.generateUUIDv7(), MemberType.ADMINISTRATOR);
+        roles.put(UUIDv7Generator.generateUUIDv7(), MemberType.MEMBER);
+        roles.put(UUIDv7Generator.generateUUIDv7(), MemberType.MEMBER);
+        memberships = new TokenMemberships(UUIDv7Generator.generateUUIDv7(), 7, roles);
+        plainToken = JwtUtil.generateToken("anna.kowalska");
+        membershipToken = JwtUtil.generateToken("anna.kowalska", memberships);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return JwtUtil.generateToken("anna.kowalska");
+    }
+
+    @Benchmark
+    public String generateToken_withMemberships() {
+        return JwtUtil.generateToken("anna.kowalska", memberships);
+    }
+
+    @Benchmark
+    public Claims validateToken() {
+        return JwtUtil.validateToken(plainToken);
+    }
+
+    @Benchmark
+    public TokenMemberships validateToken_withMemberships() {
+        return TokenMemberships.fromClaims(JwtUtil.validateToken(membershipToken));
+    }
+}
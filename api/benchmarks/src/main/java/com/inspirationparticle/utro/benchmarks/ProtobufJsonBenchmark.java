@@ -0,0 +1,101 @@
+package com.inspirationparticle.utro.benchmarks;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.util.JsonFormat;
+import com.inspirationparticle.utro.config.ProtobufConfig;
+import com.inspirationparticle.utro.gen.v1.TherapistProto;
+import com.inspirationparticle.utro.therapist.TherapistProtoMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The JSON printer and parser the API is configured with, on one therapist, a 20 therapist list page and a
+ * create request, next to the binary encoding of the same list page
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProtobufJsonBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private final JsonFormat.Printer printer = ProtobufConfig.jsonPrinter();
+    private final JsonFormat.Parser parser = ProtobufConfig.jsonParser();
+
+    private TherapistProto.Therapist therapist;
+    private TherapistProto.ListTherapistsResponse page;
+    private String therapistJson;
+    private String pageJson;
+    private String createRequestJson;
+    private byte[] pageBinary;
+
+    @Setup
+    public void setUp() throws InvalidProtocolBufferException {
+        TherapistProto.ListTherapistsResponse.Builder builder = TherapistProto.ListTherapistsResponse.newBuilder()
+                .setTotalCount(PAGE_SIZE)
+                .setPageSize(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            builder.addTherapists(TherapistProtoMapper.toProto(TherapistFixtures.therapist(i)));
+        }
+        page = builder.build();
+        therapist = page.getTherapists(0);
+        therapistJson = printer.print(therapist);
+        pageJson = printer.print(page);
+        pageBinary = page.toByteArray();
+        createRequestJson = printer.print(TherapistFixtures.createRequest(0).toBuilder().clearProfileImageData());
+    }
+
+    @Benchmark
+    public String printTherapist() throws InvalidProtocolBufferException {
+        return printer.print(therapist);
+    }
+
+    @Benchmark
+    public String printListPage() throws InvalidProtocolBufferException {
+        return printer.print(page);
+    }
+
+    @Benchmark
+    public TherapistProto.Therapist parseTherapist() throws InvalidProtocolBufferException {
+        TherapistProto.Therapist.Builder builder = TherapistProto.Therapist.newBuilder();
+        parser.merge(therapistJson, builder);
+        return builder.build();
+    }
+
+    @Benchmark
+    public TherapistProto.ListTherapistsResponse parseListPage() throws InvalidProtocolBufferException {
+        TherapistProto.ListTherapistsResponse.Builder builder = TherapistProto.ListTherapistsResponse.newBuilder();
+        parser.merge(pageJson, builder);
+        return builder.build();
+    }
+
+    @Benchmark
+    public TherapistProto.CreateTherapistRequest parseCreateRequest() throws InvalidProtocolBufferException {
+        TherapistProto.CreateTherapistRequest.Builder builder = TherapistProto.CreateTherapistRequest.newBuilder();
+        parser.merge(createRequestJson, builder);
+        return builder.build();
+    }
+
+    @Benchmark
+    public byte[] binaryListPage_encode() {
+        return page.toByteArray();
+    }
+
+    @Benchmark
+    public TherapistProto.ListTherapistsResponse binaryListPage_decode() throws InvalidProtocolBufferException {
+        return TherapistProto.ListTherapistsResponse.parseFrom(pageBinary);
+    }
+}
@@ -0,0 +1,49 @@
+package com.inspirationparticle.utro.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The previous lock-based UUIDv7 generator, kept as the comparison point for UUIDv7GeneratorBenchmark
+ */
+final class SynchronizedUUIDv7Generator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final AtomicInteger SEQUENCE = new AtomicInteger(RANDOM.nextInt() & 0xFFF);
+    private static long lastTimestamp = 0;
+
+    private SynchronizedUUIDv7Generator() {
+    }
+
+    static UUID generateUUIDv7() {
+        long timestamp = System.currentTimeMillis();
+
+        synchronized (SynchronizedUUIDv7Generator.class) {
+            if (timestamp == lastTimestamp) {
+                int seq = SEQUENCE.incrementAndGet() & 0xFFF;
+                if (seq == 0) {
+                    while (timestamp == lastTimestamp) {
+                        timestamp = System.currentTimeMillis();
+                    }
+                }
+            } else {
+                SEQUENCE.set(RANDOM.nextInt() & 0xFFF);
+            }
+            lastTimestamp = timestamp;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        buffer.putShort((short) (timestamp >>> 32));
+        buffer.putInt((int) timestamp);
+        buffer.putShort((short) ((0x7 << 12) | (SEQUENCE.get() & 0xFFF)));
+        byte[] randomBytes = new byte[8];
+        RANDOM.nextBytes(randomBytes);
+        randomBytes[0] = (byte) ((randomBytes[0] & 0x3F) | 0x80);
+        buffer.put(randomBytes);
+
+        buffer.rewind();
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
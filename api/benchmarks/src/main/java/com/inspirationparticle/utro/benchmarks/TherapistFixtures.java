@@ -0,0 +1,161 @@
+package com.inspirationparticle.utro.benchmarks;
+
+import com.google.protobuf.ByteString;
+import com.inspirationparticle.utro.gen.v1.TherapistProto;
+import com.inspirationparticle.utro.organisation.Organisation;
+import com.inspirationparticle.utro.therapist.Specialization;
+import com.inspirationparticle.utro.therapist.Therapist;
+import com.inspirationparticle.utro.therapist.TherapistCertification;
+import com.inspirationparticle.utro.therapist.TherapistEducation;
+import com.inspirationparticle.utro.therapist.TherapistSpecialization;
+import com.inspirationparticle.utro.therapist.TherapistSpecializationId;
+import com.inspirationparticle.utro.user.User;
+import com.inspirationparticle.utro.util.UUIDv7Generator;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Therapist aggregates sized like a complete public profile: long bilingual descriptions, a handful of
+ * languages and tags, five specializations, three degrees and two certifications
+ */
+final class TherapistFixtures {
+
+    private static final String PARAGRAPH = "Pracuję z dorosłymi w nurcie poznawczo-behawioralnym, pomagając w zaburzeniach "
+            + "lękowych, depresji i trudnościach w relacjach. Sessions are held in Polish or English, in the office "
+            + "or online, and start with a consultation to agree on goals. ";
+
+    private TherapistFixtures() {
+    }
+
+    static Therapist therapist(int index) {
+        Instant now = Instant.now();
+
+        User user = new User();
+        user.setId(UUIDv7Generator.generateUUIDv7());
+        user.setUsername("therapist" + index);
+        user.setFullName("Anna Kowalska-Nowak " + index);
+
+        Organisation organisation = new Organisation();
+        organisation.setId(UUIDv7Generator.generateUUIDv7());
+        organisation.setName("Centrum Terapii Poznawczej");
+
+        Therapist therapist = new Therapist();
+        therapist.setId(UUIDv7Generator.generateUUIDv7());
+        therapist.setUser(user);
+        therapist.setOrganisation(organisation);
+        therapist.setProfessionalTitle("Psychoterapeutka CBT, psycholog kliniczny");
+        therapist.setDescriptionEng(PARAGRAPH.repeat(4));
+        therapist.setDescriptionPl(PARAGRAPH.repeat(4));
+        therapist.setWorkExperienceEng(PARAGRAPH.repeat(2));
+        therapist.setWorkExperiencePl(PARAGRAPH.repeat(2));
+        therapist.setLanguages(Set.of("Polish", "English", "German"));
+        therapist.setInPersonTherapyFormat(true);
+        therapist.setOnlineTherapyFormat(true);
+        therapist.setProfileImageMimeType("image/jpeg");
+        therapist.setContactEmail("anna" + index + "@example.com");
+        therapist.setContactPhone("+48 600 100 200");
+        therapist.setWebsiteUrl("https://example.com/therapists/anna-" + index);
+        therapist.setVisibility(Therapist.TherapistVisibility.PUBLIC);
+        therapist.setSlug("anna-kowalska-nowak-" + index);
+        therapist.setMetaDescription("CBT psychotherapist in Warsaw, sessions in Polish and English");
+        therapist.setSearchTags(Set.of("cbt", "anxiety", "depression", "couples", "warsaw", "online"));
+        therapist.setCreatedAt(now);
+        therapist.setUpdatedAt(now);
+        therapist.setPublishedAt(now);
+
+        for (int i = 0; i < 5; i++) {
+            Specialization specialization = new Specialization();
+            specialization.setId(UUIDv7Generator.generateUUIDv7());
+            specialization.setNameEng("Anxiety disorders " + i);
+            specialization.setNamePl("Zaburzenia lękowe " + i);
+            specialization.setDescriptionEng(PARAGRAPH);
+            specialization.setDescriptionPl(PARAGRAPH);
+            specialization.setCategory("Adults");
+            specialization.setCreatedAt(now);
+            specialization.setUpdatedAt(now);
+
+            TherapistSpecialization link = new TherapistSpecialization();
+            link.setId(new TherapistSpecializationId(therapist.getId(), specialization.getId()));
+            link.setTherapist(therapist);
+            link.setSpecialization(specialization);
+            link.setIsPrimary(i == 0);
+            link.setYearsOfPractice(3 + i);
+            link.setCreatedAt(now);
+            therapist.getSpecializations().add(link);
+        }
+
+        for (int i = 0; i < 3; i++) {
+            TherapistEducation education = new TherapistEducation();
+            education.setId(UUIDv7Generator.generateUUIDv7());
+            education.setTherapist(therapist);
+            education.setDegree("Master of Arts");
+            education.setFieldOfStudy("Clinical Psychology");
+            education.setInstitution("Uniwersytet Warszawski");
+            education.setCountry("Poland");
+            education.setStartYear(2005 + i * 3);
+            education.setGraduationYear(2010 + i * 3);
+            education.setThesisTitle("Cognitive distortions in generalised anxiety disorder");
+            education.setDisplayOrder(i);
+            education.setCreatedAt(now);
+            education.setUpdatedAt(now);
+            therapist.getEducation().add(education);
+        }
+
+        for (int i = 0; i < 2; i++) {
+            TherapistCertification certification = new TherapistCertification();
+            certification.setId(UUIDv7Generator.generateUUIDv7());
+            certification.setTherapist(therapist);
+            certification.setName("Certified CBT Psychotherapist");
+            certification.setIssuingOrganization("Polskie Towarzystwo Terapii Poznawczej i Behawioralnej");
+            certification.setCredentialId("PTTPB-" + index + "-" + i);
+            certification.setIssueDate(LocalDate.of(2015 + i, 6, 1));
+            certification.setExpiryDate(LocalDate.of(2030 + i, 6, 1));
+            certification.setVerificationUrl("https://example.com/verify/" + index + "/" + i);
+            certification.setHoursCompleted(1200);
+            certification.setDisplayOrder(i);
+            certification.setCreatedAt(now);
+            certification.setUpdatedAt(now);
+            therapist.getCertifications().add(certification);
+        }
+        return therapist;
+    }
+
+    static TherapistProto.CreateTherapistRequest createRequest(int index) {
+        return TherapistProto.CreateTherapistRequest.newBuilder()
+                .setUserId(UUIDv7Generator.generateUUIDv7().toString())
+                .setOrganisationId(UUIDv7Generator.generateUUIDv7().toString())
+                .setProfessionalTitle("Psychoterapeutka CBT, psycholog kliniczny")
+                .setDescriptionEng(PARAGRAPH.repeat(4))
+                .setDescriptionPl(PARAGRAPH.repeat(4))
+                .setWorkExperienceEng(PARAGRAPH.repeat(2))
+                .setWorkExperiencePl(PARAGRAPH.repeat(2))
+                .addAllLanguages(List.of("Polish", "English", "German"))
+                .setInPersonTherapyFormat(true)
+                .setOnlineTherapyFormat(true)
+                .setContactEmail("anna" + index + "@example.com")
+                .setContactPhone("+48 600 100 200")
+                .setWebsiteUrl("https://example.com/therapists/anna-" + index)
+                .setIsAcceptingNewClients(true)
+                .setVisibility(TherapistProto.TherapistVisibility.THERAPIST_VISIBILITY_PUBLIC)
+                .setSlug("anna-kowalska-nowak-" + index)
+                .setMetaDescription("CBT psychotherapist in Warsaw, sessions in Polish and English")
+                .addAllSearchTags(List.of("cbt", "anxiety", "depression", "couples", "warsaw", "online"))
+                .setProfileImageData(ByteString.copyFrom(new byte[32 * 1024]))
+                .setProfileImageMimeType("image/jpeg")
+                .build();
+    }
+
+    static TherapistProto.UpdateTherapistRequest updateRequest(String id) {
+        return TherapistProto.UpdateTherapistRequest.newBuilder()
+                .setId(id)
+                .setProfessionalTitle("Psychoterapeutka CBT, superwizorka")
+                .setDescriptionEng(PARAGRAPH.repeat(5))
+                .addAllLanguages(List.of("Polish", "English"))
+                .setIsAcceptingNewClients(false)
+                .addAllSearchTags(List.of("cbt", "supervision"))
+                .build();
+    }
+}
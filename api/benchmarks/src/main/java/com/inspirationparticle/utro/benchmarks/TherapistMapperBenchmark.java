@@ -0,0 +1,74 @@
+package com.inspirationparticle.utro.benchmarks;
+
+import com.inspirationparticle.utro.gen.v1.TherapistProto;
+import com.inspirationparticle.utro.organisation.Organisation;
+import com.inspirationparticle.utro.therapist.Therapist;
+import com.inspirationparticle.utro.therapist.TherapistProtoMapper;
+import com.inspirationparticle.utro.therapist.TherapistRequestMapper;
+import com.inspirationparticle.utro.user.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to proto and request to entity mapping of a complete therapist profile, as done for every
+ * therapist in a list, search or export response and on every create or update
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TherapistMapperBenchmark {
+
+    private static final int SAMPLES = 64;
+
+    private final Therapist[] therapists = new Therapist[SAMPLES];
+    private final TherapistProto.CreateTherapistRequest[] createRequests = new TherapistProto.CreateTherapistRequest[SAMPLES];
+    private final TherapistProto.UpdateTherapistRequest[] updateRequests = new TherapistProto.UpdateTherapistRequest[SAMPLES];
+    private User user;
+    private Organisation organisation;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < SAMPLES; i++) {
+            therapists[i] = TherapistFixtures.therapist(i);
+            createRequests[i] = TherapistFixtures.createRequest(i);
+            updateRequests[i] = TherapistFixtures.updateRequest(therapists[i].getId().toString());
+        }
+        user = therapists[0].getUser();
+        organisation = therapists[0].getOrganisation();
+    }
+
+    @Benchmark
+    public TherapistProto.Therapist toProto() {
+        return TherapistProtoMapper.toProto(therapists[next()]);
+    }
+
+    @Benchmark
+    public Therapist fromCreateRequest() {
+        return TherapistRequestMapper.fromCreateRequest(createRequests[next()], user, organisation);
+    }
+
+    @Benchmark
+    public Therapist updateFromRequest() {
+        int i = next();
+        TherapistRequestMapper.updateFromRequest(therapists[i], updateRequests[i]);
+        return therapists[i];
+    }
+
+    private int next() {
+        return index = (index + 1) & (SAMPLES - 1);
+    }
+}
@@ -0,0 +1,117 @@
+package com.inspirationparticle.utro.benchmarks;
+
+import com.inspirationparticle.utro.auth.RevokedTokenRepository;
+import com.inspirationparticle.utro.auth.TokenRevocationService;
+import com.inspirationparticle.utro.util.UUIDv7Generator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-request revocation check of JwtAuthenticationFilter, TokenRevocationService.isRevoked, on a jti claim:
+ * a token that was never revoked, which the Bloom filter answers alone, a revoked one, which the filter passes on
+ * to the table, and checks while another thread rebuilds the filter.
+ * <p>
+ * The table is an in-memory set, so a Bloom hit measures the filter and the lookup call but not the database round
+ * trip it costs in the application.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenRevocationBenchmark {
+
+    private static final int REVOKED = 20_000;
+    private static final int SAMPLES = 1024;
+
+    private final List<UUID> revoked = new ArrayList<>(REVOKED);
+    private final Set<UUID> table = new HashSet<>(REVOKED * 2);
+    private final String[] validJtis = new String[SAMPLES];
+    private final String[] revokedJtis = new String[SAMPLES];
+    private TokenRevocationService service;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int index;
+
+        int next() {
+            return index = (index + 1) & (SAMPLES - 1);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < REVOKED; i++) {
+            UUID jti = UUIDv7Generator.generateUUIDv7();
+            revoked.add(jti);
+            table.add(jti);
+        }
+        for (int i = 0; i < SAMPLES; i++) {
+            validJtis[i] = UUIDv7Generator.generateUUIDv7().toString();
+            revokedJtis[i] = revoked.get(i * (REVOKED / SAMPLES)).toString();
+        }
+        service = new TokenRevocationService(repository(), 0.001);
+        service.rebuild();
+    }
+
+    @Benchmark
+    public boolean isRevoked_miss(Cursor cursor) {
+        return service.isRevoked(validJtis[cursor.next()]);
+    }
+
+    @Benchmark
+    public boolean isRevoked_bloomHit(Cursor cursor) {
+        return service.isRevoked(revokedJtis[cursor.next()]);
+    }
+
+    @Benchmark
+    @Group("underRebuild")
+    @GroupThreads(3)
+    public boolean underRebuild_isRevoked(Cursor cursor) {
+        return service.isRevoked(validJtis[cursor.next()]);
+    }
+
+    @Benchmark
+    @Group("underRebuild")
+    @GroupThreads(1)
+    public void underRebuild_rebuild() {
+        service.rebuild();
+    }
+
+    /**
+     * The revoked_token table as the service queries it
+     */
+    private RevokedTokenRepository repository() {
+        return (RevokedTokenRepository) Proxy.newProxyInstance(RevokedTokenRepository.class.getClassLoader(),
+                new Class<?>[]{RevokedTokenRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "existsById" -> table.contains((UUID) args[0]);
+                    case "findUnexpiredJtis" -> revoked;
+                    case "findJtisRevokedSince" -> List.of();
+                    case "deleteExpired" -> 0;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "RevokedTokenRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
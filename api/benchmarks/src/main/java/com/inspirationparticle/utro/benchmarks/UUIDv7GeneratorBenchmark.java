@@ -0,0 +1,70 @@
+package com.inspirationparticle.utro.benchmarks;
+
+import com.inspirationparticle.utro.util.UUIDv7Generator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ID generation throughput, single-threaded and with every core contending on the generator.
+ * Run with -prof gc to confirm the lock-free generator allocates only the UUID itself.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UUIDv7GeneratorBenchmark {
+
+    private static final int BATCH = 100;
+
+    @Benchmark
+    @Threads(1)
+    public UUID lockFree_singleThread() {
+        return UUIDv7Generator.generateUUIDv7();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public UUID lockFree_contended() {
+        return UUIDv7Generator.generateUUIDv7();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    @OperationsPerInvocation(BATCH)
+    public void lockFree_reservedBatch_contended(Blackhole blackhole) {
+        UUIDv7Generator.Reservation reservation = UUIDv7Generator.reserve(BATCH);
+        while (reservation.hasNext()) {
+            blackhole.consume(reservation.next());
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public UUID synchronized_singleThread() {
+        return SynchronizedUUIDv7Generator.generateUUIDv7();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public UUID synchronized_contended() {
+        return SynchronizedUUIDv7Generator.generateUUIDv7();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public UUID randomV4_contended() {
+        return UUID.randomUUID();
+    }
+}
@@ -0,0 +1,169 @@
+package com.inspirationparticle.utro.loadtest;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Rows for one table in COPY text format, encoded straight to UTF-8 bytes and sent with a single COPY ... FROM STDIN.
+ * Values are appended column by column; {@link #end()} closes the row.
+ */
+final class CopyBuffer {
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final String sql;
+    private byte[] bytes = new byte[64 * 1024];
+    private int size;
+    private int rows;
+    private boolean rowStarted;
+
+    CopyBuffer(String table, String... columns) {
+        this.sql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN";
+    }
+
+    int rows() {
+        return rows;
+    }
+
+    CopyBuffer add(String value) {
+        separator();
+        if (value == null) {
+            ascii("\\N");
+            return this;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> ascii("\\\\");
+                case '\t' -> ascii("\\t");
+                case '\n' -> ascii("\\n");
+                case '\r' -> ascii("\\r");
+                default -> {
+                    if (c < 0x80) {
+                        put((byte) c);
+                    } else {
+                        // Rare enough in generated text to go through the JDK encoder, which also handles surrogates
+                        int end = i + 1;
+                        while (end < value.length() && value.charAt(end) >= 0x80) {
+                            end++;
+                        }
+                        byte[] encoded = value.substring(i, end).getBytes(StandardCharsets.UTF_8);
+                        ensure(encoded.length);
+                        System.arraycopy(encoded, 0, bytes, size, encoded.length);
+                        size += encoded.length;
+                        i = end - 1;
+                    }
+                }
+            }
+        }
+        return this;
+    }
+
+    CopyBuffer add(UUID value) {
+        return add(value == null ? null : value.toString());
+    }
+
+    CopyBuffer add(boolean value) {
+        separator();
+        put((byte) (value ? 't' : 'f'));
+        return this;
+    }
+
+    CopyBuffer add(long value) {
+        separator();
+        ascii(Long.toString(value));
+        return this;
+    }
+
+    CopyBuffer add(Integer value) {
+        return value == null ? add((String) null) : add(value.longValue());
+    }
+
+    CopyBuffer add(Instant value) {
+        return add(value == null ? null : value.toString());
+    }
+
+    CopyBuffer add(LocalDate value) {
+        return add(value == null ? null : value.toString());
+    }
+
+    /**
+     * bytea in hex form; the backslash of \x is itself escaped in the text format
+     */
+    CopyBuffer add(byte[] value) {
+        if (value == null) {
+            return add((String) null);
+        }
+        separator();
+        ensure(3 + value.length * 2);
+        bytes[size++] = '\\';
+        bytes[size++] = '\\';
+        bytes[size++] = 'x';
+        for (byte b : value) {
+            bytes[size++] = HEX[(b >> 4) & 0xF];
+            bytes[size++] = HEX[b & 0xF];
+        }
+        return this;
+    }
+
+    CopyBuffer end() {
+        put((byte) '\n');
+        rows++;
+        rowStarted = false;
+        return this;
+    }
+
+    /**
+     * Sends the buffered rows and empties the buffer; returns how many rows the server accepted
+     */
+    long copyTo(Connection connection) throws SQLException {
+        if (rows == 0) {
+            return 0;
+        }
+        CopyIn copy = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+        try {
+            copy.writeToCopy(bytes, 0, size);
+            long copied = copy.endCopy();
+            size = 0;
+            rows = 0;
+            return copied;
+        } finally {
+            if (copy.isActive()) {
+                copy.cancelCopy();
+            }
+        }
+    }
+
+    private void separator() {
+        if (rowStarted) {
+            put((byte) '\t');
+        }
+        rowStarted = true;
+    }
+
+    private void ascii(String value) {
+        ensure(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            bytes[size++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void put(byte b) {
+        ensure(1);
+        bytes[size++] = b;
+    }
+
+    private void ensure(int extra) {
+        if (size + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+        }
+    }
+}
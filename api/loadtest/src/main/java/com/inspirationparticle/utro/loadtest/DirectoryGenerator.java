@@ -0,0 +1,550 @@
+package com.inspirationparticle.utro.loadtest;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Generates a synthetic therapist directory: organisations of skewed sizes with administrators, staff and
+ * invitations, and therapists with bilingual markdown profiles, specializations, education, certifications,
+ * languages, tags and some profile images.
+ * <p>
+ * Rows are bulk loaded with COPY in chunks, each chunk in its own transaction and drawn from its own random
+ * stream derived from the seed, so chunks can be written by several connections at once and the same seed and
+ * reference date always produce the same rows. Seeded usernames start with {@value #USER_PREFIX} and share the
+ * password {@value #PASSWORD}.
+ */
+final class DirectoryGenerator {
+
+    static final String USER_PREFIX = "lt-";
+    static final String PASSWORD = "loadtest-password";
+    // BCrypt of PASSWORD, fixed so that the seed alone decides every column
+    private static final String PASSWORD_HASH = "$2a$10$N1itqxkq2kRpyXrNkemSrOSOdmGlc23fZ9PAqpdIq1ht5Ec5uMuFu";
+
+    static final int ORGANISATION_CHUNK = 200;
+    // Kept small enough that a chunk's profile images stay well under 100 MB of COPY data
+    static final int THERAPIST_CHUNK = 500;
+
+    private static final long ORGANISATION_STREAM = 0x4f5247L;
+    private static final long THERAPIST_STREAM = 0x544852L;
+
+    private static final String[] FIRST_NAMES = {"Anna", "Katarzyna", "Maria", "Małgorzata", "Agnieszka", "Barbara",
+            "Ewa", "Magdalena", "Joanna", "Aleksandra", "Zofia", "Monika", "Piotr", "Krzysztof", "Tomasz", "Paweł",
+            "Michał", "Marcin", "Jakub", "Adam", "Łukasz", "Grzegorz", "Olena", "Daria", "Iryna"};
+    static final String[] LAST_NAMES = {"Nowak", "Kowalska", "Wiśniewska", "Wójcik", "Kowalczyk", "Kamińska",
+            "Lewandowski", "Zielińska", "Szymański", "Woźniak", "Dąbrowska", "Kozłowski", "Jankowska", "Mazur",
+            "Kwiatkowski", "Krawczyk", "Piotrowska", "Grabowski", "Nowakowska", "Pawłowski", "Michalska", "Król",
+            "Wieczorek", "Jabłońska", "Shevchenko", "Bondarenko"};
+    static final String[] CITIES = {"Warszawa", "Kraków", "Wrocław", "Poznań", "Gdańsk", "Łódź", "Lublin",
+            "Katowice", "Szczecin", "Białystok", "Bydgoszcz", "Rzeszów", "Olsztyn", "Toruń", "Opole"};
+    private static final String[] PRACTICE_NAMES = {"Centrum Terapii", "Gabinet Psychoterapii", "Poradnia Zdrowia Psychicznego",
+            "Ośrodek Terapii Rodzinnej", "Pracownia Psychologiczna", "Instytut Psychoterapii"};
+    static final String[] TITLES = {"Psycholog", "Psychoterapeuta", "Psychoterapeutka CBT", "Psychiatra",
+            "Terapeuta par", "Psycholog dziecięcy", "Seksuolog", "Terapeuta uzależnień"};
+    static final String[] TOPICS = {"anxiety", "depression", "trauma", "couples", "burnout", "grief",
+            "addiction", "eating disorders", "ADHD", "OCD", "self-esteem", "panic attacks"};
+    private static final String[] TOPICS_PL = {"lęk", "depresja", "trauma", "terapia par", "wypalenie", "żałoba",
+            "uzależnienia", "zaburzenia odżywiania", "ADHD", "OCD", "poczucie własnej wartości", "ataki paniki"};
+    private static final String[] APPROACHES = {"cognitive behavioural therapy", "psychodynamic therapy",
+            "schema therapy", "systemic therapy", "acceptance and commitment therapy", "Gestalt therapy"};
+    private static final String[] APPROACHES_PL = {"terapii poznawczo-behawioralnej", "terapii psychodynamicznej",
+            "terapii schematu", "terapii systemowej", "terapii akceptacji i zaangażowania", "terapii Gestalt"};
+    // Share of therapists speaking each language; everyone speaks Polish
+    static final String[] LANGUAGES = {"Polish", "English", "German", "Ukrainian", "Russian", "French", "Spanish"};
+    private static final int[] LANGUAGE_PERCENT = {100, 55, 12, 9, 6, 4, 3};
+    private static final String[] UNIVERSITIES = {"Uniwersytet Warszawski", "Uniwersytet Jagielloński",
+            "Uniwersytet SWPS", "Uniwersytet im. Adama Mickiewicza w Poznaniu", "Uniwersytet Wrocławski",
+            "Uniwersytet Gdański", "Katolicki Uniwersytet Lubelski", "Uniwersytet Łódzki", "Uniwersytet Śląski"};
+    private static final String[] DEGREES = {"M.A.", "M.A.", "M.A.", "B.A.", "Ph.D.", "Postgraduate diploma"};
+    private static final String[] FIELDS = {"Psychology", "Clinical Psychology", "Psychotherapy", "Medicine",
+            "Pedagogy", "Sexology", "Addiction Therapy"};
+    private static final String[] CERTIFICATES = {"Certified CBT Psychotherapist", "Certified Psychotherapist",
+            "Certified Addiction Therapist", "Certified Supervisor", "EMDR Practitioner", "Certified Sexologist"};
+    private static final String[] CERTIFYING_BODIES = {"Polskie Towarzystwo Terapii Poznawczej i Behawioralnej",
+            "Polskie Towarzystwo Psychiatryczne", "Polskie Towarzystwo Psychologiczne", "EMDR Europe",
+            "Krajowe Centrum Przeciwdziałania Uzależnieniom", "Polskie Towarzystwo Seksuologiczne"};
+    private static final String[] CERTIFICATE_LEVELS = {"Basic", "Advanced", "Expert"};
+
+    /**
+     * How much to generate. Staff and invitations are averages per organisation; images is the share of
+     * therapists with a profile photo.
+     */
+    record Sizes(int organisations, int therapists, double staffPerOrganisation, double invitationsPerOrganisation,
+                 double images) {
+    }
+
+    /**
+     * Rows written per table, in load order
+     */
+    record Result(Map<String, Long> rows, long elapsedMs) {
+    }
+
+    private final DataSource dataSource;
+    private final Sizes sizes;
+    private final long seed;
+    private final Instant asOf;
+    private final int threads;
+
+    private final UUID[] organisationIds;
+    private final UUID[] administratorIds;
+    private final Instant[] organisationCreatedAt;
+    private final Map<String, LongAdder> counts = new LinkedHashMap<>();
+    private List<UUID> specializationIds;
+
+    DirectoryGenerator(DataSource dataSource, Sizes sizes, long seed, LocalDate asOf, int threads) {
+        this.dataSource = dataSource;
+        this.sizes = sizes;
+        this.seed = seed;
+        this.asOf = asOf.atStartOfDay(ZoneOffset.UTC).toInstant();
+        this.threads = threads;
+        this.organisationIds = new UUID[sizes.organisations()];
+        this.administratorIds = new UUID[sizes.organisations()];
+        this.organisationCreatedAt = new Instant[sizes.organisations()];
+        for (String table : List.of("organisation", "\"user\"", "organisation_member", "invitation", "therapist",
+                "therapist_languages", "therapist_search_tags", "therapist_specialization", "therapist_education",
+                "therapist_certification")) {
+            counts.put(table, new LongAdder());
+        }
+    }
+
+    static boolean alreadyGenerated(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(
+                     "SELECT EXISTS (SELECT 1 FROM \"user\" WHERE username LIKE '" + USER_PREFIX + "%')")) {
+            rs.next();
+            return rs.getBoolean(1);
+        }
+    }
+
+    Result generate() throws SQLException, InterruptedException {
+        long startedAt = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            if (alreadyGenerated(connection)) {
+                throw new IllegalStateException("The database already has generated users (" + USER_PREFIX + "*)");
+            }
+            specializationIds = specializations(connection);
+        }
+        if (specializationIds.isEmpty()) {
+            throw new IllegalStateException("No specializations to assign; has the schema been migrated?");
+        }
+
+        // Organisation ids are needed by every therapist chunk, so they come from one stream up front
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < organisationIds.length; i++) {
+            organisationCreatedAt[i] = asOf.minus(random.nextInt(30, 3000), ChronoUnit.DAYS)
+                    .plusSeconds(random.nextInt(86_400));
+            organisationIds[i] = uuid(organisationCreatedAt[i], random);
+            administratorIds[i] = uuid(organisationCreatedAt[i], random);
+        }
+
+        run("organisations", chunks(sizes.organisations(), ORGANISATION_CHUNK), this::writeOrganisations);
+        run("therapists", chunks(sizes.therapists(), THERAPIST_CHUNK), this::writeTherapists);
+
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE");
+        }
+        Map<String, Long> rows = new LinkedHashMap<>();
+        counts.forEach((table, count) -> rows.put(table, count.sum()));
+        return new Result(rows, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private interface ChunkWriter {
+        void write(int chunk, SplittableRandom random, Buffers buffers);
+    }
+
+    /**
+     * One COPY buffer per table, reused across the chunks a worker writes
+     */
+    private static final class Buffers {
+        final CopyBuffer organisations = new CopyBuffer("organisation", "id", "name", "description", "created_at", "updated_at");
+        final CopyBuffer users = new CopyBuffer("\"user\"", "id", "username", "email", "full_name", "password",
+                "email_verified", "created_at", "updated_at", "last_login_at");
+        final CopyBuffer members = new CopyBuffer("organisation_member", "user_id", "organisation_id", "member_type", "joined_at");
+        final CopyBuffer invitations = new CopyBuffer("invitation", "id", "email", "organisation_id", "invited_by",
+                "member_type", "status", "created_at", "expires_at");
+        final CopyBuffer therapists = new CopyBuffer("therapist", "id", "user_id", "organisation_id", "professional_title",
+                "description_eng", "description_pl", "work_experience_eng", "work_experience_pl", "in_person_therapy_format",
+                "online_therapy_format", "profile_image", "profile_image_mime_type", "contact_email", "contact_phone",
+                "website_url", "is_active", "is_accepting_new_clients", "visibility", "slug", "meta_description",
+                "created_at", "updated_at", "published_at");
+        final CopyBuffer languages = new CopyBuffer("therapist_languages", "therapist_id", "language");
+        final CopyBuffer tags = new CopyBuffer("therapist_search_tags", "therapist_id", "tag");
+        final CopyBuffer specializations = new CopyBuffer("therapist_specialization", "therapist_id", "specialization_id",
+                "is_primary", "years_of_practice", "created_at");
+        final CopyBuffer education = new CopyBuffer("therapist_education", "id", "therapist_id", "degree", "field_of_study",
+                "institution", "country", "start_year", "graduation_year", "is_completed", "thesis_title", "display_order",
+                "created_at", "updated_at");
+        final CopyBuffer certifications = new CopyBuffer("therapist_certification", "id", "therapist_id", "name",
+                "issuing_organization", "credential_id", "issue_date", "expiry_date", "is_active", "certification_level",
+                "hours_completed", "display_order", "created_at", "updated_at");
+
+        // Parents before children, for the foreign keys
+        List<Map.Entry<String, CopyBuffer>> inLoadOrder() {
+            return List.of(Map.entry("organisation", organisations), Map.entry("\"user\"", users),
+                    Map.entry("organisation_member", members), Map.entry("invitation", invitations),
+                    Map.entry("therapist", therapists), Map.entry("therapist_languages", languages),
+                    Map.entry("therapist_search_tags", tags), Map.entry("therapist_specialization", specializations),
+                    Map.entry("therapist_education", education), Map.entry("therapist_certification", certifications));
+        }
+    }
+
+    private void run(String phase, int chunkCount, ChunkWriter writer) throws SQLException, InterruptedException {
+        AtomicInteger nextChunk = new AtomicInteger();
+        AtomicLong lastProgress = new AtomicLong(System.nanoTime());
+        int workers = Math.max(1, Math.min(threads, chunkCount));
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int w = 0; w < workers; w++) {
+                futures.add(executor.submit(() -> {
+                    Buffers buffers = new Buffers();
+                    try (Connection connection = dataSource.getConnection()) {
+                        connection.setAutoCommit(false);
+                        try (Statement statement = connection.createStatement()) {
+                            // Losing the tail of a generated dataset to a crash is harmless
+                            statement.execute("SET synchronous_commit = off");
+                        }
+                        int chunk;
+                        while ((chunk = nextChunk.getAndIncrement()) < chunkCount) {
+                            writer.write(chunk, chunkRandom(phase, chunk), buffers);
+                            for (Map.Entry<String, CopyBuffer> table : buffers.inLoadOrder()) {
+                                counts.get(table.getKey()).add(table.getValue().copyTo(connection));
+                            }
+                            connection.commit();
+                            progress(phase, chunk, chunkCount, lastProgress);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    executor.shutdownNow();
+                    if (e.getCause() instanceof SQLException sqlException) {
+                        throw sqlException;
+                    }
+                    throw new IllegalStateException("Generating " + phase + " failed", e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void progress(String phase, int chunk, int chunkCount, AtomicLong lastProgress) {
+        long now = System.nanoTime();
+        long last = lastProgress.get();
+        if (now - last >= 10_000_000_000L && lastProgress.compareAndSet(last, now)) {
+            System.out.printf("%s: %d of %d chunks written%n", phase, chunk + 1, chunkCount);
+        }
+    }
+
+    private SplittableRandom chunkRandom(String phase, int chunk) {
+        long stream = phase.equals("organisations") ? ORGANISATION_STREAM : THERAPIST_STREAM;
+        return new SplittableRandom(seed * 0x9E3779B97F4A7C15L + (stream << 32) + chunk);
+    }
+
+    private void writeOrganisations(int chunk, SplittableRandom random, Buffers buffers) {
+        int from = chunk * ORGANISATION_CHUNK;
+        int to = Math.min(from + ORGANISATION_CHUNK, sizes.organisations());
+        for (int i = from; i < to; i++) {
+            Instant createdAt = organisationCreatedAt[i];
+            String city = CITIES[skewed(random, CITIES.length)];
+            String practice = PRACTICE_NAMES[random.nextInt(PRACTICE_NAMES.length)];
+            int topic = random.nextInt(TOPICS_PL.length);
+            buffers.organisations.add(organisationIds[i]).add(practice + " " + city + " " + (i + 1))
+                    .add(practice + " w mieście " + city + ". Specjalizujemy się w obszarach: " + TOPICS_PL[topic]
+                            + " oraz " + TOPICS_PL[(topic + 1) % TOPICS_PL.length] + ".")
+                    .add(createdAt).add(createdAt).end();
+
+            addUser(buffers, administratorIds[i], USER_PREFIX + "admin-" + i, "Admin " + city + " " + (i + 1),
+                    createdAt, random);
+            buffers.members.add(administratorIds[i]).add(organisationIds[i]).add("ADMINISTRATOR").add(createdAt).end();
+
+            // Receptionists and managers without a therapist profile, some of them administrators too
+            int staff = poisson(random, sizes.staffPerOrganisation());
+            for (int s = 0; s < staff; s++) {
+                UUID staffId = uuid(createdAt, random);
+                Instant joinedAt = between(random, createdAt, asOf);
+                addUser(buffers, staffId, USER_PREFIX + "staff-" + i + "-" + s, name(random), joinedAt, random);
+                buffers.members.add(staffId).add(organisationIds[i])
+                        .add(random.nextInt(5) == 0 ? "ADMINISTRATOR" : "MEMBER").add(joinedAt).end();
+            }
+
+            int invitations = poisson(random, sizes.invitationsPerOrganisation());
+            for (int n = 0; n < invitations; n++) {
+                Instant invitedAt = between(random, createdAt, asOf);
+                Instant expiresAt = invitedAt.plus(7, ChronoUnit.DAYS);
+                int roll = random.nextInt(100);
+                String status = expiresAt.isAfter(asOf)
+                        ? roll < 60 ? "PENDING" : roll < 90 ? "ACCEPTED" : "DECLINED"
+                        : roll < 70 ? "ACCEPTED" : roll < 80 ? "DECLINED" : "EXPIRED";
+                buffers.invitations.add(uuid(invitedAt, random)).add(USER_PREFIX + "invitee-" + i + "-" + n + "@example.com")
+                        .add(organisationIds[i]).add(administratorIds[i])
+                        .add(random.nextInt(10) == 0 ? "ADMINISTRATOR" : "MEMBER").add(status)
+                        .add(invitedAt).add(expiresAt).end();
+            }
+        }
+    }
+
+    private void writeTherapists(int chunk, SplittableRandom random, Buffers buffers) {
+        int from = chunk * THERAPIST_CHUNK;
+        int to = Math.min(from + THERAPIST_CHUNK, sizes.therapists());
+        for (int i = from; i < to; i++) {
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            // A few large practices and a long tail of small ones
+            int organisation = skewed(random, organisationIds.length);
+            Instant createdAt = between(random, organisationCreatedAt[organisation], asOf);
+            Instant updatedAt = between(random, createdAt, asOf);
+            UUID userId = uuid(createdAt, random);
+            UUID therapistId = uuid(createdAt, random);
+
+            addUser(buffers, userId, USER_PREFIX + "therapist-" + i, firstName + " " + lastName, createdAt, random);
+            buffers.members.add(userId).add(organisationIds[organisation]).add("MEMBER").add(createdAt).end();
+
+            int topic = random.nextInt(TOPICS.length);
+            int secondTopic = (topic + 1 + random.nextInt(TOPICS.length - 1)) % TOPICS.length;
+            int approach = random.nextInt(APPROACHES.length);
+            int experienceYears = random.nextInt(1, 30);
+            String title = TITLES[random.nextInt(TITLES.length)];
+            int visibility = random.nextInt(20);
+            boolean image = random.nextDouble() < sizes.images();
+            buffers.therapists.add(therapistId).add(userId).add(organisationIds[organisation]).add(title)
+                    .add(descriptionEnglish(random, topic, secondTopic, approach, experienceYears))
+                    .add(descriptionPolish(random, topic, secondTopic, approach, experienceYears))
+                    .add(workExperience(random, createdAt, experienceYears, false))
+                    .add(workExperience(random, createdAt, experienceYears, true))
+                    .add(random.nextInt(10) < 7)
+                    .add(random.nextInt(10) < 8)
+                    .add(image ? image(random) : null)
+                    .add(image ? "image/jpeg" : null)
+                    .add(USER_PREFIX + i + "@example.com")
+                    .add(random.nextInt(3) == 0 ? null : String.format("+48 %03d %03d %03d", random.nextInt(500, 900),
+                            random.nextInt(1000), random.nextInt(1000)))
+                    .add(random.nextInt(4) == 0 ? "https://" + slug(firstName, lastName, i) + ".example.com" : null)
+                    .add(random.nextInt(50) != 0)
+                    .add(random.nextInt(10) < 8)
+                    .add(visibility == 0 ? "PRIVATE" : visibility == 1 ? "ORGANISATION_ONLY" : "PUBLIC")
+                    .add(slug(firstName, lastName, i))
+                    .add(title + " – " + TOPICS_PL[topic] + ", " + TOPICS_PL[secondTopic])
+                    .add(createdAt).add(updatedAt)
+                    .add(random.nextInt(20) < 17 ? createdAt : null)
+                    .end();
+
+            for (int l = 0; l < LANGUAGES.length; l++) {
+                if (random.nextInt(100) < LANGUAGE_PERCENT[l]) {
+                    buffers.languages.add(therapistId).add(LANGUAGES[l]).end();
+                }
+            }
+            Set<String> tags = new LinkedHashSet<>(List.of(TOPICS[topic], TOPICS[secondTopic]));
+            for (int t = random.nextInt(0, 4); t > 0; t--) {
+                tags.add(TOPICS[skewed(random, TOPICS.length)]);
+            }
+            for (String tag : tags) {
+                buffers.tags.add(therapistId).add(tag).end();
+            }
+
+            Set<UUID> chosen = new LinkedHashSet<>();
+            for (int s = random.nextInt(1, 5); s > 0; s--) {
+                chosen.add(specializationIds.get(skewed(random, specializationIds.size())));
+            }
+            boolean primary = true;
+            for (UUID specializationId : chosen) {
+                buffers.specializations.add(therapistId).add(specializationId).add(primary)
+                        .add(random.nextInt(1, experienceYears + 1)).add(createdAt).end();
+                primary = false;
+            }
+
+            int graduationYear = LocalDate.ofInstant(asOf, ZoneOffset.UTC).getYear() - experienceYears;
+            for (int e = 0, count = random.nextInt(1, 4); e < count; e++) {
+                String degree = DEGREES[random.nextInt(DEGREES.length)];
+                int length = degree.equals("Ph.D.") ? 4 : degree.equals("Postgraduate diploma") ? 2 : 5;
+                int completed = graduationYear + e * random.nextInt(1, 4);
+                boolean finished = completed <= LocalDate.ofInstant(asOf, ZoneOffset.UTC).getYear();
+                buffers.education.add(uuid(createdAt, random)).add(therapistId).add(degree)
+                        .add(FIELDS[random.nextInt(FIELDS.length)]).add(UNIVERSITIES[random.nextInt(UNIVERSITIES.length)])
+                        .add(random.nextInt(20) == 0 ? "Germany" : "Poland")
+                        .add(completed - length).add(finished ? Integer.valueOf(completed) : null).add(finished)
+                        .add(degree.equals("Ph.D.") ? "Outcomes of " + APPROACHES[approach] + " in " + TOPICS[topic] : null)
+                        .add(e).add(createdAt).add(createdAt).end();
+            }
+
+            for (int c = 0, count = poisson(random, 1.5); c < count; c++) {
+                LocalDate issued = LocalDate.ofInstant(asOf, ZoneOffset.UTC)
+                        .minusDays(random.nextInt(30, Math.max(31, experienceYears * 365)));
+                LocalDate expires = random.nextInt(3) == 0 ? issued.plusYears(5) : null;
+                buffers.certifications.add(uuid(createdAt, random)).add(therapistId)
+                        .add(CERTIFICATES[random.nextInt(CERTIFICATES.length)])
+                        .add(CERTIFYING_BODIES[random.nextInt(CERTIFYING_BODIES.length)])
+                        .add(random.nextInt(4) == 0 ? null : "CERT-" + (100_000 + random.nextInt(900_000)))
+                        .add(issued).add(expires)
+                        .add(expires == null || expires.isAfter(LocalDate.ofInstant(asOf, ZoneOffset.UTC)))
+                        .add(CERTIFICATE_LEVELS[skewed(random, CERTIFICATE_LEVELS.length)])
+                        .add(random.nextInt(2) == 0 ? null : Integer.valueOf(random.nextInt(50, 1200)))
+                        .add(c).add(createdAt).add(createdAt).end();
+            }
+        }
+    }
+
+    private void addUser(Buffers buffers, UUID id, String username, String fullName, Instant createdAt,
+                         SplittableRandom random) {
+        boolean loggedIn = random.nextInt(10) < 7;
+        buffers.users.add(id).add(username).add(username + "@example.com").add(fullName).add(PASSWORD_HASH)
+                .add(random.nextInt(10) < 8).add(createdAt).add(createdAt)
+                .add(loggedIn ? between(random, createdAt, asOf) : null).end();
+    }
+
+    /**
+     * Profiles vary from a couple of sentences to several sections, so text columns have a long tail
+     */
+    private static String descriptionEnglish(SplittableRandom random, int topic, int secondTopic, int approach, int years) {
+        StringBuilder text = new StringBuilder("## About me\n\n")
+                .append("I have been working with adults for ").append(years).append(years == 1 ? " year" : " years")
+                .append(", mostly with ").append(TOPICS[topic]).append(" and ").append(TOPICS[secondTopic]).append(". ")
+                .append("My work is grounded in ").append(APPROACHES[approach]).append(".\n");
+        int sections = skewed(random, 4);
+        if (sections > 0) {
+            text.append("\n**I can help with:**\n\n");
+            for (int i = 0; i < 2 + sections; i++) {
+                text.append("- ").append(TOPICS[(topic + i * 5) % TOPICS.length]).append('\n');
+            }
+        }
+        if (sections > 1) {
+            text.append("\n## How I work\n\nThe first session is a consultation where we agree on goals. ")
+                    .append("Sessions take 50 minutes, weekly or every two weeks, ")
+                    .append(random.nextBoolean() ? "in my office or online." : "online only.").append('\n');
+        }
+        if (sections > 2) {
+            text.append("\n> Change starts with understanding what keeps us stuck.\n");
+        }
+        return text.toString();
+    }
+
+    private static String descriptionPolish(SplittableRandom random, int topic, int secondTopic, int approach, int years) {
+        StringBuilder text = new StringBuilder("## O mnie\n\n")
+                .append("Od ").append(years).append(" lat pracuję z dorosłymi, głównie w obszarach: ")
+                .append(TOPICS_PL[topic]).append(" oraz ").append(TOPICS_PL[secondTopic]).append(". ")
+                .append("Pracuję w nurcie ").append(APPROACHES_PL[approach]).append(".\n");
+        int sections = skewed(random, 4);
+        if (sections > 0) {
+            text.append("\n**W czym mogę pomóc:**\n\n");
+            for (int i = 0; i < 2 + sections; i++) {
+                text.append("- ").append(TOPICS_PL[(topic + i * 5) % TOPICS_PL.length]).append('\n');
+            }
+        }
+        if (sections > 1) {
+            text.append("\n## Jak pracuję\n\nPierwsze spotkanie to konsultacja, podczas której ustalamy cele. ")
+                    .append("Sesje trwają 50 minut i odbywają się co tydzień lub co dwa tygodnie.\n");
+        }
+        return text.toString();
+    }
+
+    private static String workExperience(SplittableRandom random, Instant createdAt, int years, boolean polish) {
+        int year = LocalDate.ofInstant(createdAt, ZoneOffset.UTC).getYear();
+        StringBuilder text = new StringBuilder();
+        int positions = 1 + skewed(random, 4);
+        for (int p = 0; p < positions && years > 0; p++) {
+            int length = Math.max(1, Math.min(years, random.nextInt(1, 8)));
+            String city = CITIES[random.nextInt(CITIES.length)];
+            text.append("- **").append(year - length).append('–').append(p == 0 ? (polish ? "obecnie" : "present") : year)
+                    .append("** ").append(p == 0 ? TITLES[random.nextInt(TITLES.length)] : polish ? "Psycholog" : "Psychologist")
+                    .append(", ").append(PRACTICE_NAMES[random.nextInt(PRACTICE_NAMES.length)]).append(' ').append(city)
+                    .append('\n');
+            year -= length;
+            years -= length;
+        }
+        return text.toString();
+    }
+
+    private static String name(SplittableRandom random) {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+
+    private static String slug(String firstName, String lastName, int i) {
+        return (firstName + "-" + lastName + "-" + i).toLowerCase();
+    }
+
+    /**
+     * Incompressible bytes behind a JPEG header, sized like a resized profile photo
+     */
+    private static byte[] image(SplittableRandom random) {
+        byte[] image = new byte[random.nextInt(20 * 1024, 120 * 1024)];
+        random.nextBytes(image);
+        image[0] = (byte) 0xFF;
+        image[1] = (byte) 0xD8;
+        image[2] = (byte) 0xFF;
+        return image;
+    }
+
+    /**
+     * UUIDv7 layout with the given timestamp and seeded random bits, so ids sort by creation like real ones
+     */
+    private static UUID uuid(Instant timestamp, SplittableRandom random) {
+        long mostSigBits = (timestamp.toEpochMilli() << 16) | 0x7000L | (random.nextLong() & 0xFFFL);
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private static Instant between(SplittableRandom random, Instant from, Instant to) {
+        long span = Math.max(1, to.getEpochSecond() - from.getEpochSecond());
+        return from.plusSeconds(random.nextLong(span));
+    }
+
+    /**
+     * Index into a list of the given size, favouring the front
+     */
+    static int skewed(SplittableRandom random, int size) {
+        double u = random.nextDouble();
+        return (int) (size * u * u);
+    }
+
+    private static int poisson(SplittableRandom random, double mean) {
+        double limit = Math.exp(-mean);
+        double product = random.nextDouble();
+        int count = 0;
+        while (product > limit) {
+            product *= random.nextDouble();
+            count++;
+        }
+        return count;
+    }
+
+    private static int chunks(int rows, int chunkSize) {
+        return (rows + chunkSize - 1) / chunkSize;
+    }
+
+    private static List<UUID> specializations(Connection connection) throws SQLException {
+        List<UUID> ids = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT id FROM specialization WHERE is_active ORDER BY name_eng")) {
+            while (rs.next()) {
+                ids.add(rs.getObject(1, UUID.class));
+            }
+        }
+        return ids;
+    }
+}
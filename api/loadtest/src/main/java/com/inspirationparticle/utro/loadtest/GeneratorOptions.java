@@ -0,0 +1,77 @@
+package com.inspirationparticle.utro.loadtest;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line of the generate command, in the same --name=value form as {@link LoadTestOptions}.
+ */
+record GeneratorOptions(
+        String jdbcUrl,
+        String jdbcUser,
+        String jdbcPassword,
+        DirectoryGenerator.Sizes sizes,
+        long seed,
+        LocalDate asOf,
+        int threads,
+        boolean migrate) {
+
+    static final String USAGE = """
+            Usage: java -jar loadtest.jar generate --jdbc-url=URL [options]
+
+              --jdbc-url=URL           database to fill; migrated first unless --migrate=false
+              --jdbc-user=NAME         default: utro
+              --jdbc-password=SECRET   default: utro_password
+              --organisations=N        default: one per 20 therapists
+              --therapists=N           default 10000
+              --staff=MEAN             users per organisation besides its administrator and therapists (default 2)
+              --invitations=MEAN       invitations per organisation (default 3)
+              --images=RATIO           share of therapists with a profile image (default 0.3)
+              --seed=N                 default 42
+              --as-of=YYYY-MM-DD       reference date all timestamps are generated back from (default today, UTC)
+              --threads=N              connections loading in parallel (default: available processors)
+              --migrate=true|false     apply the Flyway migrations before generating (default true)
+
+            The same seed and --as-of always generate the same rows.
+            """;
+
+    private static final List<String> KNOWN = List.of("jdbc-url", "jdbc-user", "jdbc-password", "organisations",
+            "therapists", "staff", "invitations", "images", "seed", "as-of", "threads", "migrate");
+
+    static GeneratorOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            String name = arg.startsWith("--") && separator > 2 ? arg.substring(2, separator) : null;
+            if (name == null || !KNOWN.contains(name)) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            values.put(name, arg.substring(separator + 1));
+        }
+        if (!values.containsKey("jdbc-url")) {
+            throw new IllegalArgumentException("--jdbc-url is required");
+        }
+        int therapists = LoadTestOptions.positive(values, "therapists", 10_000);
+        double images = Double.parseDouble(values.getOrDefault("images", "0.3"));
+        if (images < 0 || images > 1) {
+            throw new IllegalArgumentException("--images must be between 0 and 1");
+        }
+        return new GeneratorOptions(
+                values.get("jdbc-url"),
+                values.getOrDefault("jdbc-user", "utro"),
+                values.getOrDefault("jdbc-password", "utro_password"),
+                new DirectoryGenerator.Sizes(
+                        LoadTestOptions.positive(values, "organisations", Math.max(1, therapists / 20)),
+                        therapists,
+                        Double.parseDouble(values.getOrDefault("staff", "2")),
+                        Double.parseDouble(values.getOrDefault("invitations", "3")),
+                        images),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                values.containsKey("as-of") ? LocalDate.parse(values.get("as-of")) : LocalDate.now(ZoneOffset.UTC),
+                LoadTestOptions.positive(values, "threads", Runtime.getRuntime().availableProcessors()),
+                Boolean.parseBoolean(values.getOrDefault("migrate", "true")));
+    }
+}
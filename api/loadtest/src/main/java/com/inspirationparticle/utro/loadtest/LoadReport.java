@@ -0,0 +1,106 @@
+package com.inspirationparticle.utro.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms and outcome counts per RPC for the recorded part of a run.
+ * Latencies are kept in microseconds with three significant digits, up to one minute.
+ */
+final class LoadReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = Duration.ofMinutes(1).toNanos() / 1000;
+
+    private static final class Stats {
+        final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+        final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    }
+
+    record RpcResult(String rpc, long requests, long errors, double errorRate, double throughput,
+                     double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs, Map<String, Long> outcomes) {
+    }
+
+    record Summary(int users, long elapsedMs, long requests, long errors, double errorRate, double throughput,
+                   List<RpcResult> rpcs) {
+    }
+
+    private final Map<Rpc, Stats> stats = new EnumMap<>(Rpc.class);
+
+    LoadReport(Iterable<Rpc> rpcs) {
+        for (Rpc rpc : rpcs) {
+            stats.put(rpc, new Stats());
+        }
+    }
+
+    /**
+     * @param outcome HTTP status, or the exception name when no response arrived
+     */
+    void record(Rpc rpc, long latencyNanos, String outcome, boolean success) {
+        Stats rpcStats = stats.get(rpc);
+        rpcStats.latency.recordValue(Math.min(Math.max(latencyNanos / 1000, 1), HIGHEST_TRACKABLE_MICROS));
+        rpcStats.outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+        if (!success) {
+            rpcStats.errors.increment();
+        }
+    }
+
+    Summary summarise(int users, Duration elapsed) {
+        double seconds = elapsed.toNanos() / 1e9;
+        List<RpcResult> results = new ArrayList<>();
+        long requests = 0;
+        long errors = 0;
+        for (Map.Entry<Rpc, Stats> entry : stats.entrySet()) {
+            Histogram latency = entry.getValue().latency;
+            long count = latency.getTotalCount();
+            long failed = entry.getValue().errors.sum();
+            Map<String, Long> outcomes = new TreeMap<>();
+            entry.getValue().outcomes.forEach((outcome, counter) -> outcomes.put(outcome, counter.sum()));
+            results.add(new RpcResult(entry.getKey().label(), count, failed, count == 0 ? 0 : (double) failed / count,
+                    count / seconds, millis(latency, 50), millis(latency, 90), millis(latency, 99), millis(latency, 99.9),
+                    latency.getMaxValue() / 1000.0, outcomes));
+            requests += count;
+            errors += failed;
+        }
+        return new Summary(users, elapsed.toMillis(), requests, errors, requests == 0 ? 0 : (double) errors / requests,
+                requests / seconds, results);
+    }
+
+    static void print(Summary summary, PrintStream out) {
+        out.printf("%n%d virtual users, %.1f s recorded, %d requests, %.1f req/s, %.2f%% errors%n%n", summary.users(),
+                summary.elapsedMs() / 1000.0, summary.requests(), summary.throughput(), summary.errorRate() * 100);
+        out.printf("%-12s %9s %9s %8s %9s %9s %9s %9s %9s  %s%n",
+                "RPC", "requests", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "outcomes");
+        for (RpcResult rpc : summary.rpcs()) {
+            out.printf("%-12s %9d %9.1f %7.2f%% %9.2f %9.2f %9.2f %9.2f %9.2f  %s%n", rpc.rpc(), rpc.requests(),
+                    rpc.throughput(), rpc.errorRate() * 100, rpc.p50Ms(), rpc.p90Ms(), rpc.p99Ms(), rpc.p999Ms(),
+                    rpc.maxMs(), rpc.outcomes());
+        }
+    }
+
+    static void write(Summary summary, Map<String, Object> parameters, File file) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("parameters", parameters);
+        report.put("summary", summary);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+    }
+
+    private static double millis(Histogram latency, double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,151 @@
+package com.inspirationparticle.utro.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Closed-model load: a fixed number of virtual users, each logged in as one of the seeded organisation
+ * administrators, issue requests back to back (plus the think time) drawn from the weighted mix. The first
+ * part of the run warms the app up and is not recorded.
+ */
+final class LoadRunner {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final SyntheticDataset dataset;
+    private final LoadTestOptions options;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Rpc[] wheel;
+
+    LoadRunner(String baseUrl, SyntheticDataset dataset, LoadTestOptions options) {
+        this.baseUrl = baseUrl;
+        this.dataset = dataset;
+        this.options = options;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        List<Rpc> slots = new ArrayList<>();
+        options.mix().forEach((rpc, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                slots.add(rpc);
+            }
+        });
+        this.wheel = slots.toArray(new Rpc[0]);
+    }
+
+    LoadReport.Summary run() throws InterruptedException {
+        LoadReport report = new LoadReport(options.mix().keySet());
+        long start = System.nanoTime();
+        long recordFrom = start + options.warmup().toNanos();
+        long end = recordFrom + options.duration().toNanos();
+
+        CountDownLatch done = new CountDownLatch(options.users());
+        for (int i = 0; i < options.users(); i++) {
+            SyntheticDataset.Account account = dataset.accounts().get(i % dataset.accounts().size());
+            SplittableRandom random = new SplittableRandom(options.seed() * 31 + i);
+            Thread thread = new Thread(() -> {
+                try {
+                    new VirtualUser(account, random).run(report, recordFrom, end);
+                } finally {
+                    done.countDown();
+                }
+            }, "virtual-user-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        long lastProgress = start;
+        while (!done.await(1, TimeUnit.SECONDS)) {
+            long now = System.nanoTime();
+            if (now - lastProgress >= Duration.ofSeconds(10).toNanos()) {
+                lastProgress = now;
+                System.out.printf("%s %d s elapsed%n", now < recordFrom ? "warming up," : "recording,",
+                        Duration.ofNanos(now - start).toSeconds());
+            }
+        }
+        return report.summarise(options.users(), options.duration());
+    }
+
+    private final class VirtualUser {
+
+        private final SyntheticDataset.Account account;
+        private final SplittableRandom random;
+        private String token;
+
+        VirtualUser(SyntheticDataset.Account account, SplittableRandom random) {
+            this.account = account;
+            this.random = random;
+        }
+
+        void run(LoadReport report, long recordFrom, long end) {
+            while (token == null && System.nanoTime() < end) {
+                if (!call(Rpc.LOGIN).success()) {
+                    LockSupport.parkNanos(Duration.ofMillis(100).toNanos());
+                }
+            }
+            long thinkTime = options.thinkTime().toNanos();
+            long now;
+            while ((now = System.nanoTime()) < end) {
+                Rpc rpc = wheel[random.nextInt(wheel.length)];
+                Outcome outcome = call(rpc);
+                if (now >= recordFrom) {
+                    report.record(rpc, outcome.latencyNanos(), outcome.label(), outcome.success());
+                }
+                if (thinkTime > 0) {
+                    LockSupport.parkNanos(thinkTime);
+                }
+            }
+        }
+
+        private Outcome call(Rpc rpc) {
+            long startedAt = System.nanoTime();
+            try {
+                Map<String, Object> body = rpc.request(dataset, account, random);
+                HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + rpc.path()))
+                        .timeout(REQUEST_TIMEOUT)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+                if (rpc != Rpc.LOGIN && token != null) {
+                    request.header("Authorization", "Bearer " + token);
+                }
+                HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+                long latency = System.nanoTime() - startedAt;
+                boolean success = response.statusCode() == 200;
+                if (success && rpc == Rpc.LOGIN) {
+                    JsonNode json = objectMapper.readTree(response.body());
+                    token = json.path("token").asText(null);
+                }
+                if (response.statusCode() == 401 && rpc != Rpc.LOGIN) {
+                    token = null;
+                    call(Rpc.LOGIN);
+                }
+                return new Outcome(latency, Integer.toString(response.statusCode()), success);
+            } catch (IOException e) {
+                return new Outcome(System.nanoTime() - startedAt, e.getClass().getSimpleName(), false);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new Outcome(System.nanoTime() - startedAt, "interrupted", false);
+            }
+        }
+    }
+
+    private record Outcome(long latencyNanos, String label, boolean success) {
+    }
+}
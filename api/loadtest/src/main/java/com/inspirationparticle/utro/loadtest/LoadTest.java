@@ -0,0 +1,190 @@
+package com.inspirationparticle.utro.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Headless load test of the Connect API. Starts Postgres (embedded unless --jdbc-url is given) and the app
+ * in-process (unless --target is given), seeds a synthetic directory, replays the RPC mix with a fixed number
+ * of virtual users and prints throughput, latency percentiles and error rates per RPC.
+ * <p>
+ * {@code generate} as the first argument only fills a database with a synthetic directory, for sizes the load
+ * test itself would not seed (see {@link GeneratorOptions}).
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals("generate")) {
+            generate(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        if (List.of(args).contains("--help")) {
+            System.out.printf(LoadTestOptions.USAGE, Rpc.labels(), LoadTestOptions.DEFAULT_MIX);
+            return;
+        }
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.printf(LoadTestOptions.USAGE, Rpc.labels(), LoadTestOptions.DEFAULT_MIX);
+            System.exit(2);
+            return;
+        }
+        if (options.target() != null && options.jdbcUrl() == null) {
+            System.err.println("--target needs --jdbc-url pointing at the database of that app, so it can be seeded");
+            System.exit(2);
+        }
+
+        EmbeddedPostgres postgres = null;
+        ConfigurableApplicationContext application = null;
+        int exitCode;
+        try {
+            String jdbcUrl = options.jdbcUrl();
+            String jdbcUser = options.jdbcUser();
+            String jdbcPassword = options.jdbcPassword();
+            if (jdbcUrl == null) {
+                postgres = EmbeddedPostgres.builder()
+                        .setServerConfig("max_connections", "200")
+                        .start();
+                jdbcUrl = postgres.getJdbcUrl("postgres", "postgres");
+                jdbcUser = "postgres";
+                jdbcPassword = "postgres";
+                System.out.println("Started embedded Postgres on port " + postgres.getPort());
+            }
+
+            String baseUrl = options.target();
+            if (baseUrl == null) {
+                application = startApplication(options, jdbcUrl, jdbcUser, jdbcPassword);
+                baseUrl = "http://localhost:" + ((ServletWebServerApplicationContext) application).getWebServer().getPort();
+                System.out.println("Started the app on " + baseUrl);
+            }
+
+            SyntheticDataset dataset = SyntheticDataset.prepare(dataSource(jdbcUrl, jdbcUser, jdbcPassword), options.organisations(),
+                    options.therapists(), options.seed());
+            System.out.printf("Running %d virtual users for %d s after %d s of warm-up against %d public therapists%n",
+                    options.users(), options.duration().toSeconds(), options.warmup().toSeconds(), dataset.therapistCount());
+
+            LoadReport.Summary summary = new LoadRunner(baseUrl, dataset, options).run();
+            LoadReport.print(summary, System.out);
+            if (options.report() != null) {
+                LoadReport.write(summary, parameters(options), new File(options.report()));
+                System.out.println("\nReport written to " + options.report());
+            }
+            exitCode = summary.errorRate() > options.maxErrorRate() ? 1 : 0;
+            if (exitCode != 0) {
+                System.out.printf("%nError rate %.2f%% is above the allowed %.2f%%%n", summary.errorRate() * 100,
+                        options.maxErrorRate() * 100);
+            }
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+            if (postgres != null) {
+                postgres.close();
+            }
+        }
+        System.exit(exitCode);
+    }
+
+    private static void generate(String[] args) throws Exception {
+        if (List.of(args).contains("--help")) {
+            System.out.print(GeneratorOptions.USAGE);
+            return;
+        }
+        GeneratorOptions options;
+        try {
+            options = GeneratorOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(GeneratorOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+        DataSource dataSource = dataSource(options.jdbcUrl(), options.jdbcUser(), options.jdbcPassword());
+        if (options.migrate()) {
+            Flyway.configure().dataSource(dataSource).baselineOnMigrate(true).load().migrate();
+        }
+        System.out.printf("Generating %,d organisations and %,d therapists with seed %d as of %s on %d connections%n",
+                options.sizes().organisations(), options.sizes().therapists(), options.seed(), options.asOf(),
+                options.threads());
+        DirectoryGenerator.Result result = new DirectoryGenerator(dataSource, options.sizes(), options.seed(),
+                options.asOf(), options.threads()).generate();
+        result.rows().forEach((table, rows) -> System.out.printf("%-26s %,12d rows%n", table, rows));
+        System.out.printf("Done in %.1f s%n", result.elapsedMs() / 1000.0);
+    }
+
+    private static DataSource dataSource(String jdbcUrl, String jdbcUser, String jdbcPassword) {
+        PGSimpleDataSource dataSource = new PGSimpleDataSource();
+        dataSource.setURL(jdbcUrl);
+        dataSource.setUser(jdbcUser);
+        dataSource.setPassword(jdbcPassword);
+        return dataSource;
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestOptions options, String jdbcUrl,
+                                                                   String jdbcUser, String jdbcPassword) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", jdbcUrl);
+        properties.put("spring.datasource.username", jdbcUser);
+        properties.put("spring.datasource.password", jdbcPassword);
+        properties.put("spring.flyway.enabled", true);
+        // offer has an entity but no migration yet, so the schema cannot be validated against the entities
+        properties.put("spring.jpa.hibernate.ddl-auto", "none");
+        // No collector runs next to the load test; --otel.sdk.disabled=false brings the exporters back
+        properties.put("otel.sdk.disabled", true);
+        // Not dev: its logback profile logs every request and SQL statement, which would dominate the measurements
+        properties.put("spring.profiles.active", "loadtest");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.inspirationparticle.utro", "WARN");
+        // Unpaged lists break their query budget on large directories; the counts are still in the metrics
+        properties.put("query-budget.enforcement", "none");
+        // Every virtual user calls from the same address, which the rate limits would treat as one client
+        properties.put("rate-limit.enabled", false);
+        // Passed as command line arguments so they override application.yml, unless given on the command line too
+        List<String> args = new ArrayList<>(options.applicationArgs());
+        properties.forEach((name, value) -> {
+            if (args.stream().noneMatch(arg -> arg.startsWith("--" + name + "="))) {
+                args.add("--" + name + "=" + value);
+            }
+        });
+        return new SpringApplicationBuilder(LoadTestApplication.class).run(args.toArray(new String[0]));
+    }
+
+    private static Map<String, Object> parameters(LoadTestOptions options) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("target", options.target() != null ? options.target() : "in-process");
+        parameters.put("database", options.jdbcUrl() != null ? options.jdbcUrl() : "embedded");
+        parameters.put("organisations", options.organisations());
+        parameters.put("therapists", options.therapists());
+        parameters.put("seed", options.seed());
+        parameters.put("users", options.users());
+        parameters.put("warmupSeconds", options.warmup().toSeconds());
+        parameters.put("durationSeconds", options.duration().toSeconds());
+        parameters.put("thinkTimeMs", options.thinkTime().toMillis());
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        options.mix().forEach((rpc, weight) -> mix.put(rpc.label(), weight));
+        parameters.put("mix", mix);
+        parameters.put("applicationArgs", options.applicationArgs());
+        parameters.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        parameters.put("maxHeapMb", Runtime.getRuntime().maxMemory() / (1024 * 1024));
+        return parameters;
+    }
+}
@@ -0,0 +1,31 @@
+package com.inspirationparticle.utro.loadtest;
+
+import com.inspirationparticle.utro.UtroApplication;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationExcludeFilter;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * The application as UtroApplication configures it, started in the load test's JVM.
+ * security.SecurityConfig is left out: it shares its bean name with config.SecurityConfig, which holds the
+ * API's filter chain, and the two cannot be registered together.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@AutoConfigurationPackage(basePackageClasses = UtroApplication.class)
+@EnableScheduling
+@ComponentScan(basePackageClasses = UtroApplication.class, excludeFilters = {
+        @ComponentScan.Filter(type = FilterType.CUSTOM, classes = TypeExcludeFilter.class),
+        @ComponentScan.Filter(type = FilterType.CUSTOM, classes = AutoConfigurationExcludeFilter.class),
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {
+                UtroApplication.class,
+                com.inspirationparticle.utro.security.SecurityConfig.class
+        })
+})
+class LoadTestApplication {
+}
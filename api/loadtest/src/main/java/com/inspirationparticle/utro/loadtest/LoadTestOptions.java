@@ -0,0 +1,130 @@
+package com.inspirationparticle.utro.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line of the load test. Options are --name=value; anything not listed here is passed through to the
+ * application when it is started in-process (e.g. --spring.datasource.hikari.maximum-pool-size=20).
+ */
+record LoadTestOptions(
+        String target,
+        String jdbcUrl,
+        String jdbcUser,
+        String jdbcPassword,
+        int organisations,
+        int therapists,
+        long seed,
+        int users,
+        Duration warmup,
+        Duration duration,
+        Duration thinkTime,
+        Map<Rpc, Integer> mix,
+        String report,
+        double maxErrorRate,
+        List<String> applicationArgs) {
+
+    static final String USAGE = """
+            Usage: java -jar loadtest.jar [options] [--<application property>=<value> ...]
+                   java -jar loadtest.jar generate --help
+
+              --target=URL             drive an already running app instead of starting one in-process
+              --jdbc-url=URL           database to seed (and to run the in-process app on); default: embedded Postgres
+              --jdbc-user=NAME         default: utro
+              --jdbc-password=SECRET   default: utro_password
+              --organisations=N        organisations to seed (default 50)
+              --therapists=N           therapists to seed (default 2000)
+              --seed=N                 random seed for the dataset and the request mix (default 42)
+              --users=N                concurrent virtual users (default 16)
+              --warmup=DURATION        load applied before recording starts (default 15s)
+              --duration=DURATION      recorded load (default 60s)
+              --think-time=DURATION    pause between a virtual user's requests (default 0ms)
+              --mix=RPC:WEIGHT,...     request mix, RPCs: %s
+                                       (default %s)
+              --report=FILE            also write the results as JSON
+              --max-error-rate=RATIO   exit with 1 when the overall error rate is higher (default 0.01)
+
+            Durations are written as 500ms, 30s or 5m.
+            """;
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            String name = arg.startsWith("--") && separator > 2 ? arg.substring(2, separator) : null;
+            if (name != null && KNOWN.contains(name)) {
+                values.put(name, arg.substring(separator + 1));
+            } else if (arg.startsWith("--")) {
+                applicationArgs.add(arg);
+            } else {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+        }
+        return new LoadTestOptions(
+                values.get("target"),
+                values.get("jdbc-url"),
+                values.getOrDefault("jdbc-user", "utro"),
+                values.getOrDefault("jdbc-password", "utro_password"),
+                positive(values, "organisations", 50),
+                positive(values, "therapists", 2000),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                positive(values, "users", 16),
+                duration(values.getOrDefault("warmup", "15s")),
+                duration(values.getOrDefault("duration", "60s")),
+                duration(values.getOrDefault("think-time", "0ms")),
+                mix(values.getOrDefault("mix", DEFAULT_MIX)),
+                values.get("report"),
+                Double.parseDouble(values.getOrDefault("max-error-rate", "0.01")),
+                List.copyOf(applicationArgs));
+    }
+
+    static final String DEFAULT_MIX = "list:25,search:15,by-slug:25,image:10,org-users:6,org-search:6,invitations:5,my-orgs:5,login:3";
+
+    private static final List<String> KNOWN = List.of("target", "jdbc-url", "jdbc-user", "jdbc-password", "organisations",
+            "therapists", "seed", "users", "warmup", "duration", "think-time", "mix", "report", "max-error-rate");
+
+    static int positive(Map<String, String> values, String name, int defaultValue) {
+        int value = values.containsKey(name) ? Integer.parseInt(values.get(name)) : defaultValue;
+        if (value < 1) {
+            throw new IllegalArgumentException("--" + name + " must be at least 1");
+        }
+        return value;
+    }
+
+    static Duration duration(String value) {
+        String text = value.trim().toLowerCase();
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        long amount = Long.parseLong(text.substring(0, text.length() - 1));
+        return switch (text.charAt(text.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            default -> throw new IllegalArgumentException("Invalid duration: " + value);
+        };
+    }
+
+    static Map<Rpc, Integer> mix(String value) {
+        Map<Rpc, Integer> mix = new EnumMap<>(Rpc.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                mix.put(Rpc.byName(parts[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("The request mix is empty");
+        }
+        return mix;
+    }
+}
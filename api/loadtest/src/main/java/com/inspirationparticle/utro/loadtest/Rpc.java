@@ -0,0 +1,114 @@
+package com.inspirationparticle.utro.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * The Connect RPCs the load test replays, with request bodies shaped like the web client's (see postman/ for the
+ * documented shapes). Every call except login is made with the virtual user's bearer token.
+ */
+enum Rpc {
+
+    LIST("list", "/com.inspirationparticle.utro.gen.v1.TherapistService/ListTherapists") {
+        @Override
+        Map<String, Object> request(SyntheticDataset dataset, SyntheticDataset.Account account, SplittableRandom random) {
+            Map<String, Object> request = new LinkedHashMap<>();
+            request.put("page_size", 20);
+            // Most visitors stay on the first pages
+            request.put("page_number", random.nextInt(10) < 7 ? 0 : random.nextInt(1, 5));
+            int filter = random.nextInt(10);
+            if (filter < 2) {
+                request.put("language", dataset.pickLanguage(random));
+            } else if (filter < 4) {
+                request.put("specialization_id", dataset.pickSpecialization(random).toString());
+            } else if (filter < 5) {
+                request.put("online", true);
+            }
+            return request;
+        }
+    },
+    SEARCH("search", "/com.inspirationparticle.utro.gen.v1.TherapistService/SearchTherapists") {
+        @Override
+        Map<String, Object> request(SyntheticDataset dataset, SyntheticDataset.Account account, SplittableRandom random) {
+            return Map.of("query", dataset.pickSearchTerm(random), "page_size", 20, "page_number", 0);
+        }
+    },
+    BY_SLUG("by-slug", "/com.inspirationparticle.utro.gen.v1.TherapistService/GetTherapistBySlug") {
+        @Override
+        Map<String, Object> request(SyntheticDataset dataset, SyntheticDataset.Account account, SplittableRandom random) {
+            return Map.of("slug", dataset.pickSlug(random));
+        }
+    },
+    IMAGE("image", "/com.inspirationparticle.utro.gen.v1.TherapistService/GetTherapistProfileImage") {
+        @Override
+        Map<String, Object> request(SyntheticDataset dataset, SyntheticDataset.Account account, SplittableRandom random) {
+            return Map.of("id", dataset.pickTherapistWithImage(random).toString());
+        }
+    },
+    ORG_USERS("org-users", "/com.inspirationparticle.utro.gen.organisation.v1.OrganisationService/GetOrganisationUsers") {
+        @Override
+        Map<String, Object> request(SyntheticDataset dataset, SyntheticDataset.Account account, SplittableRandom random) {
+            return Map.of("organisation_id", account.organisationId().toString(), "page_size", 100);
+        }
+    },
+    ORG_SEARCH("org-search", "/com.inspirationparticle.utro.gen.organisation.v1.OrganisationService/SearchOrganisations") {
+        @Override
+        Map<String, Object> request(SyntheticDataset dataset, SyntheticDataset.Account account, SplittableRandom random) {
+            return Map.of("query", dataset.pickOrganisationQuery(random), "page_size", 20);
+        }
+    },
+    INVITATIONS("invitations", "/com.inspirationparticle.utro.gen.organisation.v1.InvitationService/GetInvitations") {
+        @Override
+        Map<String, Object> request(SyntheticDataset dataset, SyntheticDataset.Account account, SplittableRandom random) {
+            return Map.of("organisation_id", account.organisationId().toString());
+        }
+    },
+    MY_ORGS("my-orgs", "/com.inspirationparticle.utro.gen.organisation.v1.OrganisationService/GetMyOrganisations") {
+        @Override
+        Map<String, Object> request(SyntheticDataset dataset, SyntheticDataset.Account account, SplittableRandom random) {
+            return Map.of();
+        }
+    },
+    LOGIN("login", "/com.inspirationparticle.utro.gen.auth.v1.AuthService/Login") {
+        @Override
+        Map<String, Object> request(SyntheticDataset dataset, SyntheticDataset.Account account, SplittableRandom random) {
+            return Map.of("username", account.username(), "password", DirectoryGenerator.PASSWORD);
+        }
+    };
+
+    private final String label;
+    private final String path;
+
+    Rpc(String label, String path) {
+        this.label = label;
+        this.path = path;
+    }
+
+    String label() {
+        return label;
+    }
+
+    String path() {
+        return path;
+    }
+
+    abstract Map<String, Object> request(SyntheticDataset dataset, SyntheticDataset.Account account, SplittableRandom random);
+
+    static Rpc byName(String label) {
+        for (Rpc rpc : values()) {
+            if (rpc.label.equals(label)) {
+                return rpc;
+            }
+        }
+        throw new IllegalArgumentException("Unknown RPC in mix: " + label);
+    }
+
+    static String labels() {
+        StringBuilder labels = new StringBuilder();
+        for (Rpc rpc : values()) {
+            labels.append(labels.isEmpty() ? "" : ", ").append(rpc.label);
+        }
+        return labels.toString();
+    }
+}
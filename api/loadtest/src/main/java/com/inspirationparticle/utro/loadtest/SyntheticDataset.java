@@ -0,0 +1,145 @@
+package com.inspirationparticle.utro.loadtest;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * The directory the load test runs against, generated by {@link DirectoryGenerator} on first use. Two runs with
+ * the same options see the same data; when generated users already exist the database is reused as it is
+ * instead of being seeded again.
+ */
+final class SyntheticDataset {
+
+    // Enough distinct profiles to defeat caches without holding a million slugs in memory
+    private static final int MAX_SLUGS = 100_000;
+
+    record Account(String username, UUID organisationId) {
+    }
+
+    private final List<Account> accounts;
+    private final List<String> slugs;
+    private final List<UUID> therapistsWithImage;
+    private final List<UUID> specializations;
+    private final List<String> searchTerms;
+    private final List<String> organisationQueries;
+
+    private SyntheticDataset(List<Account> accounts, List<String> slugs, List<UUID> therapistsWithImage,
+                             List<UUID> specializations, List<String> searchTerms, List<String> organisationQueries) {
+        this.accounts = accounts;
+        this.slugs = slugs;
+        this.therapistsWithImage = therapistsWithImage;
+        this.specializations = specializations;
+        this.searchTerms = searchTerms;
+        this.organisationQueries = organisationQueries;
+    }
+
+    /**
+     * Seed the database unless a previous run already did, then load what the request mix needs
+     */
+    static SyntheticDataset prepare(DataSource dataSource, int organisations, int therapists, long seed)
+            throws SQLException, InterruptedException {
+        try (Connection connection = dataSource.getConnection()) {
+            if (DirectoryGenerator.alreadyGenerated(connection)) {
+                System.out.println("Reusing the dataset of a previous run");
+                return load(connection);
+            }
+        }
+        DirectoryGenerator.Sizes sizes = new DirectoryGenerator.Sizes(organisations, therapists, 2, 3, 0.3);
+        DirectoryGenerator.Result result = new DirectoryGenerator(dataSource, sizes, seed, LocalDate.now(ZoneOffset.UTC),
+                Runtime.getRuntime().availableProcessors()).generate();
+        System.out.printf("Seeded %d organisations and %d therapists in %d ms%n", organisations, therapists,
+                result.elapsedMs());
+        try (Connection connection = dataSource.getConnection()) {
+            return load(connection);
+        }
+    }
+
+    List<Account> accounts() {
+        return accounts;
+    }
+
+    int therapistCount() {
+        return slugs.size();
+    }
+
+    /**
+     * Popular profiles are requested far more often than the rest
+     */
+    String pickSlug(SplittableRandom random) {
+        return slugs.get(DirectoryGenerator.skewed(random, slugs.size()));
+    }
+
+    UUID pickTherapistWithImage(SplittableRandom random) {
+        return therapistsWithImage.get(DirectoryGenerator.skewed(random, therapistsWithImage.size()));
+    }
+
+    UUID pickSpecialization(SplittableRandom random) {
+        return specializations.get(random.nextInt(specializations.size()));
+    }
+
+    String pickLanguage(SplittableRandom random) {
+        return DirectoryGenerator.LANGUAGES[DirectoryGenerator.skewed(random, DirectoryGenerator.LANGUAGES.length)];
+    }
+
+    String pickSearchTerm(SplittableRandom random) {
+        return searchTerms.get(random.nextInt(searchTerms.size()));
+    }
+
+    String pickOrganisationQuery(SplittableRandom random) {
+        return organisationQueries.get(random.nextInt(organisationQueries.size()));
+    }
+
+    private static SyntheticDataset load(Connection connection) throws SQLException {
+        List<Account> accounts = new ArrayList<>();
+        List<String> slugs = new ArrayList<>();
+        List<UUID> withImage = new ArrayList<>();
+        List<UUID> specializations = new ArrayList<>();
+        List<String> organisationQueries = new ArrayList<>();
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet rs = statement.executeQuery(
+                    "SELECT u.username, m.organisation_id FROM \"user\" u JOIN organisation_member m ON m.user_id = u.id" +
+                    " WHERE u.username LIKE 'lt-admin-%' AND m.member_type = 'ADMINISTRATOR' ORDER BY u.username")) {
+                while (rs.next()) {
+                    accounts.add(new Account(rs.getString(1), rs.getObject(2, UUID.class)));
+                }
+            }
+            // Only profiles every user may see, so a 404 is a real error
+            try (ResultSet rs = statement.executeQuery(
+                    "SELECT t.slug, t.id, t.profile_image_mime_type IS NOT NULL FROM therapist t JOIN \"user\" u ON u.id = t.user_id" +
+                    " WHERE u.username LIKE 'lt-%' AND t.is_active AND t.visibility = 'PUBLIC' ORDER BY t.id LIMIT " + MAX_SLUGS)) {
+                while (rs.next()) {
+                    slugs.add(rs.getString(1));
+                    if (rs.getBoolean(3)) {
+                        withImage.add(rs.getObject(2, UUID.class));
+                    }
+                }
+            }
+            try (ResultSet rs = statement.executeQuery("SELECT id FROM specialization ORDER BY name_eng")) {
+                while (rs.next()) {
+                    specializations.add(rs.getObject(1, UUID.class));
+                }
+            }
+        }
+        for (String city : DirectoryGenerator.CITIES) {
+            organisationQueries.add(city);
+            organisationQueries.add(city.substring(0, 4).toLowerCase());
+        }
+        organisationQueries.add("Centrum Terapii");
+        List<String> searchTerms = new ArrayList<>(List.of(DirectoryGenerator.TOPICS));
+        searchTerms.addAll(List.of(DirectoryGenerator.TITLES));
+        searchTerms.addAll(List.of(DirectoryGenerator.LAST_NAMES));
+        if (accounts.isEmpty() || slugs.isEmpty() || withImage.isEmpty() || specializations.isEmpty()) {
+            throw new IllegalStateException("The dataset has no administrators, public therapists, images or specializations");
+        }
+        return new SyntheticDataset(accounts, slugs, withImage, specializations, searchTerms, organisationQueries);
+    }
+}
@@ -7,10 +7,9 @@ import {
   FormHelperText,
   Skeleton,
 } from '@mui/material';
-import { useQuery } from '@connectrpc/connect-query';
-import { getOrganisationUsers } from '../../../generated/organisation/v1/organisation-OrganisationService_connectquery';
-import { create } from '@bufbuild/protobuf';
-import { GetOrganisationUsersRequestSchema, User, GetOrganisationUsersResponse } from '../../../generated/organisation/v1/organisation_pb';
+import { useQuery } from '@tanstack/react-query';
+import { User } from '../../../generated/organisation/v1/organisation_pb';
+import { organisationApi } from '../../lib/api/organisation';
 import { useTranslation } from 'next-i18next';
 
 interface UserDropdownProps {
@@ -38,12 +37,11 @@ export const UserDropdown: React.FC<UserDropdownProps> = ({
 }) => {
   const { t } = useTranslation('common');
 
-  const { data, error: queryError, isLoading } = useQuery(
-    getOrganisationUsers,
-    create(GetOrganisationUsersRequestSchema, {
-      organisationId,
-    })
-  );
+  // Walks every page, so members beyond the first page can be selected too
+  const { data, error: queryError, isLoading } = useQuery({
+    queryKey: ['organisationUsers', organisationId],
+    queryFn: () => organisationApi.getOrganisationUsers(organisationId),
+  });
 
   if (isLoading) {
     return (
@@ -70,8 +68,7 @@ export const UserDropdown: React.FC<UserDropdownProps> = ({
     );
   }
 
-  const response = data as GetOrganisationUsersResponse;
-  const users = response?.users || [];
+  const users = data || [];
 
   return (
     <FormControl fullWidth={fullWidth} error={error} required={required}>
@@ -4,13 +4,14 @@ import { TestProviders } from '../../../test-utils/providers';
 import { UserDropdown } from '../UserDropdown';
 import { render } from '@testing-library/react';
 
-// Mock the Connect Query hooks
-jest.mock('@connectrpc/connect-query', () => ({
-  ...jest.requireActual('@connectrpc/connect-query'),
-  useQuery: jest.fn(),
+// Mock the organisation API
+jest.mock('../../../lib/api/organisation', () => ({
+  organisationApi: {
+    getOrganisationUsers: jest.fn(),
+  },
 }));
 
-const mockUseQuery = require('@connectrpc/connect-query').useQuery;
+const mockGetOrganisationUsers = require('../../../lib/api/organisation').organisationApi.getOrganisationUsers;
 
 describe('UserDropdown', () => {
   const defaultProps = {
@@ -25,11 +26,7 @@ describe('UserDropdown', () => {
   });
 
   it('should render loading state initially', () => {
-    mockUseQuery.mockReturnValue({
-      data: undefined,
-      error: null,
-      isLoading: true,
-    });
+    mockGetOrganisationUsers.mockReturnValue(new Promise(() => {}));
 
     render(
       <TestProviders>
@@ -41,11 +38,7 @@ describe('UserDropdown', () => {
   });
 
   it('should render error state when query fails', async () => {
-    mockUseQuery.mockReturnValue({
-      data: undefined,
-      error: new Error('Failed to fetch users'),
-      isLoading: false,
-    });
+    mockGetOrganisationUsers.mockRejectedValue(new Error('Failed to fetch users'));
 
     render(
       <TestProviders>
@@ -76,11 +69,7 @@ describe('UserDropdown', () => {
       },
     ];
 
-    mockUseQuery.mockReturnValue({
-      data: { users: mockUsers },
-      error: null,
-      isLoading: false,
-    });
+    mockGetOrganisationUsers.mockResolvedValue(mockUsers);
 
     render(
       <TestProviders>
@@ -94,6 +83,8 @@ describe('UserDropdown', () => {
 
     // Verify the dropdown is not in loading state
     expect(screen.queryByTestId('user-dropdown-loading')).not.toBeInTheDocument();
+    // Users come from the helper that walks every page
+    expect(mockGetOrganisationUsers).toHaveBeenCalledWith('test-org-id');
   });
 
   it('should call onChange when user selection changes', async () => {
@@ -108,11 +99,7 @@ describe('UserDropdown', () => {
       },
     ];
 
-    mockUseQuery.mockReturnValue({
-      data: { users: mockUsers },
-      error: null,
-      isLoading: false,
-    });
+    mockGetOrganisationUsers.mockResolvedValue(mockUsers);
 
     render(
       <TestProviders>
@@ -130,11 +117,7 @@ describe('UserDropdown', () => {
 
   it('should not crash without QueryClientProvider (regression test)', () => {
     // This test ensures our TestProviders properly provide QueryClient
-    mockUseQuery.mockReturnValue({
-      data: undefined,
-      error: null,
-      isLoading: true,
-    });
+    mockGetOrganisationUsers.mockReturnValue(new Promise(() => {}));
 
     const { container } = render(
       <TestProviders>
@@ -8,6 +8,7 @@ import {
   SearchOrganisationsRequestSchema,
   GetOrganisationUsersRequestSchema,
   RemoveOrganisationMemberRequestSchema,
+  type User,
 } from '@/generated/organisation/v1/organisation_pb';
 import {
   InvitationService,
@@ -69,11 +70,19 @@ export const organisationApi = {
   },
   
   async getOrganisationUsers(organisationId: string) {
-    const request = create(GetOrganisationUsersRequestSchema, {
-      organisationId,
-    });
-    const response = await organisationClient.getOrganisationUsers(request);
-    return response.users;
+    const users: User[] = [];
+    let pageToken = '';
+    do {
+      const request = create(GetOrganisationUsersRequestSchema, {
+        organisationId,
+        pageSize: 500,
+        pageToken,
+      });
+      const response = await organisationClient.getOrganisationUsers(request);
+      users.push(...response.users);
+      pageToken = response.nextPageToken;
+    } while (pageToken);
+    return users;
   },
   
   async createInvitation(organisationId: string, email: string, memberType: number) {